@@ -19,20 +19,18 @@ package com.webauthn4j.appattest.verifier;
 import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.internal.AssertionSignatureVerifier;
+import com.webauthn4j.verifier.internal.SignedData;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
-
 public class DCAssertionSignatureVerifier extends AssertionSignatureVerifier {
 
     // ~ Methods
     // ========================================================================================================
 
     @Override
-    protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        byte[] concatenated = ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(concatenated);
+    protected @NotNull SignedData createSignedData(@NotNull CoreAuthenticationData authenticationData) {
+        // App Attest assertion signs the SHA-256 hash of the concatenation of authenticatorData and clientDataHash
+        byte[] nonce = super.createSignedData(authenticationData).digest(MessageDigestUtil.createSHA256());
+        return SignedData.of(nonce);
     }
 }
@@ -31,7 +31,6 @@ import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.ByteBuffer;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPublicKey;
 import java.util.Arrays;
@@ -88,11 +87,7 @@ public class AppleAppAttestAttestationStatementVerifier extends AbstractStatemen
         X509Certificate attestationCertificate = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
         byte[] actualNonce = extractNonce(attestationCertificate);
 
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] composite = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length)
-                .put(authenticatorData).put(clientDataHash).array();
-        byte[] expectedNonce = MessageDigestUtil.createSHA256().digest(composite);
+        byte[] expectedNonce = registrationObject.getSignedData().digest(MessageDigestUtil.createSHA256());
 
         // As nonce is known data to client side(potential attacker), there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual`
         if (!Arrays.equals(actualNonce, expectedNonce)) {
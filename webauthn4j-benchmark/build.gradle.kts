@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    id(libs.plugins.jmh.get().pluginId) version libs.versions.champeau.jmh
+}
+
+description = "JMH benchmarks for WebAuthn4J"
+
+dependencies {
+    jmhImplementation(project(":webauthn4j-core"))
+    jmhImplementation(project(":webauthn4j-core-async"))
+    jmhImplementation(project(":webauthn4j-test"))
+
+    jmhImplementation(libs.bouncycastle.bcprov.jdk15to18)
+    jmhImplementation(libs.bouncycastle.bcpkix.jdk15to18)
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh
+    resultFormat = "JSON"
+    // Run a subset with e.g. `./gradlew :webauthn4j-benchmark:jmh -PjmhIncludes=AuthenticationBenchmark`
+    (findProperty("jmhIncludes") as? String)?.let { includes.add(it) }
+}
+
+// Benchmarks are a development tool and must never be published to Maven Central
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
+
+sonarqube {
+    isSkipProject = true
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.async.WebAuthnAuthenticationAsyncManager;
+import com.webauthn4j.data.AuthenticationData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WebAuthnAuthenticationAsyncManager} assertion verification throughput per credential key algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AuthenticationAsyncBenchmark {
+
+    @Param({"ES256", "RS256", "EdDSA"})
+    private String alg;
+
+    private final WebAuthnAuthenticationAsyncManager webAuthnAuthenticationAsyncManager = new WebAuthnAuthenticationAsyncManager();
+
+    private AuthenticationFixture fixture;
+
+    @Setup
+    public void setup() {
+        fixture = AuthenticationFixture.create(alg);
+    }
+
+    @Benchmark
+    public AuthenticationData verify_authenticationResponseJSON() {
+        return webAuthnAuthenticationAsyncManager.verify(fixture.getAuthenticationResponseJSON(), fixture.getAuthenticationParameters()).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public AuthenticationData verify_authenticationRequest() {
+        return webAuthnAuthenticationAsyncManager.verify(fixture.getAuthenticationRequest(), fixture.getAuthenticationParameters()).toCompletableFuture().join();
+    }
+}
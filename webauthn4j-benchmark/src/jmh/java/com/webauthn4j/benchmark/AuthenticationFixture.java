@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.authenticator.webauthn.PackedAuthenticator;
+import com.webauthn4j.test.authenticator.webauthn.WebAuthnAuthenticatorAdaptor;
+import com.webauthn4j.test.client.ClientPlatform;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pre-generated assertion for a single credential, created through the {@link ClientPlatform} emulator so that
+ * benchmarks only measure the verification side of the ceremony.
+ */
+final class AuthenticationFixture {
+
+    static final String RP_ID = "example.com";
+    static final Origin ORIGIN = new Origin("https://example.com");
+
+    private static final ObjectConverter objectConverter = new ObjectConverter();
+    private static final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+
+    private final String authenticationResponseJSON;
+    private final AuthenticationRequest authenticationRequest;
+    private final AuthenticationParameters authenticationParameters;
+
+    private AuthenticationFixture(String authenticationResponseJSON, AuthenticationRequest authenticationRequest, AuthenticationParameters authenticationParameters) {
+        this.authenticationResponseJSON = authenticationResponseJSON;
+        this.authenticationRequest = authenticationRequest;
+        this.authenticationParameters = authenticationParameters;
+    }
+
+    /**
+     * Registers a credential with the given algorithm and generates an assertion for it.
+     *
+     * @param algName credential key algorithm name (ES256, RS256, PS256 or EdDSA)
+     * @return fixture
+     */
+    static AuthenticationFixture create(String algName) {
+        COSEAlgorithmIdentifier alg = resolveAlgorithm(algName);
+        ClientPlatform clientPlatform = new ClientPlatform(ORIGIN, new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator()));
+        Challenge challenge = new DefaultChallenge();
+
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, alg)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> registrationCredential = clientPlatform.create(credentialCreationOptions);
+        AttestationObject attestationObject = attestationObjectConverter.convert(registrationCredential.getResponse().getAttestationObject());
+        CredentialRecord credentialRecord = new CredentialRecordImpl(attestationObject, null, null, null);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                null,
+                RP_ID,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        String authenticationResponseJSON = objectConverter.getJsonConverter().writeValueAsString(credential);
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(
+                credential.getRawId(),
+                credential.getResponse().getUserHandle(),
+                credential.getResponse().getAuthenticatorData(),
+                credential.getResponse().getClientDataJSON(),
+                null,
+                credential.getResponse().getSignature()
+        );
+
+        ServerProperty serverProperty = new ServerProperty(ORIGIN, RP_ID, challenge);
+        List<byte[]> allowCredentials = Collections.singletonList(credential.getRawId());
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(serverProperty, credentialRecord, allowCredentials, true, true);
+        return new AuthenticationFixture(authenticationResponseJSON, authenticationRequest, authenticationParameters);
+    }
+
+    private static COSEAlgorithmIdentifier resolveAlgorithm(String algName) {
+        switch (algName) {
+            case "ES256":
+                return COSEAlgorithmIdentifier.ES256;
+            case "RS256":
+                return COSEAlgorithmIdentifier.RS256;
+            case "PS256":
+                return COSEAlgorithmIdentifier.PS256;
+            case "EdDSA":
+                return COSEAlgorithmIdentifier.EdDSA;
+            default:
+                throw new IllegalArgumentException(String.format("Unsupported algorithm: %s", algName));
+        }
+    }
+
+    String getAuthenticationResponseJSON() {
+        return authenticationResponseJSON;
+    }
+
+    AuthenticationRequest getAuthenticationRequest() {
+        return authenticationRequest;
+    }
+
+    AuthenticationParameters getAuthenticationParameters() {
+        return authenticationParameters;
+    }
+}
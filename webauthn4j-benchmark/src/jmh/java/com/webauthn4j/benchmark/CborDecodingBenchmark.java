@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AttestedCredentialDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.test.TestDataUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares attestation object and attested credential data (COSE key) decoding throughput of the Jackson CBOR path
+ * with the CTAP2 canonical CBOR decoder enabled by {@link ObjectConverter#ObjectConverter(boolean)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CborDecodingBenchmark {
+
+    @Param({"jackson", "ctap2"})
+    private String decoder;
+
+    private AttestationObjectConverter attestationObjectConverter;
+    private AttestedCredentialDataConverter attestedCredentialDataConverter;
+    private byte[] attestationObject;
+    private byte[] attestedCredentialData;
+
+    @Setup
+    public void setup() {
+        ObjectConverter objectConverter = "ctap2".equals(decoder) ? new ObjectConverter(true) : new ObjectConverter();
+        attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+        attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+
+        ObjectConverter encoder = new ObjectConverter();
+        attestationObject = new AttestationObjectConverter(encoder).convertToBytes(TestDataUtil.createAttestationObjectWithBasicPackedECAttestationStatement(new byte[32]));
+        attestedCredentialData = new AttestedCredentialDataConverter(encoder).convert(TestDataUtil.createAttestedCredentialData());
+    }
+
+    @Benchmark
+    public AttestationObject decode_attestationObject() {
+        return attestationObjectConverter.convert(attestationObject);
+    }
+
+    @Benchmark
+    public AttestedCredentialData decode_attestedCredentialData() {
+        return attestedCredentialDataConverter.convert(attestedCredentialData);
+    }
+}
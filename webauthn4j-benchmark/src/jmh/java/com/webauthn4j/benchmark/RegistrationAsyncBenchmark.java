@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.async.WebAuthnRegistrationAsyncManager;
+import com.webauthn4j.data.RegistrationData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WebAuthnRegistrationAsyncManager} registration verification throughput per attestation statement format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RegistrationAsyncBenchmark {
+
+    @Param({
+            RegistrationFixture.NONE,
+            RegistrationFixture.PACKED,
+            RegistrationFixture.TPM,
+            RegistrationFixture.ANDROID_KEY,
+            RegistrationFixture.ANDROID_SAFETYNET,
+            RegistrationFixture.APPLE,
+            RegistrationFixture.FIDO_U2F
+    })
+    private String format;
+
+    private RegistrationFixture fixture;
+
+    @Setup
+    public void setup() {
+        fixture = RegistrationFixture.create(format);
+    }
+
+    @Benchmark
+    public RegistrationData verify_registrationRequest() {
+        return fixture.getWebAuthnRegistrationAsyncManager().verify(fixture.getRegistrationRequest(), fixture.getRegistrationParameters()).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.benchmark;
+
+import com.webauthn4j.WebAuthnRegistrationManager;
+import com.webauthn4j.async.WebAuthnRegistrationAsyncManager;
+import com.webauthn4j.async.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.apple.AppleAnonymousAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.none.NoneAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.packed.PackedAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.tpm.TPMAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.trustworthiness.certpath.NullCertPathTrustworthinessAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessAsyncVerifier;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.test.authenticator.AuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticator;
+import com.webauthn4j.test.authenticator.u2f.FIDOU2FAuthenticatorAdaptor;
+import com.webauthn4j.test.authenticator.webauthn.*;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.RegistrationObject;
+import com.webauthn4j.verifier.attestation.statement.androidkey.AndroidKeyAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.androidsafetynet.AndroidSafetyNetAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.apple.AppleAnonymousAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.none.NoneAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.packed.PackedAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.tpm.TPMAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.NullCertPathTrustworthinessVerifier;
+import com.webauthn4j.verifier.attestation.trustworthiness.self.DefaultSelfAttestationTrustworthinessVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pre-generated registration response per attestation statement format, paired with sync and async managers
+ * configured to verify that format only.
+ */
+final class RegistrationFixture {
+
+    static final String NONE = "none";
+    static final String PACKED = "packed";
+    static final String TPM = "tpm";
+    static final String ANDROID_KEY = "android-key";
+    static final String ANDROID_SAFETYNET = "android-safetynet";
+    static final String APPLE = "apple";
+    static final String FIDO_U2F = "fido-u2f";
+
+    private static final String RP_ID = "example.com";
+    private static final Origin ORIGIN = new Origin("https://example.com");
+
+    // SafetyNet responses embed the generation time; keep them valid for the whole benchmark run
+    private static final int SAFETYNET_BACKWARD_THRESHOLD = (int) Duration.ofDays(1).getSeconds();
+
+    private final RegistrationRequest registrationRequest;
+    private final RegistrationParameters registrationParameters;
+    private final WebAuthnRegistrationManager webAuthnRegistrationManager;
+    private final WebAuthnRegistrationAsyncManager webAuthnRegistrationAsyncManager;
+
+    private RegistrationFixture(RegistrationRequest registrationRequest, RegistrationParameters registrationParameters,
+                                WebAuthnRegistrationManager webAuthnRegistrationManager,
+                                WebAuthnRegistrationAsyncManager webAuthnRegistrationAsyncManager) {
+        this.registrationRequest = registrationRequest;
+        this.registrationParameters = registrationParameters;
+        this.webAuthnRegistrationManager = webAuthnRegistrationManager;
+        this.webAuthnRegistrationAsyncManager = webAuthnRegistrationAsyncManager;
+    }
+
+    static RegistrationFixture create(String format) {
+        switch (format) {
+            case NONE:
+                return create(
+                        new WebAuthnAuthenticatorAdaptor(new NoneAttestationAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(new NoneAttestationStatementVerifier()), new NullCertPathTrustworthinessVerifier(), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(new NoneAttestationStatementAsyncVerifier()), new NullCertPathTrustworthinessAsyncVerifier(), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case PACKED:
+                return create(
+                        new WebAuthnAuthenticatorAdaptor(new PackedAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(new PackedAttestationStatementVerifier()), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(new PackedAttestationStatementAsyncVerifier()), new DefaultCertPathTrustworthinessAsyncVerifier(TestAttestationUtil.createTrustAnchorAsyncRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case TPM:
+                return create(
+                        new WebAuthnAuthenticatorAdaptor(new TPMAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(new TPMAttestationStatementVerifier()), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(new TPMAttestationStatementAsyncVerifier()), new DefaultCertPathTrustworthinessAsyncVerifier(TestAttestationUtil.createTrustAnchorAsyncRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case ANDROID_KEY:
+                return create(
+                        new WebAuthnAuthenticatorAdaptor(new AndroidKeyAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(new AndroidKeyAttestationStatementVerifier()), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(new AndroidKeyAttestationStatementAsyncVerifier()), new DefaultCertPathTrustworthinessAsyncVerifier(TestAttestationUtil.createTrustAnchorAsyncRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case ANDROID_SAFETYNET:
+                AndroidSafetyNetAttestationStatementVerifier androidSafetyNetAttestationStatementVerifier = new AndroidSafetyNetAttestationStatementVerifier();
+                androidSafetyNetAttestationStatementVerifier.setBackwardThreshold(SAFETYNET_BACKWARD_THRESHOLD);
+                AndroidSafetyNetAttestationStatementAsyncVerifier androidSafetyNetAttestationStatementAsyncVerifier = new AndroidSafetyNetAttestationStatementAsyncVerifier();
+                androidSafetyNetAttestationStatementAsyncVerifier.setBackwardThreshold(SAFETYNET_BACKWARD_THRESHOLD);
+                return create(
+                        new WebAuthnAuthenticatorAdaptor(new AndroidSafetyNetAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(androidSafetyNetAttestationStatementVerifier), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(androidSafetyNetAttestationStatementAsyncVerifier), new DefaultCertPathTrustworthinessAsyncVerifier(TestAttestationUtil.createTrustAnchorAsyncRepositoryWith3tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case FIDO_U2F:
+                return create(
+                        new FIDOU2FAuthenticatorAdaptor(new FIDOU2FAuthenticator()),
+                        new WebAuthnRegistrationManager(Collections.singletonList(new FIDOU2FAttestationStatementVerifier()), new DefaultCertPathTrustworthinessVerifier(TestAttestationUtil.createTrustAnchorRepositoryWith2tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessVerifier()),
+                        new WebAuthnRegistrationAsyncManager(Collections.singletonList(new FIDOU2FAttestationStatementAsyncVerifier()), new DefaultCertPathTrustworthinessAsyncVerifier(TestAttestationUtil.createTrustAnchorAsyncRepositoryWith2tierTestRootCACertificate()), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+            case APPLE:
+                return createApple();
+            default:
+                throw new IllegalArgumentException(String.format("Unknown attestation statement format: %s", format));
+        }
+    }
+
+    private static RegistrationFixture create(AuthenticatorAdaptor authenticatorAdaptor,
+                                              WebAuthnRegistrationManager webAuthnRegistrationManager,
+                                              WebAuthnRegistrationAsyncManager webAuthnRegistrationAsyncManager) {
+        ClientPlatform clientPlatform = new ClientPlatform(ORIGIN, authenticatorAdaptor);
+        Challenge challenge = new DefaultChallenge();
+        List<PublicKeyCredentialParameters> pubKeyCredParams = Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256));
+
+        PublicKeyCredentialCreationOptions credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(RP_ID, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                pubKeyCredParams,
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, false, UserVerificationRequirement.PREFERRED),
+                AttestationConveyancePreference.DIRECT,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput> credential = clientPlatform.create(credentialCreationOptions);
+
+        RegistrationRequest registrationRequest = new RegistrationRequest(
+                credential.getResponse().getAttestationObject(),
+                credential.getResponse().getClientDataJSON()
+        );
+        ServerProperty serverProperty = new ServerProperty(ORIGIN, RP_ID, challenge);
+        RegistrationParameters registrationParameters = new RegistrationParameters(serverProperty, pubKeyCredParams, false, true);
+        return new RegistrationFixture(registrationRequest, registrationParameters, webAuthnRegistrationManager, webAuthnRegistrationAsyncManager);
+    }
+
+    /**
+     * There is no Apple anonymous attestation emulator, so a captured response is used instead.
+     * Its certificates have expired, so certificate path trustworthiness is not evaluated for this format.
+     */
+    private static RegistrationFixture createApple() {
+        RegistrationObject registrationObject = TestDataUtil.createRegistrationObjectWithAppleAttestation();
+        RegistrationRequest registrationRequest = new RegistrationRequest(
+                registrationObject.getAttestationObjectBytes(),
+                registrationObject.getCollectedClientDataBytes()
+        );
+        RegistrationParameters registrationParameters = new RegistrationParameters(registrationObject.getServerProperty(), null, false, true);
+        return new RegistrationFixture(
+                registrationRequest,
+                registrationParameters,
+                new WebAuthnRegistrationManager(Collections.singletonList(new AppleAnonymousAttestationStatementVerifier()), new NullCertPathTrustworthinessVerifier(), new DefaultSelfAttestationTrustworthinessVerifier()),
+                new WebAuthnRegistrationAsyncManager(Collections.singletonList(new AppleAnonymousAttestationStatementAsyncVerifier()), new NullCertPathTrustworthinessAsyncVerifier(), new DefaultSelfAttestationTrustworthinessAsyncVerifier()));
+    }
+
+    RegistrationRequest getRegistrationRequest() {
+        return registrationRequest;
+    }
+
+    RegistrationParameters getRegistrationParameters() {
+        return registrationParameters;
+    }
+
+    WebAuthnRegistrationManager getWebAuthnRegistrationManager() {
+        return webAuthnRegistrationManager;
+    }
+
+    WebAuthnRegistrationAsyncManager getWebAuthnRegistrationAsyncManager() {
+        return webAuthnRegistrationAsyncManager;
+    }
+}
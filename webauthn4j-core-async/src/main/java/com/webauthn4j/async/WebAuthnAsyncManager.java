@@ -1,6 +1,7 @@
 package com.webauthn4j.async;
 
 import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.async.verifier.AsyncVerificationExecutors;
 import com.webauthn4j.async.verifier.AuthenticationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.CustomAuthenticationAsyncVerifier;
 import com.webauthn4j.async.verifier.CustomRegistrationAsyncVerifier;
@@ -184,4 +185,14 @@ public class WebAuthnAsyncManager {
         return this.webAuthnAuthenticationAsyncManager.getAuthenticationDataAsyncVerifier();
     }
 
+    /**
+     * Sets the executors of both the registration and the authentication pipelines
+     *
+     * @param executors executors
+     */
+    public void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        this.webAuthnRegistrationAsyncManager.setExecutors(executors);
+        this.webAuthnAuthenticationAsyncManager.setExecutors(executors);
+    }
+
 }
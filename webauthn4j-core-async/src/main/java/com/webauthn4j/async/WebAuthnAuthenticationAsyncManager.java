@@ -1,13 +1,16 @@
 package com.webauthn4j.async;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.async.credential.CredentialRecordAsyncStore;
+import com.webauthn4j.async.verifier.AsyncVerificationExecutors;
 import com.webauthn4j.async.verifier.AuthenticationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.CustomAuthenticationAsyncVerifier;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.AuthenticationResponseJSONConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.CollectedClientData;
@@ -16,14 +19,19 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CompletionStageUtil;
+import com.webauthn4j.verifier.exception.CredentialNotFoundException;
+import com.webauthn4j.verifier.exception.MaliciousCounterValueException;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 public class WebAuthnAuthenticationAsyncManager {
 
@@ -34,11 +42,10 @@ public class WebAuthnAuthenticationAsyncManager {
     private final CollectedClientDataConverter collectedClientDataConverter;
     private final AuthenticatorDataConverter authenticatorDataConverter;
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+    private final AuthenticationResponseJSONConverter authenticationResponseJSONConverter;
 
     private final AuthenticationDataAsyncVerifier authenticationDataAsyncVerifier;
 
-    private final ObjectConverter objectConverter;
-
     public WebAuthnAuthenticationAsyncManager(
             @NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers,
             @NotNull ObjectConverter objectConverter) {
@@ -50,7 +57,7 @@ public class WebAuthnAuthenticationAsyncManager {
         this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
         this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
         this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
-        this.objectConverter = objectConverter;
+        this.authenticationResponseJSONConverter = new AuthenticationResponseJSONConverter(objectConverter);
     }
 
     public WebAuthnAuthenticationAsyncManager(
@@ -64,33 +71,7 @@ public class WebAuthnAuthenticationAsyncManager {
 
     @SuppressWarnings("squid:S1130")
     public CompletionStage<AuthenticationData> parse(String authenticationResponseJSON) {
-        return CompletionStageUtil
-                .supply(()-> objectConverter.getJsonConverter().readValue(authenticationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput>>() {}))
-                .thenApply( publicKeyCredential -> {
-            byte[] credentialId = publicKeyCredential.getRawId();
-            byte[] userHandle = publicKeyCredential.getResponse().getUserHandle();
-
-            byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
-            CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-
-            byte[] authenticatorDataBytes = publicKeyCredential.getResponse().getAuthenticatorData();
-            AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
-
-            AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = publicKeyCredential.getClientExtensionResults();
-
-            byte[] signature = publicKeyCredential.getResponse().getSignature();
-
-            return new AuthenticationData(
-                    credentialId,
-                    userHandle,
-                    authenticatorData,
-                    authenticatorDataBytes,
-                    collectedClientData,
-                    clientDataBytes,
-                    clientExtensions,
-                    signature
-            );
-        });
+        return CompletionStageUtil.supply(() -> authenticationResponseJSONConverter.convert(authenticationResponseJSON), getExecutors().getParseExecutor());
     }
 
     @SuppressWarnings("squid:S1130")
@@ -122,7 +103,7 @@ public class WebAuthnAuthenticationAsyncManager {
                     clientExtensions,
                     signature
             );
-        });
+        }, getExecutors().getParseExecutor());
     }
 
     public @NotNull CompletionStage<AuthenticationData> verify(
@@ -146,7 +127,75 @@ public class WebAuthnAuthenticationAsyncManager {
         return authenticationDataAsyncVerifier.verify(authenticationData, authenticationParameters);
     }
 
+    /**
+     * Verifies WebAuthn authentication data with the credential record resolved from the store.
+     * <p>
+     * The credential record is looked up by the credential ID of the response. If the response has a user handle, the
+     * credential record must belong to that user account. The parameters must be created with the given credential
+     * record, so that the counter and flags updated by the verification are persisted to the store afterwards.
+     *
+     * @param authenticationData the authentication data to verify
+     * @param credentialRecordAsyncStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return {@link CompletionStage} of the verified authentication data, completed with
+     * {@link CredentialNotFoundException} if no credential record is found for the response
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NotNull CompletionStage<AuthenticationData> verify(
+            @NotNull AuthenticationData authenticationData,
+            @NotNull CredentialRecordAsyncStore credentialRecordAsyncStore,
+            @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) {
+        return CompletionStageUtil.compose(() -> {
+            AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+            AssertUtil.notNull(credentialRecordAsyncStore, "credentialRecordAsyncStore must not be null");
+            AssertUtil.notNull(authenticationParametersProvider, "authenticationParametersProvider must not be null");
+
+            byte[] credentialId = authenticationData.getCredentialId();
+            if (credentialId == null) {
+                throw new CredentialNotFoundException("Credential record is not found for the credential ID");
+            }
+            byte[] userHandle = authenticationData.getUserHandle();
+            CompletionStage<byte[]> storedUserHandle = userHandle == null ?
+                    CompletableFuture.completedFuture(null) :
+                    credentialRecordAsyncStore.findUserHandle(credentialId);
+            return credentialRecordAsyncStore.find(credentialId).thenCombine(storedUserHandle, (credentialRecord, storedUserHandleValue) -> {
+                if (credentialRecord == null) {
+                    throw new CredentialNotFoundException("Credential record is not found for the credential ID");
+                }
+                if (userHandle != null && !Arrays.equals(userHandle, storedUserHandleValue)) {
+                    throw new CredentialNotFoundException("Credential record is not found for the user handle");
+                }
+                return credentialRecord;
+            }).thenCompose(credentialRecord -> CompletionStageUtil.compose(() -> {
+                long expectedCounter = credentialRecord.getCounter();
+                AuthenticationParameters authenticationParameters = authenticationParametersProvider.apply(credentialRecord);
+                AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+                AssertUtil.isTrue(authenticationParameters.getAuthenticator() == credentialRecord, "authenticationParameters must be created with the resolved credential record");
+                return verify(authenticationData, authenticationParameters)
+                        .thenCompose(verified -> credentialRecordAsyncStore.update(credentialRecord, expectedCounter).thenApply(updated -> {
+                            if (!Boolean.TRUE.equals(updated)) {
+                                throw new MaliciousCounterValueException("Credential record is updated by a concurrent authentication");
+                            }
+                            return verified;
+                        }));
+            }));
+        });
+    }
+
     public @NotNull AuthenticationDataAsyncVerifier getAuthenticationDataAsyncVerifier() {
         return authenticationDataAsyncVerifier;
     }
+
+    public @NotNull AsyncVerificationExecutors getExecutors() {
+        return authenticationDataAsyncVerifier.getExecutors();
+    }
+
+    /**
+     * Sets the executors the parse, signature verification and attestation verification steps are dispatched to
+     *
+     * @param executors executors
+     */
+    public void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        authenticationDataAsyncVerifier.setExecutors(executors);
+    }
 }
@@ -1,6 +1,7 @@
 package com.webauthn4j.async;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.async.verifier.AsyncVerificationExecutors;
 import com.webauthn4j.async.verifier.CustomRegistrationAsyncVerifier;
 import com.webauthn4j.async.verifier.RegistrationDataAsyncVerifier;
 import com.webauthn4j.async.verifier.attestation.statement.AttestationStatementAsyncVerifier;
@@ -155,7 +156,7 @@ public class WebAuthnRegistrationAsyncManager {
     @SuppressWarnings("squid:S1130")
     public @NotNull CompletionStage<RegistrationData> parse(String registrationResponseJSON) {
         return CompletionStageUtil
-                .supply(()-> objectConverter.getJsonConverter().readValue(registrationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput>>() {}))
+                .supply(()-> objectConverter.getJsonConverter().readValue(registrationResponseJSON, new TypeReference<PublicKeyCredential<AuthenticatorAttestationResponse, RegistrationExtensionClientOutput>>() {}), getExecutors().getParseExecutor())
                 .thenApply(publicKeyCredential -> {
                     byte[] attestationObjectBytes = publicKeyCredential.getResponse().getAttestationObject();
                     AttestationObject attestationObject = attestationObjectBytes == null ? null : attestationObjectConverter.convert(attestationObjectBytes);
@@ -200,7 +201,7 @@ public class WebAuthnRegistrationAsyncManager {
                     clientExtensions,
                     transports
             );
-        });
+        }, getExecutors().getParseExecutor());
     }
 
     public CompletionStage<RegistrationData> verify(String registrationResponseJSON, @NotNull RegistrationParameters registrationParameters) {
@@ -224,4 +225,16 @@ public class WebAuthnRegistrationAsyncManager {
         return registrationDataAsyncVerifier;
     }
 
+    public @NotNull AsyncVerificationExecutors getExecutors() {
+        return registrationDataAsyncVerifier.getExecutors();
+    }
+
+    /**
+     * Sets the executors the parse, signature verification and attestation verification steps are dispatched to
+     *
+     * @param executors executors
+     */
+    public void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        registrationDataAsyncVerifier.setExecutors(executors);
+    }
 }
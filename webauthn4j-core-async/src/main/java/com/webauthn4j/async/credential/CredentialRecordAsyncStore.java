@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.credential;
+
+import com.webauthn4j.credential.CredentialRecord;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous store of {@link CredentialRecord}(s), keyed by credential ID and indexed by user handle.
+ * As with the synchronous store, lookups return credential records detached from the store, and
+ * {@link #update(CredentialRecord, long)} only writes if the stored counter still has the value the authentication was
+ * verified against, so that concurrent authentications with the same credential cannot all be persisted.
+ *
+ * @see com.webauthn4j.credential.CredentialRecordStore
+ */
+public interface CredentialRecordAsyncStore {
+
+    /**
+     * Looks up the credential record by credential ID. Changes made on the returned credential record are not visible
+     * to other lookups until they are persisted by {@link #update(CredentialRecord, long)}.
+     *
+     * @param credentialId credential ID
+     * @return {@link CompletionStage} of the credential record, completed with null if it is not stored
+     */
+    @NotNull CompletionStage<CredentialRecord> find(@NotNull byte[] credentialId);
+
+    /**
+     * Looks up the user handle of the user account the credential record belongs to
+     *
+     * @param credentialId credential ID
+     * @return {@link CompletionStage} of the user handle, completed with null if the credential record is not stored
+     */
+    @NotNull CompletionStage<byte[]> findUserHandle(@NotNull byte[] credentialId);
+
+    /**
+     * Looks up the credential records of the user account
+     *
+     * @param userHandle user handle
+     * @return {@link CompletionStage} of the credential records, empty if none is stored
+     */
+    @NotNull CompletionStage<List<CredentialRecord>> findByUserHandle(@NotNull byte[] userHandle);
+
+    /**
+     * Stores the credential record for the user account. A credential record already stored with the same credential
+     * ID is replaced.
+     *
+     * @param userHandle       user handle
+     * @param credentialRecord credential record
+     * @return {@link CompletionStage} completed when stored
+     */
+    @NotNull CompletionStage<Void> save(@NotNull byte[] userHandle, @NotNull CredentialRecord credentialRecord);
+
+    /**
+     * Persists the counter and flags of a stored credential record, updated by an authentication, if the stored counter
+     * is still the expected one. The comparison and the write must be atomic, e.g. a conditional update on the counter
+     * column. Does nothing if no credential record is stored with the same credential ID.
+     *
+     * @param credentialRecord credential record
+     * @param expectedCounter  counter of the credential record when it was looked up, before the authentication
+     * @return {@link CompletionStage} of true if persisted, false if the credential record is not stored or its counter
+     * has been updated since
+     */
+    @NotNull CompletionStage<Boolean> update(@NotNull CredentialRecord credentialRecord, long expectedCounter);
+
+    /**
+     * Removes the credential record
+     *
+     * @param credentialId credential ID
+     * @return {@link CompletionStage} of true if the credential record was stored
+     */
+    @NotNull CompletionStage<Boolean> remove(@NotNull byte[] credentialId);
+}
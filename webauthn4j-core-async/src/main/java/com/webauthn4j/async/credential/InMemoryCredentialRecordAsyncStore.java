@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.credential;
+
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.InMemoryCredentialRecordStore;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * In-memory {@link CredentialRecordAsyncStore}. As lookups don't block on I/O, the operations are run on the calling
+ * thread by the backing {@link InMemoryCredentialRecordStore}, and return completed stages.
+ */
+public class InMemoryCredentialRecordAsyncStore implements CredentialRecordAsyncStore {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final InMemoryCredentialRecordStore credentialRecordStore;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public InMemoryCredentialRecordAsyncStore(@NotNull InMemoryCredentialRecordStore credentialRecordStore) {
+        AssertUtil.notNull(credentialRecordStore, "credentialRecordStore must not be null");
+        this.credentialRecordStore = credentialRecordStore;
+    }
+
+    public InMemoryCredentialRecordAsyncStore() {
+        this(new InMemoryCredentialRecordStore());
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    @Override
+    public @NotNull CompletionStage<CredentialRecord> find(@NotNull byte[] credentialId) {
+        return CompletionStageUtil.supply(() -> credentialRecordStore.find(credentialId));
+    }
+
+    @Override
+    public @NotNull CompletionStage<byte[]> findUserHandle(@NotNull byte[] credentialId) {
+        return CompletionStageUtil.supply(() -> credentialRecordStore.findUserHandle(credentialId));
+    }
+
+    @Override
+    public @NotNull CompletionStage<List<CredentialRecord>> findByUserHandle(@NotNull byte[] userHandle) {
+        return CompletionStageUtil.supply(() -> credentialRecordStore.findByUserHandle(userHandle));
+    }
+
+    @Override
+    public @NotNull CompletionStage<Void> save(@NotNull byte[] userHandle, @NotNull CredentialRecord credentialRecord) {
+        return CompletionStageUtil.supply(() -> {
+            credentialRecordStore.save(userHandle, credentialRecord);
+            return null;
+        });
+    }
+
+    @Override
+    public @NotNull CompletionStage<Boolean> update(@NotNull CredentialRecord credentialRecord, long expectedCounter) {
+        return CompletionStageUtil.supply(() -> credentialRecordStore.update(credentialRecord, expectedCounter));
+    }
+
+    @Override
+    public @NotNull CompletionStage<Boolean> remove(@NotNull byte[] credentialId) {
+        return CompletionStageUtil.supply(() -> credentialRecordStore.remove(credentialId));
+    }
+
+    public @NotNull InMemoryCredentialRecordStore getCredentialRecordStore() {
+        return credentialRecordStore;
+    }
+}
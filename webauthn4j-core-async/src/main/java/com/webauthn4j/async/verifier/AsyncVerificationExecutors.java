@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.async.verifier;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executors the async verification pipeline dispatches its steps to.
+ * <ul>
+ *     <li>parse executor: JSON and CBOR parsing of the request</li>
+ *     <li>crypto executor: signature verification and attestation statement verification</li>
+ *     <li>I/O executor: trust anchor and metadata lookups, and the certificate path validation chained to them</li>
+ * </ul>
+ * The default {@link #direct()} instance runs every step on the calling thread, which is the behavior of the async
+ * managers when no executors are configured. Dispatching CPU-bound steps to a dedicated pool keeps event loop threads
+ * free of ECDSA/RSA verification and PKIX validation.
+ */
+public class AsyncVerificationExecutors {
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final AsyncVerificationExecutors DIRECT = new AsyncVerificationExecutors(DIRECT_EXECUTOR, DIRECT_EXECUTOR, DIRECT_EXECUTOR);
+
+    private final Executor parseExecutor;
+    private final Executor cryptoExecutor;
+    private final Executor ioExecutor;
+
+    public AsyncVerificationExecutors(@NotNull Executor parseExecutor, @NotNull Executor cryptoExecutor, @NotNull Executor ioExecutor) {
+        AssertUtil.notNull(parseExecutor, "parseExecutor must not be null");
+        AssertUtil.notNull(cryptoExecutor, "cryptoExecutor must not be null");
+        AssertUtil.notNull(ioExecutor, "ioExecutor must not be null");
+        this.parseExecutor = parseExecutor;
+        this.cryptoExecutor = cryptoExecutor;
+        this.ioExecutor = ioExecutor;
+    }
+
+    /**
+     * Returns an instance running every step on the calling thread
+     *
+     * @return direct executors
+     */
+    public static @NotNull AsyncVerificationExecutors direct() {
+        return DIRECT;
+    }
+
+    /**
+     * Returns an instance running every step on the given executor
+     *
+     * @param executor executor
+     * @return executors
+     */
+    public static @NotNull AsyncVerificationExecutors of(@NotNull Executor executor) {
+        return new AsyncVerificationExecutors(executor, executor, executor);
+    }
+
+    public @NotNull Executor getParseExecutor() {
+        return parseExecutor;
+    }
+
+    public @NotNull Executor getCryptoExecutor() {
+        return cryptoExecutor;
+    }
+
+    public @NotNull Executor getIoExecutor() {
+        return ioExecutor;
+    }
+}
@@ -31,6 +31,7 @@ import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.exception.BadAaguidException;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
@@ -52,6 +53,9 @@ class AttestationAsyncVerifier {
     private final CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier;
     private final SelfAttestationTrustworthinessAsyncVerifier selfAttestationTrustworthinessAsyncVerifier;
 
+    private AsyncVerificationExecutors executors = AsyncVerificationExecutors.direct();
+    private boolean parallelVerificationEnabled = false;
+
     // ~ Constructor
     // ========================================================================================================
 
@@ -71,7 +75,10 @@ class AttestationAsyncVerifier {
 
 
     public CompletionStage<Void> verify(@NotNull CoreRegistrationObject registrationObject) {
-        return CompletionStageUtil.compose(()->{
+        // In parallel mode, the certificate path trustworthiness is assessed on the I/O executor while the attestation
+        // statement is verified. Its outcome is only used if the statement turns out to be a BASIC or ATT_CA attestation.
+        CompletableFuture<Void> certPathTrustworthinessVerification = startCertPathTrustworthinessVerification(registrationObject);
+        CompletionStage<Void> verification = CompletionStageUtil.compose(()->{
 
             AssertUtil.notNull(registrationObject, "registrationObject must not be null");
 
@@ -120,9 +127,14 @@ class AttestationAsyncVerifier {
                     if (attestationStatement instanceof CertificateBaseAttestationStatement) {
                         CertificateBaseAttestationStatement certificateBaseAttestationStatement =
                                 (CertificateBaseAttestationStatement) attestationStatement;
+                        if (certPathTrustworthinessVerification != null) {
+                            return certPathTrustworthinessVerification;
+                        }
                         //noinspection ConstantConditions as null check is already done in caller
                         AAGUID aaguid = attestationObject.getAuthenticatorData().getAttestedCredentialData().getAaguid();
-                        return certPathTrustworthinessAsyncVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp());
+                        return CompletionStageUtil.compose(
+                                () -> certPathTrustworthinessAsyncVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp()),
+                                executors.getIoExecutor());
                     }
                     else {
                         throw new IllegalStateException();
@@ -135,6 +147,45 @@ class AttestationAsyncVerifier {
             }
             return CompletableFuture.completedFuture(null);
         });
+        if (certPathTrustworthinessVerification == null) {
+            return verification;
+        }
+        // When the verification fails early or the attestation turns out to be SELF or NONE, the speculative assessment
+        // is not needed. Cancelling it skips the assessment if it has not started on the I/O executor yet.
+        return verification.whenComplete((result, throwable) -> certPathTrustworthinessVerification.cancel(false));
+    }
+
+    private @Nullable CompletableFuture<Void> startCertPathTrustworthinessVerification(@Nullable CoreRegistrationObject registrationObject) {
+        if (!parallelVerificationEnabled || registrationObject == null) {
+            return null;
+        }
+        AttestationObject attestationObject = registrationObject.getAttestationObject();
+        AttestationStatement attestationStatement = attestationObject.getAttestationStatement();
+        if (!(attestationStatement instanceof CertificateBaseAttestationStatement)) {
+            return null;
+        }
+        CertificateBaseAttestationStatement certificateBaseAttestationStatement = (CertificateBaseAttestationStatement) attestationStatement;
+        // without x5c, the attestation is self attestation and there is no certificate path to assess
+        if (certificateBaseAttestationStatement.getX5c() == null || certificateBaseAttestationStatement.getX5c().isEmpty()) {
+            return null;
+        }
+        //noinspection ConstantConditions as null check is already done in caller
+        AAGUID aaguid = attestationObject.getAuthenticatorData().getAttestedCredentialData().getAaguid();
+        CompletableFuture<Void> certPathTrustworthinessVerification = new CompletableFuture<>();
+        CompletionStageUtil.compose(
+                () -> certPathTrustworthinessVerification.isDone() ?
+                        CompletableFuture.<Void>completedFuture(null) :
+                        certPathTrustworthinessAsyncVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp()),
+                executors.getIoExecutor()
+        ).whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                certPathTrustworthinessVerification.complete(result);
+            }
+            else {
+                certPathTrustworthinessVerification.completeExceptionally(throwable);
+            }
+        });
+        return certPathTrustworthinessVerification;
     }
 
     void verifyAAGUID(@NotNull AttestationObject attestationObject) {
@@ -155,6 +206,23 @@ class AttestationAsyncVerifier {
                 }
             }
             throw new BadAttestationStatementException(String.format("AttestationAsyncVerifier is not configured to handle the supplied AttestationStatement format '%s'.", registrationObject.getAttestationObject().getFormat()));
-        });
+        }, executors.getCryptoExecutor());
+    }
+
+    @NotNull AsyncVerificationExecutors getExecutors() {
+        return executors;
+    }
+
+    void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        AssertUtil.notNull(executors, "executors must not be null");
+        this.executors = executors;
+    }
+
+    boolean isParallelVerificationEnabled() {
+        return parallelVerificationEnabled;
+    }
+
+    void setParallelVerificationEnabled(boolean parallelVerificationEnabled) {
+        this.parallelVerificationEnabled = parallelVerificationEnabled;
     }
 }
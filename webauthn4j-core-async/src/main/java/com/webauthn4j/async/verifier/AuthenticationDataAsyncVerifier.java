@@ -13,11 +13,14 @@ import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.CompletionStageUtil;
 import com.webauthn4j.verifier.AuthenticationObject;
+import com.webauthn4j.verifier.CredentialPublicKeyCache;
 import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -38,6 +41,7 @@ public class AuthenticationDataAsyncVerifier {
     private DefaultMaliciousCounterValueAsyncHandler maliciousCounterValueAsyncHandler = new DefaultMaliciousCounterValueAsyncHandler();
 
     private boolean crossOriginAllowed = false;
+    private AsyncVerificationExecutors executors = AsyncVerificationExecutors.direct();
 
     public AuthenticationDataAsyncVerifier(@NotNull List<CustomAuthenticationAsyncVerifier> customAuthenticationAsyncVerifiers) {
         AssertUtil.notNull(customAuthenticationAsyncVerifiers, "customAuthenticationAsyncVerifiers must not be null");
@@ -86,7 +90,8 @@ public class AuthenticationDataAsyncVerifier {
             return execStep1toStep14()
                     .thenCompose(unused -> execStep15toStep20())
                     .thenCompose(unused -> execStep21())
-                    .thenCompose(unused -> execStep22toStep24())
+                    .thenCompose(unused -> execStep22toStep23())
+                    .thenCompose(unused -> execStep24())
                     .thenCompose(unused -> execStep25toStep27())
                     .thenApply(unused -> authenticationData);
         }
@@ -246,13 +251,18 @@ public class AuthenticationDataAsyncVerifier {
             return clientExtensionAsyncVerifier.verify(clientExtensions).thenCompose(unused -> authenticatorExtensionAsyncVerifier.verify(authenticatorExtensions));
         }
 
-        private CompletionStage<Void> execStep22toStep24(){
+        private CompletionStage<Void> execStep22toStep23(){
+            return CompletionStageUtil.supply(() -> {
+                //spec| Step22
+                //spec| Let hash be the result of computing a hash over the cData using SHA-256.
+                //spec| Step23
+                //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
+                assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
+                return null;
+            }, executors.getCryptoExecutor());
+        }
 
-            //spec| Step22
-            //spec| Let hash be the result of computing a hash over the cData using SHA-256.
-            //spec| Step23
-            //spec| Using credentialRecord.publicKey, verify that sig is a valid signature over the binary concatenation of authData and hash.
-            assertionSignatureVerifier.verify(authenticationData, authenticator.getAttestedCredentialData().getCOSEKey());
+        private CompletionStage<Void> execStep24(){
 
             //spec| Step24
             //spec| If authData.signCount is nonzero or credentialRecord.signCount is nonzero, then run the following sub-step:
@@ -355,4 +365,21 @@ public class AuthenticationDataAsyncVerifier {
     public void setCrossOriginAllowed(boolean crossOriginAllowed) {
         this.crossOriginAllowed = crossOriginAllowed;
     }
+
+    public @Nullable CredentialPublicKeyCache getCredentialPublicKeyCache() {
+        return assertionSignatureVerifier.getCredentialPublicKeyCache();
+    }
+
+    public void setCredentialPublicKeyCache(@Nullable CredentialPublicKeyCache credentialPublicKeyCache) {
+        assertionSignatureVerifier.setCredentialPublicKeyCache(credentialPublicKeyCache);
+    }
+
+    public @NotNull AsyncVerificationExecutors getExecutors() {
+        return executors;
+    }
+
+    public void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        AssertUtil.notNull(executors, "executors must not be null");
+        this.executors = executors;
+    }
 }
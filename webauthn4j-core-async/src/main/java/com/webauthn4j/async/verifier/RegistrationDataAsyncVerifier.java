@@ -23,6 +23,7 @@ import com.webauthn4j.verifier.RegistrationObject;
 import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
 import java.util.List;
@@ -89,6 +90,28 @@ public class RegistrationDataAsyncVerifier {
         this.maxCredentialIdLength = maxCredentialIdLength;
     }
 
+    public @NotNull AsyncVerificationExecutors getExecutors() {
+        return attestationAsyncVerifier.getExecutors();
+    }
+
+    public void setExecutors(@NotNull AsyncVerificationExecutors executors) {
+        attestationAsyncVerifier.setExecutors(executors);
+    }
+
+    public boolean isParallelVerificationEnabled() {
+        return attestationAsyncVerifier.isParallelVerificationEnabled();
+    }
+
+    /**
+     * Enables the parallel verification mode. When enabled, the certificate path trustworthiness of BASIC and ATT_CA
+     * attestations is assessed on the I/O executor while the attestation statement is verified on the crypto executor.
+     *
+     * @param parallelVerificationEnabled true to enable the parallel verification mode
+     */
+    public void setParallelVerificationEnabled(boolean parallelVerificationEnabled) {
+        attestationAsyncVerifier.setParallelVerificationEnabled(parallelVerificationEnabled);
+    }
+
     private class RegistrationDataVerification{
 
         private final RegistrationData registrationData;
@@ -23,10 +23,12 @@ import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.CompletionStageUtil;
+import com.webauthn4j.verifier.attestation.trustworthiness.certpath.CertPathValidationCache;
 import com.webauthn4j.verifier.attestation.trustworthiness.certpath.DefaultCertPathTrustworthinessVerifier;
 import com.webauthn4j.verifier.exception.CertificateException;
 import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
@@ -43,6 +45,7 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
 
     private boolean fullChainProhibited = false;
     private boolean policyQualifiersRejected = false;
+    private CertPathValidationCache certPathValidationCache;
 
     public DefaultCertPathTrustworthinessAsyncVerifier(TrustAnchorAsyncRepository trustAnchorAsyncRepository) {
         this.trustAnchorAsyncRepository = trustAnchorAsyncRepository;
@@ -77,16 +80,6 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
             throw new TrustAnchorNotFoundException("TrustAnchors are not found");
         }
 
-        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-
-        certPathParameters.setPolicyQualifiersRejected(this.policyQualifiersRejected);
-        // revocationCheckEnabled flag is intentionally removed from DefaultCerPathTrustworthinessAsyncVerifier
-        // because RevocationChecker fetches CRL with URLConnection in URICertStore, which is blocking API.
-        certPathParameters.setRevocationEnabled(false);
-
-        certPathParameters.setDate(Date.from(timestamp));
-
         TrustAnchor trustAnchor;
 
         // if itself is an acceptable certificate, it is valid cert path
@@ -99,20 +92,54 @@ public class DefaultCertPathTrustworthinessAsyncVerifier implements CertPathTrus
         }
 
         // or verify the certificate chain path
-        PKIXCertPathValidatorResult result;
+        CertPathValidationCache cache = certPathValidationCache;
+        TrustAnchor validatedTrustAnchor = cache == null
+                ? validateCertPath(certPath, trustAnchors, timestamp)
+                : cache.validate(certPath, trustAnchors, policyQualifiersRejected, timestamp, () -> validateCertPath(certPath, trustAnchors, timestamp));
+        if (fullChainProhibited && certPath.getCertificates().contains(validatedTrustAnchor.getTrustedCert())) {
+            throw new CertificateException("`certpath` must not contain full chain.");
+        }
+        return trustAnchors.stream()
+                .filter(item -> Objects.equals(item, validatedTrustAnchor))
+                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+    }
+
+    private TrustAnchor validateCertPath(CertPath certPath, Set<TrustAnchor> trustAnchors, Instant timestamp){
+        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
+        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        certPathParameters.setPolicyQualifiersRejected(this.policyQualifiersRejected);
+        // revocationCheckEnabled flag is intentionally removed from DefaultCerPathTrustworthinessAsyncVerifier
+        // because RevocationChecker fetches CRL with URLConnection in URICertStore, which is blocking API.
+        certPathParameters.setRevocationEnabled(false);
+
+        certPathParameters.setDate(Date.from(timestamp));
+
         try {
-            result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
+            PKIXCertPathValidatorResult result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
+            return result.getTrustAnchor();
         } catch (InvalidAlgorithmParameterException e) {
             throw new CertificateException("invalid algorithm parameter", e);
         } catch (CertPathValidatorException e) {
             throw new CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
-            throw new CertificateException("`certpath` must not contain full chain.");
-        }
-        return trustAnchors.stream()
-                .filter(item -> Objects.equals(item, result.getTrustAnchor()))
-                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+    }
+
+    /**
+     * Returns the cache of successful certificate path validations
+     *
+     * @return cache, or null if validations are not cached
+     */
+    public @Nullable CertPathValidationCache getCertPathValidationCache() {
+        return certPathValidationCache;
+    }
+
+    /**
+     * Sets the cache of successful certificate path validations. Validations are not cached by default.
+     *
+     * @param certPathValidationCache cache, or null to disable caching
+     */
+    public void setCertPathValidationCache(@Nullable CertPathValidationCache certPathValidationCache) {
+        this.certPathValidationCache = certPathValidationCache;
     }
 
     public boolean isFullChainProhibited() {
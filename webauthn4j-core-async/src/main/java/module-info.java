@@ -8,6 +8,7 @@ module com.webauthn4j.core.async {
 
     exports com.webauthn4j.async;
     exports com.webauthn4j.async.anchor;
+    exports com.webauthn4j.async.credential;
     exports com.webauthn4j.async.verifier;
     exports com.webauthn4j.async.verifier.attestation.statement;
     exports com.webauthn4j.async.verifier.attestation.statement.androidkey;
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.async.credential;
+
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.InMemoryCredentialRecordStore;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("ConstantConditions")
+class InMemoryCredentialRecordAsyncStoreTest {
+
+    private final byte[] userHandle = new byte[]{0x0A};
+    private final byte[] credentialId = new byte[]{0x01};
+
+    private final InMemoryCredentialRecordAsyncStore target = new InMemoryCredentialRecordAsyncStore();
+
+    @Test
+    void save_find_update_remove_test() throws Exception {
+        CredentialRecord credentialRecord = TestDataUtil.createCredentialRecord(credentialId);
+        target.save(userHandle, credentialRecord).toCompletableFuture().get();
+
+        assertThat(target.find(credentialId).toCompletableFuture().get()).isEqualTo(credentialRecord);
+        assertThat(target.findUserHandle(credentialId).toCompletableFuture().get()).isEqualTo(userHandle);
+        assertThat(target.findByUserHandle(userHandle).toCompletableFuture().get()).containsExactly(credentialRecord);
+
+        CredentialRecord updated = target.find(credentialId).toCompletableFuture().get();
+        updated.setCounter(10);
+        assertThat(target.update(updated, 1).toCompletableFuture().get()).isTrue();
+        assertThat(target.update(updated, 1).toCompletableFuture().get()).isFalse();
+        assertThat(target.find(credentialId).toCompletableFuture().get()).isEqualTo(updated);
+
+        assertThat(target.remove(credentialId).toCompletableFuture().get()).isTrue();
+        assertThat(target.find(credentialId).toCompletableFuture().get()).isNull();
+    }
+
+    @Test
+    void shares_backing_store_test() throws Exception {
+        InMemoryCredentialRecordStore credentialRecordStore = new InMemoryCredentialRecordStore();
+        InMemoryCredentialRecordAsyncStore asyncStore = new InMemoryCredentialRecordAsyncStore(credentialRecordStore);
+        CredentialRecord credentialRecord = TestDataUtil.createCredentialRecord(credentialId);
+        credentialRecordStore.save(userHandle, credentialRecord);
+
+        assertThat(asyncStore.getCredentialRecordStore()).isSameAs(credentialRecordStore);
+        assertThat(asyncStore.find(credentialId).toCompletableFuture().get()).isEqualTo(credentialRecord);
+    }
+
+    @Test
+    void invalid_argument_completes_exceptionally_test() {
+        assertThatThrownBy(() -> target.find(null).toCompletableFuture().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+}
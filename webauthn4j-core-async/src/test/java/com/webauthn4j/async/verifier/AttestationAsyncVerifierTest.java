@@ -1,24 +1,39 @@
 package com.webauthn4j.async.verifier;
 
+import com.webauthn4j.async.verifier.attestation.statement.AttestationStatementAsyncVerifier;
 import com.webauthn4j.async.verifier.attestation.statement.u2f.FIDOU2FAttestationStatementAsyncVerifier;
+import com.webauthn4j.async.verifier.attestation.trustworthiness.certpath.CertPathTrustworthinessAsyncVerifier;
 import com.webauthn4j.async.verifier.attestation.trustworthiness.certpath.NullCertPathTrustworthinessAsyncVerifier;
 import com.webauthn4j.async.verifier.attestation.trustworthiness.self.NullSelfAttestationTrustworthinessAsyncVerifier;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.statement.AttestationCertificatePath;
 import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
 import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.exception.BadAaguidException;
+import com.webauthn4j.verifier.exception.BadSignatureException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,4 +53,31 @@ class AttestationAsyncVerifierTest {
         assertThatThrownBy(() -> attestationAsyncVerifier.verifyAAGUID(attestationObject)).isInstanceOf(BadAaguidException.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void verify_cancels_speculative_certPath_verification_on_statement_failure(@Mock(answer = Answers.RETURNS_DEEP_STUBS) CoreRegistrationObject registrationObject) {
+        FIDOU2FAttestationStatement attestationStatement = new FIDOU2FAttestationStatement(
+                new AttestationCertificatePath(Collections.singletonList(TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate())),
+                new byte[32]);
+        when(registrationObject.getAttestationObject().getAttestationStatement()).thenReturn(attestationStatement);
+        AttestationStatementAsyncVerifier attestationStatementAsyncVerifier = mock(AttestationStatementAsyncVerifier.class);
+        when(attestationStatementAsyncVerifier.supports(registrationObject)).thenReturn(true);
+        when(attestationStatementAsyncVerifier.verify(registrationObject)).thenReturn(CompletableFuture.failedFuture(new BadSignatureException("test")));
+        CertPathTrustworthinessAsyncVerifier certPathTrustworthinessAsyncVerifier = mock(CertPathTrustworthinessAsyncVerifier.class);
+        AttestationAsyncVerifier attestationAsyncVerifier = new AttestationAsyncVerifier(
+                Collections.singletonList(attestationStatementAsyncVerifier),
+                certPathTrustworthinessAsyncVerifier,
+                new NullSelfAttestationTrustworthinessAsyncVerifier());
+        List<Runnable> ioTasks = new ArrayList<>();
+        Executor direct = Runnable::run;
+        attestationAsyncVerifier.setExecutors(new AsyncVerificationExecutors(direct, direct, ioTasks::add));
+        attestationAsyncVerifier.setParallelVerificationEnabled(true);
+
+        CompletionStage<Void> result = attestationAsyncVerifier.verify(registrationObject);
+        ioTasks.forEach(Runnable::run);
+
+        assertThat(ioTasks).hasSize(1);
+        assertThatThrownBy(() -> result.toCompletableFuture().join()).hasCauseInstanceOf(BadSignatureException.class);
+        verify(certPathTrustworthinessAsyncVerifier, never()).verify(any(), any(), any());
+    }
+
+}
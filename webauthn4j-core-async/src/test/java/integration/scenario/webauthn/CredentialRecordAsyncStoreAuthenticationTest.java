@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package integration.scenario.webauthn;
+
+import com.webauthn4j.async.WebAuthnAuthenticationAsyncManager;
+import com.webauthn4j.async.credential.InMemoryCredentialRecordAsyncStore;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.credential.InMemoryCredentialRecordStore;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.verifier.exception.CredentialNotFoundException;
+import com.webauthn4j.verifier.exception.MaliciousCounterValueException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("ConstantConditions")
+class CredentialRecordAsyncStoreAuthenticationTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private final CollectedClientDataConverter collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter
+            = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private final String rpId = "example.com";
+    private final Origin origin = new Origin("http://example.com");
+    private final Challenge challenge = new DefaultChallenge();
+    private final byte[] userHandle = new byte[]{0x01, 0x02, 0x03};
+    private final ClientPlatform clientPlatform = EmulatorUtil.createClientPlatform(EmulatorUtil.PACKED_AUTHENTICATOR);
+    private final WebAuthnAuthenticationAsyncManager target = new WebAuthnAuthenticationAsyncManager(Collections.emptyList(), objectConverter);
+    private final InMemoryCredentialRecordStore credentialRecordStore = new InMemoryCredentialRecordStore();
+    private final InMemoryCredentialRecordAsyncStore credentialRecordAsyncStore = new InMemoryCredentialRecordAsyncStore(credentialRecordStore);
+
+    private CredentialRecord credentialRecord;
+
+    @BeforeEach
+    void setUp() {
+        credentialRecord = createCredentialRecord();
+        credentialRecordStore.save(userHandle, credentialRecord);
+    }
+
+    @Test
+    void verify_resolves_and_updates_credential_record_test() throws Exception {
+        AuthenticationData authenticationData = parse(createAuthenticationRequest(userHandle));
+
+        AuthenticationData verified = target.verify(authenticationData, credentialRecordAsyncStore, createProvider()).toCompletableFuture().get();
+
+        CredentialRecord stored = credentialRecordStore.find(verified.getCredentialId());
+        assertThat(stored.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(stored.getCounter()).isEqualTo(verified.getAuthenticatorData().getSignCount());
+        assertThat(stored.isUvInitialized()).isTrue();
+    }
+
+    @Test
+    void verify_unknown_credential_test() throws Exception {
+        AuthenticationData authenticationData = parse(createAuthenticationRequest(userHandle));
+        credentialRecordStore.remove(credentialRecord.getAttestedCredentialData().getCredentialId());
+
+        assertThatThrownBy(() -> target.verify(authenticationData, credentialRecordAsyncStore, createProvider()).toCompletableFuture().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CredentialNotFoundException.class);
+    }
+
+    @Test
+    void verify_credential_of_other_user_test() throws Exception {
+        AuthenticationData authenticationData = parse(createAuthenticationRequest(new byte[]{0x04}));
+
+        assertThatThrownBy(() -> target.verify(authenticationData, credentialRecordAsyncStore, createProvider()).toCompletableFuture().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(CredentialNotFoundException.class);
+    }
+
+    @Test
+    void verify_with_concurrently_updated_counter_test() throws Exception {
+        AuthenticationData authenticationData = parse(createAuthenticationRequest(userHandle));
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        byte[] credentialId = credentialRecord.getAttestedCredentialData().getCredentialId();
+        // another authentication is persisted between the lookup and the update of this one
+        Function<CredentialRecord, AuthenticationParameters> provider = resolved -> {
+            CredentialRecord concurrent = credentialRecordStore.find(credentialId);
+            concurrent.setCounter(resolved.getCounter() + 1);
+            credentialRecordStore.update(concurrent, resolved.getCounter());
+            return new AuthenticationParameters(serverProperty, resolved, null, true);
+        };
+
+        assertThatThrownBy(() -> target.verify(authenticationData, credentialRecordAsyncStore, provider).toCompletableFuture().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MaliciousCounterValueException.class);
+        assertThat(credentialRecordStore.find(credentialId).getCounter()).isEqualTo(credentialRecord.getCounter() + 1);
+    }
+
+    private AuthenticationData parse(AuthenticationRequest authenticationRequest) throws Exception {
+        return target.parse(authenticationRequest).toCompletableFuture().get();
+    }
+
+    private Function<CredentialRecord, AuthenticationParameters> createProvider() {
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        return resolved -> new AuthenticationParameters(serverProperty, resolved, null, true);
+    }
+
+    private AuthenticationRequest createAuthenticationRequest(byte[] responseUserHandle) {
+        var credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        CollectedClientData collectedClientData = clientPlatform.createCollectedClientData(ClientDataType.WEBAUTHN_GET, challenge);
+        var publicKeyCredential = clientPlatform.get(credentialRequestOptions, collectedClientData);
+        return new AuthenticationRequest(
+                publicKeyCredential.getRawId(),
+                responseUserHandle,
+                publicKeyCredential.getResponse().getAuthenticatorData(),
+                publicKeyCredential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(publicKeyCredential.getClientExtensionResults()),
+                publicKeyCredential.getResponse().getSignature()
+        );
+    }
+
+    private CredentialRecord createCredentialRecord() {
+        var credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(userHandle, "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        var response = clientPlatform.create(credentialCreationOptions);
+        var registrationRequest = response.getResponse();
+        AttestationObject attestationObject = attestationObjectConverter.convert(registrationRequest.getAttestationObject());
+        var clientData = collectedClientDataConverter.convert(registrationRequest.getClientDataJSON());
+        return new CredentialRecordImpl(attestationObject, clientData, response.getClientExtensionResults(), registrationRequest.getTransports());
+    }
+}
@@ -17,6 +17,7 @@
 package integration.scenario.webauthn;
 
 import com.webauthn4j.async.WebAuthnAsyncManager;
+import com.webauthn4j.async.verifier.AsyncVerificationExecutors;
 import com.webauthn4j.authenticator.Authenticator;
 import com.webauthn4j.converter.AttestationObjectConverter;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
@@ -40,6 +41,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -110,6 +114,63 @@ class UserVerifyingAuthenticatorAuthenticationVerificationAsyncTest {
         );
     }
 
+    @Test
+    void verify_with_executors_test() throws ExecutionException, InterruptedException {
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+        AttestationObject attestationObject = createAttestationObject(rpId, challenge);
+
+        PublicKeyCredentialRequestOptions credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                challenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> credential = clientPlatform.get(credentialRequestOptions);
+        AuthenticationRequest authenticationRequest =
+                new AuthenticationRequest(
+                        credential.getRawId(),
+                        credential.getResponse().getAuthenticatorData(),
+                        credential.getResponse().getClientDataJSON(),
+                        authenticationExtensionsClientOutputsConverter.convertToString(credential.getClientExtensionResults()),
+                        credential.getResponse().getSignature()
+                );
+        AuthenticationParameters authenticationParameters = new AuthenticationParameters(
+                new ServerProperty(origin, rpId, challenge, null),
+                TestDataUtil.createAuthenticator(attestationObject),
+                null,
+                true
+        );
+
+        AtomicInteger parseCount = new AtomicInteger();
+        AtomicInteger cryptoCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            WebAuthnAsyncManager webAuthnAsyncManager = WebAuthnAsyncManager.createNonStrictWebAuthnAsyncManager(objectConverter);
+            webAuthnAsyncManager.setExecutors(new AsyncVerificationExecutors(
+                    command -> {
+                        parseCount.incrementAndGet();
+                        executorService.execute(command);
+                    },
+                    command -> {
+                        cryptoCount.incrementAndGet();
+                        executorService.execute(command);
+                    },
+                    executorService
+            ));
+
+            AuthenticationData authenticationData = webAuthnAsyncManager.verify(authenticationRequest, authenticationParameters).toCompletableFuture().get();
+
+            assertThat(authenticationData.getAuthenticatorData()).isNotNull();
+            assertThat(parseCount.get()).isEqualTo(1);
+            assertThat(cryptoCount.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     private AttestationObject createAttestationObject(String rpId, Challenge challenge) {
         AuthenticatorSelectionCriteria authenticatorSelectionCriteria =
                 new AuthenticatorSelectionCriteria(
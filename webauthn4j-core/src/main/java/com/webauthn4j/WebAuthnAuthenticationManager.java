@@ -16,12 +16,14 @@
 
 package com.webauthn4j;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.AuthenticationResponseJSONConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
 import com.webauthn4j.converter.CollectedClientDataConverter;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordStore;
 import com.webauthn4j.data.*;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.client.CollectedClientData;
@@ -29,16 +31,28 @@ import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthen
 import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
 import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.exception.WebAuthnException;
 import com.webauthn4j.verifier.AuthenticationDataVerifier;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
+import com.webauthn4j.verifier.exception.CredentialNotFoundException;
+import com.webauthn4j.verifier.exception.MaliciousCounterValueException;
 import com.webauthn4j.verifier.exception.VerificationException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * Manager class for WebAuthn authentication operations.
@@ -56,11 +70,10 @@ public class WebAuthnAuthenticationManager {
     private final CollectedClientDataConverter collectedClientDataConverter;
     private final AuthenticatorDataConverter authenticatorDataConverter;
     private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+    private final AuthenticationResponseJSONConverter authenticationResponseJSONConverter;
 
     private final AuthenticationDataVerifier authenticationDataVerifier;
 
-    private final ObjectConverter objectConverter;
-
     /**
      * Constructor for WebAuthnAuthenticationManager with custom verifiers and object converter
      *
@@ -78,8 +91,7 @@ public class WebAuthnAuthenticationManager {
         this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
         this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
         this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
-
-        this.objectConverter = objectConverter;
+        this.authenticationResponseJSONConverter = new AuthenticationResponseJSONConverter(objectConverter);
     }
 
     /**
@@ -108,8 +120,7 @@ public class WebAuthnAuthenticationManager {
      * @return the parsed authentication data
      */
     public @NotNull AuthenticationData parse(@NotNull String authenticationResponseJSON) {
-        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonConverter().readValue(authenticationResponseJSON, new TypeReference<>() {});
-        return toAuthenticationData(publicKeyCredential);
+        return authenticationResponseJSONConverter.convert(authenticationResponseJSON);
     }
 
     /**
@@ -119,35 +130,7 @@ public class WebAuthnAuthenticationManager {
      * @return the parsed authentication data
      */
     public @NotNull AuthenticationData parse(@NotNull InputStream authenticationResponseJSON) {
-        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential = objectConverter.getJsonConverter().readValue(authenticationResponseJSON, new TypeReference<>() {});
-        return toAuthenticationData(publicKeyCredential);
-    }
-
-    @SuppressWarnings("java:S2583")
-    private @NotNull AuthenticationData toAuthenticationData(@NotNull PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential){
-        byte[] credentialId = publicKeyCredential.getRawId();
-        byte[] userHandle = publicKeyCredential.getResponse().getUserHandle();
-
-        byte[] clientDataBytes = publicKeyCredential.getResponse().getClientDataJSON();
-        CollectedClientData collectedClientData = clientDataBytes == null ? null : collectedClientDataConverter.convert(clientDataBytes);
-
-        byte[] authenticatorDataBytes = publicKeyCredential.getResponse().getAuthenticatorData();
-        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(authenticatorDataBytes);
-
-        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = publicKeyCredential.getClientExtensionResults();
-
-        byte[] signature = publicKeyCredential.getResponse().getSignature();
-
-        return new AuthenticationData(
-                credentialId,
-                userHandle,
-                authenticatorData,
-                authenticatorDataBytes,
-                collectedClientData,
-                clientDataBytes,
-                clientExtensions,
-                signature
-        );
+        return authenticationResponseJSONConverter.convert(authenticationResponseJSON);
     }
 
     /**
@@ -255,6 +238,191 @@ public class WebAuthnAuthenticationManager {
         return authenticationData;
     }
 
+    /**
+     * Verifies a WebAuthn authentication response JSON string with the credential record resolved from the store
+     *
+     * @param authenticationResponseJSON the authentication response in JSON format
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws DataConversionException if data conversion fails
+     * @throws VerificationException if verification fails
+     * @see #verify(AuthenticationData, CredentialRecordStore, Function)
+     */
+    public @NotNull AuthenticationData verify(
+            @NotNull String authenticationResponseJSON,
+            @NotNull CredentialRecordStore credentialRecordStore,
+            @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws DataConversionException, VerificationException {
+        AuthenticationData authenticationData = parse(authenticationResponseJSON);
+        return verify(authenticationData, credentialRecordStore, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies a WebAuthn authentication request with the credential record resolved from the store
+     *
+     * @param authenticationRequest the authentication request to verify
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws DataConversionException if data conversion fails
+     * @throws VerificationException if verification fails
+     * @see #verify(AuthenticationData, CredentialRecordStore, Function)
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NotNull AuthenticationData verify(
+            @NotNull AuthenticationRequest authenticationRequest,
+            @NotNull CredentialRecordStore credentialRecordStore,
+            @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws DataConversionException, VerificationException {
+        AuthenticationData authenticationData = parse(authenticationRequest);
+        return verify(authenticationData, credentialRecordStore, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies WebAuthn authentication data with the credential record resolved from the store.
+     * <p>
+     * The credential record is looked up by the credential ID of the response. If the response has a user handle, the
+     * credential record must belong to that user account. The parameters must be created with the given credential
+     * record, so that the counter and flags updated by the verification are persisted to the store afterwards.
+     * The update only succeeds if the stored counter has not been changed since the lookup, so that concurrent
+     * authentications with the same credential cannot all pass the signature counter check.
+     *
+     * @param authenticationData the authentication data to verify
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws CredentialNotFoundException if no credential record is found for the response
+     * @throws MaliciousCounterValueException if the counter was updated by a concurrent authentication
+     * @throws VerificationException if verification fails
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NotNull AuthenticationData verify(
+            @NotNull AuthenticationData authenticationData,
+            @NotNull CredentialRecordStore credentialRecordStore,
+            @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws VerificationException {
+        AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+        AssertUtil.notNull(credentialRecordStore, "credentialRecordStore must not be null");
+        AssertUtil.notNull(authenticationParametersProvider, "authenticationParametersProvider must not be null");
+
+        byte[] credentialId = authenticationData.getCredentialId();
+        CredentialRecord credentialRecord = credentialId == null ? null : credentialRecordStore.find(credentialId);
+        if (credentialRecord == null) {
+            throw new CredentialNotFoundException("Credential record is not found for the credential ID");
+        }
+        byte[] userHandle = authenticationData.getUserHandle();
+        if (userHandle != null && !Arrays.equals(userHandle, credentialRecordStore.findUserHandle(credentialId))) {
+            throw new CredentialNotFoundException("Credential record is not found for the user handle");
+        }
+        long expectedCounter = credentialRecord.getCounter();
+
+        AuthenticationParameters authenticationParameters = authenticationParametersProvider.apply(credentialRecord);
+        AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+        AssertUtil.isTrue(authenticationParameters.getAuthenticator() == credentialRecord, "authenticationParameters must be created with the resolved credential record");
+        verify(authenticationData, authenticationParameters);
+        if (!credentialRecordStore.update(credentialRecord, expectedCounter)) {
+            throw new MaliciousCounterValueException("Credential record is updated by a concurrent authentication");
+        }
+        return authenticationData;
+    }
+
+    /**
+     * Verifies a batch of WebAuthn authentication requests on the calling thread
+     *
+     * @param authenticationRequests the authentication requests to verify
+     * @param authenticationParametersProvider function that resolves the parameters for each request
+     * @return per-request results, in the order of the requests
+     * @see #verifyAll(List, Function, Executor)
+     */
+    public @NotNull List<AuthenticationVerificationResult> verifyAll(
+            @NotNull List<AuthenticationRequest> authenticationRequests,
+            @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider) {
+        return verifyAll(authenticationRequests, authenticationParametersProvider, Runnable::run);
+    }
+
+    /**
+     * Verifies a batch of WebAuthn authentication requests on the given executor.
+     * <p>
+     * Each request is parsed and verified independently. A request that is null, that the executor rejects, or that
+     * fails to resolve its parameters, to parse, or to verify is reported in its {@link AuthenticationVerificationResult}
+     * and doesn't affect the other requests. An {@link Error} thrown while verifying a request is reported as well,
+     * wrapped in a {@link WebAuthnException}.
+     * <p>
+     * Requests are not grouped by algorithm: each verification creates its own {@link java.security.Signature} engine,
+     * and only the provider lookup for the algorithm and key class is shared through the cache of
+     * {@link com.webauthn4j.util.SignatureUtil}. To share the rpIdHash
+     * computation across requests of the same relying party, resolve their parameters from a shared
+     * {@link com.webauthn4j.server.ServerProperty} or {@link com.webauthn4j.server.RelyingPartyProfile}.
+     *
+     * @param authenticationRequests the authentication requests to verify
+     * @param authenticationParametersProvider function that resolves the parameters for each request
+     * @param executor executor to run the verifications on, such as a {@link java.util.concurrent.ForkJoinPool} or a virtual thread executor
+     * @return per-request results, in the order of the requests
+     */
+    public @NotNull List<AuthenticationVerificationResult> verifyAll(
+            @NotNull List<AuthenticationRequest> authenticationRequests,
+            @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider,
+            @NotNull Executor executor) {
+        AssertUtil.notNull(authenticationRequests, "authenticationRequests must not be null");
+        AssertUtil.notNull(authenticationParametersProvider, "authenticationParametersProvider must not be null");
+        AssertUtil.notNull(executor, "executor must not be null");
+
+        List<CompletableFuture<AuthenticationVerificationResult>> futures = new ArrayList<>(authenticationRequests.size());
+        for (AuthenticationRequest authenticationRequest : authenticationRequests) {
+            futures.add(submitItem(authenticationRequest, authenticationParametersProvider, executor));
+        }
+        List<AuthenticationVerificationResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(joinItem(authenticationRequests.get(i), futures.get(i)));
+        }
+        return results;
+    }
+
+    private @NotNull CompletableFuture<AuthenticationVerificationResult> submitItem(
+            @Nullable AuthenticationRequest authenticationRequest,
+            @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider,
+            @NotNull Executor executor) {
+        if (authenticationRequest == null) {
+            return CompletableFuture.completedFuture(AuthenticationVerificationResult.failure(null, new IllegalArgumentException("authenticationRequest must not be null")));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> verifyItem(authenticationRequest, authenticationParametersProvider), executor);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Batch item submission was rejected", e);
+            return CompletableFuture.completedFuture(AuthenticationVerificationResult.failure(authenticationRequest, e));
+        }
+    }
+
+    private @NotNull AuthenticationVerificationResult joinItem(
+            @Nullable AuthenticationRequest authenticationRequest,
+            @NotNull CompletableFuture<AuthenticationVerificationResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // verifyItem reports all throwables, but an executor may still complete the future exceptionally
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            return AuthenticationVerificationResult.failure(authenticationRequest, cause instanceof RuntimeException ? (RuntimeException) cause : new WebAuthnException("Batch item verification failed", cause));
+        } catch (CancellationException e) {
+            return AuthenticationVerificationResult.failure(authenticationRequest, e);
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private @NotNull AuthenticationVerificationResult verifyItem(
+            @NotNull AuthenticationRequest authenticationRequest,
+            @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider) {
+        try {
+            AuthenticationParameters authenticationParameters = authenticationParametersProvider.apply(authenticationRequest);
+            AssertUtil.notNull(authenticationParameters, "authenticationParameters must not be null");
+            return AuthenticationVerificationResult.success(authenticationRequest, verify(authenticationRequest, authenticationParameters));
+        } catch (RuntimeException e) {
+            logger.debug("Batch item verification failed", e);
+            return AuthenticationVerificationResult.failure(authenticationRequest, e);
+        } catch (Throwable e) {
+            // an error must not fail the join of the whole batch
+            logger.warn("Batch item verification failed with an error", e);
+            return AuthenticationVerificationResult.failure(authenticationRequest, new WebAuthnException("Batch item verification failed", e));
+        }
+    }
+
     /**
      * Gets the authentication data verifier
      *
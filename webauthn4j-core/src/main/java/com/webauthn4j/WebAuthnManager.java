@@ -18,6 +18,8 @@ package com.webauthn4j;
 
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordStore;
 import com.webauthn4j.data.*;
 import com.webauthn4j.verifier.AuthenticationDataVerifier;
 import com.webauthn4j.verifier.CustomAuthenticationVerifier;
@@ -42,6 +44,8 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Manager class for WebAuthn operations.
@@ -398,6 +402,75 @@ public class WebAuthnManager {
         return verify(authenticationData, authenticationParameters);
     }
 
+    /**
+     * Verifies a WebAuthn authentication response JSON string with the credential record resolved from the store
+     *
+     * @param authenticationResponseJSON the authentication response in JSON format
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws DataConversionException if data conversion fails
+     * @throws VerificationException if verification fails
+     * @see WebAuthnAuthenticationManager#verify(AuthenticationData, CredentialRecordStore, Function)
+     */
+    public @NotNull AuthenticationData verifyAuthenticationResponseJSON(@NotNull String authenticationResponseJSON, @NotNull CredentialRecordStore credentialRecordStore, @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws DataConversionException, VerificationException {
+        return this.webAuthnAuthenticationManager.verify(authenticationResponseJSON, credentialRecordStore, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies a WebAuthn authentication request with the credential record resolved from the store
+     *
+     * @param authenticationRequest the authentication request to verify
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws DataConversionException if data conversion fails
+     * @throws VerificationException if verification fails
+     * @see WebAuthnAuthenticationManager#verify(AuthenticationData, CredentialRecordStore, Function)
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NotNull AuthenticationData verify(@NotNull AuthenticationRequest authenticationRequest, @NotNull CredentialRecordStore credentialRecordStore, @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws DataConversionException, VerificationException {
+        return this.webAuthnAuthenticationManager.verify(authenticationRequest, credentialRecordStore, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies WebAuthn authentication data with the credential record resolved from the store
+     *
+     * @param authenticationData the authentication data to verify
+     * @param credentialRecordStore the store to resolve and update the credential record
+     * @param authenticationParametersProvider function that creates the parameters for the resolved credential record
+     * @return the verified authentication data
+     * @throws VerificationException if verification fails
+     * @see WebAuthnAuthenticationManager#verify(AuthenticationData, CredentialRecordStore, Function)
+     */
+    @SuppressWarnings("squid:S1130")
+    public @NotNull AuthenticationData verify(@NotNull AuthenticationData authenticationData, @NotNull CredentialRecordStore credentialRecordStore, @NotNull Function<CredentialRecord, AuthenticationParameters> authenticationParametersProvider) throws VerificationException {
+        return this.webAuthnAuthenticationManager.verify(authenticationData, credentialRecordStore, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies a batch of WebAuthn authentication requests on the calling thread
+     *
+     * @param authenticationRequests the authentication requests to verify
+     * @param authenticationParametersProvider function that resolves the parameters for each request
+     * @return per-request results, in the order of the requests
+     */
+    public @NotNull List<AuthenticationVerificationResult> verifyAll(@NotNull List<AuthenticationRequest> authenticationRequests, @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider) {
+        return this.webAuthnAuthenticationManager.verifyAll(authenticationRequests, authenticationParametersProvider);
+    }
+
+    /**
+     * Verifies a batch of WebAuthn authentication requests on the given executor
+     *
+     * @param authenticationRequests the authentication requests to verify
+     * @param authenticationParametersProvider function that resolves the parameters for each request
+     * @param executor executor to run the verifications on
+     * @return per-request results, in the order of the requests
+     */
+    public @NotNull List<AuthenticationVerificationResult> verifyAll(@NotNull List<AuthenticationRequest> authenticationRequests, @NotNull Function<AuthenticationRequest, AuthenticationParameters> authenticationParametersProvider, @NotNull Executor executor) {
+        return this.webAuthnAuthenticationManager.verifyAll(authenticationRequests, authenticationParametersProvider, executor);
+    }
+
     /**
      * Gets the registration data verifier
      *
@@ -16,9 +16,8 @@
 
 package com.webauthn4j.converter;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.webauthn4j.converter.exception.DataConversionException;
-import com.webauthn4j.converter.jackson.JacksonUtil;
+import com.webauthn4j.converter.util.CTAP2CborDecoder;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.AttestationObject;
@@ -37,6 +36,7 @@ public class AttestationObjectConverter {
     // ~ Instance fields
     // ================================================================================================
     private final CborConverter cborConverter;
+    private final CTAP2CborDecoder ctap2CborDecoder;
 
     // ~ Constructors
     // ================================================================================================
@@ -44,6 +44,7 @@ public class AttestationObjectConverter {
     public AttestationObjectConverter(@NotNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
         this.cborConverter = objectConverter.getCborConverter();
+        this.ctap2CborDecoder = objectConverter.getCTAP2CborDecoder();
     }
 
     // ~ Methods
@@ -74,6 +75,9 @@ public class AttestationObjectConverter {
     public @Nullable AttestationObject convert(@NotNull byte[] source) {
         try {
             AssertUtil.notNull(source, SOURCE_NULL_CHECK_MESSAGE);
+            if (ctap2CborDecoder != null) {
+                return ctap2CborDecoder.decodeAttestationObject(source);
+            }
             return cborConverter.readValue(source, AttestationObject.class);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
@@ -118,8 +122,7 @@ public class AttestationObjectConverter {
      */
     public @Nullable byte[] extractAuthenticatorData(@NotNull byte[] attestationObject) {
         AssertUtil.notNull(attestationObject, "attestationObject must not be null");
-        JsonNode authData = cborConverter.readTree(attestationObject).get("authData");
-        return JacksonUtil.binaryValue(authData);
+        return AttestationObjectSpan.of(attestationObject).getAuthenticatorData();
     }
 
     /**
@@ -130,8 +133,7 @@ public class AttestationObjectConverter {
      */
     public @Nullable byte[] extractAttestationStatement(@NotNull byte[] attestationObject) {
         AssertUtil.notNull(attestationObject, "attestationObject must not be null");
-        JsonNode attStmt = cborConverter.readTree(attestationObject).get("attStmt");
-        return cborConverter.writeValueAsBytes(attStmt);
+        return AttestationObjectSpan.of(attestationObject).getAttestationStatement();
     }
 
 
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Location of the {@code authData} and {@code attStmt} members inside an attestation object byte array.
+ * <p>
+ * The attestation object is scanned in a single pass at the CBOR item level, without building a tree or binding
+ * any object, and only the byte spans of the members are recorded. Consumers which need the raw authenticator data
+ * or the raw attestation statement can then slice them from the original buffer instead of re-parsing it.
+ */
+public class AttestationObjectSpan {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+    private static final int INDEFINITE_LENGTH = 31;
+    private static final int BREAK = 0xFF;
+    private static final int MAX_NESTING_DEPTH = 64;
+
+    private static final byte[] AUTH_DATA_KEY = "authData".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ATT_STMT_KEY = "attStmt".getBytes(StandardCharsets.US_ASCII);
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final byte[] attestationObject;
+    private int authenticatorDataOffset = -1;
+    private int authenticatorDataLength;
+    // only set when authData is encoded as an indefinite length byte string, which has no contiguous span
+    private byte[] chunkedAuthenticatorData;
+    private int attestationStatementOffset = -1;
+    private int attestationStatementLength;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    private AttestationObjectSpan(@NotNull byte[] attestationObject) {
+        this.attestationObject = attestationObject;
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Scans an attestation object byte array. The array is referenced, not copied, and must not be modified afterwards.
+     *
+     * @param attestationObject the attestationObject byte array
+     * @return the span
+     * @throws DataConversionException if the attestation object is not a well-formed CBOR map
+     */
+    public static @NotNull AttestationObjectSpan of(@NotNull byte[] attestationObject) {
+        AssertUtil.notNull(attestationObject, "attestationObject must not be null");
+        AttestationObjectSpan span = new AttestationObjectSpan(attestationObject);
+        span.scan();
+        return span;
+    }
+
+    /**
+     * Returns a copy of the authenticator data bytes
+     *
+     * @return the authenticator data bytes, or null if the attestation object has no authData byte string
+     */
+    public @Nullable byte[] getAuthenticatorData() {
+        if (chunkedAuthenticatorData != null) {
+            return chunkedAuthenticatorData.clone();
+        }
+        if (authenticatorDataOffset < 0) {
+            return null;
+        }
+        return Arrays.copyOfRange(attestationObject, authenticatorDataOffset, authenticatorDataOffset + authenticatorDataLength);
+    }
+
+    /**
+     * Returns a copy of the CBOR encoded attestation statement, as it appears in the attestation object
+     *
+     * @return the attestation statement bytes, or null if the attestation object has no attStmt
+     */
+    public @Nullable byte[] getAttestationStatement() {
+        if (attestationStatementOffset < 0) {
+            return null;
+        }
+        return Arrays.copyOfRange(attestationObject, attestationStatementOffset, attestationStatementOffset + attestationStatementLength);
+    }
+
+    private void scan() {
+        int position = 0;
+        int initialByte = readByte(position);
+        if (initialByte >>> 5 != MAJOR_TYPE_MAP) {
+            throw new DataConversionException("attestationObject must be a CBOR map");
+        }
+        boolean indefinite = (initialByte & 0x1F) == INDEFINITE_LENGTH;
+        long size = indefinite ? -1 : readArgument(position);
+        position = headerEnd(position);
+        checkItemCount(position, size);
+        for (long i = 0; indefinite || i < size; i++) {
+            if (indefinite && readByte(position) == BREAK) {
+                position++;
+                break;
+            }
+            int keyStart = position;
+            position = skip(position, 0);
+            int valueStart = position;
+            position = skip(position, 0);
+            if (isTextString(keyStart, AUTH_DATA_KEY)) {
+                recordAuthenticatorData(valueStart, position);
+            }
+            else if (isTextString(keyStart, ATT_STMT_KEY)) {
+                attestationStatementOffset = valueStart;
+                attestationStatementLength = position - valueStart;
+            }
+        }
+    }
+
+    private void recordAuthenticatorData(int start, int end) {
+        int initialByte = readByte(start);
+        if (initialByte >>> 5 != MAJOR_TYPE_BYTE_STRING) {
+            return;
+        }
+        if ((initialByte & 0x1F) != INDEFINITE_LENGTH) {
+            authenticatorDataOffset = headerEnd(start);
+            authenticatorDataLength = end - authenticatorDataOffset;
+            return;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        int position = start + 1;
+        while (readByte(position) != BREAK) {
+            int chunkStart = headerEnd(position);
+            int chunkEnd = skip(position, 0);
+            outputStream.write(attestationObject, chunkStart, chunkEnd - chunkStart);
+            position = chunkEnd;
+        }
+        chunkedAuthenticatorData = outputStream.toByteArray();
+    }
+
+    private boolean isTextString(int position, @NotNull byte[] expected) {
+        int initialByte = readByte(position);
+        if (initialByte >>> 5 != MAJOR_TYPE_TEXT_STRING || (initialByte & 0x1F) == INDEFINITE_LENGTH || readArgument(position) != expected.length) {
+            return false;
+        }
+        int start = headerEnd(position);
+        for (int i = 0; i < expected.length; i++) {
+            if (attestationObject[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skips the data item starting at the position
+     *
+     * @return the position next to the data item
+     */
+    private int skip(int position, int depth) {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new DataConversionException("attestationObject is nested too deeply");
+        }
+        int initialByte = readByte(position);
+        int majorType = initialByte >>> 5;
+        boolean indefinite = (initialByte & 0x1F) == INDEFINITE_LENGTH;
+        if (indefinite && (majorType == MAJOR_TYPE_UNSIGNED_INTEGER || majorType == MAJOR_TYPE_NEGATIVE_INTEGER || majorType == MAJOR_TYPE_TAG)) {
+            throw new DataConversionException("attestationObject is not well-formed CBOR");
+        }
+        long argument = indefinite ? -1 : readArgument(position);
+        int next = headerEnd(position);
+        switch (majorType) {
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+                if (indefinite) {
+                    return skipIndefinite(next, depth, 1);
+                }
+                return advance(next, argument);
+            case MAJOR_TYPE_ARRAY:
+            case MAJOR_TYPE_MAP:
+                int itemsPerEntry = majorType == MAJOR_TYPE_MAP ? 2 : 1;
+                if (indefinite) {
+                    return skipIndefinite(next, depth, itemsPerEntry);
+                }
+                checkItemCount(next, argument);
+                for (long i = 0; i < argument * itemsPerEntry; i++) {
+                    next = skip(next, depth + 1);
+                }
+                return next;
+            case MAJOR_TYPE_TAG:
+                return skip(next, depth + 1);
+            default:
+                // integers and simple values carry no content beyond the header
+                if (initialByte == BREAK) {
+                    throw new DataConversionException("attestationObject is not well-formed CBOR");
+                }
+                return next;
+        }
+    }
+
+    private int skipIndefinite(int position, int depth, int itemsPerEntry) {
+        while (readByte(position) != BREAK) {
+            for (int i = 0; i < itemsPerEntry; i++) {
+                position = skip(position, depth + 1);
+            }
+        }
+        return position + 1;
+    }
+
+    private void checkItemCount(int position, long count) {
+        // every data item takes at least one byte
+        if (count > attestationObject.length - (long) position || count < -1) {
+            throw new DataConversionException("attestationObject is truncated");
+        }
+    }
+
+    private int headerEnd(int position) {
+        int additionalInformation = readByte(position) & 0x1F;
+        if (additionalInformation < 24 || additionalInformation == INDEFINITE_LENGTH) {
+            return position + 1;
+        }
+        if (additionalInformation > 27) {
+            throw new DataConversionException("attestationObject is not well-formed CBOR");
+        }
+        return advance(position + 1, 1L << (additionalInformation - 24));
+    }
+
+    private long readArgument(int position) {
+        int additionalInformation = readByte(position) & 0x1F;
+        if (additionalInformation < 24) {
+            return additionalInformation;
+        }
+        int end = headerEnd(position);
+        long argument = 0;
+        for (int i = position + 1; i < end; i++) {
+            argument = (argument << 8) | (attestationObject[i] & 0xFF);
+        }
+        return argument;
+    }
+
+    private int advance(int position, long length) {
+        if (length < 0 || length > attestationObject.length - (long) position) {
+            throw new DataConversionException("attestationObject is truncated");
+        }
+        return position + (int) length;
+    }
+
+    private int readByte(int position) {
+        if (position >= attestationObject.length) {
+            throw new DataConversionException("attestationObject is truncated");
+        }
+        return attestationObject[position] & 0xFF;
+    }
+}
@@ -18,6 +18,8 @@ package com.webauthn4j.converter;
 
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.jackson.deserializer.cbor.COSEKeyEnvelope;
+import com.webauthn4j.converter.util.CTAP2CborDecoder;
+import com.webauthn4j.converter.util.CTAP2CborReader;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
@@ -58,6 +60,7 @@ public class AttestedCredentialDataConverter {
     private static final int CREDENTIAL_ID_INDEX = L_INDEX + L_LENGTH;
 
     private final CborConverter cborConverter;
+    private final CTAP2CborDecoder ctap2CborDecoder;
 
     /**
      * Constructor for AttestedCredentialDataConverter
@@ -68,6 +71,7 @@ public class AttestedCredentialDataConverter {
     public AttestedCredentialDataConverter(@NotNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
         this.cborConverter = objectConverter.getCborConverter();
+        this.ctap2CborDecoder = objectConverter.getCTAP2CborDecoder();
     }
 
     private static AttestedCredentialData createAttestedCredentialData(@NotNull AAGUID aaguid, @NotNull byte[] credentialId, @NotNull COSEKey coseKey) {
@@ -104,6 +108,31 @@ public class AttestedCredentialDataConverter {
         }
     }
 
+    /**
+     * Writes the byte representation of an AttestedCredentialData object directly into the buffer, starting at its
+     * position, and advances the position.
+     *
+     * @param attestationData the AttestedCredentialData to convert
+     * @param destination     the buffer to write to
+     * @throws java.nio.BufferOverflowException if the remaining space of the buffer is not enough
+     */
+    public void convert(@NotNull AttestedCredentialData attestationData, @NotNull ByteBuffer destination) {
+        try {
+            AssertUtil.notNull(attestationData, "attestationData must not be null");
+            AssertUtil.notNull(destination, "destination must not be null");
+            AssertUtil.notNull(attestationData.getAaguid(), "aaguid must not be null");
+            AssertUtil.notNull(attestationData.getCredentialId(), "credentialId must not be null");
+            assertCoseKey(attestationData.getCOSEKey());
+
+            destination.put(attestationData.getAaguid().getBytes());
+            destination.put(UnsignedNumberUtil.toBytes(attestationData.getCredentialId().length));
+            destination.put(attestationData.getCredentialId());
+            cborConverter.writeValue(attestationData.getCOSEKey(), destination);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * Converts a ByteBuffer containing attested credential data to an AttestedCredentialData object.
      *
@@ -120,17 +149,9 @@ public class AttestedCredentialDataConverter {
             int length = UnsignedNumberUtil.getUnsignedShort(attestedCredentialData);
             byte[] credentialId = new byte[length];
             attestedCredentialData.get(credentialId, 0, length);
-            byte[] remaining = new byte[attestedCredentialData.remaining()];
-            attestedCredentialData.get(remaining);
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
-            COSEKeyEnvelope coseKeyEnvelope = convertToCredentialPublicKey(byteArrayInputStream);
-            COSEKey coseKey = coseKeyEnvelope.getCOSEKey();
+            COSEKey coseKey = convertToCredentialPublicKey(attestedCredentialData);
             assertCoseKey(coseKey);
-            AttestedCredentialData result = createAttestedCredentialData(aaguid, credentialId, coseKey);
-            int extensionsBufferLength = remaining.length - coseKeyEnvelope.getLength();
-            //This cast is necessary to be complied with JDK 17 when targeting JDK 8
-            ((Buffer)attestedCredentialData).position(attestedCredentialData.position() - extensionsBufferLength);
-            return result;
+            return createAttestedCredentialData(aaguid, credentialId, coseKey);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -164,10 +185,41 @@ public class AttestedCredentialDataConverter {
         return Arrays.copyOfRange(attestedCredentialData, CREDENTIAL_ID_INDEX, CREDENTIAL_ID_INDEX + credentialIdLength);
     }
 
-    @NotNull COSEKeyEnvelope convertToCredentialPublicKey(@NotNull InputStream inputStream) {
-        AssertUtil.notNull(inputStream, "inputStream must not be null");
-        //noinspection ConstantConditions as input stream is not null
-        return cborConverter.readValue(inputStream, COSEKeyEnvelope.class);
+    /**
+     * Reads the credential public key at the position of the buffer, and advances the position next to it.
+     */
+    @SuppressWarnings("RedundantCast")
+    @Nullable COSEKey convertToCredentialPublicKey(@NotNull ByteBuffer byteBuffer) {
+        AssertUtil.notNull(byteBuffer, "byteBuffer must not be null");
+        byte[] source;
+        int offset;
+        int length = byteBuffer.remaining();
+        if (byteBuffer.hasArray()) {
+            // read the key in place from the backing array instead of copying the remaining bytes
+            source = byteBuffer.array();
+            offset = byteBuffer.arrayOffset() + ((Buffer) byteBuffer).position();
+        }
+        else {
+            source = new byte[length];
+            byteBuffer.duplicate().get(source);
+            offset = 0;
+        }
+        COSEKey coseKey;
+        int coseKeyLength;
+        if (ctap2CborDecoder != null) {
+            CTAP2CborReader reader = new CTAP2CborReader(source, offset, length);
+            coseKey = ctap2CborDecoder.decodeCOSEKey(reader);
+            coseKeyLength = reader.getPosition() - offset;
+        }
+        else {
+            COSEKeyEnvelope coseKeyEnvelope = cborConverter.readValue(new ByteArrayInputStream(source, offset, length), COSEKeyEnvelope.class);
+            //noinspection ConstantConditions as input stream is not null
+            coseKey = coseKeyEnvelope.getCOSEKey();
+            coseKeyLength = coseKeyEnvelope.getLength();
+        }
+        //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+        ((Buffer) byteBuffer).position(((Buffer) byteBuffer).position() + coseKeyLength);
+        return coseKey;
     }
 
     @NotNull byte[] convert(@NotNull COSEKey coseKey) {
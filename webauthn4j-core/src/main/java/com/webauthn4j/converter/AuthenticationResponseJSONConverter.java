@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Converter from the JSON serialization of a {@code PublicKeyCredential} with an {@code AuthenticatorAssertionResponse}
+ * to {@link AuthenticationData}
+ * <p>
+ * The JSON is read in a single pass at the token level, without binding it to intermediate
+ * {@link com.webauthn4j.data.PublicKeyCredential} and {@link com.webauthn4j.data.AuthenticatorAssertionResponse} objects.
+ * clientDataJSON and authenticatorData are parsed directly from their base64url decoded bytes.
+ * Members which are not needed for the verification, like {@code id}, {@code type} and {@code authenticatorAttachment},
+ * are skipped.
+ */
+public class AuthenticationResponseJSONConverter {
+
+    private static final String INPUT_MISMATCH_ERROR_MESSAGE = "Input data does not match expected form";
+
+    // ~ Instance fields
+    // ================================================================================================
+    private final JsonConverter jsonConverter;
+    private final CollectedClientDataConverter collectedClientDataConverter;
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public AuthenticationResponseJSONConverter(@NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.jsonConverter = objectConverter.getJsonConverter();
+        this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Converts an authentication response JSON string to {@link AuthenticationData}
+     *
+     * @param source authentication response JSON
+     * @return the converted object
+     */
+    public @NotNull AuthenticationData convert(@NotNull String source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return convert(jsonConverter.createParser(source));
+    }
+
+    /**
+     * Converts an authentication response JSON UTF-8 byte array to {@link AuthenticationData}
+     *
+     * @param source authentication response JSON
+     * @return the converted object
+     */
+    public @NotNull AuthenticationData convert(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return convert(jsonConverter.createParser(source));
+    }
+
+    /**
+     * Converts an authentication response JSON stream to {@link AuthenticationData}
+     *
+     * @param source authentication response JSON
+     * @return the converted object
+     */
+    public @NotNull AuthenticationData convert(@NotNull InputStream source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return convert(jsonConverter.createParser(source));
+    }
+
+    private @NotNull AuthenticationData convert(@NotNull JsonParser parser) {
+        try (JsonParser p = parser) {
+            return readPublicKeyCredential(p);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private @NotNull AuthenticationData readPublicKeyCredential(@NotNull JsonParser parser) throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+        byte[] credentialId = null;
+        AuthenticationResponse response = new AuthenticationResponse();
+        AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput> clientExtensions = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "rawId":
+                    credentialId = readBytes(parser);
+                    break;
+                case "response":
+                    if (token != JsonToken.VALUE_NULL) {
+                        readResponse(parser, response);
+                    }
+                    break;
+                case "clientExtensionResults":
+                    clientExtensions = token == JsonToken.VALUE_NULL ? null : parser.readValueAs(new TypeReference<AuthenticationExtensionsClientOutputs<AuthenticationExtensionClientOutput>>() {});
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+
+        CollectedClientData collectedClientData = response.clientDataBytes == null ? null : collectedClientDataConverter.convert(response.clientDataBytes);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = response.authenticatorDataBytes == null ? null : authenticatorDataConverter.convert(response.authenticatorDataBytes);
+
+        return new AuthenticationData(
+                credentialId,
+                response.userHandle,
+                authenticatorData,
+                response.authenticatorDataBytes,
+                collectedClientData,
+                response.clientDataBytes,
+                clientExtensions,
+                response.signature
+        );
+    }
+
+    private void readResponse(@NotNull JsonParser parser, @NotNull AuthenticationResponse response) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "clientDataJSON":
+                    response.clientDataBytes = readBytes(parser);
+                    break;
+                case "authenticatorData":
+                    response.authenticatorDataBytes = readBytes(parser);
+                    break;
+                case "signature":
+                    response.signature = readBytes(parser);
+                    break;
+                case "userHandle":
+                    response.userHandle = readBytes(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    private static @Nullable byte[] readBytes(@NotNull JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(token, JsonToken.VALUE_STRING);
+        try {
+            return Base64UrlUtil.decode(parser.getText());
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(String.format("%s: '%s' is not a valid base64url string", INPUT_MISMATCH_ERROR_MESSAGE, parser.currentName()), e);
+        }
+    }
+
+    private static void expect(@Nullable JsonToken actual, @NotNull JsonToken expected) {
+        if (actual != expected) {
+            throw new DataConversionException(String.format("%s: expected %s, but %s", INPUT_MISMATCH_ERROR_MESSAGE, expected, actual));
+        }
+    }
+
+    private static class AuthenticationResponse {
+        private byte[] clientDataBytes;
+        private byte[] authenticatorDataBytes;
+        private byte[] signature;
+        private byte[] userHandle;
+    }
+}
@@ -19,11 +19,13 @@ package com.webauthn4j.converter;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.jackson.deserializer.cbor.AuthenticationExtensionsAuthenticatorOutputsEnvelope;
-import com.webauthn4j.converter.jackson.deserializer.cbor.COSEKeyEnvelope;
+import com.webauthn4j.converter.util.CTAP2CborDecoder;
+import com.webauthn4j.converter.util.CTAP2CborReader;
 import com.webauthn4j.converter.util.CborConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorDataView;
 import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
 import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
 import com.webauthn4j.util.AssertUtil;
@@ -63,6 +65,7 @@ public class AuthenticatorDataConverter {
     //~ Instance fields
     // ================================================================================================
     private final CborConverter cborConverter;
+    private final CTAP2CborDecoder ctap2CborDecoder;
     private final AttestedCredentialDataConverter attestedCredentialDataConverter;
 
     //~ Constructors
@@ -77,6 +80,7 @@ public class AuthenticatorDataConverter {
     public AuthenticatorDataConverter(@NotNull ObjectConverter objectConverter) {
         AssertUtil.notNull(objectConverter, "objectConverter must not be null");
         this.cborConverter = objectConverter.getCborConverter();
+        this.ctap2CborDecoder = objectConverter.getCTAP2CborDecoder();
         this.attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
     }
 
@@ -111,6 +115,35 @@ public class AuthenticatorDataConverter {
         }
     }
 
+    /**
+     * Writes the byte representation of a {@link AuthenticatorData} directly into the buffer, starting at its position,
+     * and advances the position.
+     *
+     * @param source      the source object to convert
+     * @param destination the buffer to write to
+     * @param <T>         the type of extension authenticator output
+     * @throws DataConversionException if conversion fails
+     * @throws java.nio.BufferOverflowException if the remaining space of the buffer is not enough
+     */
+    public <T extends ExtensionAuthenticatorOutput> void convert(@NotNull AuthenticatorData<T> source, @NotNull ByteBuffer destination) {
+        try {
+            AssertUtil.notNull(source, "source must not be null");
+            AssertUtil.notNull(destination, "destination must not be null");
+            destination.put(source.getRpIdHash());
+            destination.put(source.getFlags());
+            destination.put(UnsignedNumberUtil.toBytes(source.getSignCount()));
+            if (source.getAttestedCredentialData() != null) {
+                attestedCredentialDataConverter.convert(source.getAttestedCredentialData(), destination);
+            }
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = source.getExtensions();
+            if (extensions != null && !extensions.getKeys().isEmpty()) {
+                cborConverter.writeValue(extensions, destination);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * Converts from a byte array to {@link AuthenticatorData}.
      *
@@ -121,6 +154,19 @@ public class AuthenticatorDataConverter {
      */
     public <T extends ExtensionAuthenticatorOutput> @NotNull AuthenticatorData<T> convert(@NotNull byte[] source) {
         try {
+            if (source.length < AuthenticatorDataView.FIXED_LENGTH) {
+                throw new DataConversionException("provided data does not have proper byte layout");
+            }
+            AuthenticatorDataView view = AuthenticatorDataView.wrap(source);
+            // Fast path for authenticator data without attested credential data and extensions, which is the typical assertion.
+            // The fixed-length header is read in place and there is nothing else to decode.
+            if (!view.isFlagAT() && !view.isFlagED()) {
+                if (source.length != AuthenticatorDataView.FIXED_LENGTH) {
+                    throw new DataConversionException("provided data does not have proper byte layout");
+                }
+                return new AuthenticatorData<>(view.getRpIdHash(), view.getFlags(), view.getSignCount(), null, new AuthenticationExtensionsAuthenticatorOutputs<>());
+            }
+
             ByteBuffer byteBuffer = ByteBuffer.wrap(source);
 
             byte[] rpIdHash = new byte[RPID_HASH_LENGTH];
@@ -172,10 +218,9 @@ public class AuthenticatorDataConverter {
         int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(lengthBytes);
         int credentialPublicKeyIndex = CREDENTIAL_ID_INDEX + credentialIdLength;
 
-        byte[] attestedCredentialDataBytes = Arrays.copyOfRange(authenticatorData, credentialPublicKeyIndex, authenticatorData.length);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(attestedCredentialDataBytes);
-        COSEKeyEnvelope coseKeyEnvelope = attestedCredentialDataConverter.convertToCredentialPublicKey(byteArrayInputStream);
-        int credentialPublicKeyLength = coseKeyEnvelope.getLength();
+        ByteBuffer credentialPublicKeyBuffer = ByteBuffer.wrap(authenticatorData, credentialPublicKeyIndex, authenticatorData.length - credentialPublicKeyIndex);
+        attestedCredentialDataConverter.convertToCredentialPublicKey(credentialPublicKeyBuffer);
+        int credentialPublicKeyLength = credentialPublicKeyBuffer.position() - credentialPublicKeyIndex;
         int attestedCredentialDataLength = AAGUID_LENGTH + L_LENGTH + credentialIdLength + credentialPublicKeyLength;
         return Arrays.copyOfRange(authenticatorData, ATTESTED_CREDENTIAL_DATA_INDEX, ATTESTED_CREDENTIAL_DATA_INDEX + attestedCredentialDataLength);
     }
@@ -187,8 +232,42 @@ public class AuthenticatorDataConverter {
      * @return the extracted signCount
      */
     public long extractSignCount(@NotNull byte[] authenticatorData) {
-        byte[] counterBytes = Arrays.copyOfRange(authenticatorData, COUNTER_INDEX, COUNTER_INDEX + COUNTER_LENGTH);
-        return UnsignedNumberUtil.getUnsignedInt(counterBytes);
+        return AuthenticatorDataView.wrap(authenticatorData).getSignCount();
+    }
+
+    /**
+     * Extract extensions from an authenticatorData byte array, without decoding the other parts when attested credential data is absent.
+     * Intended to be used with {@link AuthenticatorDataView} to decode extensions on demand.
+     *
+     * @param <T>               the type of extension authenticator output
+     * @param authenticatorData the authenticatorData byte array
+     * @return the extracted extensions
+     * @throws DataConversionException if conversion fails
+     */
+    public <T extends ExtensionAuthenticatorOutput> @Nullable AuthenticationExtensionsAuthenticatorOutputs<T> extractExtensions(@NotNull byte[] authenticatorData) {
+        AuthenticatorDataView view;
+        try {
+            view = AuthenticatorDataView.wrap(authenticatorData);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException("provided data does not have proper byte layout", e);
+        }
+        if (!view.isFlagED()) {
+            return new AuthenticationExtensionsAuthenticatorOutputs<>();
+        }
+        if (view.isFlagAT()) {
+            // the offset of extensions depends on the length of the attested credential data, which requires full decoding
+            return this.<T>convert(authenticatorData).getExtensions();
+        }
+        try {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(authenticatorData, AuthenticatorDataView.FIXED_LENGTH, authenticatorData.length - AuthenticatorDataView.FIXED_LENGTH);
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = convertToExtensions(byteBuffer);
+            if (byteBuffer.hasRemaining()) {
+                throw new DataConversionException("provided data does not have proper byte layout");
+            }
+            return extensions;
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
     }
 
 
@@ -207,18 +286,25 @@ public class AuthenticatorDataConverter {
         if (byteBuffer.remaining() == 0) {
             return new AuthenticationExtensionsAuthenticatorOutputs<>();
         }
-        byte[] remaining = new byte[byteBuffer.remaining()];
-        byteBuffer.get(remaining);
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(remaining);
+        // Read the extensions in place from the backing array instead of copying the remaining bytes.
+        int remaining = byteBuffer.remaining();
+        if (ctap2CborDecoder != null) {
+            int offset = byteBuffer.arrayOffset() + ((Buffer)byteBuffer).position();
+            CTAP2CborReader reader = new CTAP2CborReader(byteBuffer.array(), offset, remaining);
+            AuthenticationExtensionsAuthenticatorOutputs<T> extensions = ctap2CborDecoder.decodeAuthenticatorExtensions(reader);
+            //This cast is necessary to be complied with JDK 17 when targeting JDK 8
+            ((Buffer)byteBuffer).position(((Buffer)byteBuffer).position() + reader.getPosition() - offset);
+            return extensions;
+        }
+        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteBuffer.array(), byteBuffer.arrayOffset() + ((Buffer)byteBuffer).position(), remaining);
         AuthenticationExtensionsAuthenticatorOutputsEnvelope<T> envelope =
                 cborConverter.readValue(byteArrayInputStream, new TypeReference<AuthenticationExtensionsAuthenticatorOutputsEnvelope<T>>() {
                 });
         if (envelope == null) {
             return null;
         }
-        int leftoverLength = remaining.length - envelope.getLength();
         //This cast is necessary to be complied with JDK 17 when targeting JDK 8
-        ((Buffer)byteBuffer).position(((Buffer)byteBuffer).position() - leftoverLength);
+        ((Buffer)byteBuffer).position(((Buffer)byteBuffer).position() + envelope.getLength());
         return envelope.getAuthenticationExtensionsAuthenticatorOutputs();
     }
 
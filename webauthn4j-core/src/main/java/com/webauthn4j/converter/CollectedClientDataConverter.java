@@ -25,8 +25,6 @@ import com.webauthn4j.util.Base64UrlUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Converter for {@link CollectedClientData}
  */
@@ -73,8 +71,26 @@ public class CollectedClientDataConverter {
     public @Nullable CollectedClientData convert(@NotNull byte[] source) {
         try {
             AssertUtil.notNull(source, "source must not be null");
-            String jsonString = new String(source, StandardCharsets.UTF_8);
-            return jsonConverter.readValue(jsonString, CollectedClientData.class);
+            // parsed straight from the UTF-8 bytes, without an intermediate String
+            return jsonConverter.readValue(source, CollectedClientData.class);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts from the given range of a byte array to {@link CollectedClientData}, without copying the range.
+     *
+     * @param source the source byte array to convert
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the converted object
+     */
+    public @Nullable CollectedClientData convert(@NotNull byte[] source, int offset, int length) {
+        try {
+            AssertUtil.notNull(source, "source must not be null");
+            AssertUtil.isTrue(offset >= 0 && length >= 0 && length <= source.length - offset, "offset and length must be within source");
+            return jsonConverter.readValue(source, offset, length, CollectedClientData.class);
         } catch (IllegalArgumentException e) {
             throw new DataConversionException(e);
         }
@@ -0,0 +1,536 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.jackson.deserializer.cbor.AttestationStatementEnvelope;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.data.extension.client.RegistrationExtensionClientOutput;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.ConstUtil;
+import com.webauthn4j.util.UnsignedNumberUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Converter between {@link CredentialRecord} and a compact, versioned binary form intended for credential stores.
+ * <p>
+ * The binary form (version 1) is laid out as follows. Multibyte integers are unsigned and big-endian.
+ * <pre>
+ * version                 1 byte   0x01
+ * flags                   1 byte   uvInitialized, backupEligible and backupState, two bits each (present, value)
+ * sections                1 byte   presence bits of the optional sections below
+ * counter                 4 bytes
+ * attestedCredentialData  4 bytes length + AAGUID, credential ID length, credential ID and the raw COSE key
+ * authenticatorExtensions 4 bytes length + CBOR, as in authenticator data (optional)
+ * attestationStatement    4 bytes length + CBOR map of fmt and attStmt, as in attestation object (optional)
+ * clientData              4 bytes length + clientDataJSON (optional)
+ * clientExtensions        4 bytes length + JSON (optional)
+ * transports              4 bytes length + (1 byte length + UTF-8 transport value)* (optional)
+ * </pre>
+ * {@link #convert(byte[])} only locates the sections on the source array. Each section is decoded straight from its
+ * range of the source array on first access, so that verifying an assertion only decodes the attested credential data,
+ * which holds the credential public key. Counter and flags may be updated on the returned record, and converting it
+ * back writes the sections from the source array as they are, without decoding them.
+ */
+public class CredentialRecordConverter {
+
+    private static final byte VERSION_1 = 0x01;
+
+    private static final int FLAG_UV_INITIALIZED_SHIFT = 0;
+    private static final int FLAG_BACKUP_ELIGIBLE_SHIFT = 2;
+    private static final int FLAG_BACKUP_STATE_SHIFT = 4;
+    private static final int FLAG_PRESENT = 0b10;
+    private static final int FLAG_VALUE = 0b01;
+
+    private static final int SECTION_AUTHENTICATOR_EXTENSIONS = 1;
+    private static final int SECTION_ATTESTATION_STATEMENT = 1 << 1;
+    private static final int SECTION_CLIENT_DATA = 1 << 2;
+    private static final int SECTION_CLIENT_EXTENSIONS = 1 << 3;
+    private static final int SECTION_TRANSPORTS = 1 << 4;
+    private static final int SECTION_ALL = 0b11111;
+    private static final int SECTION_COUNT = 6;
+
+    private static final int HEADER_LENGTH = 7;
+    private static final int SECTION_LENGTH_LENGTH = 4;
+
+    private static final int AAGUID_LENGTH = 16;
+    private static final int CREDENTIAL_ID_INDEX = AAGUID_LENGTH + 2;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final CborConverter cborConverter;
+    private final AttestedCredentialDataConverter attestedCredentialDataConverter;
+    private final AuthenticatorDataConverter authenticatorDataConverter;
+    private final CollectedClientDataConverter collectedClientDataConverter;
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public CredentialRecordConverter(@NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.cborConverter = objectConverter.getCborConverter();
+        this.attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
+        this.authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+        this.collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+        this.authenticationExtensionsClientOutputsConverter = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Converts a {@link CredentialRecord} to its binary form
+     *
+     * @param credentialRecord the credential record to convert
+     * @return the binary form
+     */
+    public @NotNull byte[] convert(@NotNull CredentialRecord credentialRecord) {
+        try {
+            AssertUtil.notNull(credentialRecord, "credentialRecord must not be null");
+            // each section is written from a range of an array, which is the source array of a compact record
+            byte[][] sectionSources = new byte[SECTION_COUNT][];
+            int[] sectionOffsets = new int[SECTION_COUNT];
+            int[] sectionLengths = new int[SECTION_COUNT];
+            if (credentialRecord instanceof CompactCredentialRecord) {
+                CompactCredentialRecord compactCredentialRecord = (CompactCredentialRecord) credentialRecord;
+                for (int i = 0; i < SECTION_COUNT; i++) {
+                    if (compactCredentialRecord.hasSection(i)) {
+                        sectionSources[i] = compactCredentialRecord.source;
+                        sectionOffsets[i] = compactCredentialRecord.sectionOffsets[i];
+                        sectionLengths[i] = compactCredentialRecord.sectionLengths[i];
+                    }
+                }
+            }
+            else {
+                byte[][] sections = encodeSections(credentialRecord);
+                for (int i = 0; i < SECTION_COUNT; i++) {
+                    if (sections[i] != null) {
+                        sectionSources[i] = sections[i];
+                        sectionLengths[i] = sections[i].length;
+                    }
+                }
+            }
+
+            int length = HEADER_LENGTH;
+            int presentSections = 0;
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                if (sectionSources[i] != null) {
+                    length += SECTION_LENGTH_LENGTH + sectionLengths[i];
+                    if (i > 0) {
+                        presentSections |= 1 << (i - 1);
+                    }
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            buffer.put(VERSION_1);
+            buffer.put((byte) (encodeFlag(credentialRecord.isUvInitialized(), FLAG_UV_INITIALIZED_SHIFT)
+                    | encodeFlag(credentialRecord.isBackupEligible(), FLAG_BACKUP_ELIGIBLE_SHIFT)
+                    | encodeFlag(credentialRecord.isBackedUp(), FLAG_BACKUP_STATE_SHIFT)));
+            buffer.put((byte) presentSections);
+            buffer.put(UnsignedNumberUtil.toBytes(credentialRecord.getCounter()));
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                if (sectionSources[i] != null) {
+                    buffer.putInt(sectionLengths[i]);
+                    buffer.put(sectionSources[i], sectionOffsets[i], sectionLengths[i]);
+                }
+            }
+            return buffer.array();
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Converts the binary form to a {@link CredentialRecord}. The source array is referenced, not copied, by the
+     * returned record, and must not be modified afterwards.
+     *
+     * @param source the binary form
+     * @return the credential record
+     */
+    public @NotNull CredentialRecord convert(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        return new CompactCredentialRecord(this, source);
+    }
+
+    /**
+     * Extracts the credential ID from the binary form without materializing the credential record
+     *
+     * @param source the binary form
+     * @return the credential ID
+     */
+    public @NotNull byte[] extractCredentialId(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        readHeader(source);
+        int offset = HEADER_LENGTH + SECTION_LENGTH_LENGTH;
+        int length = readSectionLength(source, HEADER_LENGTH);
+        if (length < CREDENTIAL_ID_INDEX) {
+            throw new DataConversionException("attestedCredentialData is too short");
+        }
+        int credentialIdLength = UnsignedNumberUtil.getUnsignedShort(ByteBuffer.wrap(source, offset + AAGUID_LENGTH, 2));
+        if (CREDENTIAL_ID_INDEX + credentialIdLength > length) {
+            throw new DataConversionException("credentialId exceeds attestedCredentialData");
+        }
+        return Arrays.copyOfRange(source, offset + CREDENTIAL_ID_INDEX, offset + CREDENTIAL_ID_INDEX + credentialIdLength);
+    }
+
+    private @NotNull byte[][] encodeSections(@NotNull CredentialRecord credentialRecord) {
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions = credentialRecord.getAuthenticatorExtensions();
+        AttestationStatement attestationStatement = credentialRecord.getAttestationStatement();
+        CollectedClientData clientData = credentialRecord.getClientData();
+        AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions = credentialRecord.getClientExtensions();
+        Set<AuthenticatorTransport> transports = credentialRecord.getTransports();
+        return new byte[][]{
+                attestedCredentialDataConverter.convert(credentialRecord.getAttestedCredentialData()),
+                authenticatorExtensions == null ? null : cborConverter.writeValueAsBytes(authenticatorExtensions),
+                attestationStatement == null ? null : encodeAttestationStatement(attestationStatement),
+                clientData == null ? null : collectedClientDataConverter.convertToBytes(clientData),
+                clientExtensions == null ? null : authenticationExtensionsClientOutputsConverter.convertToString(clientExtensions).getBytes(StandardCharsets.UTF_8),
+                transports == null ? null : encodeTransports(transports)
+        };
+    }
+
+    /**
+     * Encodes the attestation statement as a CBOR map of fmt and attStmt, so that it can be read back with the statement
+     * class resolved from the format name.
+     */
+    private @NotNull byte[] encodeAttestationStatement(@NotNull AttestationStatement attestationStatement) {
+        byte[] fmt = cborConverter.writeValueAsBytes(attestationStatement.getFormat());
+        byte[] attStmt = cborConverter.writeValueAsBytes(attestationStatement);
+        byte[] fmtKey = cborConverter.writeValueAsBytes("fmt");
+        byte[] attStmtKey = cborConverter.writeValueAsBytes("attStmt");
+        ByteBuffer buffer = ByteBuffer.allocate(1 + fmtKey.length + fmt.length + attStmtKey.length + attStmt.length);
+        buffer.put((byte) 0xA2); // map of two entries
+        buffer.put(fmtKey).put(fmt).put(attStmtKey).put(attStmt);
+        return buffer.array();
+    }
+
+    private static @NotNull byte[] encodeTransports(@NotNull Set<AuthenticatorTransport> transports) {
+        List<byte[]> values = new ArrayList<>(transports.size());
+        int length = 0;
+        for (AuthenticatorTransport transport : transports) {
+            AssertUtil.notNull(transport, "transports must not contain null");
+            byte[] value = transport.getValue().getBytes(StandardCharsets.UTF_8);
+            AssertUtil.isTrue(UnsignedNumberUtil.isWithinUnsignedByte(value.length), "transport value is too long");
+            values.add(value);
+            length += 1 + value.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (byte[] value : values) {
+            buffer.put((byte) value.length);
+            buffer.put(value);
+        }
+        return buffer.array();
+    }
+
+    private static int encodeFlag(@Nullable Boolean value, int shift) {
+        if (value == null) {
+            return 0;
+        }
+        return (value ? FLAG_PRESENT | FLAG_VALUE : FLAG_PRESENT) << shift;
+    }
+
+    private static @Nullable Boolean decodeFlag(int flags, int shift) {
+        int value = flags >>> shift;
+        if ((value & FLAG_PRESENT) == 0) {
+            return null;
+        }
+        return (value & FLAG_VALUE) != 0;
+    }
+
+    private static void readHeader(@NotNull byte[] source) {
+        if (source.length < HEADER_LENGTH + SECTION_LENGTH_LENGTH) {
+            throw new DataConversionException("credential record is too short");
+        }
+        if (source[0] != VERSION_1) {
+            throw new DataConversionException("unsupported credential record version: " + source[0]);
+        }
+    }
+
+    private static int readSectionLength(@NotNull byte[] source, int offset) {
+        if (source.length - offset < SECTION_LENGTH_LENGTH) {
+            throw new DataConversionException("credential record is truncated");
+        }
+        int length = ByteBuffer.wrap(source, offset, SECTION_LENGTH_LENGTH).getInt();
+        if (length < 0 || length > source.length - offset - SECTION_LENGTH_LENGTH) {
+            throw new DataConversionException("credential record is truncated");
+        }
+        return length;
+    }
+
+    private @NotNull AttestedCredentialData decodeAttestedCredentialData(@NotNull byte[] source, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.wrap(source, offset, length);
+        AttestedCredentialData attestedCredentialData = attestedCredentialDataConverter.convert(buffer);
+        if (buffer.hasRemaining()) {
+            throw new DataConversionException("attestedCredentialData has trailing data");
+        }
+        return attestedCredentialData;
+    }
+
+    private @Nullable AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> decodeAuthenticatorExtensions(@NotNull byte[] source, int offset, int length) {
+        ByteBuffer buffer = ByteBuffer.wrap(source, offset, length);
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions = authenticatorDataConverter.convertToExtensions(buffer);
+        if (buffer.hasRemaining()) {
+            throw new DataConversionException("authenticatorExtensions has trailing data");
+        }
+        return authenticatorExtensions;
+    }
+
+    private @NotNull AttestationStatement decodeAttestationStatement(@NotNull byte[] source, int offset, int length) {
+        AttestationStatementEnvelope envelope = cborConverter.readValue(source, offset, length, AttestationStatementEnvelope.class);
+        if (envelope == null || envelope.getAttestationStatement() == null) {
+            throw new DataConversionException("attStmt must not be null");
+        }
+        return envelope.getAttestationStatement();
+    }
+
+    private @Nullable CollectedClientData decodeClientData(@NotNull byte[] source, int offset, int length) {
+        return collectedClientDataConverter.convert(source, offset, length);
+    }
+
+    private @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> decodeClientExtensions(@NotNull byte[] source, int offset, int length) {
+        return authenticationExtensionsClientOutputsConverter.convert(new String(source, offset, length, StandardCharsets.UTF_8));
+    }
+
+    private static @NotNull Set<AuthenticatorTransport> decodeTransports(@NotNull byte[] source, int offset, int length) {
+        try {
+            Set<AuthenticatorTransport> transports = new HashSet<>();
+            ByteBuffer buffer = ByteBuffer.wrap(source, offset, length);
+            while (buffer.hasRemaining()) {
+                int valueLength = UnsignedNumberUtil.getUnsignedByte(buffer.get());
+                if (valueLength > buffer.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                transports.add(AuthenticatorTransport.create(new String(source, buffer.position(), valueLength, StandardCharsets.UTF_8)));
+                buffer.position(buffer.position() + valueLength);
+            }
+            return Collections.unmodifiableSet(transports);
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException("transports is truncated", e);
+        }
+    }
+
+    /**
+     * {@link CredentialRecord} backed by the binary form. Sections are decoded on first access. As decoded values are
+     * immutable, concurrent first accesses may decode a section more than once, but always see an equivalent value.
+     */
+    private static class CompactCredentialRecord implements CredentialRecord {
+
+        private final CredentialRecordConverter converter;
+        private final byte[] source;
+        // offsets and lengths of the sections, -1 offset for absent sections
+        private final int[] sectionOffsets = new int[SECTION_COUNT];
+        private final int[] sectionLengths = new int[SECTION_COUNT];
+
+        private long counter;
+        private Boolean uvInitialized;
+        private Boolean backupEligible;
+        private Boolean backupState;
+
+        private AttestedCredentialData attestedCredentialData;
+        private AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> authenticatorExtensions;
+        private AttestationStatement attestationStatement;
+        private CollectedClientData clientData;
+        private AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> clientExtensions;
+        private Set<AuthenticatorTransport> transports;
+
+        CompactCredentialRecord(@NotNull CredentialRecordConverter converter, @NotNull byte[] source) {
+            readHeader(source);
+            int flags = source[1];
+            int presentSections = source[2] & 0xFF;
+            if ((presentSections & ~SECTION_ALL) != 0) {
+                throw new DataConversionException("unknown credential record section");
+            }
+            this.converter = converter;
+            this.source = source;
+            this.counter = UnsignedNumberUtil.getUnsignedInt(ByteBuffer.wrap(source, 3, HEADER_LENGTH - 3));
+            this.uvInitialized = decodeFlag(flags, FLAG_UV_INITIALIZED_SHIFT);
+            this.backupEligible = decodeFlag(flags, FLAG_BACKUP_ELIGIBLE_SHIFT);
+            this.backupState = decodeFlag(flags, FLAG_BACKUP_STATE_SHIFT);
+
+            int offset = HEADER_LENGTH;
+            for (int i = 0; i < sectionOffsets.length; i++) {
+                if (i > 0 && (presentSections & 1 << (i - 1)) == 0) {
+                    sectionOffsets[i] = -1;
+                    continue;
+                }
+                int length = readSectionLength(source, offset);
+                sectionOffsets[i] = offset + SECTION_LENGTH_LENGTH;
+                sectionLengths[i] = length;
+                offset += SECTION_LENGTH_LENGTH + length;
+            }
+            if (offset != source.length) {
+                throw new DataConversionException("credential record has trailing data");
+            }
+        }
+
+        private boolean hasSection(int index) {
+            return sectionOffsets[index] >= 0;
+        }
+
+        @Override
+        public @NotNull AttestedCredentialData getAttestedCredentialData() {
+            if (attestedCredentialData == null) {
+                attestedCredentialData = converter.decodeAttestedCredentialData(source, sectionOffsets[0], sectionLengths[0]);
+            }
+            return attestedCredentialData;
+        }
+
+        @Override
+        public @Nullable AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> getAuthenticatorExtensions() {
+            if (authenticatorExtensions == null && hasSection(1)) {
+                authenticatorExtensions = converter.decodeAuthenticatorExtensions(source, sectionOffsets[1], sectionLengths[1]);
+            }
+            return authenticatorExtensions;
+        }
+
+        @Override
+        public @Nullable AttestationStatement getAttestationStatement() {
+            if (attestationStatement == null && hasSection(2)) {
+                attestationStatement = converter.decodeAttestationStatement(source, sectionOffsets[2], sectionLengths[2]);
+            }
+            return attestationStatement;
+        }
+
+        @Override
+        public @Nullable CollectedClientData getClientData() {
+            if (clientData == null && hasSection(3)) {
+                clientData = converter.decodeClientData(source, sectionOffsets[3], sectionLengths[3]);
+            }
+            return clientData;
+        }
+
+        @Override
+        public @Nullable AuthenticationExtensionsClientOutputs<RegistrationExtensionClientOutput> getClientExtensions() {
+            if (clientExtensions == null && hasSection(4)) {
+                clientExtensions = converter.decodeClientExtensions(source, sectionOffsets[4], sectionLengths[4]);
+            }
+            return clientExtensions;
+        }
+
+        @Override
+        public @Nullable Set<AuthenticatorTransport> getTransports() {
+            if (transports == null && hasSection(5)) {
+                transports = decodeTransports(source, sectionOffsets[5], sectionLengths[5]);
+            }
+            return transports;
+        }
+
+        @Override
+        public long getCounter() {
+            return counter;
+        }
+
+        @Override
+        public void setCounter(long value) {
+            AssertUtil.isTrue(value >= 0 && value <= ConstUtil.UINT_MAX_VALUE, "counter must be an unsigned int value");
+            this.counter = value;
+        }
+
+        @Override
+        public @Nullable Boolean isUvInitialized() {
+            return uvInitialized;
+        }
+
+        @Override
+        public void setUvInitialized(boolean value) {
+            this.uvInitialized = value;
+        }
+
+        @Override
+        public @Nullable Boolean isBackupEligible() {
+            return backupEligible;
+        }
+
+        @Override
+        public void setBackupEligible(boolean value) {
+            this.backupEligible = value;
+        }
+
+        @Override
+        public @Nullable Boolean isBackedUp() {
+            return backupState;
+        }
+
+        @Override
+        public void setBackedUp(boolean value) {
+            this.backupState = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CompactCredentialRecord that = (CompactCredentialRecord) o;
+            return counter == that.counter &&
+                    Objects.equals(uvInitialized, that.uvInitialized) &&
+                    Objects.equals(backupEligible, that.backupEligible) &&
+                    Objects.equals(backupState, that.backupState) &&
+                    sectionsEqual(that);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(counter, uvInitialized, backupEligible, backupState);
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                result = 31 * result + (hasSection(i) ? sectionHashCode(i) : 0);
+            }
+            return result;
+        }
+
+        private boolean sectionsEqual(@NotNull CompactCredentialRecord that) {
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                if (hasSection(i) != that.hasSection(i)) {
+                    return false;
+                }
+                if (hasSection(i) && !Arrays.equals(
+                        source, sectionOffsets[i], sectionOffsets[i] + sectionLengths[i],
+                        that.source, that.sectionOffsets[i], that.sectionOffsets[i] + that.sectionLengths[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // same as Arrays.hashCode of the section, computed in place
+        private int sectionHashCode(int index) {
+            int result = 1;
+            for (int i = sectionOffsets[index]; i < sectionOffsets[index] + sectionLengths[index]; i++) {
+                result = 31 * result + source[i];
+            }
+            return result;
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package com.webauthn4j.converter.jackson.serializer.cbor;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
@@ -24,72 +26,104 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
+/**
+ * Base class of serializers which write an object as a CTAP2 canonical CBOR map.
+ * <p>
+ * The field rules are precompiled once per type: they are sorted into the CTAP2 canonical key order, whatever the
+ * order they are declared in, and text keys are pre-encoded. Serializing a value then only evaluates the getters
+ * and writes the non-null fields into a finite length map, reusing the {@link SerializerProvider} of the call.
+ */
 public abstract class AbstractCtapCanonicalCborSerializer<T> extends StdSerializer<T> {
 
+    /**
+     * CTAP2 canonical order of map keys: lower major type first, then shorter encoding first, then byte-wise lexical order
+     */
+    private static final Comparator<FieldSerializationRule<?, ?>> CANONICAL_KEY_ORDER = (a, b) -> {
+        byte[] x = a.encodedName;
+        byte[] y = b.encodedName;
+        int result = Integer.compare((x[0] & 0xFF) >>> 5, (y[0] & 0xFF) >>> 5);
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(x.length, y.length);
+        for (int i = 0; result == 0 && i < x.length; i++) {
+            result = Integer.compare(x[i] & 0xFF, y[i] & 0xFF);
+        }
+        return result;
+    };
+
     private final transient List<FieldSerializationRule<T, ?>> rules;
 
     protected AbstractCtapCanonicalCborSerializer(@NotNull Class<T> t, @NotNull List<FieldSerializationRule<T, ?>> rules) {
         super(t);
-        this.rules = rules;
+        List<FieldSerializationRule<T, ?>> sortedRules = new ArrayList<>(rules);
+        sortedRules.sort(CANONICAL_KEY_ORDER);
+        this.rules = Collections.unmodifiableList(sortedRules);
     }
 
     @Override
     public void serialize(@NotNull T value, @NotNull JsonGenerator gen, @NotNull SerializerProvider provider) throws IOException {
-        List<KeyValue> nonNullValues =
-                rules.stream()
-                        .map(rule -> {
-                            Object fieldValue = rule.getGetter().apply(value);
-                            return new KeyValue(rule.getName(), fieldValue);
-                        })
-                        .filter(item -> item.value != null)
-                        .collect(Collectors.toList());
-
-        ((CBORGenerator) gen).writeStartObject(nonNullValues.size()); // This is important to write finite length map
-
-        for (KeyValue nonNullValue : nonNullValues) {
-            if (nonNullValue.name instanceof String) {
-                gen.writeFieldName((String) nonNullValue.name);
+        int size = rules.size();
+        Object[] fieldValues = new Object[size];
+        int nonNullCount = 0;
+        for (int i = 0; i < size; i++) {
+            fieldValues[i] = rules.get(i).getGetter().apply(value);
+            if (fieldValues[i] != null) {
+                nonNullCount++;
+            }
+        }
+
+        ((CBORGenerator) gen).writeStartObject(value, nonNullCount); // This is important to write finite length map
+
+        for (int i = 0; i < size; i++) {
+            if (fieldValues[i] == null) {
+                continue;
+            }
+            FieldSerializationRule<T, ?> rule = rules.get(i);
+            if (rule.serializedName != null) {
+                gen.writeFieldName(rule.serializedName);
             }
             else {
-                gen.writeFieldId((int) nonNullValue.name);
+                gen.writeFieldId((int) rule.name);
             }
-            gen.writeObject(nonNullValue.value);
+            provider.defaultSerializeValue(fieldValues[i], gen);
         }
 
         gen.writeEndObject();
     }
 
-    private static class KeyValue {
-        @NotNull
-        private final Object name;
-        @Nullable
-        private final Object value;
-
-        public KeyValue(@NotNull Object name, @Nullable Object value) {
-            this.name = name;
-            this.value = value;
-        }
-    }
-
     public static class FieldSerializationRule<T, R> {
 
         @NotNull
         private final Object name;
         @NotNull
         private final Function<T, R> getter;
+        @Nullable
+        private final SerializableString serializedName;
+        @NotNull
+        private final byte[] encodedName;
 
         public FieldSerializationRule(int name, @NotNull Function<T, @Nullable R> getter) {
             this.name = name;
             this.getter = getter;
+            this.serializedName = null;
+            this.encodedName = encodeHeader(name < 0 ? 1 : 0, name < 0 ? -1L - name : name, 0);
         }
 
         public FieldSerializationRule(@NotNull String name, @NotNull Function<T, @Nullable R> getter) {
             this.name = name;
             this.getter = getter;
+            this.serializedName = new SerializedString(name);
+            byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+            this.encodedName = encodeHeader(3, utf8.length, utf8.length);
+            System.arraycopy(utf8, 0, encodedName, encodedName.length - utf8.length, utf8.length);
         }
 
         public @NotNull Object getName() {
@@ -99,6 +133,20 @@ public abstract class AbstractCtapCanonicalCborSerializer<T> extends StdSerializ
         public @NotNull Function<T, @NotNull R> getGetter() {
             return getter;
         }
+
+        /**
+         * Encodes a CBOR header in the shortest form, followed by room for the content
+         */
+        private static @NotNull byte[] encodeHeader(int majorType, long argument, int contentLength) {
+            int argumentLength = argument < 24 ? 0 : argument < 0x100 ? 1 : argument < 0x10000 ? 2 : 4;
+            byte[] encoded = new byte[1 + argumentLength + contentLength];
+            int additionalInformation = argumentLength == 0 ? (int) argument : 24 + Integer.numberOfTrailingZeros(argumentLength);
+            encoded[0] = (byte) (majorType << 5 | additionalInformation);
+            for (int i = 0; i < argumentLength; i++) {
+                encoded[argumentLength - i] = (byte) (argument >>> (8 * i));
+            }
+            return encoded;
+        }
     }
 
 
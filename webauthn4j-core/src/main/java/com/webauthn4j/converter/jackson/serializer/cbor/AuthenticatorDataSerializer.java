@@ -34,6 +34,8 @@ import java.io.IOException;
 public class AuthenticatorDataSerializer extends StdSerializer<AuthenticatorData<? extends ExtensionAuthenticatorInput>> {
 
     private final ObjectConverter objectConverter;
+    // created on first use, as the serializer is constructed while the objectConverter is being initialized
+    private AuthenticatorDataConverter authenticatorDataConverter;
 
     public AuthenticatorDataSerializer(ObjectConverter objectConverter) {
         super(AuthenticatorData.class, false);
@@ -48,7 +50,17 @@ public class AuthenticatorDataSerializer extends StdSerializer<AuthenticatorData
      */
     @Override
     public void serialize(@NotNull AuthenticatorData<? extends ExtensionAuthenticatorInput> value, @NotNull JsonGenerator gen, @NotNull SerializerProvider provider) throws IOException {
-        gen.writeBinary(new AuthenticatorDataConverter(objectConverter).convert(value));
+        gen.writeBinary(getAuthenticatorDataConverter().convert(value));
+    }
+
+    private @NotNull AuthenticatorDataConverter getAuthenticatorDataConverter() {
+        // a benign race: the converter is stateless, and concurrent first calls at worst create it twice
+        AuthenticatorDataConverter converter = authenticatorDataConverter;
+        if (converter == null) {
+            converter = new AuthenticatorDataConverter(objectConverter);
+            authenticatorDataConverter = converter;
+        }
+        return converter;
     }
 
 }
@@ -29,19 +29,19 @@ public class RSACOSEKeySerializer extends AbstractCtapCanonicalCborSerializer<RS
 
     public RSACOSEKeySerializer() {
         super(RSACOSEKey.class, Arrays.asList(
-                new FieldSerializationRule<>(-8, RSACOSEKey::getQInv),
-                new FieldSerializationRule<>(-7, RSACOSEKey::getDQ),
-                new FieldSerializationRule<>(-6, RSACOSEKey::getDP),
-                new FieldSerializationRule<>(-5, RSACOSEKey::getQ),
-                new FieldSerializationRule<>(-4, RSACOSEKey::getP),
-                new FieldSerializationRule<>(-3, RSACOSEKey::getD),
-                new FieldSerializationRule<>(-2, RSACOSEKey::getE),
-                new FieldSerializationRule<>(-1, RSACOSEKey::getN),
                 new FieldSerializationRule<>(1, RSACOSEKey::getKeyType),
                 new FieldSerializationRule<>(2, RSACOSEKey::getKeyId),
                 new FieldSerializationRule<>(3, RSACOSEKey::getAlgorithm),
                 new FieldSerializationRule<>(4, RSACOSEKey::getKeyOps),
-                new FieldSerializationRule<>(5, RSACOSEKey::getBaseIV)
+                new FieldSerializationRule<>(5, RSACOSEKey::getBaseIV),
+                new FieldSerializationRule<>(-1, RSACOSEKey::getN),
+                new FieldSerializationRule<>(-2, RSACOSEKey::getE),
+                new FieldSerializationRule<>(-3, RSACOSEKey::getD),
+                new FieldSerializationRule<>(-4, RSACOSEKey::getP),
+                new FieldSerializationRule<>(-5, RSACOSEKey::getQ),
+                new FieldSerializationRule<>(-6, RSACOSEKey::getDP),
+                new FieldSerializationRule<>(-7, RSACOSEKey::getDQ),
+                new FieldSerializationRule<>(-8, RSACOSEKey::getQInv)
         ));
     }
 
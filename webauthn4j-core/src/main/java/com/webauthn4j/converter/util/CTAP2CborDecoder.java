@@ -0,0 +1,372 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.jackson.deserializer.cbor.AttestationStatementEnvelope;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.*;
+import com.webauthn4j.data.attestation.statement.AttestationStatement;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
+import com.webauthn4j.data.attestation.statement.COSEKeyType;
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.UvmEntry;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.ExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written decoder of the CTAP2 canonical CBOR structures on the hot path of registration and authentication:
+ * COSE keys, authenticator extension outputs and attestation objects.
+ * <p>
+ * The structures are decoded with {@link CTAP2CborReader}, without reflection or intermediate token streams, and are
+ * strictly validated against the CTAP2 canonical CBOR encoding form. The decoder produces the same objects as the
+ * Jackson based deserialization, except that it rejects non-canonical input. Attestation statements, whose formats
+ * are registered to the CBOR {@link com.fasterxml.jackson.databind.ObjectMapper} and which are not necessarily
+ * produced by the authenticator, are still deserialized by Jackson.
+ * <p>
+ * The decoder is enabled by constructing {@link ObjectConverter} with {@code ctap2CborDecoderEnabled}.
+ */
+public class CTAP2CborDecoder {
+
+    private static final int COSE_KEY_LABEL_KTY = 1;
+    private static final int COSE_KEY_LABEL_KID = 2;
+    private static final int COSE_KEY_LABEL_ALG = 3;
+    private static final int COSE_KEY_LABEL_KEY_OPS = 4;
+    private static final int COSE_KEY_MAX_PARAMETER_LABEL = 8;
+
+    private static final String EXTENSION_KEY_UVM = "uvm";
+    private static final String EXTENSION_KEY_CRED_PROTECT = "credProtect";
+    private static final String EXTENSION_KEY_HMAC_SECRET = "hmac-secret";
+
+    private static final String ATTESTATION_OBJECT_KEY_FMT = "fmt";
+    private static final String ATTESTATION_OBJECT_KEY_ATT_STMT = "attStmt";
+    private static final String ATTESTATION_OBJECT_KEY_AUTH_DATA = "authData";
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final ObjectConverter objectConverter;
+    // created on first use, as ObjectConverter creates this decoder before it is fully initialized
+    private volatile AuthenticatorDataConverter authenticatorDataConverter;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public CTAP2CborDecoder(@NotNull ObjectConverter objectConverter) {
+        AssertUtil.notNull(objectConverter, "objectConverter must not be null");
+        this.objectConverter = objectConverter;
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Decodes a COSE key. The reader is left next to the key, so that its length can be derived from the position.
+     *
+     * @param reader the reader positioned at the key
+     * @return the decoded key
+     * @throws DataConversionException if the key is malformed, non-canonical or of an unsupported key type
+     */
+    public @NotNull COSEKey decodeCOSEKey(@NotNull CTAP2CborReader reader) {
+        AssertUtil.notNull(reader, "reader must not be null");
+        int size = reader.readMapHeader();
+        COSEKeyType keyType = null;
+        byte[] keyId = null;
+        COSEAlgorithmIdentifier algorithm = null;
+        List<COSEKeyOperation> keyOps = null;
+        // parameters are indexed by -1 - label
+        Object[] parameters = new Object[COSE_KEY_MAX_PARAMETER_LABEL];
+        int previousKeyStart = -1;
+        int previousKeyEnd = -1;
+        for (int i = 0; i < size; i++) {
+            int keyStart = reader.getPosition();
+            int majorType = reader.peekMajorType();
+            if (majorType != CTAP2CborReader.MAJOR_TYPE_UNSIGNED_INTEGER && majorType != CTAP2CborReader.MAJOR_TYPE_NEGATIVE_INTEGER) {
+                // text labels are not used by the supported key types
+                reader.skipValue();
+                reader.verifyKeyOrder(previousKeyStart, previousKeyEnd, keyStart);
+                previousKeyStart = keyStart;
+                previousKeyEnd = reader.getPosition();
+                reader.skipValue();
+                continue;
+            }
+            long label = reader.readLong();
+            reader.verifyKeyOrder(previousKeyStart, previousKeyEnd, keyStart);
+            previousKeyStart = keyStart;
+            previousKeyEnd = reader.getPosition();
+            if (reader.readNull()) {
+                continue;
+            }
+            if (label == COSE_KEY_LABEL_KTY) {
+                keyType = decodeCOSEKeyType(reader.readInt());
+            }
+            else if (label == COSE_KEY_LABEL_KID) {
+                keyId = reader.readByteString();
+            }
+            else if (label == COSE_KEY_LABEL_ALG) {
+                algorithm = COSEAlgorithmIdentifier.create(reader.readLong());
+            }
+            else if (label == COSE_KEY_LABEL_KEY_OPS) {
+                keyOps = decodeCOSEKeyOperations(reader);
+            }
+            else if (label < 0 && label >= -COSE_KEY_MAX_PARAMETER_LABEL) {
+                if (keyType == null) {
+                    throw new DataConversionException("COSE key type must precede key type parameters");
+                }
+                parameters[(int) (-1 - label)] = decodeCOSEKeyParameter(reader, keyType, (int) label);
+            }
+            else {
+                // including base IV, which is not retained by the key classes
+                reader.skipValue();
+            }
+        }
+        if (keyType == null) {
+            throw new DataConversionException("COSE key type is missing");
+        }
+        switch (keyType) {
+            case OKP:
+                return new EdDSACOSEKey(keyId, algorithm, keyOps, (Curve) parameters[0], (byte[]) parameters[1], (byte[]) parameters[3]);
+            case EC2:
+                return new EC2COSEKey(keyId, algorithm, keyOps, (Curve) parameters[0], (byte[]) parameters[1], (byte[]) parameters[2], (byte[]) parameters[3]);
+            case RSA:
+                return new RSACOSEKey(keyId, algorithm, keyOps, (byte[]) parameters[0], (byte[]) parameters[1], (byte[]) parameters[2],
+                        (byte[]) parameters[3], (byte[]) parameters[4], (byte[]) parameters[5], (byte[]) parameters[6], (byte[]) parameters[7]);
+            default:
+                throw new DataConversionException("unsupported COSE key type: " + keyType);
+        }
+    }
+
+    /**
+     * Decodes authenticator extension outputs. The reader is left next to the extensions map.
+     *
+     * @param <T>    the type of extension authenticator output
+     * @param reader the reader positioned at the extensions map
+     * @return the decoded extension outputs
+     * @throws DataConversionException if the extensions map is malformed or non-canonical
+     */
+    public <T extends ExtensionAuthenticatorOutput> @NotNull AuthenticationExtensionsAuthenticatorOutputs<T> decodeAuthenticatorExtensions(@NotNull CTAP2CborReader reader) {
+        AssertUtil.notNull(reader, "reader must not be null");
+        int size = reader.readMapHeader();
+        UvmEntries uvm = null;
+        CredentialProtectionPolicy credProtect = null;
+        Boolean hmacCreateSecret = null;
+        byte[] hmacGetSecret = null;
+        Map<String, Object> unknowns = new LinkedHashMap<>();
+        int previousKeyStart = -1;
+        int previousKeyEnd = -1;
+        for (int i = 0; i < size; i++) {
+            int keyStart = reader.getPosition();
+            String key = reader.readMapKey();
+            reader.verifyKeyOrder(previousKeyStart, previousKeyEnd, keyStart);
+            previousKeyStart = keyStart;
+            previousKeyEnd = reader.getPosition();
+            // null values are handled as Jackson does: known extensions are left unset, and unknown ones are kept
+            switch (key) {
+                case EXTENSION_KEY_UVM:
+                    uvm = reader.readNull() ? null : decodeUvmEntries(reader);
+                    break;
+                case EXTENSION_KEY_CRED_PROTECT:
+                    credProtect = reader.readNull() ? null : decodeCredentialProtectionPolicy(reader.readInt());
+                    break;
+                case EXTENSION_KEY_HMAC_SECRET:
+                    hmacCreateSecret = null;
+                    hmacGetSecret = null;
+                    if (reader.readNull()) {
+                        break;
+                    }
+                    if (reader.peekMajorType() == CTAP2CborReader.MAJOR_TYPE_BYTE_STRING) {
+                        hmacGetSecret = reader.readByteString();
+                    }
+                    else {
+                        hmacCreateSecret = reader.readBoolean();
+                    }
+                    break;
+                default:
+                    unknowns.put(key, reader.readValue());
+                    break;
+            }
+        }
+        return new AuthenticationExtensionsAuthenticatorOutputs<>(uvm, credProtect, hmacCreateSecret, hmacGetSecret, unknowns);
+    }
+
+    /**
+     * Decodes an attestation object. authData is decoded with this decoder, and attStmt is deserialized by Jackson.
+     *
+     * @param source the attestation object byte array
+     * @return the decoded attestation object, or null if the source is CBOR null
+     * @throws DataConversionException if the attestation object is malformed, non-canonical or incomplete
+     */
+    public @Nullable AttestationObject decodeAttestationObject(@NotNull byte[] source) {
+        AssertUtil.notNull(source, "source must not be null");
+        CTAP2CborReader reader = new CTAP2CborReader(source);
+        if (reader.readNull()) {
+            verifyNoTrailingData(reader);
+            return null;
+        }
+        int size = reader.readMapHeader();
+        int fmtEntryStart = -1;
+        int fmtEntryEnd = -1;
+        int attStmtEntryStart = -1;
+        int attStmtEntryEnd = -1;
+        byte[] authenticatorDataBytes = null;
+        int previousKeyStart = -1;
+        int previousKeyEnd = -1;
+        for (int i = 0; i < size; i++) {
+            int keyStart = reader.getPosition();
+            String key = reader.readMapKey();
+            reader.verifyKeyOrder(previousKeyStart, previousKeyEnd, keyStart);
+            previousKeyStart = keyStart;
+            previousKeyEnd = reader.getPosition();
+            switch (key) {
+                case ATTESTATION_OBJECT_KEY_FMT:
+                    reader.readTextString();
+                    fmtEntryStart = keyStart;
+                    fmtEntryEnd = reader.getPosition();
+                    break;
+                case ATTESTATION_OBJECT_KEY_ATT_STMT:
+                    if (reader.peekMajorType() != CTAP2CborReader.MAJOR_TYPE_MAP) {
+                        throw new DataConversionException("attStmt must be a map");
+                    }
+                    reader.skipValueLeniently();
+                    attStmtEntryStart = keyStart;
+                    attStmtEntryEnd = reader.getPosition();
+                    break;
+                case ATTESTATION_OBJECT_KEY_AUTH_DATA:
+                    authenticatorDataBytes = reader.readByteString();
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        verifyNoTrailingData(reader);
+        if (fmtEntryStart < 0 || attStmtEntryStart < 0 || authenticatorDataBytes == null) {
+            throw new DataConversionException("attestationObject must have fmt, attStmt and authData");
+        }
+
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = getAuthenticatorDataConverter().convert(authenticatorDataBytes);
+        return new AttestationObject(authenticatorData, decodeAttestationStatement(source, fmtEntryStart, fmtEntryEnd, attStmtEntryStart, attStmtEntryEnd));
+    }
+
+    /**
+     * Deserializes the attestation statement with Jackson from a two entry map made of the raw fmt and attStmt entries,
+     * so that the statement class is resolved from the format name by the registered subtypes.
+     */
+    private @NotNull AttestationStatement decodeAttestationStatement(@NotNull byte[] source, int fmtEntryStart, int fmtEntryEnd, int attStmtEntryStart, int attStmtEntryEnd) {
+        int fmtEntryLength = fmtEntryEnd - fmtEntryStart;
+        int attStmtEntryLength = attStmtEntryEnd - attStmtEntryStart;
+        byte[] envelopeBytes = new byte[1 + fmtEntryLength + attStmtEntryLength];
+        envelopeBytes[0] = (byte) (CTAP2CborReader.MAJOR_TYPE_MAP << 5 | 2);
+        System.arraycopy(source, fmtEntryStart, envelopeBytes, 1, fmtEntryLength);
+        System.arraycopy(source, attStmtEntryStart, envelopeBytes, 1 + fmtEntryLength, attStmtEntryLength);
+        AttestationStatementEnvelope envelope = objectConverter.getCborConverter().readValue(envelopeBytes, AttestationStatementEnvelope.class);
+        if (envelope == null || envelope.getAttestationStatement() == null) {
+            throw new DataConversionException("attStmt must not be null");
+        }
+        return envelope.getAttestationStatement();
+    }
+
+    private @NotNull AuthenticatorDataConverter getAuthenticatorDataConverter() {
+        AuthenticatorDataConverter converter = authenticatorDataConverter;
+        if (converter == null) {
+            // a race only creates an equivalent converter twice
+            converter = new AuthenticatorDataConverter(objectConverter);
+            authenticatorDataConverter = converter;
+        }
+        return converter;
+    }
+
+    private static @NotNull COSEKeyType decodeCOSEKeyType(int value) {
+        try {
+            return COSEKeyType.create(value);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException("unsupported COSE key type: " + value, e);
+        }
+    }
+
+    private static @NotNull List<COSEKeyOperation> decodeCOSEKeyOperations(@NotNull CTAP2CborReader reader) {
+        int size = reader.readArrayHeader();
+        List<COSEKeyOperation> keyOps = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int value = reader.readInt();
+            try {
+                keyOps.add(COSEKeyOperation.create(value));
+            } catch (IllegalArgumentException e) {
+                throw new DataConversionException("unsupported COSE key operation: " + value, e);
+            }
+        }
+        return keyOps;
+    }
+
+    private static @NotNull Object decodeCOSEKeyParameter(@NotNull CTAP2CborReader reader, @NotNull COSEKeyType keyType, int label) {
+        // the crv parameter of OKP and EC2 keys is an integer, and the others are byte strings
+        if (label == -1 && keyType != COSEKeyType.RSA) {
+            int value = reader.readInt();
+            try {
+                return Curve.create(value);
+            } catch (IllegalArgumentException e) {
+                throw new DataConversionException("unsupported curve: " + value, e);
+            }
+        }
+        return reader.readByteString();
+    }
+
+    private static @NotNull UvmEntries decodeUvmEntries(@NotNull CTAP2CborReader reader) {
+        int size = reader.readArrayHeader();
+        List<UvmEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int length = reader.readArrayHeader();
+            Number[] values = new Number[length];
+            for (int j = 0; j < length; j++) {
+                Object value = reader.readValue();
+                if (!(value instanceof Number)) {
+                    throw new DataConversionException("uvm entry must consist of integers");
+                }
+                values[j] = (Number) value;
+            }
+            entries.add(new UvmEntry(values));
+        }
+        return new UvmEntries(entries);
+    }
+
+    private static @NotNull CredentialProtectionPolicy decodeCredentialProtectionPolicy(int value) {
+        try {
+            return CredentialProtectionPolicy.create((byte) value);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException("unsupported credProtect value: " + value, e);
+        }
+    }
+
+    private static void verifyNoTrailingData(@NotNull CTAP2CborReader reader) {
+        if (reader.hasRemaining()) {
+            throw new DataConversionException("attestationObject has trailing data");
+        }
+    }
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reader of CBOR data items encoded in the CTAP2 canonical CBOR encoding form.
+ * <p>
+ * The reader works directly on a byte array and tracks the byte offset of the next data item, so that the length of
+ * a data item embedded in a larger structure, like the credential public key in attested credential data, is known
+ * without any further bookkeeping. In addition to well-formedness, the canonical form is validated strictly:
+ * <ul>
+ *     <li>integers, lengths and counts must be encoded in the shortest form</li>
+ *     <li>indefinite length items must not be used</li>
+ *     <li>tags must not be used</li>
+ *     <li>map keys must be unique and sorted in the CTAP2 canonical order (see {@link #verifyKeyOrder(int, int, int)})</li>
+ * </ul>
+ * Violations are reported as {@link DataConversionException}.
+ *
+ * @see <a href="https://fidoalliance.org/specs/fido-v2.1-ps-20210615/fido-client-to-authenticator-protocol-v2.1-ps-20210615.html#ctap2-canonical-cbor-encoding-form">CTAP2 canonical CBOR encoding form</a>
+ */
+public class CTAP2CborReader {
+
+    public static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    public static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    public static final int MAJOR_TYPE_BYTE_STRING = 2;
+    public static final int MAJOR_TYPE_TEXT_STRING = 3;
+    public static final int MAJOR_TYPE_ARRAY = 4;
+    public static final int MAJOR_TYPE_MAP = 5;
+    public static final int MAJOR_TYPE_TAG = 6;
+    public static final int MAJOR_TYPE_SIMPLE_AND_FLOAT = 7;
+
+    private static final int SIMPLE_VALUE_FALSE = 20;
+    private static final int SIMPLE_VALUE_TRUE = 21;
+    private static final int SIMPLE_VALUE_NULL = 22;
+    private static final int HALF_PRECISION_FLOAT = 25;
+    private static final int SINGLE_PRECISION_FLOAT = 26;
+    private static final int DOUBLE_PRECISION_FLOAT = 27;
+    private static final int INDEFINITE_LENGTH = 31;
+    private static final int BREAK = 0xFF;
+    private static final int MAX_NESTING_DEPTH = 64;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+    // set while skipping a data item which is not required to be in the canonical form
+    private boolean lenient;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    /**
+     * Creates a reader of the whole byte array. The array is referenced, not copied, and must not be modified while it is read.
+     *
+     * @param bytes the CBOR encoded bytes
+     */
+    public CTAP2CborReader(@NotNull byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a reader of a range of the byte array. The array is referenced, not copied, and must not be modified while it is read.
+     *
+     * @param bytes  the CBOR encoded bytes
+     * @param offset the offset of the first data item
+     * @param length the length of the range
+     */
+    public CTAP2CborReader(@NotNull byte[] bytes, int offset, int length) {
+        AssertUtil.notNull(bytes, "bytes must not be null");
+        AssertUtil.isTrue(offset >= 0 && length >= 0 && offset <= bytes.length - length, "offset and length must be within bytes");
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    /**
+     * Returns the offset of the next data item in the byte array
+     *
+     * @return the offset
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * Returns the major type of the next data item without consuming it
+     *
+     * @return the major type
+     */
+    public int peekMajorType() {
+        return peekInitialByte() >>> 5;
+    }
+
+    /**
+     * Consumes the next data item if it is the simple value null
+     *
+     * @return true if null was consumed
+     */
+    public boolean readNull() {
+        if (peekInitialByte() == (MAJOR_TYPE_SIMPLE_AND_FLOAT << 5 | SIMPLE_VALUE_NULL)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean readBoolean() {
+        int initialByte = peekInitialByte();
+        if (initialByte == (MAJOR_TYPE_SIMPLE_AND_FLOAT << 5 | SIMPLE_VALUE_TRUE)) {
+            position++;
+            return true;
+        }
+        if (initialByte == (MAJOR_TYPE_SIMPLE_AND_FLOAT << 5 | SIMPLE_VALUE_FALSE)) {
+            position++;
+            return false;
+        }
+        throw unexpected("boolean");
+    }
+
+    /**
+     * Reads an unsigned or negative integer
+     *
+     * @return the integer
+     * @throws DataConversionException if the next data item is not an integer, or it does not fit in a long
+     */
+    public long readLong() {
+        int majorType = peekMajorType();
+        if (majorType != MAJOR_TYPE_UNSIGNED_INTEGER && majorType != MAJOR_TYPE_NEGATIVE_INTEGER) {
+            throw unexpected("integer");
+        }
+        long argument = readArgument();
+        if (argument < 0) {
+            throw new DataConversionException("integer is out of range");
+        }
+        return majorType == MAJOR_TYPE_UNSIGNED_INTEGER ? argument : -1 - argument;
+    }
+
+    /**
+     * Reads an unsigned or negative integer which fits in an int
+     *
+     * @return the integer
+     * @throws DataConversionException if the next data item is not an integer, or it does not fit in an int
+     */
+    public int readInt() {
+        long value = readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new DataConversionException("integer is out of range");
+        }
+        return (int) value;
+    }
+
+    public @NotNull byte[] readByteString() {
+        if (peekMajorType() != MAJOR_TYPE_BYTE_STRING) {
+            throw unexpected("byte string");
+        }
+        int length = readLength();
+        byte[] value = new byte[length];
+        System.arraycopy(bytes, position, value, 0, length);
+        position += length;
+        return value;
+    }
+
+    public @NotNull String readTextString() {
+        if (peekMajorType() != MAJOR_TYPE_TEXT_STRING) {
+            throw unexpected("text string");
+        }
+        int length = readLength();
+        int start = position;
+        position += length;
+        for (int i = start; i < position; i++) {
+            if (bytes[i] < 0) {
+                return decodeUTF8(start, length);
+            }
+        }
+        return new String(bytes, start, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Reads the header of an array
+     *
+     * @return the number of elements
+     */
+    public int readArrayHeader() {
+        if (peekMajorType() != MAJOR_TYPE_ARRAY) {
+            throw unexpected("array");
+        }
+        return readCount(1);
+    }
+
+    /**
+     * Reads the header of a map
+     *
+     * @return the number of entries
+     */
+    public int readMapHeader() {
+        if (peekMajorType() != MAJOR_TYPE_MAP) {
+            throw unexpected("map");
+        }
+        return readCount(2);
+    }
+
+    /**
+     * Reads a text string or integer map key. Integer keys are converted to their string form, as Jackson does.
+     *
+     * @return the key
+     */
+    public @NotNull String readMapKey() {
+        int majorType = peekMajorType();
+        if (majorType == MAJOR_TYPE_TEXT_STRING) {
+            return readTextString();
+        }
+        if (majorType == MAJOR_TYPE_UNSIGNED_INTEGER || majorType == MAJOR_TYPE_NEGATIVE_INTEGER) {
+            return readNumber().toString();
+        }
+        throw unexpected("text string or integer map key");
+    }
+
+    /**
+     * Verifies that the map key which has just been read, starting at {@code keyStart} and ending at the current
+     * position, sorts strictly after the previous key of the same map in the CTAP2 canonical order: keys with a lower
+     * major type sort first, then shorter keys sort first, then keys are compared in byte-wise lexical order.
+     *
+     * @param previousKeyStart the offset of the previous key, or a negative value for the first key of the map
+     * @param previousKeyEnd   the offset next to the previous key
+     * @param keyStart         the offset of the key which has just been read
+     * @throws DataConversionException if the key is a duplicate or is out of order
+     */
+    public void verifyKeyOrder(int previousKeyStart, int previousKeyEnd, int keyStart) {
+        if (previousKeyStart < 0 || lenient) {
+            return;
+        }
+        int result = Integer.compare((bytes[previousKeyStart] & 0xFF) >>> 5, (bytes[keyStart] & 0xFF) >>> 5);
+        if (result == 0) {
+            result = Integer.compare(previousKeyEnd - previousKeyStart, position - keyStart);
+        }
+        for (int i = 0; result == 0 && i < position - keyStart; i++) {
+            result = Integer.compare(bytes[previousKeyStart + i] & 0xFF, bytes[keyStart + i] & 0xFF);
+        }
+        if (result == 0) {
+            throw new DataConversionException("map has a duplicate key");
+        }
+        if (result > 0) {
+            throw new DataConversionException("map keys are not in canonical order");
+        }
+    }
+
+    /**
+     * Skips the next data item
+     */
+    public void skipValue() {
+        readValue(0, false);
+    }
+
+    /**
+     * Skips the next data item, which is only required to be well-formed and free of tags: indefinite length items are
+     * accepted, and the shortest form of integers and the order of map keys are not verified. Intended for embedded
+     * data which is not necessarily produced by the authenticator, like attestation statements.
+     */
+    public void skipValueLeniently() {
+        lenient = true;
+        try {
+            readValue(0, false);
+        } finally {
+            lenient = false;
+        }
+    }
+
+    /**
+     * Reads the next data item into the generic Java representation used for unknown values, consistently with
+     * Jackson's untyped deserialization: integers as {@link Integer}, {@link Long} or {@link BigInteger}, byte strings
+     * as {@code byte[]}, text strings as {@link String}, arrays as {@link List}, maps as {@link Map} with string keys,
+     * and floats as {@link Float} or {@link Double}.
+     *
+     * @return the value
+     */
+    public @Nullable Object readValue() {
+        return readValue(0, true);
+    }
+
+    private @Nullable Object readValue(int depth, boolean materialize) {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new DataConversionException("CBOR data is nested too deeply");
+        }
+        int initialByte = peekInitialByte();
+        if (lenient && (initialByte & 0x1F) == INDEFINITE_LENGTH && (initialByte >>> 5) >= MAJOR_TYPE_BYTE_STRING && (initialByte >>> 5) <= MAJOR_TYPE_MAP) {
+            skipIndefiniteLengthValue(initialByte >>> 5, depth);
+            return null;
+        }
+        switch (initialByte >>> 5) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                return readNumber();
+            case MAJOR_TYPE_BYTE_STRING:
+                return readByteString();
+            case MAJOR_TYPE_TEXT_STRING:
+                return readTextString();
+            case MAJOR_TYPE_ARRAY: {
+                int size = readArrayHeader();
+                List<Object> list = materialize ? new ArrayList<>(size) : null;
+                for (int i = 0; i < size; i++) {
+                    Object element = readValue(depth + 1, materialize);
+                    if (list != null) {
+                        list.add(element);
+                    }
+                }
+                return list;
+            }
+            case MAJOR_TYPE_MAP: {
+                int size = readMapHeader();
+                Map<String, Object> map = materialize ? new LinkedHashMap<>() : null;
+                int previousKeyStart = -1;
+                int previousKeyEnd = -1;
+                for (int i = 0; i < size; i++) {
+                    int keyStart = position;
+                    String key = readMapKey();
+                    verifyKeyOrder(previousKeyStart, previousKeyEnd, keyStart);
+                    previousKeyStart = keyStart;
+                    previousKeyEnd = position;
+                    Object value = readValue(depth + 1, materialize);
+                    if (map != null) {
+                        map.put(key, value);
+                    }
+                }
+                return map;
+            }
+            case MAJOR_TYPE_TAG:
+                throw new DataConversionException("CTAP2 canonical CBOR must not contain tags");
+            default:
+                return readSimpleValue(initialByte & 0x1F);
+        }
+    }
+
+    private void skipIndefiniteLengthValue(int majorType, int depth) {
+        position++;
+        int itemsPerEntry = majorType == MAJOR_TYPE_MAP ? 2 : 1;
+        while (peekInitialByte() != BREAK) {
+            // chunks of an indefinite length string must be definite length strings of the same major type
+            if ((majorType == MAJOR_TYPE_BYTE_STRING || majorType == MAJOR_TYPE_TEXT_STRING) && peekMajorType() != majorType) {
+                throw new DataConversionException("CBOR data is not well-formed");
+            }
+            for (int i = 0; i < itemsPerEntry; i++) {
+                readValue(depth + 1, false);
+            }
+        }
+        position++;
+    }
+
+    private @NotNull Number readNumber() {
+        int majorType = peekMajorType();
+        long argument = readArgument();
+        if (argument < 0) {
+            BigInteger unsigned = BigInteger.valueOf(argument).add(BigInteger.ONE.shiftLeft(64));
+            return majorType == MAJOR_TYPE_UNSIGNED_INTEGER ? unsigned : unsigned.negate().subtract(BigInteger.ONE);
+        }
+        long value = majorType == MAJOR_TYPE_UNSIGNED_INTEGER ? argument : -1 - argument;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private @Nullable Object readSimpleValue(int additionalInformation) {
+        switch (additionalInformation) {
+            case SIMPLE_VALUE_FALSE:
+            case SIMPLE_VALUE_TRUE:
+                return readBoolean();
+            case SIMPLE_VALUE_NULL:
+                position++;
+                return null;
+            case HALF_PRECISION_FLOAT:
+                return halfToFloat((int) readFloatBits(2));
+            case SINGLE_PRECISION_FLOAT:
+                return Float.intBitsToFloat((int) readFloatBits(4));
+            case DOUBLE_PRECISION_FLOAT:
+                return Double.longBitsToDouble(readFloatBits(8));
+            default:
+                throw new DataConversionException("unsupported CBOR simple value: " + additionalInformation);
+        }
+    }
+
+    private long readFloatBits(int length) {
+        ensureRemaining(1 + (long) length);
+        position++;
+        long bits = 0;
+        for (int i = 0; i < length; i++) {
+            bits = (bits << 8) | (bytes[position++] & 0xFF);
+        }
+        return bits;
+    }
+
+    private static float halfToFloat(int bits) {
+        int exponent = (bits >>> 10) & 0x1F;
+        int mantissa = bits & 0x3FF;
+        float magnitude;
+        if (exponent == 0) {
+            magnitude = mantissa * 0x1p-24f;
+        }
+        else if (exponent == 0x1F) {
+            magnitude = mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN;
+        }
+        else {
+            magnitude = (mantissa + 1024) * (float) Math.pow(2, exponent - 25);
+        }
+        return (bits & 0x8000) == 0 ? magnitude : -magnitude;
+    }
+
+    private int readLength() {
+        long length = readArgument();
+        if (length < 0 || length > limit - position) {
+            throw new DataConversionException("CBOR data is truncated");
+        }
+        return (int) length;
+    }
+
+    private int readCount(int itemsPerEntry) {
+        long count = readArgument();
+        // every data item takes at least one byte
+        if (count < 0 || count * itemsPerEntry > limit - position) {
+            throw new DataConversionException("CBOR data is truncated");
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reads the header of the next data item and returns its argument, which is negative when it exceeds
+     * {@link Long#MAX_VALUE} as an unsigned value
+     */
+    private long readArgument() {
+        int additionalInformation = peekInitialByte() & 0x1F;
+        if (additionalInformation < 24) {
+            position++;
+            return additionalInformation;
+        }
+        if (additionalInformation == INDEFINITE_LENGTH) {
+            throw new DataConversionException("CTAP2 canonical CBOR must not contain indefinite length items");
+        }
+        if (additionalInformation > 27) {
+            throw new DataConversionException("CBOR data is not well-formed");
+        }
+        int length = 1 << (additionalInformation - 24);
+        ensureRemaining(1 + (long) length);
+        position++;
+        long argument = 0;
+        for (int i = 0; i < length; i++) {
+            argument = (argument << 8) | (bytes[position++] & 0xFF);
+        }
+        // the argument must not fit in a shorter form
+        long minimum = length == 1 ? 24 : 1L << (length * 4);
+        if (!lenient && Long.compareUnsigned(argument, minimum) < 0) {
+            throw new DataConversionException("CTAP2 canonical CBOR must encode integers and lengths in the shortest form");
+        }
+        return argument;
+    }
+
+    private @NotNull String decodeUTF8(int start, int length) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes, start, length))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            throw new DataConversionException("text string is not valid UTF-8", e);
+        }
+    }
+
+    private int peekInitialByte() {
+        ensureRemaining(1);
+        return bytes[position] & 0xFF;
+    }
+
+    private void ensureRemaining(long length) {
+        if (length > limit - position) {
+            throw new DataConversionException("CBOR data is truncated");
+        }
+    }
+
+    private @NotNull DataConversionException unexpected(@NotNull String expected) {
+        return new DataConversionException(String.format("expected %s at offset %d, but major type was %d", expected, position, peekMajorType()));
+    }
+}
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.util.AssertUtil;
@@ -33,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 /**
  * A utility class for CBOR serialization/deserialization
@@ -64,6 +66,26 @@ public class CborConverter {
         }
     }
 
+    /**
+     * Reads a value from the given range of the byte array, without copying the range
+     *
+     * @param src       the source byte array
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param valueType the type of the value
+     * @param <T>       the type of the value
+     * @return the value
+     */
+    public @Nullable <T> T readValue(@NotNull byte[] src, int offset, int length, @NotNull Class<T> valueType) {
+        try {
+            return cborMapper.readValue(src, offset, length, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public @Nullable <T> T readValue(@NotNull InputStream src, @NotNull Class<T> valueType) {
         try {
             return cborMapper.readValue(src, valueType);
@@ -112,4 +134,20 @@ public class CborConverter {
         }
     }
 
+    /**
+     * Writes the value directly into the buffer, starting at its position, and advances the position
+     *
+     * @param value       the value to write
+     * @param destination the buffer to write to
+     * @throws java.nio.BufferOverflowException if the remaining space of the buffer is not enough
+     */
+    public void writeValue(@Nullable Object value, @NotNull ByteBuffer destination) {
+        AssertUtil.notNull(destination, "destination must not be null");
+        try {
+            cborMapper.writeValue(new ByteBufferBackedOutputStream(destination), value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
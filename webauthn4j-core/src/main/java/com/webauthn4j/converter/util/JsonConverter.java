@@ -17,6 +17,7 @@
 package com.webauthn4j.converter.util;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
@@ -73,6 +74,36 @@ public class JsonConverter {
         }
     }
 
+    public <T> @Nullable T readValue(@NotNull byte[] src, @NotNull Class<T> valueType) {
+        try {
+            return jsonMapper.readValue(src, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a value from the given range of the byte array, without copying the range
+     *
+     * @param src       the source byte array
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param valueType the type of the value
+     * @param <T>       the type of the value
+     * @return the value
+     */
+    public <T> @Nullable T readValue(@NotNull byte[] src, int offset, int length, @NotNull Class<T> valueType) {
+        try {
+            return jsonMapper.readValue(src, offset, length, valueType);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException e) {
+            throw new DataConversionException(INPUT_MISMATCH_ERROR_MESSAGE, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public <T> @Nullable T readValue(@NotNull String src, @NotNull TypeReference<T> valueTypeRef) {
         try {
             return jsonMapper.readValue(src, valueTypeRef);
@@ -93,6 +124,37 @@ public class JsonConverter {
         }
     }
 
+    /**
+     * Creates a token-level {@link JsonParser} bound to this converter's configuration, so that values read through
+     * {@link JsonParser#readValueAs} are deserialized with the WebAuthn JSON module.
+     *
+     * @param src source
+     * @return parser
+     */
+    public @NotNull JsonParser createParser(@NotNull String src) {
+        try {
+            return jsonMapper.createParser(src);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public @NotNull JsonParser createParser(@NotNull InputStream src) {
+        try {
+            return jsonMapper.createParser(src);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public @NotNull JsonParser createParser(@NotNull byte[] src) {
+        try {
+            return jsonMapper.createParser(src);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public @NotNull byte[] writeValueAsBytes(@Nullable Object value) {
         try {
             return jsonMapper.writeValueAsBytes(value);
@@ -24,6 +24,7 @@ import com.webauthn4j.converter.jackson.WebAuthnCBORModule;
 import com.webauthn4j.converter.jackson.WebAuthnJSONModule;
 import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A set of object converter classes
@@ -32,8 +33,16 @@ public class ObjectConverter {
 
     private final JsonConverter jsonConverter;
     private final CborConverter cborConverter;
+    private final CTAP2CborDecoder ctap2CborDecoder;
 
-    public ObjectConverter(@NotNull ObjectMapper jsonMapper, @NotNull ObjectMapper cborMapper) {
+    /**
+     * @param jsonMapper              the mapper for JSON
+     * @param cborMapper              the mapper for CBOR
+     * @param ctap2CborDecoderEnabled true to decode COSE keys, authenticator extension outputs and attestation objects
+     *                                with {@link CTAP2CborDecoder} instead of Jackson. It rejects data which is not
+     *                                in the CTAP2 canonical CBOR encoding form.
+     */
+    public ObjectConverter(@NotNull ObjectMapper jsonMapper, @NotNull ObjectMapper cborMapper, boolean ctap2CborDecoderEnabled) {
         AssertUtil.notNull(jsonMapper, "jsonMapper must not be null");
         AssertUtil.notNull(cborMapper, "cborMapper must not be null");
         AssertUtil.isTrue(!(jsonMapper.getFactory() instanceof CBORFactory), "factory of jsonMapper must be JsonFactory.");
@@ -41,13 +50,22 @@ public class ObjectConverter {
 
         this.jsonConverter = new JsonConverter(jsonMapper);
         this.cborConverter = new CborConverter(cborMapper);
+        this.ctap2CborDecoder = ctap2CborDecoderEnabled ? new CTAP2CborDecoder(this) : null;
 
         initializeJsonMapper(jsonMapper, this);
         initializeCborMapper(cborMapper, this);
     }
 
+    public ObjectConverter(@NotNull ObjectMapper jsonMapper, @NotNull ObjectMapper cborMapper) {
+        this(jsonMapper, cborMapper, false);
+    }
+
+    public ObjectConverter(boolean ctap2CborDecoderEnabled) {
+        this(new ObjectMapper(), new ObjectMapper(new CBORFactory()), ctap2CborDecoderEnabled);
+    }
+
     public ObjectConverter() {
-        this(new ObjectMapper(), new ObjectMapper(new CBORFactory()));
+        this(false);
     }
 
     /**
@@ -78,4 +96,13 @@ public class ObjectConverter {
         return cborConverter;
     }
 
+    /**
+     * Returns the hand-written CTAP2 CBOR decoder
+     *
+     * @return the decoder, or null if it is not enabled
+     */
+    public @Nullable CTAP2CborDecoder getCTAP2CborDecoder() {
+        return ctap2CborDecoder;
+    }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map keyed by byte arrays, compared by content without wrapping them.
+ * Slots are probed linearly, and the hash of each key is kept next to it so that a probe only compares the arrays of
+ * keys with the same hash. Removal shifts the following entries back instead of leaving tombstones.
+ * Keys are stored as they are, so callers must not modify them afterwards. This class is not thread-safe.
+ *
+ * @param <V> value type
+ */
+class ByteArrayKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    // ~ Methods
+    // ================================================================================================
+
+    @SuppressWarnings("unchecked")
+    @Nullable V get(@NotNull byte[] key) {
+        int index = indexOf(key, hash(key));
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable V put(@NotNull byte[] key, @NotNull V value) {
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            V previous = (V) values[index];
+            values[index] = value;
+            return previous;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        insert(key, hash, value);
+        size++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable V remove(@NotNull byte[] key) {
+        int index = indexOf(key, hash(key));
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        int mask = keys.length - 1;
+        int hole = index;
+        for (int i = (index + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            // the entry can fill the hole if the hole lies between its home slot and its current slot
+            if (((i - hashes[i]) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                hashes[hole] = hashes[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        size--;
+        return previous;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(@NotNull byte[] key, int hash) {
+        int mask = keys.length - 1;
+        for (int i = hash & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (hashes[i] == hash && Arrays.equals(keys[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(@NotNull byte[] key, int hash, @NotNull Object value) {
+        int mask = keys.length - 1;
+        int i = hash & mask;
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        hashes[i] = hash;
+        values[i] = value;
+    }
+
+    private void resize() {
+        byte[][] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Object[] oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        hashes = new int[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldHashes[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(@NotNull byte[] key) {
+        int hash = Arrays.hashCode(key);
+        // spread the higher bits, as only the lower bits select the slot
+        return hash ^ (hash >>> 16);
+    }
+}
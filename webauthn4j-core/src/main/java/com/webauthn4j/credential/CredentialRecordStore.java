@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Store of {@link CredentialRecord}(s), keyed by credential ID and indexed by user handle.
+ * WebAuthn4J uses this interface to look up the credential record of an authentication response, and to persist the
+ * counter and flags updated by the verification.
+ * <p>
+ * Resolving, verifying and updating a credential record is made atomic by optimistic concurrency control: lookups
+ * return credential records detached from the store, and {@link #update(CredentialRecord, long)} only writes if the
+ * stored counter still has the value the authentication was verified against. Of concurrent authentications verified
+ * against the same counter, only the first one is persisted, so that they cannot all pass the signature counter check.
+ */
+public interface CredentialRecordStore {
+
+    /**
+     * Looks up the credential record by credential ID. Changes made on the returned credential record are not visible
+     * to other lookups until they are persisted by {@link #update(CredentialRecord, long)}.
+     *
+     * @param credentialId credential ID
+     * @return the credential record, or null if it is not stored
+     */
+    @Nullable CredentialRecord find(@NotNull byte[] credentialId);
+
+    /**
+     * Looks up the user handle of the user account the credential record belongs to
+     *
+     * @param credentialId credential ID
+     * @return the user handle, or null if the credential record is not stored
+     */
+    @Nullable byte[] findUserHandle(@NotNull byte[] credentialId);
+
+    /**
+     * Looks up the credential records of the user account
+     *
+     * @param userHandle user handle
+     * @return the credential records, empty if none is stored
+     */
+    @NotNull List<CredentialRecord> findByUserHandle(@NotNull byte[] userHandle);
+
+    /**
+     * Stores the credential record for the user account. A credential record already stored with the same credential
+     * ID is replaced.
+     *
+     * @param userHandle       user handle
+     * @param credentialRecord credential record
+     */
+    void save(@NotNull byte[] userHandle, @NotNull CredentialRecord credentialRecord);
+
+    /**
+     * Persists the counter and flags of a stored credential record, updated by an authentication, if the stored counter
+     * is still the expected one. The comparison and the write must be atomic, e.g. a conditional update on the counter
+     * column. Does nothing if no credential record is stored with the same credential ID.
+     *
+     * @param credentialRecord credential record
+     * @param expectedCounter  counter of the credential record when it was looked up, before the authentication
+     * @return true if persisted, false if the credential record is not stored or its counter has been updated since
+     */
+    boolean update(@NotNull CredentialRecord credentialRecord, long expectedCounter);
+
+    /**
+     * Removes the credential record
+     *
+     * @param credentialId credential ID
+     * @return true if the credential record was stored
+     */
+    boolean remove(@NotNull byte[] credentialId);
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory {@link CredentialRecordStore}.
+ * <p>
+ * Credential records are kept in an open-addressing hash map keyed by the credential ID bytes, so a lookup neither
+ * encodes the credential ID to a {@link String} nor wraps it. A secondary index keyed by user handle lists the
+ * credential records of each user account. Lookups share a read lock, and don't block each other.
+ * Lookups return copies of the stored credential records as {@link CredentialRecordImpl}, so that an authentication in
+ * progress never changes what other lookups see. {@link #update(CredentialRecord, long)} writes the counter and flags
+ * back to the stored instance under the write lock.
+ */
+public class InMemoryCredentialRecordStore implements CredentialRecordStore {
+
+    private static final String CREDENTIAL_ID_MUST_NOT_BE_NULL = "credentialId must not be null";
+    private static final String USER_HANDLE_MUST_NOT_BE_NULL = "userHandle must not be null";
+    private static final String CREDENTIAL_RECORD_MUST_NOT_BE_NULL = "credentialRecord must not be null";
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final ByteArrayKeyMap<Entry> entriesByCredentialId = new ByteArrayKeyMap<>();
+    private final ByteArrayKeyMap<List<Entry>> entriesByUserHandle = new ByteArrayKeyMap<>();
+
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    // ~ Constructors
+    // ================================================================================================
+
+    public InMemoryCredentialRecordStore() {
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    // ~ Methods
+    // ================================================================================================
+
+    @Override
+    public @Nullable CredentialRecord find(@NotNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, CREDENTIAL_ID_MUST_NOT_BE_NULL);
+        readLock.lock();
+        try {
+            Entry entry = entriesByCredentialId.get(credentialId);
+            return entry == null ? null : copy(entry.credentialRecord);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable byte[] findUserHandle(@NotNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, CREDENTIAL_ID_MUST_NOT_BE_NULL);
+        readLock.lock();
+        try {
+            Entry entry = entriesByCredentialId.get(credentialId);
+            return entry == null ? null : entry.userHandle.clone();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull List<CredentialRecord> findByUserHandle(@NotNull byte[] userHandle) {
+        AssertUtil.notNull(userHandle, USER_HANDLE_MUST_NOT_BE_NULL);
+        readLock.lock();
+        try {
+            List<Entry> entries = entriesByUserHandle.get(userHandle);
+            if (entries == null) {
+                return Collections.emptyList();
+            }
+            List<CredentialRecord> credentialRecords = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                credentialRecords.add(copy(entry.credentialRecord));
+            }
+            return Collections.unmodifiableList(credentialRecords);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void save(@NotNull byte[] userHandle, @NotNull CredentialRecord credentialRecord) {
+        AssertUtil.notNull(userHandle, USER_HANDLE_MUST_NOT_BE_NULL);
+        AssertUtil.notNull(credentialRecord, CREDENTIAL_RECORD_MUST_NOT_BE_NULL);
+        // getCredentialId returns a copy, which is safe to keep as the key
+        Entry entry = new Entry(credentialRecord.getAttestedCredentialData().getCredentialId(), userHandle.clone(), credentialRecord);
+        writeLock.lock();
+        try {
+            Entry previous = entriesByCredentialId.put(entry.credentialId, entry);
+            if (previous != null) {
+                removeFromUserIndex(previous);
+            }
+            List<Entry> entries = entriesByUserHandle.get(entry.userHandle);
+            if (entries == null) {
+                entries = new ArrayList<>(1);
+                entriesByUserHandle.put(entry.userHandle, entries);
+            }
+            entries.add(entry);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean update(@NotNull CredentialRecord credentialRecord, long expectedCounter) {
+        AssertUtil.notNull(credentialRecord, CREDENTIAL_RECORD_MUST_NOT_BE_NULL);
+        byte[] credentialId = credentialRecord.getAttestedCredentialData().getCredentialId();
+        writeLock.lock();
+        try {
+            Entry entry = entriesByCredentialId.get(credentialId);
+            if (entry == null || entry.credentialRecord.getCounter() != expectedCounter) {
+                return false;
+            }
+            CredentialRecord stored = entry.credentialRecord;
+            stored.setCounter(credentialRecord.getCounter());
+            if (credentialRecord.isUvInitialized() != null) {
+                stored.setUvInitialized(credentialRecord.isUvInitialized());
+            }
+            if (credentialRecord.isBackupEligible() != null) {
+                stored.setBackupEligible(credentialRecord.isBackupEligible());
+            }
+            if (credentialRecord.isBackedUp() != null) {
+                stored.setBackedUp(credentialRecord.isBackedUp());
+            }
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(@NotNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, CREDENTIAL_ID_MUST_NOT_BE_NULL);
+        writeLock.lock();
+        try {
+            Entry entry = entriesByCredentialId.remove(credentialId);
+            if (entry == null) {
+                return false;
+            }
+            removeFromUserIndex(entry);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored credential records
+     *
+     * @return the number of stored credential records
+     */
+    public int size() {
+        readLock.lock();
+        try {
+            return entriesByCredentialId.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // called under the lock, as the counter and flags of the stored instance are updated in place
+    private static @NotNull CredentialRecord copy(@NotNull CredentialRecord credentialRecord) {
+        return new CredentialRecordImpl(
+                credentialRecord.getAttestationStatement(),
+                credentialRecord.isUvInitialized(),
+                credentialRecord.isBackupEligible(),
+                credentialRecord.isBackedUp(),
+                credentialRecord.getCounter(),
+                credentialRecord.getAttestedCredentialData(),
+                credentialRecord.getAuthenticatorExtensions(),
+                credentialRecord.getClientData(),
+                credentialRecord.getClientExtensions(),
+                credentialRecord.getTransports());
+    }
+
+    private void removeFromUserIndex(@NotNull Entry entry) {
+        List<Entry> entries = entriesByUserHandle.get(entry.userHandle);
+        if (entries == null) {
+            return;
+        }
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+            entriesByUserHandle.remove(entry.userHandle);
+        }
+    }
+
+    private static class Entry {
+
+        private final byte[] credentialId;
+        private final byte[] userHandle;
+        // counter and flags are guarded by the lock of the store
+        private final CredentialRecord credentialRecord;
+
+        Entry(@NotNull byte[] credentialId, @NotNull byte[] userHandle, @NotNull CredentialRecord credentialRecord) {
+            this.credentialId = credentialId;
+            this.userHandle = userHandle;
+            this.credentialRecord = credentialRecord;
+        }
+    }
+}
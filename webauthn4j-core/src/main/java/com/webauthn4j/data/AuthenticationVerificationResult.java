@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data;
+
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-item outcome of a batch authentication verification.
+ * Holds either the verified {@link AuthenticationData} or the exception that made the item fail.
+ */
+public class AuthenticationVerificationResult {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final AuthenticationRequest authenticationRequest;
+    private final AuthenticationData authenticationData;
+    private final RuntimeException exception;
+
+    private AuthenticationVerificationResult(@Nullable AuthenticationRequest authenticationRequest, @Nullable AuthenticationData authenticationData, @Nullable RuntimeException exception) {
+        this.authenticationRequest = authenticationRequest;
+        this.authenticationData = authenticationData;
+        this.exception = exception;
+    }
+
+    public static @NotNull AuthenticationVerificationResult success(@NotNull AuthenticationRequest authenticationRequest, @NotNull AuthenticationData authenticationData) {
+        AssertUtil.notNull(authenticationRequest, "authenticationRequest must not be null");
+        AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+        return new AuthenticationVerificationResult(authenticationRequest, authenticationData, null);
+    }
+
+    /**
+     * Creates a failed result
+     *
+     * @param authenticationRequest the failed request, or null if the batch contained a null element
+     * @param exception the exception that made the item fail
+     * @return failed result
+     */
+    public static @NotNull AuthenticationVerificationResult failure(@Nullable AuthenticationRequest authenticationRequest, @NotNull RuntimeException exception) {
+        AssertUtil.notNull(exception, "exception must not be null");
+        return new AuthenticationVerificationResult(authenticationRequest, null, exception);
+    }
+
+    /**
+     * Returns the request this result belongs to
+     *
+     * @return request, or null if the batch contained a null element at this position
+     */
+    public @Nullable AuthenticationRequest getAuthenticationRequest() {
+        return authenticationRequest;
+    }
+
+    /**
+     * Returns the verified authentication data
+     *
+     * @return verified authentication data, or null if the verification failed
+     */
+    public @Nullable AuthenticationData getAuthenticationData() {
+        return authenticationData;
+    }
+
+    /**
+     * Returns the exception thrown while parsing or verifying the item
+     *
+     * @return exception, or null if the verification succeeded
+     */
+    public @Nullable RuntimeException getException() {
+        return exception;
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticationVerificationResult(" +
+                "authenticationData=" + authenticationData +
+                ", exception=" + exception +
+                ')';
+    }
+}
@@ -18,9 +18,10 @@ package com.webauthn4j.data;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AttestationObjectSpan;
 import com.webauthn4j.converter.AttestedCredentialDataConverter;
 import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
@@ -50,6 +51,9 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     private final byte[] attestationObject;
     private final Set<AuthenticatorTransport> transports;
 
+    // lazily extracted from attestationObject, at most once per response
+    private volatile byte[] authenticatorData;
+
     // ~ Constructor
     // ========================================================================================================
 
@@ -91,13 +95,36 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
         return this.transports;
     }
 
+    /**
+     * Returns the authenticator data bytes contained in the attestation object.
+     *
+     * @param objectConverter ignored, as the attestation object is scanned without being parsed
+     * @return the authenticator data bytes
+     * @throws DataConversionException if the attestation object is malformed or doesn't contain authData
+     * @deprecated The objectConverter argument is ignored. Use {@link #getAuthenticatorData()} instead.
+     */
+    @Deprecated
     public @NotNull byte[] getAuthenticatorData(ObjectConverter objectConverter){
-        AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
-        return attestationObjectConverter.extractAuthenticatorData(this.attestationObject);
+        return getAuthenticatorData();
     }
 
+    /**
+     * Returns the authenticator data bytes contained in the attestation object.
+     * The attestation object is scanned only on the first call, without being parsed.
+     *
+     * @return the authenticator data bytes
+     * @throws DataConversionException if the attestation object is malformed or doesn't contain authData
+     */
     public @NotNull byte[] getAuthenticatorData(){
-        return getAuthenticatorData(new ObjectConverter());
+        byte[] value = authenticatorData;
+        if (value == null) {
+            value = AttestationObjectSpan.of(attestationObject).getAuthenticatorData();
+            if (value == null) {
+                throw new DataConversionException("attestationObject doesn't contain authData");
+            }
+            authenticatorData = value;
+        }
+        return ArrayUtil.clone(value);
     }
 
     public @Nullable byte[] getPublicKey(ObjectConverter objectConverter){
@@ -105,7 +132,7 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     }
 
     public @Nullable byte[] getPublicKey(){
-        return getPublicKey(new ObjectConverter());
+        return getPublicKey(DefaultObjectConverterHolder.INSTANCE);
     }
 
     public @Nullable COSEAlgorithmIdentifier getPublicKeyAlgorithm(ObjectConverter objectConverter){
@@ -113,13 +140,13 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
     }
 
     public @Nullable COSEAlgorithmIdentifier getPublicKeyAlgorithm(){
-        return getCOSEKey(new ObjectConverter()).getAlgorithm();
+        return getCOSEKey(DefaultObjectConverterHolder.INSTANCE).getAlgorithm();
     }
 
     private @NotNull COSEKey getCOSEKey(ObjectConverter objectConverter){
         AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
         AttestedCredentialDataConverter attestedCredentialDataConverter = new AttestedCredentialDataConverter(objectConverter);
-        byte[] attestedCredentialDataBytes = authenticatorDataConverter.extractAttestedCredentialData(this.getAuthenticatorData(objectConverter));
+        byte[] attestedCredentialDataBytes = authenticatorDataConverter.extractAttestedCredentialData(this.getAuthenticatorData());
         AttestedCredentialData attestedCredentialData = attestedCredentialDataConverter.convert(attestedCredentialDataBytes);
         return attestedCredentialData.getCOSEKey();
     }
@@ -154,4 +181,9 @@ public class AuthenticatorAttestationResponse extends AuthenticatorResponse {
                 ", transports=" + transports +
                 ')';
     }
+
+    private static class DefaultObjectConverterHolder {
+        // ObjectConverter is thread-safe, and costly to create as it configures two ObjectMappers
+        private static final ObjectConverter INSTANCE = new ObjectConverter();
+    }
 }
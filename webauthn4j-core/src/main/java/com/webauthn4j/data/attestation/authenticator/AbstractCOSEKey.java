@@ -24,6 +24,7 @@ import com.webauthn4j.data.attestation.statement.COSEKeyType;
 import com.webauthn4j.util.ArrayUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.security.PublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -42,6 +43,9 @@ public abstract class AbstractCOSEKey implements COSEKey {
     @JsonProperty("5")
     private final byte[] baseIV;
 
+    // decoded public key is memoized as KeyFactory invocation is costly and the key material never changes
+    private transient volatile PublicKey publicKey;
+
     @SuppressWarnings("SameParameterValue")
     @JsonCreator
     AbstractCOSEKey(
@@ -75,6 +79,23 @@ public abstract class AbstractCOSEKey implements COSEKey {
         return ArrayUtil.clone(baseIV);
     }
 
+    @Override
+    public @Nullable PublicKey getPublicKey() {
+        PublicKey value = publicKey;
+        if (value == null) {
+            value = createPublicKey();
+            publicKey = value;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes the public key from the key parameters. The result is memoized by {@link #getPublicKey()}.
+     *
+     * @return public key, or null if the key doesn't contain public key parameters
+     */
+    protected abstract @Nullable PublicKey createPublicKey();
+
     @Override
     public boolean equals(@Nullable Object o) {
         if (this == o) return true;
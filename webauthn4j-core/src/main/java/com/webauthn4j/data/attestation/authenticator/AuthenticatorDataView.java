@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.attestation.authenticator;
+
+import com.webauthn4j.util.ArrayUtil;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Flyweight, read-only view of an authenticator data byte array.
+ * <p>
+ * The fixed-length header (rpIdHash, flags and signCount) is read directly from the wrapped array without copying or
+ * decoding the variable-length part. Extensions can be decoded on demand with
+ * {@link com.webauthn4j.converter.AuthenticatorDataConverter#extractExtensions(byte[])}. The wrapped array is not copied, so it must not be
+ * modified while the view is in use.
+ *
+ * @see AuthenticatorData
+ */
+public class AuthenticatorDataView {
+
+    public static final int RP_ID_HASH_LENGTH = 32;
+    public static final int FLAGS_INDEX = RP_ID_HASH_LENGTH;
+    public static final int SIGN_COUNT_INDEX = FLAGS_INDEX + 1;
+    public static final int FIXED_LENGTH = SIGN_COUNT_INDEX + 4;
+
+    private final byte[] bytes;
+
+    private AuthenticatorDataView(@NotNull byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a view over the given authenticator data bytes without copying them.
+     *
+     * @param bytes authenticator data bytes
+     * @return view
+     * @throws IllegalArgumentException if bytes is null or shorter than the fixed-length header
+     */
+    public static @NotNull AuthenticatorDataView wrap(@NotNull byte[] bytes) {
+        AssertUtil.notNull(bytes, "bytes must not be null");
+        AssertUtil.isTrue(bytes.length >= FIXED_LENGTH, "bytes must be at least " + FIXED_LENGTH + " bytes");
+        return new AuthenticatorDataView(bytes);
+    }
+
+    public @NotNull byte[] getRpIdHash() {
+        return Arrays.copyOfRange(bytes, 0, RP_ID_HASH_LENGTH);
+    }
+
+    /**
+     * Compares the rpIdHash with the expected value without copying it out of the wrapped array.
+     *
+     * @param expected expected rpIdHash
+     * @return true if equal
+     */
+    public boolean isRpIdHashEqualTo(@Nullable byte[] expected) {
+        if (expected == null || expected.length != RP_ID_HASH_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < RP_ID_HASH_LENGTH; i++) {
+            if (bytes[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public byte getFlags() {
+        return bytes[FLAGS_INDEX];
+    }
+
+    public boolean isFlagUP() {
+        return AuthenticatorData.checkFlagUP(getFlags());
+    }
+
+    public boolean isFlagUV() {
+        return AuthenticatorData.checkFlagUV(getFlags());
+    }
+
+    public boolean isFlagBE() {
+        return AuthenticatorData.checkFlagBE(getFlags());
+    }
+
+    public boolean isFlagBS() {
+        return AuthenticatorData.checkFlagBS(getFlags());
+    }
+
+    public boolean isFlagAT() {
+        return AuthenticatorData.checkFlagAT(getFlags());
+    }
+
+    public boolean isFlagED() {
+        return AuthenticatorData.checkFlagED(getFlags());
+    }
+
+    public long getSignCount() {
+        return ((bytes[SIGN_COUNT_INDEX] & 0xFFL) << 24)
+                | ((bytes[SIGN_COUNT_INDEX + 1] & 0xFFL) << 16)
+                | ((bytes[SIGN_COUNT_INDEX + 2] & 0xFFL) << 8)
+                | (bytes[SIGN_COUNT_INDEX + 3] & 0xFFL);
+    }
+
+    /**
+     * Returns the length of the wrapped authenticator data
+     *
+     * @return length
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    public @NotNull byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatorDataView(" +
+                "rpIdHash=" + ArrayUtil.toHexString(getRpIdHash()) +
+                ", flags=" + String.format("%02X", getFlags()) +
+                ", signCount=" + getSignCount() +
+                ')';
+    }
+}
@@ -260,7 +260,7 @@ public class EC2COSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
+    protected @Nullable PublicKey createPublicKey() {
 
         if (!hasPublicKey()) {
             return null;
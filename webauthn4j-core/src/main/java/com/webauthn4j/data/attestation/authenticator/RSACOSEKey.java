@@ -233,7 +233,7 @@ public class RSACOSEKey extends AbstractCOSEKey {
     }
 
     @Override
-    public @Nullable PublicKey getPublicKey() {
+    protected @Nullable PublicKey createPublicKey() {
         if (!hasPublicKey()) {
             return null;
         }
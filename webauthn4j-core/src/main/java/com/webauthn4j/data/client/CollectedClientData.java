@@ -17,6 +17,7 @@
 package com.webauthn4j.data.client;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.util.AssertUtil;
@@ -35,21 +36,32 @@ public class CollectedClientData {
     //~ Instance fields ================================================================================================
     private final ClientDataType type;
     private final Challenge challenge;
-    private final Origin origin;
+    // origin as serialized in clientDataJSON. The URI-backed Origin is only parsed when it is asked for
+    private final String rawOrigin;
+    private volatile Origin origin;
     private final Boolean crossOrigin;
     private final TokenBinding tokenBinding;
 
-    @JsonCreator
-    public CollectedClientData(@NotNull @JsonProperty("type") ClientDataType type,
-                               @NotNull @JsonProperty("challenge") Challenge challenge,
-                               @NotNull @JsonProperty("origin") Origin origin,
-                               @Nullable @JsonProperty("crossOrigin") Boolean crossOrigin,
-                               @Nullable @JsonProperty("tokenBinding") TokenBinding tokenBinding) {
+    public CollectedClientData(@NotNull ClientDataType type,
+                               @NotNull Challenge challenge,
+                               @NotNull Origin origin,
+                               @Nullable Boolean crossOrigin,
+                               @Nullable TokenBinding tokenBinding) {
+        this(type, challenge, origin == null ? null : origin.toString(), origin, crossOrigin, tokenBinding);
+    }
+
+    private CollectedClientData(@NotNull ClientDataType type,
+                                @NotNull Challenge challenge,
+                                @NotNull String rawOrigin,
+                                @Nullable Origin origin,
+                                @Nullable Boolean crossOrigin,
+                                @Nullable TokenBinding tokenBinding) {
         AssertUtil.notNull(type, "type must not be null");
         AssertUtil.notNull(challenge, "challenge must not be null");
-        AssertUtil.notNull(origin, "origin must not be null");
+        AssertUtil.notNull(rawOrigin, "origin must not be null");
         this.type = type;
         this.challenge = challenge;
+        this.rawOrigin = rawOrigin;
         this.origin = origin;
         this.crossOrigin = crossOrigin;
         this.tokenBinding = tokenBinding;
@@ -62,6 +74,15 @@ public class CollectedClientData {
         this(type, challenge, origin, null, tokenBinding);
     }
 
+    @JsonCreator
+    private static @NotNull CollectedClientData deserialize(@NotNull @JsonProperty("type") ClientDataType type,
+                                                            @NotNull @JsonProperty("challenge") Challenge challenge,
+                                                            @NotNull @JsonProperty("origin") String origin,
+                                                            @Nullable @JsonProperty("crossOrigin") Boolean crossOrigin,
+                                                            @Nullable @JsonProperty("tokenBinding") TokenBinding tokenBinding) {
+        return new CollectedClientData(type, challenge, origin, null, crossOrigin, tokenBinding);
+    }
+
 
     public @NotNull ClientDataType getType() {
         return type;
@@ -71,8 +92,29 @@ public class CollectedClientData {
         return challenge;
     }
 
+    /**
+     * Returns the origin, parsed from the serialized origin on first access
+     *
+     * @return origin
+     * @throws IllegalArgumentException if the serialized origin is not a valid URI
+     */
     public @NotNull Origin getOrigin() {
-        return origin;
+        Origin parsed = origin;
+        if (parsed == null) {
+            parsed = new Origin(rawOrigin);
+            origin = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the origin as serialized in clientDataJSON, without parsing it
+     *
+     * @return serialized origin
+     */
+    @JsonIgnore
+    public @NotNull String getRawOrigin() {
+        return rawOrigin;
     }
 
     public @NotNull Boolean getCrossOrigin() {
@@ -88,12 +130,12 @@ public class CollectedClientData {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CollectedClientData that = (CollectedClientData) o;
-        return Objects.equals(type, that.type) && Objects.equals(challenge, that.challenge) && Objects.equals(origin, that.origin) && Objects.equals(crossOrigin, that.crossOrigin) && Objects.equals(tokenBinding, that.tokenBinding);
+        return Objects.equals(type, that.type) && Objects.equals(challenge, that.challenge) && Objects.equals(getOrigin(), that.getOrigin()) && Objects.equals(crossOrigin, that.crossOrigin) && Objects.equals(tokenBinding, that.tokenBinding);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(type, challenge, origin, crossOrigin, tokenBinding);
+        return Objects.hash(type, challenge, getOrigin(), crossOrigin, tokenBinding);
     }
 
     @Override
@@ -101,7 +143,7 @@ public class CollectedClientData {
         return "CollectedClientData(" +
                 "type=" + type +
                 ", challenge=" + challenge +
-                ", origin=" + origin +
+                ", origin=" + rawOrigin +
                 ", crossOrigin=" + crossOrigin +
                 ", tokenBinding=" + tokenBinding +
                 ')';
@@ -52,6 +52,37 @@ public class AuthenticationExtensionsAuthenticatorOutputs<T extends ExtensionAut
     @JsonIgnore
     private Map<Class<? extends T>, T> extensions;
 
+    public AuthenticationExtensionsAuthenticatorOutputs() {
+        // nop
+    }
+
+    /**
+     * Creates extension outputs holding the given values as they are decoded from authenticator data. Unlike the
+     * builders, unknown extensions may have null values, and credProtect may coexist with an hmac-secret
+     * authentication output, as with Jackson deserialization.
+     *
+     * @param uvm              uvm extension output
+     * @param credProtect      credProtect extension output
+     * @param hmacCreateSecret hmac-secret registration extension output
+     * @param hmacGetSecret    hmac-secret authentication extension output, exclusive with hmacCreateSecret
+     * @param unknowns         unknown extension outputs
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DISABLED)
+    public AuthenticationExtensionsAuthenticatorOutputs(
+            @Nullable UvmEntries uvm,
+            @Nullable CredentialProtectionPolicy credProtect,
+            @Nullable Boolean hmacCreateSecret,
+            @Nullable byte[] hmacGetSecret,
+            @NotNull Map<String, Object> unknowns) {
+        AssertUtil.notNull(unknowns, "unknowns must not be null");
+        AssertUtil.isTrue(hmacCreateSecret == null || hmacGetSecret == null, "hmacCreateSecret and hmacGetSecret must not coexist");
+        this.uvm = uvm;
+        this.credProtect = credProtect;
+        this.hmacCreateSecret = hmacCreateSecret;
+        this.hmacGetSecret = hmacGetSecret;
+        this.unknowns.putAll(unknowns);
+    }
+
     @JsonSetter(KEY_HMAC_SECRET)
     private void setHMACSecret(@Nullable Object hmacSecret){
         if(hmacSecret instanceof Boolean){
@@ -26,7 +26,6 @@ import org.slf4j.LoggerFactory;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
-import java.security.Signature;
 import java.security.SignatureException;
 import java.security.interfaces.ECPublicKey;
 
@@ -38,17 +37,20 @@ public class JWS<T> {
     private final T payload;
     private final byte[] signature;
 
-    private final String headerString;
-    private final String payloadString;
+    // ASCII bytes of the JWS signing input, which is "BASE64URL(header).BASE64URL(payload)"
+    private final byte[] signingInput;
 
     JWS(@NotNull JWSHeader header, @NotNull String headerString, @NotNull T payload, @NotNull String payloadString, @NotNull byte[] signature) {
+        this(header, payload, (headerString + "." + payloadString).getBytes(StandardCharsets.US_ASCII), signature);
+    }
+
+    JWS(@NotNull JWSHeader header, @NotNull T payload, @NotNull byte[] signingInput, @NotNull byte[] signature) {
         logger = LoggerFactory.getLogger(JWS.class);
 
         this.header = header;
         this.payload = payload;
         this.signature = signature;
-        this.headerString = headerString;
-        this.payloadString = payloadString;
+        this.signingInput = signingInput;
     }
 
     public @NotNull JWSHeader getHeader() {
@@ -69,15 +71,11 @@ public class JWS<T> {
      * @return true if it pass validation
      */
     public boolean isValidSignature() {
-        String signedData = headerString + "." + payloadString;
         try {
             if (header.getAlg() == null || header.getX5c() == null || header.getX5c().getCertificates().isEmpty()) {
                 return false;
             }
-            Signature signatureInstance = SignatureUtil.createSignature(header.getAlg().toSignatureAlgorithm());
             PublicKey publicKey = header.getX5c().getCertificates().get(0).getPublicKey();
-            signatureInstance.initVerify(publicKey);
-            signatureInstance.update(signedData.getBytes());
             byte[] sig;
             if (publicKey instanceof ECPublicKey) {
                 sig = JWSSignatureUtil.convertJwsSignatureToDerSignature(signature);
@@ -85,7 +83,7 @@ public class JWS<T> {
             else {
                 sig = signature;
             }
-            return signatureInstance.verify(sig);
+            return SignatureUtil.verify(header.getAlg().toSignatureAlgorithm(), publicKey, sig, signingInput);
         } catch (SignatureException | InvalidKeyException e) {
             logger.debug("Signature verification failed", e);
             return false;
@@ -98,7 +96,7 @@ public class JWS<T> {
 
     @Override
     public @NotNull String toString() {
-        return headerString + "." + payloadString + "." + Base64UrlUtil.encodeToString(signature);
+        return new String(signingInput, StandardCharsets.US_ASCII) + "." + Base64UrlUtil.encodeToString(signature);
     }
 
 }
@@ -23,11 +23,16 @@ import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.SignatureUtil;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.PrivateKey;
 import java.security.Signature;
 import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
 
 public class JWSFactory {
 
@@ -79,8 +84,23 @@ public class JWSFactory {
     }
 
     public <T> @NotNull JWS<T> parse(@NotNull String value, @NotNull Class<T> payloadType) {
-        AssertUtil.notNull(value, "value must not be null");
         AssertUtil.notNull(payloadType, "payloadType must not be null");
+        return parse(value, payloadJSON -> jsonConverter.readValue(payloadJSON, payloadType));
+    }
+
+    /**
+     * Parses a JWS, converting its payload with the given reader.
+     * The serialized form of the JWS is retained as is, so that the signature can be verified even if the reader
+     * returns a projection of the payload.
+     *
+     * @param value         JWS compact serialization
+     * @param payloadReader converts the decoded payload JSON to the payload object
+     * @param <T>           payload type
+     * @return parsed JWS
+     */
+    public <T> @NotNull JWS<T> parse(@NotNull String value, @NotNull Function<String, T> payloadReader) {
+        AssertUtil.notNull(value, "value must not be null");
+        AssertUtil.notNull(payloadReader, "payloadReader must not be null");
 
         String[] data = value.split("\\.");
         if (data.length != 3) {
@@ -90,7 +110,7 @@ public class JWSFactory {
         String payloadString = data[1];
         String signatureString = data[2];
         JWSHeader header = jsonConverter.readValue(new String(Base64UrlUtil.decode(headerString)), JWSHeader.class);
-        T payload = jsonConverter.readValue(new String(Base64UrlUtil.decode(payloadString)), payloadType);
+        T payload = payloadReader.apply(new String(Base64UrlUtil.decode(payloadString)));
         byte[] signature = Base64UrlUtil.decode(signatureString);
 
         AssertUtil.notNull(header, HEADER_MUST_NOT_BE_NULL);
@@ -99,4 +119,47 @@ public class JWSFactory {
         return new JWS<>(header, headerString, payload, payloadString, signature);
     }
 
+    /**
+     * Parses a JWS from the bytes of its compact serialization without creating intermediate strings of the payload.
+     * The payload is read by the payloadReader from a base64url decoding stream over the serialized payload, and the
+     * signature is verified over the serialized bytes as they are.
+     *
+     * @param value         JWS compact serialization
+     * @param payloadReader reads the payload object from the decoded payload JSON stream
+     * @param <T>           payload type
+     * @return parsed JWS
+     */
+    public <T> @NotNull JWS<T> parse(@NotNull byte[] value, @NotNull Function<InputStream, T> payloadReader) {
+        AssertUtil.notNull(value, "value must not be null");
+        AssertUtil.notNull(payloadReader, "payloadReader must not be null");
+
+        int end = value.length;
+        while (end > 0 && value[end - 1] <= ' ') {
+            end--;
+        }
+        int headerEnd = indexOfPeriod(value, 0, end);
+        int payloadEnd = headerEnd < 0 ? -1 : indexOfPeriod(value, headerEnd + 1, end);
+        if (payloadEnd < 0 || payloadEnd == end - 1 || indexOfPeriod(value, payloadEnd + 1, end) >= 0) {
+            throw new IllegalArgumentException("JWS value is not divided by two period.");
+        }
+        byte[] signingInput = Arrays.copyOf(value, payloadEnd);
+        JWSHeader header = jsonConverter.readValue(Base64UrlUtil.decode(Arrays.copyOf(value, headerEnd)), JWSHeader.class);
+        T payload = payloadReader.apply(Base64.getUrlDecoder().wrap(new ByteArrayInputStream(signingInput, headerEnd + 1, payloadEnd - headerEnd - 1)));
+        byte[] signature = Base64UrlUtil.decode(Arrays.copyOfRange(value, payloadEnd + 1, end));
+
+        AssertUtil.notNull(header, HEADER_MUST_NOT_BE_NULL);
+        AssertUtil.notNull(payload, PAYLOAD_MUST_NOT_BE_NULL);
+
+        return new JWS<>(header, payload, signingInput, signature);
+    }
+
+    private static int indexOfPeriod(@NotNull byte[] value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value[i] == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
 }
@@ -18,9 +18,11 @@ package com.webauthn4j.server;
 
 import com.webauthn4j.data.client.challenge.Challenge;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /**
@@ -34,12 +36,20 @@ public class CoreServerProperty {
     private final String rpId;
     private final Challenge challenge;
 
+    // lazily calculated, or shared from RelyingPartyProfile
+    private volatile byte[] rpIdHash;
+
     // ~ Constructor
     // ========================================================================================================
 
     public CoreServerProperty(@NotNull String rpId, @Nullable Challenge challenge) {
+        this(rpId, null, challenge);
+    }
+
+    CoreServerProperty(@NotNull String rpId, @Nullable byte[] rpIdHash, @Nullable Challenge challenge) {
         AssertUtil.notNull(rpId, "rpId must not be null");
         this.rpId = rpId;
+        this.rpIdHash = rpIdHash;
         this.challenge = challenge;
     }
 
@@ -55,6 +65,24 @@ public class CoreServerProperty {
         return rpId;
     }
 
+    /**
+     * Returns the SHA-256 hash of the rpId. It is calculated on first access and cached.
+     *
+     * @return the rpIdHash
+     */
+    public @NotNull byte[] getRpIdHash() {
+        byte[] value = rpIdHash;
+        if (value == null) {
+            value = calculateRpIdHash(rpId);
+            rpIdHash = value;
+        }
+        return value.clone();
+    }
+
+    static @NotNull byte[] calculateRpIdHash(@NotNull String rpId) {
+        return MessageDigestUtil.createSHA256().digest(rpId.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Returns the {@link Challenge}
      *
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Precompiled, immutable matcher of allowed origins.
+ * <p>
+ * Patterns are normalized once on construction into hash sets, so that matching an origin costs a constant number of
+ * lookups for exact origins, and one lookup per host label for wildcard subdomain patterns, regardless of the number
+ * of allowed origins. The following patterns are supported:
+ * <ul>
+ *     <li>web origins, like {@code https://example.com} or {@code http://localhost:8080}</li>
+ *     <li>wildcard subdomain origins, like {@code https://*.example.com}, matching any subdomain of
+ *     {@code example.com} with the same scheme and port, but not {@code example.com} itself</li>
+ *     <li>other origins, like {@code android:apk-key-hash:...}, matched exactly</li>
+ * </ul>
+ * Schemes and hosts are compared case-insensitively and default ports are normalized, consistently with
+ * {@link Origin#equals(Object)}.
+ */
+public class OriginMatcher {
+
+    private static final String SCHEME_HTTPS = "https";
+    private static final String SCHEME_HTTP = "http";
+    private static final String WILDCARD_PREFIX = "*.";
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Set<String> patterns;
+    private final Set<String> exactOrigins = new HashSet<>();
+    private final Set<String> wildcardOrigins = new HashSet<>();
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    /**
+     * @param patterns allowed origin patterns
+     */
+    public OriginMatcher(@NotNull Collection<String> patterns) {
+        AssertUtil.notNull(patterns, "patterns must not be null");
+        this.patterns = Collections.unmodifiableSet(new LinkedHashSet<>(patterns));
+        for (String pattern : this.patterns) {
+            AssertUtil.notNull(pattern, "patterns must not contain null");
+            int schemeEnd = pattern.indexOf("://");
+            if (schemeEnd > 0 && pattern.startsWith(WILDCARD_PREFIX, schemeEnd + 3)) {
+                Origin origin = new Origin(pattern.substring(0, schemeEnd + 3) + pattern.substring(schemeEnd + 3 + WILDCARD_PREFIX.length()));
+                AssertUtil.isTrue(isWebScheme(origin.getScheme()) && origin.getHost() != null, "wildcard pattern must be a http or https origin: " + pattern);
+                wildcardOrigins.add(toKey(origin));
+            }
+            else {
+                exactOrigins.add(toKey(new Origin(pattern)));
+            }
+        }
+    }
+
+    /**
+     * Creates a matcher which matches the given origins exactly
+     *
+     * @param origins allowed origins
+     * @return matcher
+     */
+    public static @NotNull OriginMatcher create(@NotNull Collection<Origin> origins) {
+        AssertUtil.notNull(origins, "origins must not be null");
+        List<String> patterns = new ArrayList<>(origins.size());
+        for (Origin origin : origins) {
+            AssertUtil.notNull(origin, "origins must not contain null");
+            patterns.add(origin.toString());
+        }
+        return new OriginMatcher(patterns);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Returns true if the origin matches one of the patterns
+     *
+     * @param origin origin
+     * @return true if the origin is allowed
+     */
+    public boolean matches(@Nullable Origin origin) {
+        if (origin == null) {
+            return false;
+        }
+        if (isWebScheme(origin.getScheme())) {
+            return matches(origin.getScheme(), origin.getHost(), origin.getPort());
+        }
+        return exactOrigins.contains(toKey(origin));
+    }
+
+    /**
+     * Returns true if the origin, as serialized in clientDataJSON, matches one of the patterns.
+     * The origin is matched without being parsed into a {@link java.net.URI}.
+     *
+     * @param origin serialized origin
+     * @return true if the origin is allowed
+     */
+    public boolean matches(@Nullable String origin) {
+        if (origin == null) {
+            return false;
+        }
+        int schemeEnd = origin.indexOf(':');
+        if (schemeEnd <= 0) {
+            return exactOrigins.contains(origin);
+        }
+        String scheme = origin.substring(0, schemeEnd).toLowerCase();
+        if (!isWebScheme(scheme)) {
+            return exactOrigins.contains(scheme + origin.substring(schemeEnd));
+        }
+        if (!origin.startsWith("//", schemeEnd + 1)) {
+            return false;
+        }
+        int authorityStart = schemeEnd + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < origin.length() && "/?#".indexOf(origin.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+        String authority = origin.substring(authorityStart, authorityEnd);
+        if (authority.indexOf('@') >= 0) {
+            return false;
+        }
+        int portSeparator = authority.lastIndexOf(':');
+        if (portSeparator < authority.lastIndexOf(']')) {
+            // the colon belongs to an IPv6 address literal
+            portSeparator = -1;
+        }
+        String host = portSeparator < 0 ? authority : authority.substring(0, portSeparator);
+        Integer port = defaultPort(scheme);
+        if (portSeparator >= 0 && portSeparator < authority.length() - 1) {
+            port = parsePort(authority.substring(portSeparator + 1));
+            if (port == null) {
+                return false;
+            }
+        }
+        return isValidHost(host) && matches(scheme, host.toLowerCase(), port);
+    }
+
+    public @NotNull Set<String> getPatterns() {
+        return patterns;
+    }
+
+    private boolean matches(@NotNull String scheme, @Nullable String host, @Nullable Integer port) {
+        if (host == null) {
+            return false;
+        }
+        if (exactOrigins.contains(toKey(scheme, host, port))) {
+            return true;
+        }
+        if (wildcardOrigins.isEmpty()) {
+            return false;
+        }
+        for (int i = host.indexOf('.'); i >= 0; i = host.indexOf('.', i + 1)) {
+            if (wildcardOrigins.contains(toKey(scheme, host.substring(i + 1), port))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static @NotNull String toKey(@NotNull Origin origin) {
+        if (isWebScheme(origin.getScheme())) {
+            return toKey(origin.getScheme(), origin.getHost(), origin.getPort());
+        }
+        return origin.toString();
+    }
+
+    private static @NotNull String toKey(@NotNull String scheme, @Nullable String host, @Nullable Integer port) {
+        return scheme + "://" + host + ":" + port;
+    }
+
+    private static boolean isWebScheme(@Nullable String scheme) {
+        return SCHEME_HTTPS.equals(scheme) || SCHEME_HTTP.equals(scheme);
+    }
+
+    // The origin is not parsed as a URI, so that characters a URI host cannot contain are rejected here. Otherwise,
+    // a host like "evil host.example.com" would match a wildcard pattern through its "example.com" suffix.
+    private static boolean isValidHost(@NotNull String host) {
+        if (host.isEmpty()) {
+            return false;
+        }
+        boolean ipLiteral = host.charAt(0) == '[';
+        if (ipLiteral && host.charAt(host.length() - 1) != ']') {
+            return false;
+        }
+        for (int i = ipLiteral ? 1 : 0; i < (ipLiteral ? host.length() - 1 : host.length()); i++) {
+            char c = host.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || (ipLiteral ? c == ':' : c == '-');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int defaultPort(@NotNull String scheme) {
+        return SCHEME_HTTPS.equals(scheme) ? 443 : 80;
+    }
+
+    private static @Nullable Integer parsePort(@NotNull String value) {
+        int port = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9' || port > 65535) {
+                return null;
+            }
+            port = port * 10 + (c - '0');
+        }
+        return port;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OriginMatcher that = (OriginMatcher) o;
+        return exactOrigins.equals(that.exactOrigins) && wildcardOrigins.equals(that.wildcardOrigins);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(exactOrigins, wildcardOrigins);
+    }
+
+    @Override
+    public String toString() {
+        return "OriginMatcher(" +
+                "patterns=" + patterns +
+                ')';
+    }
+}
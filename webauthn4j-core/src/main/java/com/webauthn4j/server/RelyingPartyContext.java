@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.PublicKeyCredentialParameters;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable, precomputed verification context of a relying party (tenant) registered to a {@link RelyingPartyRegistry}.
+ * <p>
+ * It bundles the {@link RelyingPartyProfile} (rpId, rpIdHash and origins) with the per-tenant verification policy:
+ * the allowed algorithms, the user verification and user presence requirements, and optionally a dedicated
+ * {@link WebAuthnManager} configured with the tenant's attestation statement verifiers and trust anchors.
+ */
+public class RelyingPartyContext {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final RelyingPartyProfile relyingPartyProfile;
+    private final List<PublicKeyCredentialParameters> pubKeyCredParams;
+    private final boolean userVerificationRequired;
+    private final boolean userPresenceRequired;
+    private final WebAuthnManager webAuthnManager;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    /**
+     * @param relyingPartyProfile      relying party profile
+     * @param pubKeyCredParams         allowed {@link PublicKeyCredentialParameters}. If all algorithms are allowed, pass null
+     * @param userVerificationRequired true if user verification is required. Otherwise, false
+     * @param userPresenceRequired     true if user presence is required. Otherwise, false
+     * @param webAuthnManager          {@link WebAuthnManager} dedicated to the relying party, or null to use the shared one
+     */
+    public RelyingPartyContext(@NotNull RelyingPartyProfile relyingPartyProfile,
+                               @Nullable List<PublicKeyCredentialParameters> pubKeyCredParams,
+                               boolean userVerificationRequired,
+                               boolean userPresenceRequired,
+                               @Nullable WebAuthnManager webAuthnManager) {
+        AssertUtil.notNull(relyingPartyProfile, "relyingPartyProfile must not be null");
+        this.relyingPartyProfile = relyingPartyProfile;
+        this.pubKeyCredParams = pubKeyCredParams == null ? null : Collections.unmodifiableList(new ArrayList<>(pubKeyCredParams));
+        this.userVerificationRequired = userVerificationRequired;
+        this.userPresenceRequired = userPresenceRequired;
+        this.webAuthnManager = webAuthnManager;
+    }
+
+    /**
+     * @param relyingPartyProfile      relying party profile
+     * @param pubKeyCredParams         allowed {@link PublicKeyCredentialParameters}. If all algorithms are allowed, pass null
+     * @param userVerificationRequired true if user verification is required. Otherwise, false
+     */
+    public RelyingPartyContext(@NotNull RelyingPartyProfile relyingPartyProfile,
+                               @Nullable List<PublicKeyCredentialParameters> pubKeyCredParams,
+                               boolean userVerificationRequired) {
+        this(relyingPartyProfile, pubKeyCredParams, userVerificationRequired, true, null);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Creates request-scoped {@link RegistrationParameters} from this context
+     *
+     * @param challenge challenge
+     * @return the {@link RegistrationParameters}
+     */
+    public @NotNull RegistrationParameters createRegistrationParameters(@Nullable Challenge challenge) {
+        return new RegistrationParameters(relyingPartyProfile.createServerProperty(challenge), pubKeyCredParams, userVerificationRequired, userPresenceRequired);
+    }
+
+    /**
+     * Creates request-scoped {@link AuthenticationParameters} from this context
+     *
+     * @param challenge        challenge
+     * @param credentialRecord credential record
+     * @param allowCredentials allowed credential ids, or null if not restricted
+     * @return the {@link AuthenticationParameters}
+     */
+    public @NotNull AuthenticationParameters createAuthenticationParameters(@Nullable Challenge challenge,
+                                                                            @NotNull CredentialRecord credentialRecord,
+                                                                            @Nullable List<byte[]> allowCredentials) {
+        return new AuthenticationParameters(relyingPartyProfile.createServerProperty(challenge), credentialRecord, allowCredentials, userVerificationRequired, userPresenceRequired);
+    }
+
+    public @NotNull RelyingPartyProfile getRelyingPartyProfile() {
+        return relyingPartyProfile;
+    }
+
+    public @NotNull String getRpId() {
+        return relyingPartyProfile.getRpId();
+    }
+
+    public @NotNull byte[] getRpIdHash() {
+        return relyingPartyProfile.getRpIdHash();
+    }
+
+    public @Nullable List<PublicKeyCredentialParameters> getPubKeyCredParams() {
+        return pubKeyCredParams;
+    }
+
+    public boolean isUserVerificationRequired() {
+        return userVerificationRequired;
+    }
+
+    public boolean isUserPresenceRequired() {
+        return userPresenceRequired;
+    }
+
+    public @Nullable WebAuthnManager getWebAuthnManager() {
+        return webAuthnManager;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RelyingPartyContext that = (RelyingPartyContext) o;
+        return userVerificationRequired == that.userVerificationRequired &&
+                userPresenceRequired == that.userPresenceRequired &&
+                Objects.equals(relyingPartyProfile, that.relyingPartyProfile) &&
+                Objects.equals(pubKeyCredParams, that.pubKeyCredParams) &&
+                Objects.equals(webAuthnManager, that.webAuthnManager);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(relyingPartyProfile, pubKeyCredParams, userVerificationRequired, userPresenceRequired, webAuthnManager);
+    }
+
+    @Override
+    public String toString() {
+        return "RelyingPartyContext(" +
+                "relyingPartyProfile=" + relyingPartyProfile +
+                ", pubKeyCredParams=" + pubKeyCredParams +
+                ", userVerificationRequired=" + userVerificationRequired +
+                ", userPresenceRequired=" + userPresenceRequired +
+                ')';
+    }
+}
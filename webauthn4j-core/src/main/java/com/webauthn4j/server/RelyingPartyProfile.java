@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Reusable, immutable set of relying party properties that don't change per request (origins and rpId).
+ * The rpIdHash is calculated once on construction and shared, together with the origins or the {@link OriginMatcher},
+ * by every {@link ServerProperty} created by {@link #createServerProperty(Challenge)}, so that a request only has to
+ * supply its challenge.
+ */
+public class RelyingPartyProfile {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Set<Origin> origins;
+    private final OriginMatcher originMatcher;
+    private final String rpId;
+    private final byte[] rpIdHash;
+
+    // ~ Constructor
+    // ========================================================================================================
+
+    /**
+     * @param origin origin
+     * @param rpId   rpId
+     */
+    public RelyingPartyProfile(@NotNull Origin origin, @NotNull String rpId) {
+        this(singleton(origin), rpId);
+    }
+
+    /**
+     * @param origins origins
+     * @param rpId    rpId
+     */
+    public RelyingPartyProfile(@NotNull Set<Origin> origins, @NotNull String rpId) {
+        AssertUtil.notNull(origins, "origins must not be null");
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        this.origins = Collections.unmodifiableSet(new HashSet<>(origins));
+        this.originMatcher = null;
+        this.rpId = rpId;
+        this.rpIdHash = CoreServerProperty.calculateRpIdHash(rpId);
+    }
+
+    /**
+     * Creates a profile whose allowed origins are given as {@link OriginMatcher} patterns, like wildcard subdomains.
+     * {@link #getOrigins()} of such a profile is empty.
+     *
+     * @param originMatcher originMatcher
+     * @param rpId          rpId
+     */
+    public RelyingPartyProfile(@NotNull OriginMatcher originMatcher, @NotNull String rpId) {
+        AssertUtil.notNull(originMatcher, "originMatcher must not be null");
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        this.origins = Collections.emptySet();
+        this.originMatcher = originMatcher;
+        this.rpId = rpId;
+        this.rpIdHash = CoreServerProperty.calculateRpIdHash(rpId);
+    }
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Creates a request-scoped {@link ServerProperty} sharing this profile's origins, originMatcher and rpIdHash
+     *
+     * @param challenge challenge
+     * @return the {@link ServerProperty}
+     */
+    public @NotNull ServerProperty createServerProperty(@Nullable Challenge challenge) {
+        return new ServerProperty(origins, originMatcher, rpId, rpIdHash, challenge);
+    }
+
+    public @NotNull Set<Origin> getOrigins() {
+        return origins;
+    }
+
+    public @Nullable OriginMatcher getOriginMatcher() {
+        return originMatcher;
+    }
+
+    public @NotNull String getRpId() {
+        return rpId;
+    }
+
+    public @NotNull byte[] getRpIdHash() {
+        return rpIdHash.clone();
+    }
+
+    private static @NotNull Set<Origin> singleton(@NotNull Origin origin) {
+        AssertUtil.notNull(origin, "origin must not be null");
+        return Collections.singleton(origin);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RelyingPartyProfile that = (RelyingPartyProfile) o;
+        return Objects.equals(origins, that.origins) &&
+                Objects.equals(originMatcher, that.originMatcher) &&
+                Objects.equals(rpId, that.rpId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(origins, originMatcher, rpId);
+    }
+
+    @Override
+    public String toString() {
+        return "RelyingPartyProfile(" +
+                "origins=" + origins +
+                ", originMatcher=" + originMatcher +
+                ", rpId=" + rpId +
+                ')';
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.RegistrationData;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the relying parties (tenants) hosted in a single application.
+ * <p>
+ * Relying parties are registered once as {@link RelyingPartyContext}, and looked up in constant time either by rpId,
+ * or by the rpIdHash found in the authenticator data of a registration or authentication response, so that a request
+ * doesn't have to rebuild its {@link ServerProperty} and verification policy.
+ * Lookups don't block; registration and unregistration may happen concurrently with lookups.
+ */
+public class RelyingPartyRegistry {
+
+    // ~ Instance fields
+    // ================================================================================================
+
+    private final Map<String, RelyingPartyContext> contextsByRpId = new ConcurrentHashMap<>();
+    private final Map<ByteBuffer, RelyingPartyContext> contextsByRpIdHash = new ConcurrentHashMap<>();
+
+    // ~ Methods
+    // ========================================================================================================
+
+    /**
+     * Registers the relying party. A relying party already registered with the same rpId is replaced.
+     *
+     * @param relyingPartyContext relying party context
+     */
+    public synchronized void register(@NotNull RelyingPartyContext relyingPartyContext) {
+        AssertUtil.notNull(relyingPartyContext, "relyingPartyContext must not be null");
+        contextsByRpIdHash.put(ByteBuffer.wrap(relyingPartyContext.getRpIdHash()), relyingPartyContext);
+        contextsByRpId.put(relyingPartyContext.getRpId(), relyingPartyContext);
+    }
+
+    /**
+     * Unregisters the relying party
+     *
+     * @param rpId rpId
+     * @return the unregistered relying party context, or null if it is not registered
+     */
+    public synchronized @Nullable RelyingPartyContext unregister(@NotNull String rpId) {
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        RelyingPartyContext relyingPartyContext = contextsByRpId.remove(rpId);
+        if (relyingPartyContext != null) {
+            contextsByRpIdHash.remove(ByteBuffer.wrap(relyingPartyContext.getRpIdHash()));
+        }
+        return relyingPartyContext;
+    }
+
+    /**
+     * Looks up the relying party by rpId
+     *
+     * @param rpId rpId
+     * @return the relying party context, or null if it is not registered
+     */
+    public @Nullable RelyingPartyContext findByRpId(@NotNull String rpId) {
+        AssertUtil.notNull(rpId, "rpId must not be null");
+        return contextsByRpId.get(rpId);
+    }
+
+    /**
+     * Looks up the relying party by rpIdHash
+     *
+     * @param rpIdHash rpIdHash
+     * @return the relying party context, or null if it is not registered
+     */
+    public @Nullable RelyingPartyContext findByRpIdHash(@NotNull byte[] rpIdHash) {
+        AssertUtil.notNull(rpIdHash, "rpIdHash must not be null");
+        return contextsByRpIdHash.get(ByteBuffer.wrap(rpIdHash));
+    }
+
+    /**
+     * Looks up the relying party by the rpIdHash of the registration response
+     *
+     * @param registrationData registration data
+     * @return the relying party context, or null if it is not registered
+     */
+    public @Nullable RelyingPartyContext find(@NotNull RegistrationData registrationData) {
+        AssertUtil.notNull(registrationData, "registrationData must not be null");
+        if (registrationData.getAttestationObject() == null) {
+            return null;
+        }
+        return find(registrationData.getAttestationObject().getAuthenticatorData());
+    }
+
+    /**
+     * Looks up the relying party by the rpIdHash of the authentication response
+     *
+     * @param authenticationData authentication data
+     * @return the relying party context, or null if it is not registered
+     */
+    public @Nullable RelyingPartyContext find(@NotNull AuthenticationData authenticationData) {
+        AssertUtil.notNull(authenticationData, "authenticationData must not be null");
+        return find(authenticationData.getAuthenticatorData());
+    }
+
+    public @NotNull Collection<RelyingPartyContext> getRelyingPartyContexts() {
+        return Collections.unmodifiableCollection(contextsByRpId.values());
+    }
+
+    private @Nullable RelyingPartyContext find(@Nullable AuthenticatorData<?> authenticatorData) {
+        if (authenticatorData == null) {
+            return null;
+        }
+        return contextsByRpIdHash.get(ByteBuffer.wrap(authenticatorData.getRpIdHash()));
+    }
+}
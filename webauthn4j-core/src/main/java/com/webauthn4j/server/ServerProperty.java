@@ -37,6 +37,7 @@ public class ServerProperty extends CoreServerProperty {
     // ================================================================================================
 
     private final Set<Origin> origins;
+    private final OriginMatcher originMatcher;
     private final byte[] tokenBindingId;
 
     // ~ Constructor
@@ -54,6 +55,7 @@ public class ServerProperty extends CoreServerProperty {
         super(rpId, challenge);
         AssertUtil.notNull(origin, "origin must not be null");
         this.origins = Collections.singleton(origin);
+        this.originMatcher = null;
         this.tokenBindingId = tokenBindingId;
     }
 
@@ -69,6 +71,7 @@ public class ServerProperty extends CoreServerProperty {
         super(rpId, challenge);
         AssertUtil.notNull(origins, "origins must not be null");
         this.origins = Collections.unmodifiableSet(origins);
+        this.originMatcher = null;
         this.tokenBindingId = tokenBindingId;
     }
 
@@ -90,6 +93,26 @@ public class ServerProperty extends CoreServerProperty {
         this(origins, rpId, challenge, null);
     }
 
+    /**
+     * @param originMatcher  originMatcher which decides the allowed origins
+     * @param rpId           rpId
+     * @param challenge      challenge
+     */
+    public ServerProperty(@NotNull OriginMatcher originMatcher, @NotNull String rpId, @Nullable Challenge challenge) {
+        super(rpId, challenge);
+        AssertUtil.notNull(originMatcher, "originMatcher must not be null");
+        this.origins = Collections.emptySet();
+        this.originMatcher = originMatcher;
+        this.tokenBindingId = null;
+    }
+
+    ServerProperty(@NotNull Set<Origin> origins, @Nullable OriginMatcher originMatcher, @NotNull String rpId, @NotNull byte[] rpIdHash, @Nullable Challenge challenge) {
+        super(rpId, rpIdHash, challenge);
+        this.origins = origins;
+        this.originMatcher = originMatcher;
+        this.tokenBindingId = null;
+    }
+
     // ~ Methods
     // ========================================================================================================
 
@@ -97,6 +120,15 @@ public class ServerProperty extends CoreServerProperty {
         return this.origins;
     }
 
+    /**
+     * Returns the precompiled {@link OriginMatcher} if the allowed origins are decided by it instead of {@link #getOrigins()}
+     *
+     * @return the originMatcher
+     */
+    public @Nullable OriginMatcher getOriginMatcher() {
+        return originMatcher;
+    }
+
     /**
      * Returns the tokenBindingId
      *
@@ -116,12 +148,13 @@ public class ServerProperty extends CoreServerProperty {
         ServerProperty that = (ServerProperty) o;
 
         return Objects.equals(origins, that.origins) &&
+                Objects.equals(originMatcher, that.originMatcher) &&
                 Arrays.equals(tokenBindingId, that.tokenBindingId);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(super.hashCode(), origins);
+        int result = Objects.hash(super.hashCode(), origins, originMatcher);
         result = 31 * result + Arrays.hashCode(tokenBindingId);
         return result;
     }
@@ -132,6 +165,7 @@ public class ServerProperty extends CoreServerProperty {
                 "rpId=" + getRpId() +
                 ", challenge=" + getChallenge() +
                 ", origins=" + origins +
+                ", originMatcher=" + originMatcher +
                 ", tokenBindingId=" + ArrayUtil.toHexString(tokenBindingId) +
                 '}';
     }
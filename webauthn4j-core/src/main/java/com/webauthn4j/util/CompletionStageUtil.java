@@ -2,6 +2,7 @@ package com.webauthn4j.util;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 public class CompletionStageUtil {
@@ -25,5 +26,52 @@ public class CompletionStageUtil {
         }
     }
 
+    /**
+     * Runs the supplier on the executor. Unlike {@link CompletableFuture#supplyAsync(Supplier, Executor)}, an exception
+     * thrown by the supplier completes the returned stage as is, without wrapping it in a {@link java.util.concurrent.CompletionException}.
+     *
+     * @param supplier supplier
+     * @param executor executor to run the supplier on
+     * @param <U> result type
+     * @return completion stage of the supplier result
+     */
+    public static <U> CompletionStage<U> supply(Supplier<U> supplier, Executor executor) {
+        return compose(() -> supply(supplier), executor);
+    }
+
+    /**
+     * Runs the supplier on the executor and completes the returned stage with the stage the supplier returns.
+     *
+     * @param supplier supplier
+     * @param executor executor to run the supplier on
+     * @param <U> result type
+     * @return completion stage of the supplier result
+     */
+    @SuppressWarnings("squid:S1181")
+    public static <U> CompletionStage<U> compose(Supplier<CompletionStage<U>> supplier, Executor executor) {
+        CompletableFuture<U> future = new CompletableFuture<>();
+        try{
+            executor.execute(() -> {
+                try{
+                    supplier.get().whenComplete((result, throwable) -> {
+                        if (throwable == null) {
+                            future.complete(result);
+                        }
+                        else {
+                            future.completeExceptionally(throwable);
+                        }
+                    });
+                }
+                catch (Throwable e){
+                    future.completeExceptionally(e);
+                }
+            });
+        }
+        catch (RuntimeException e){
+            // RejectedExecutionException
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 
 }
@@ -20,30 +20,31 @@ import org.jetbrains.annotations.NotNull;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Utility class for MessageDigest
  */
 public class MessageDigestUtil {
 
+    // Untouched prototype instances per algorithm. Cloning a prototype is much cheaper than the provider lookup
+    // done by MessageDigest.getInstance, and prototypes are never updated, so concurrent cloning is safe.
+    private static final Map<String, MessageDigest> prototypes = new ConcurrentHashMap<>();
 
     private MessageDigestUtil() {
     }
 
     public static @NotNull MessageDigest createMessageDigest(@NotNull String hashAlgorithm) {
-        try {
-            switch (hashAlgorithm) {
-                case "S256":
-                    return MessageDigest.getInstance("SHA-256");
-                case "S384":
-                    return MessageDigest.getInstance("SHA-384");
-                case "S512":
-                    return MessageDigest.getInstance("SHA-512");
-                default:
-                    return MessageDigest.getInstance(hashAlgorithm);
-            }
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalArgumentException(e);
+        switch (hashAlgorithm) {
+            case "S256":
+                return getInstance("SHA-256");
+            case "S384":
+                return getInstance("SHA-384");
+            case "S512":
+                return getInstance("SHA-512");
+            default:
+                return getInstance(hashAlgorithm);
         }
     }
 
@@ -51,4 +52,21 @@ public class MessageDigestUtil {
         return createMessageDigest("SHA-256");
     }
 
+    private static @NotNull MessageDigest getInstance(@NotNull String jcaName) {
+        MessageDigest prototype = prototypes.computeIfAbsent(jcaName, MessageDigestUtil::lookup);
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return lookup(jcaName);
+        }
+    }
+
+    private static @NotNull MessageDigest lookup(@NotNull String jcaName) {
+        try {
+            return MessageDigest.getInstance(jcaName);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
 }
@@ -20,17 +20,24 @@ import com.webauthn4j.data.MessageDigestAlgorithm;
 import com.webauthn4j.data.SignatureAlgorithm;
 import org.jetbrains.annotations.NotNull;
 
-import java.security.InvalidAlgorithmParameterException;
-import java.security.NoSuchAlgorithmException;
-import java.security.Signature;
+import java.security.*;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Utility class for signature calculation
  */
 public class SignatureUtil {
 
+    // Signature.getInstance(String) walks the installed provider list and, for keys it cannot resolve up front, defers
+    // the choice until initVerify. The provider that finally accepted a key is remembered per algorithm and key class,
+    // so that subsequent verifications bind to it directly. Providers are cached instead of initialized engines so that
+    // no public key is kept reachable from an idle engine.
+    private static final Map<ProviderKey, Provider> verifierProviders = new ConcurrentHashMap<>();
+
     private SignatureUtil() {
     }
 
@@ -47,24 +54,52 @@ public class SignatureUtil {
         AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
         try {
             Signature signature = Signature.getInstance(algorithm.getJcaName());
-            if(SignatureAlgorithm.PS256.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA256.getJcaName(), "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
-                signature.setParameter(pssSpec);
-            }
-            else if(SignatureAlgorithm.PS384.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA384.getJcaName(), "MGF1", MGF1ParameterSpec.SHA384, 48, 1);
-                signature.setParameter(pssSpec);
-            }
-            else if(SignatureAlgorithm.PS512.equals(algorithm)) {
-                PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA512.getJcaName(), "MGF1", MGF1ParameterSpec.SHA512, 64, 1);
-                signature.setParameter(pssSpec);
-            }
+            setParameter(signature, algorithm);
             return signature;
         } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException e) {
             throw new IllegalArgumentException(e);
         }
     }
 
+    /**
+     * Verifies the signature over the concatenation of the given data chunks with a {@link Signature} engine bound to the provider that previously
+     * accepted a key of the same class.
+     *
+     * @param algorithm signature algorithm
+     * @param publicKey public key
+     * @param signature signature to verify
+     * @param data      signed data chunks, fed to the engine in order
+     * @return true if the signature is valid
+     * @throws InvalidKeyException if the public key is invalid for the algorithm
+     * @throws SignatureException  if the signature engine cannot process the signature
+     */
+    public static boolean verify(@NotNull SignatureAlgorithm algorithm, @NotNull PublicKey publicKey, @NotNull byte[] signature, @NotNull byte[]... data) throws InvalidKeyException, SignatureException {
+        AssertUtil.notNull(algorithm, "algorithm is required; it must not be null");
+        AssertUtil.notNull(publicKey, "publicKey is required; it must not be null");
+        ProviderKey providerKey = new ProviderKey(algorithm, publicKey.getClass());
+        Provider provider = verifierProviders.get(providerKey);
+        Signature verifier = null;
+        if (provider != null) {
+            try {
+                verifier = Signature.getInstance(algorithm.getJcaName(), provider);
+                setParameter(verifier, algorithm);
+                verifier.initVerify(publicKey);
+            } catch (NoSuchAlgorithmException | InvalidAlgorithmParameterException | InvalidKeyException e) {
+                // the remembered provider no longer accepts this key; fall back to the regular provider selection
+                verifier = null;
+            }
+        }
+        if (verifier == null) {
+            verifier = createSignature(algorithm);
+            verifier.initVerify(publicKey);
+            verifierProviders.put(providerKey, verifier.getProvider());
+        }
+        for (byte[] chunk : data) {
+            verifier.update(chunk);
+        }
+        return verifier.verify(signature);
+    }
+
     /**
      * @param algorithm signature algorithm
      * @return signature algorithm
@@ -80,4 +115,43 @@ public class SignatureUtil {
         }
     }
 
+    private static void setParameter(@NotNull Signature signature, @NotNull SignatureAlgorithm algorithm) throws InvalidAlgorithmParameterException {
+        if (SignatureAlgorithm.PS256.equals(algorithm)) {
+            PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA256.getJcaName(), "MGF1", MGF1ParameterSpec.SHA256, 32, 1);
+            signature.setParameter(pssSpec);
+        }
+        else if (SignatureAlgorithm.PS384.equals(algorithm)) {
+            PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA384.getJcaName(), "MGF1", MGF1ParameterSpec.SHA384, 48, 1);
+            signature.setParameter(pssSpec);
+        }
+        else if (SignatureAlgorithm.PS512.equals(algorithm)) {
+            PSSParameterSpec pssSpec = new PSSParameterSpec(MessageDigestAlgorithm.SHA512.getJcaName(), "MGF1", MGF1ParameterSpec.SHA512, 64, 1);
+            signature.setParameter(pssSpec);
+        }
+    }
+
+    private static class ProviderKey {
+
+        private final SignatureAlgorithm algorithm;
+        private final Class<?> keyClass;
+
+        ProviderKey(@NotNull SignatureAlgorithm algorithm, @NotNull Class<?> keyClass) {
+            this.algorithm = algorithm;
+            this.keyClass = keyClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ProviderKey that = (ProviderKey) o;
+            return algorithm.equals(that.algorithm) && keyClass.equals(that.keyClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(algorithm, keyClass);
+        }
+    }
+
 }
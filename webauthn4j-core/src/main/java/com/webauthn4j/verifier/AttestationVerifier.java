@@ -29,9 +29,13 @@ import com.webauthn4j.verifier.attestation.trustworthiness.self.SelfAttestationT
 import com.webauthn4j.verifier.exception.BadAaguidException;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Verifies the attestation
@@ -48,6 +52,8 @@ class AttestationVerifier {
     private final CertPathTrustworthinessVerifier certPathTrustworthinessVerifier;
     private final SelfAttestationTrustworthinessVerifier selfAttestationTrustworthinessVerifier;
 
+    private Executor parallelVerificationExecutor;
+
     // ~ Constructor
     // ========================================================================================================
 
@@ -80,9 +86,20 @@ class AttestationVerifier {
         //spec| Verify that attStmt is a correct attestation statement, conveying a valid attestation signature,
         //spec| by using the attestation statement format fmt’s verification procedure given attStmt, authData and hash.
 
-        AttestationType attestationType = verifyAttestationStatement(registrationObject);
-
-        verifyAAGUID(attestationObject);
+        // In parallel mode, the certificate path trustworthiness is assessed on the executor while the attestation
+        // statement is verified. Its outcome is only used if the statement turns out to be a BASIC or ATT_CA attestation.
+        CompletableFuture<Void> certPathTrustworthinessVerification = startCertPathTrustworthinessVerification(registrationObject);
+        AttestationType attestationType;
+        try {
+            attestationType = verifyAttestationStatement(registrationObject);
+            verifyAAGUID(attestationObject);
+        }
+        catch (RuntimeException e) {
+            if (certPathTrustworthinessVerification != null) {
+                certPathTrustworthinessVerification.cancel(false);
+            }
+            throw e;
+        }
 
         //spec| Step23
         //spec| If validation is successful, obtain a list of acceptable trust anchors (i.e. attestation root certificates)
@@ -116,9 +133,14 @@ class AttestationVerifier {
                 if (attestationStatement instanceof CertificateBaseAttestationStatement) {
                     CertificateBaseAttestationStatement certificateBaseAttestationStatement =
                             (CertificateBaseAttestationStatement) attestationStatement;
-                    //noinspection ConstantConditions as null check is already done in caller
-                    AAGUID aaguid = attestationObject.getAuthenticatorData().getAttestedCredentialData().getAaguid();
-                    certPathTrustworthinessVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp());
+                    if (certPathTrustworthinessVerification != null) {
+                        join(certPathTrustworthinessVerification);
+                    }
+                    else {
+                        //noinspection ConstantConditions as null check is already done in caller
+                        AAGUID aaguid = attestationObject.getAuthenticatorData().getAttestedCredentialData().getAaguid();
+                        certPathTrustworthinessVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp());
+                    }
                 }
                 else {
                     throw new IllegalStateException();
@@ -131,6 +153,55 @@ class AttestationVerifier {
                 throw new IllegalStateException();
         }
 
+        if (certPathTrustworthinessVerification != null) {
+            // not BASIC nor ATT_CA, the speculative assessment is not needed
+            certPathTrustworthinessVerification.cancel(false);
+        }
+    }
+
+    private @Nullable CompletableFuture<Void> startCertPathTrustworthinessVerification(@NotNull CoreRegistrationObject registrationObject) {
+        if (parallelVerificationExecutor == null) {
+            return null;
+        }
+        AttestationObject attestationObject = registrationObject.getAttestationObject();
+        AttestationStatement attestationStatement = attestationObject.getAttestationStatement();
+        if (!(attestationStatement instanceof CertificateBaseAttestationStatement)) {
+            return null;
+        }
+        CertificateBaseAttestationStatement certificateBaseAttestationStatement = (CertificateBaseAttestationStatement) attestationStatement;
+        // without x5c, the attestation is self attestation and there is no certificate path to assess
+        if (certificateBaseAttestationStatement.getX5c() == null || certificateBaseAttestationStatement.getX5c().isEmpty()) {
+            return null;
+        }
+        //noinspection ConstantConditions as null check is already done in caller
+        AAGUID aaguid = attestationObject.getAuthenticatorData().getAttestedCredentialData().getAaguid();
+        return CompletableFuture.runAsync(
+                () -> certPathTrustworthinessVerifier.verify(aaguid, certificateBaseAttestationStatement, registrationObject.getTimestamp()),
+                parallelVerificationExecutor);
+    }
+
+    private static void join(@NotNull CompletableFuture<Void> future) {
+        try {
+            future.join();
+        }
+        catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    @Nullable Executor getParallelVerificationExecutor() {
+        return parallelVerificationExecutor;
+    }
+
+    void setParallelVerificationExecutor(@Nullable Executor parallelVerificationExecutor) {
+        this.parallelVerificationExecutor = parallelVerificationExecutor;
     }
 
     void verifyAAGUID(@NotNull AttestationObject attestationObject) {
@@ -33,6 +33,7 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -323,4 +324,12 @@ public class AuthenticationDataVerifier {
     public void setCrossOriginAllowed(boolean crossOriginAllowed) {
         this.crossOriginAllowed = crossOriginAllowed;
     }
+
+    public @Nullable CredentialPublicKeyCache getCredentialPublicKeyCache() {
+        return assertionSignatureVerifier.getCredentialPublicKeyCache();
+    }
+
+    public void setCredentialPublicKeyCache(@Nullable CredentialPublicKeyCache credentialPublicKeyCache) {
+        assertionSignatureVerifier.setCredentialPublicKeyCache(credentialPublicKeyCache);
+    }
 }
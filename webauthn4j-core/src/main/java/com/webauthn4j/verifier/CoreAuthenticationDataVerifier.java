@@ -269,4 +269,12 @@ public class CoreAuthenticationDataVerifier {
     public @NotNull List<CustomCoreAuthenticationVerifier> getCustomAuthenticationVerifiers() {
         return customAuthenticationVerifiers;
     }
+
+    public @Nullable CredentialPublicKeyCache getCredentialPublicKeyCache() {
+        return assertionSignatureVerifier.getCredentialPublicKeyCache();
+    }
+
+    public void setCredentialPublicKeyCache(@Nullable CredentialPublicKeyCache credentialPublicKeyCache) {
+        assertionSignatureVerifier.setCredentialPublicKeyCache(credentialPublicKeyCache);
+    }
 }
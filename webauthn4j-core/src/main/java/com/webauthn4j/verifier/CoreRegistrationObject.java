@@ -16,13 +16,13 @@
 
 package com.webauthn4j.verifier;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
-import com.webauthn4j.converter.jackson.JacksonUtil;
+import com.webauthn4j.converter.AttestationObjectSpan;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.server.CoreServerProperty;
 import com.webauthn4j.util.ArrayUtil;
 import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.verifier.internal.SignedData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,14 +32,15 @@ import java.util.Objects;
 
 public class CoreRegistrationObject {
 
-    private static final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
-
     private final AttestationObject attestationObject;
     private final byte[] attestationObjectBytes;
     private final byte[] clientDataHash;
     private final CoreServerProperty serverProperty;
     private final Instant timestamp;
 
+    // lazily extracted from attestationObjectBytes, at most once per registration
+    private volatile byte[] authenticatorDataBytes;
+
     public CoreRegistrationObject(
             @NotNull AttestationObject attestationObject,
             @NotNull byte[] attestationObjectBytes,
@@ -69,8 +70,16 @@ public class CoreRegistrationObject {
         this(attestationObject, attestationObjectBytes, clientDataHash, serverProperty, Instant.now());
     }
 
-    private static @NotNull byte[] extractAuthenticatorData(@NotNull byte[] attestationObject) {
-        return JacksonUtil.binaryValue(JacksonUtil.readTree(cborMapper, attestationObject).get("authData"));
+    private @NotNull byte[] extractAuthenticatorData() {
+        byte[] value = authenticatorDataBytes;
+        if (value == null) {
+            value = AttestationObjectSpan.of(attestationObjectBytes).getAuthenticatorData();
+            if (value == null) {
+                throw new DataConversionException("attestationObject doesn't contain authData");
+            }
+            authenticatorDataBytes = value;
+        }
+        return value;
     }
 
     public @NotNull AttestationObject getAttestationObject() {
@@ -82,13 +91,22 @@ public class CoreRegistrationObject {
     }
 
     public @NotNull byte[] getAuthenticatorDataBytes() {
-        return extractAuthenticatorData(attestationObjectBytes);
+        return ArrayUtil.clone(extractAuthenticatorData());
     }
 
     public @NotNull byte[] getClientDataHash() {
         return clientDataHash;
     }
 
+    /**
+     * Returns the data signed by the attestation statement, the concatenation of the authenticator data bytes and the client data hash.
+     *
+     * @return the signed data
+     */
+    public @NotNull SignedData getSignedData() {
+        return SignedData.of(extractAuthenticatorData(), clientDataHash);
+    }
+
     public @NotNull CoreServerProperty getServerProperty() {
         return serverProperty;
     }
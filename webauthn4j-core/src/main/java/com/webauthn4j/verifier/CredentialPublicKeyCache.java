@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier;
+
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.util.AssertUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded LRU cache of decoded credential public keys, keyed by credential ID.
+ * <p>
+ * {@link COSEKey} memoizes its decoded public key per instance, but applications that rehydrate the credential record
+ * from storage on each request get a new {@link COSEKey} instance every time. This cache lets such applications skip
+ * the KeyFactory cost on the authentication hot path. A cached entry is only used when the presented {@link COSEKey}
+ * equals the one the entry was created from, so a changed key for the same credential ID is never served stale.
+ */
+public class CredentialPublicKeyCache {
+
+    private final int maxSize;
+    private final Map<ByteBuffer, Entry> entries;
+
+    public CredentialPublicKeyCache(int maxSize) {
+        AssertUtil.isTrue(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<ByteBuffer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                return size() > CredentialPublicKeyCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the decoded public key for the credential, decoding and caching it if not cached yet.
+     *
+     * @param credentialId credential ID
+     * @param coseKey      credential public key
+     * @return decoded public key, or null if the coseKey doesn't contain public key parameters
+     */
+    public @Nullable PublicKey get(@NotNull byte[] credentialId, @NotNull COSEKey coseKey) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        AssertUtil.notNull(coseKey, "coseKey must not be null");
+
+        ByteBuffer key = ByteBuffer.wrap(credentialId.clone());
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && Objects.equals(entry.coseKey, coseKey)) {
+            return entry.publicKey;
+        }
+        PublicKey publicKey = coseKey.getPublicKey();
+        if (publicKey != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry(coseKey, publicKey));
+            }
+        }
+        return publicKey;
+    }
+
+    public void invalidate(@NotNull byte[] credentialId) {
+        AssertUtil.notNull(credentialId, "credentialId must not be null");
+        synchronized (entries) {
+            entries.remove(ByteBuffer.wrap(credentialId));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private static class Entry {
+
+        private final COSEKey coseKey;
+        private final PublicKey publicKey;
+
+        Entry(COSEKey coseKey, PublicKey publicKey) {
+            this.coseKey = coseKey;
+            this.publicKey = publicKey;
+        }
+    }
+}
@@ -17,7 +17,7 @@
 package com.webauthn4j.verifier;
 
 import com.webauthn4j.data.client.CollectedClientData;
-import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.server.OriginMatcher;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.util.AssertUtil;
 import com.webauthn4j.verifier.exception.BadOriginException;
@@ -52,10 +52,22 @@ public class OriginVerifierImpl implements OriginVerifier {
         AssertUtil.notNull(collectedClientData, "collectedClientData must not be null");
         AssertUtil.notNull(serverProperty, "serverProperty must not be null");
 
-        final Origin clientOrigin = collectedClientData.getOrigin();
-        if (!serverProperty.getOrigins().contains(clientOrigin)) {
+        final String clientOrigin = collectedClientData.getRawOrigin();
+        final OriginMatcher originMatcher = serverProperty.getOriginMatcher();
+        // the matcher works on the serialized origin, so that the URI-backed Origin is only parsed for a set of origins
+        boolean matched = originMatcher == null ? containsOrigin(serverProperty, collectedClientData) : originMatcher.matches(clientOrigin);
+        if (!matched) {
             throw new BadOriginException("The collectedClientData '" + clientOrigin + "' origin doesn't match any of the preconfigured server origin.");
         }
     }
 
+    private boolean containsOrigin(@NotNull ServerProperty serverProperty, @NotNull CollectedClientData collectedClientData) {
+        try {
+            return serverProperty.getOrigins().contains(collectedClientData.getOrigin());
+        } catch (IllegalArgumentException e) {
+            // not a valid URI
+            return false;
+        }
+    }
+
 }
@@ -39,10 +39,12 @@ import com.webauthn4j.verifier.exception.ConstraintViolationException;
 import com.webauthn4j.verifier.exception.InconsistentClientDataTypeException;
 import com.webauthn4j.verifier.internal.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 public class RegistrationDataVerifier {
 
@@ -283,4 +285,18 @@ public class RegistrationDataVerifier {
         return customRegistrationVerifiers;
     }
 
+    public @Nullable Executor getParallelVerificationExecutor() {
+        return attestationVerifier.getParallelVerificationExecutor();
+    }
+
+    /**
+     * Enables the parallel verification mode. When an executor is set, the certificate path trustworthiness of
+     * BASIC and ATT_CA attestations is assessed on the executor while the attestation statement is verified on the calling thread.
+     *
+     * @param parallelVerificationExecutor executor, or null to verify sequentially
+     */
+    public void setParallelVerificationExecutor(@Nullable Executor parallelVerificationExecutor) {
+        attestationVerifier.setParallelVerificationExecutor(parallelVerificationExecutor);
+    }
+
 }
@@ -27,10 +27,10 @@ import com.webauthn4j.util.MessageDigestUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
+import com.webauthn4j.verifier.internal.SignedData;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -74,8 +74,7 @@ public class AndroidSafetyNetAttestationStatementVerifier extends AbstractStatem
         /// Verify that the nonce in the response is identical to the Base64url encoding of the SHA-256 hash of the concatenation of authenticatorData and clientDataHash.
         Response response = attestationStatement.getResponse().getPayload();
         String nonce = response.getNonce();
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        verifyNonce(nonce, authenticatorData, registrationObject.getClientDataHash());
+        verifyNonce(nonce, registrationObject.getSignedData());
 
         /// Let attestationCert be the attestation certificate.
         /// Verify that attestationCert is issued to the hostname "attest.android.com" (see SafetyNet online documentation).
@@ -155,13 +154,11 @@ public class AndroidSafetyNetAttestationStatementVerifier extends AbstractStatem
         }
     }
 
-    private void verifyNonce(@Nullable String nonce, @NotNull byte[] authenticatorData, @NotNull byte[] clientDataHash) {
+    private void verifyNonce(@Nullable String nonce, @NotNull SignedData signedData) {
         if (nonce == null) {
             throw new BadAttestationStatementException("Nonce in the Android safetynet response is null.");
         }
-        ByteBuffer buffer = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length);
-        byte[] data = buffer.put(authenticatorData).put(clientDataHash).array();
-        byte[] hash = MessageDigestUtil.createSHA256().digest(data);
+        byte[] hash = signedData.digest(MessageDigestUtil.createSHA256());
         // As nonce is known data to client side(potential attacker) because it is calculated from parts of a message,
         // there is no need to prevent timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual` here.
         if (!Arrays.equals(hash, Base64Util.decode(nonce))) {
@@ -28,7 +28,6 @@ import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteBuffer;
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
@@ -76,10 +75,7 @@ public class AppleAnonymousAttestationStatementVerifier extends AbstractStatemen
     }
 
     private @NotNull byte[] getNonce(@NotNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        byte[] nonceToHash = ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-        return MessageDigestUtil.createSHA256().digest(nonceToHash);
+        return registrationObject.getSignedData().digest(MessageDigestUtil.createSHA256());
     }
 
     private void verifyPublicKey(@NotNull CoreRegistrationObject registrationObject, @NotNull AppleAnonymousAttestationStatement attestationStatement) {
@@ -24,19 +24,18 @@ import com.webauthn4j.data.attestation.statement.AttestationType;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.attestation.statement.PackedAttestationStatement;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.SignatureUtil;
 import com.webauthn4j.util.UUIDUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAlgorithmException;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
 import com.webauthn4j.verifier.exception.BadSignatureException;
+import com.webauthn4j.verifier.internal.SignedData;
 import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.ByteBuffer;
 import java.security.*;
 import java.security.cert.X509Certificate;
 import java.security.spec.MGF1ParameterSpec;
@@ -63,7 +62,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
         verifyAttestationStatementNotNull(attestationStatement);
         byte[] sig = attestationStatement.getSig();
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
-        byte[] attrToBeSigned = getAttToBeSigned(registrationObject);
+        SignedData attrToBeSigned = registrationObject.getSignedData();
         // If x5c is present,
         if (attestationStatement.getX5c() != null) {
             return verifyX5c(registrationObject, attestationStatement, sig, alg, attrToBeSigned);
@@ -82,7 +81,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifyX5c(@NotNull CoreRegistrationObject registrationObject, @NotNull PackedAttestationStatement attestationStatement, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull SignedData attrToBeSigned) {
         if (attestationStatement.getX5c() == null || attestationStatement.getX5c().isEmpty()) {
             throw new BadAttestationStatementException("No attestation certificate is found in packed attestation statement.");
         }
@@ -124,7 +123,7 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("SameReturnValue")
-    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull byte[] attrToBeSigned) {
+    private @NotNull AttestationType verifySelfAttestation(@NotNull CoreRegistrationObject registrationObject, @NotNull byte[] sig, @NotNull COSEAlgorithmIdentifier alg, @NotNull SignedData attrToBeSigned) {
         //noinspection ConstantConditions as null check is already done in caller
         COSEKey coseKey = registrationObject.getAttestationObject().getAuthenticatorData().getAttestedCredentialData().getCOSEKey();
         // Verify that alg matches the algorithm of the coseKey in authenticatorData.
@@ -142,23 +141,13 @@ public class PackedAttestationStatementVerifier extends AbstractStatementVerifie
     }
 
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
-    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull byte[] data) {
+    private boolean verifySignature(@NotNull PublicKey publicKey, @NotNull COSEAlgorithmIdentifier algorithmIdentifier, @NotNull byte[] signature, @NotNull SignedData data) {
         try {
-            Signature verifier = SignatureUtil.createSignature(algorithmIdentifier.toSignatureAlgorithm());
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-
-            return verifier.verify(signature);
+            return data.verify(algorithmIdentifier.toSignatureAlgorithm(), publicKey, signature);
         } catch (SignatureException | InvalidKeyException | RuntimeException e) {
             logger.debug("Signature verification failed.", e);
             return false;
         }
     }
 
-    private @NotNull byte[] getAttToBeSigned(@NotNull CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-    }
-
 }
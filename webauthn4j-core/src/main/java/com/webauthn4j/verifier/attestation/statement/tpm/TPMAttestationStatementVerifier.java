@@ -16,7 +16,6 @@
 
 package com.webauthn4j.verifier.attestation.statement.tpm;
 
-import com.webauthn4j.data.MessageDigestAlgorithm;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
 import com.webauthn4j.data.attestation.statement.*;
@@ -28,13 +27,12 @@ import com.webauthn4j.util.UnsignedNumberUtil;
 import com.webauthn4j.verifier.CoreRegistrationObject;
 import com.webauthn4j.verifier.attestation.statement.AbstractStatementVerifier;
 import com.webauthn4j.verifier.exception.BadAttestationStatementException;
+import com.webauthn4j.verifier.internal.SignedData;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.security.InvalidKeyException;
 import java.security.PublicKey;
-import java.security.Signature;
 import java.security.SignatureException;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
@@ -76,7 +74,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         verifyPublicKeyEquality(pubArea, authenticatorData);
 
         /// Concatenate authenticatorData and clientDataHash to form attToBeSigned.
-        byte[] attToBeSigned = getAttToBeSigned(registrationObject);
+        SignedData attToBeSigned = registrationObject.getSignedData();
 
         /// Verify that certInfo is valid:
 
@@ -92,7 +90,7 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
 
         /// Verify that extraData is set to the hash of attToBeSigned using the hash algorithm employed in "alg".
         COSEAlgorithmIdentifier alg = attestationStatement.getAlg();
-        byte[] hash = calcMessageDigest(attToBeSigned, alg.toSignatureAlgorithm().getMessageDigestAlgorithm());
+        byte[] hash = attToBeSigned.digest(alg.toSignatureAlgorithm().getMessageDigestAlgorithm().createMessageDigestObject());
         // As hash is public data(not secret data) to client side, there is no risk of timing attack and it is OK to use `Arrays.equals` instead of `MessageDigest.isEqual`
         if (!Arrays.equals(certInfo.getExtraData(), hash)) {
             throw new BadAttestationStatementException("extraData must be equals to the hash of attToBeSigned");
@@ -145,23 +143,13 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         }
     }
 
-    /**
-     * Calculate message digest. If alg is null, original data is returned.
-     */
-    private byte[] calcMessageDigest(byte[] data, MessageDigestAlgorithm alg) {
-        return alg.createMessageDigestObject().digest(data);
-    }
-
     private void verifyX5c(TPMAttestationStatement attestationStatement, TPMSAttest certInfo, AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData) {
         //noinspection ConstantConditions as null check is already done in verifyTPMAttestationStatementNull
         X509Certificate aikCert = attestationStatement.getX5c().getEndEntityAttestationCertificate().getCertificate();
 
         /// Verify the sig is a valid signature over certInfo using the attestation public key in aikCert with the algorithm specified in alg.
-        Signature certInfoSignature = SignatureUtil.createSignature(attestationStatement.getAlg().toSignatureAlgorithm());
         try {
-            certInfoSignature.initVerify(aikCert.getPublicKey());
-            certInfoSignature.update(certInfo.getBytes());
-            if (!certInfoSignature.verify(attestationStatement.getSig())) {
+            if (!SignatureUtil.verify(attestationStatement.getAlg().toSignatureAlgorithm(), aikCert.getPublicKey(), attestationStatement.getSig(), certInfo.getBytes())) {
                 throw new BadAttestationStatementException("hash of certInfo doesn't match with sig.");
             }
         } catch (SignatureException | InvalidKeyException e) {
@@ -295,11 +283,6 @@ public class TPMAttestationStatementVerifier extends AbstractStatementVerifier<T
         throw new BadAttestationStatementException("The Subject Alternative Name extension of attestation certificate does not contain a TPM device property");
     }
 
-    private byte[] getAttToBeSigned(CoreRegistrationObject registrationObject) {
-        byte[] authenticatorData = registrationObject.getAuthenticatorDataBytes();
-        byte[] clientDataHash = registrationObject.getClientDataHash();
-        return ByteBuffer.allocate(authenticatorData.length + clientDataHash.length).put(authenticatorData).put(clientDataHash).array();
-    }
 
 
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.cert.CertPath;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of successful certificate path validations.
+ * <p>
+ * Entries are keyed by the SHA-256 fingerprint of the certificate chain, the identity of the trust anchor set and the
+ * validation options. A cached validation is only reused for a validation timestamp within the validity period of
+ * every certificate of the chain and of the trust anchor, so an entry never outlives a certificate's notAfter.
+ * Failed validations are not cached.
+ * <p>
+ * As the trust anchor set is compared by identity, the cache only hits when the {@link com.webauthn4j.anchor.TrustAnchorRepository}
+ * returns the same set instance for repeated lookups, which is the case for the metadata BLOB based repositories until
+ * the BLOB is refreshed.
+ */
+public class CertPathValidationCache {
+
+    private final int maxSize;
+    private final Map<Key, Entry> entries;
+
+    public CertPathValidationCache(int maxSize) {
+        AssertUtil.isTrue(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > CertPathValidationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the trust anchor of a cached successful validation, or runs the validator and caches its result.
+     *
+     * @param certPath                 certificate path to validate
+     * @param trustAnchors             trust anchors used for the validation
+     * @param policyQualifiersRejected policyQualifiersRejected option of the validation
+     * @param timestamp                validation timestamp
+     * @param validator                performs the validation and returns the trust anchor, or throws if the validation fails
+     * @return trust anchor the path was validated against
+     */
+    public @NotNull TrustAnchor validate(@NotNull CertPath certPath, @NotNull Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected,
+                                         @NotNull Instant timestamp, @NotNull Supplier<TrustAnchor> validator) {
+        AssertUtil.notNull(certPath, "certPath must not be null");
+        AssertUtil.notNull(trustAnchors, "trustAnchors must not be null");
+        AssertUtil.notNull(timestamp, "timestamp must not be null");
+        AssertUtil.notNull(validator, "validator must not be null");
+
+        byte[] fingerprint = calculateFingerprint(certPath);
+        if (fingerprint == null) {
+            return validator.get();
+        }
+        Key key = new Key(fingerprint, trustAnchors, policyQualifiersRejected);
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.isValidAt(timestamp)) {
+            return entry.trustAnchor;
+        }
+
+        TrustAnchor trustAnchor = validator.get();
+        Entry newEntry = createEntry(certPath, trustAnchor);
+        if (newEntry != null) {
+            synchronized (entries) {
+                entries.put(key, newEntry);
+            }
+        }
+        return trustAnchor;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private static @Nullable byte[] calculateFingerprint(@NotNull CertPath certPath) {
+        MessageDigest messageDigest = MessageDigestUtil.createSHA256();
+        try {
+            for (Certificate certificate : certPath.getCertificates()) {
+                byte[] encoded = certificate.getEncoded();
+                messageDigest.update((byte) (encoded.length >>> 24));
+                messageDigest.update((byte) (encoded.length >>> 16));
+                messageDigest.update((byte) (encoded.length >>> 8));
+                messageDigest.update((byte) encoded.length);
+                messageDigest.update(encoded);
+            }
+        } catch (CertificateEncodingException e) {
+            // uncacheable; the validator reports the problem
+            return null;
+        }
+        return messageDigest.digest();
+    }
+
+    private static @Nullable Entry createEntry(@NotNull CertPath certPath, @NotNull TrustAnchor trustAnchor) {
+        List<Certificate> certificates = new ArrayList<>(certPath.getCertificates());
+        if (trustAnchor.getTrustedCert() != null) {
+            certificates.add(trustAnchor.getTrustedCert());
+        }
+        Instant notBefore = Instant.MIN;
+        Instant notAfter = Instant.MAX;
+        for (Certificate certificate : certificates) {
+            if (!(certificate instanceof X509Certificate)) {
+                return null;
+            }
+            X509Certificate x509Certificate = (X509Certificate) certificate;
+            Instant certificateNotBefore = x509Certificate.getNotBefore().toInstant();
+            Instant certificateNotAfter = x509Certificate.getNotAfter().toInstant();
+            if (certificateNotBefore.isAfter(notBefore)) {
+                notBefore = certificateNotBefore;
+            }
+            if (certificateNotAfter.isBefore(notAfter)) {
+                notAfter = certificateNotAfter;
+            }
+        }
+        return new Entry(trustAnchor, notBefore, notAfter);
+    }
+
+    private static class Key {
+
+        private final byte[] fingerprint;
+        private final Set<TrustAnchor> trustAnchors;
+        private final boolean policyQualifiersRejected;
+
+        Key(byte[] fingerprint, Set<TrustAnchor> trustAnchors, boolean policyQualifiersRejected) {
+            this.fingerprint = fingerprint;
+            this.trustAnchors = trustAnchors;
+            this.policyQualifiersRejected = policyQualifiersRejected;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return trustAnchors == key.trustAnchors && policyQualifiersRejected == key.policyQualifiersRejected && Arrays.equals(fingerprint, key.fingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Arrays.hashCode(fingerprint);
+            result = 31 * result + System.identityHashCode(trustAnchors);
+            result = 31 * result + Boolean.hashCode(policyQualifiersRejected);
+            return result;
+        }
+    }
+
+    private static class Entry {
+
+        private final TrustAnchor trustAnchor;
+        private final Instant notBefore;
+        private final Instant notAfter;
+
+        Entry(TrustAnchor trustAnchor, Instant notBefore, Instant notAfter) {
+            this.trustAnchor = trustAnchor;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+        }
+
+        boolean isValidAt(Instant timestamp) {
+            return !timestamp.isBefore(notBefore) && !timestamp.isAfter(notAfter);
+        }
+    }
+}
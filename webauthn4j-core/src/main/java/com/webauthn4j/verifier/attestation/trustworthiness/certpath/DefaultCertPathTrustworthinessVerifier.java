@@ -28,6 +28,7 @@ import com.webauthn4j.verifier.exception.TrustAnchorNotFoundException;
 import com.webauthn4j.verifier.internal.asn1.ASN1Primitive;
 import com.webauthn4j.verifier.internal.asn1.ASN1Structure;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
@@ -43,6 +44,7 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
     private boolean fullChainProhibited = false;
     private boolean revocationCheckEnabled = false;
     private boolean policyQualifiersRejected = false;
+    private CertPathValidationCache certPathValidationCache;
 
     public DefaultCertPathTrustworthinessVerifier(TrustAnchorRepository trustAnchorRepository) {
         this.trustAnchorRepository = trustAnchorRepository;
@@ -77,13 +79,6 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
             throw new TrustAnchorNotFoundException("TrustAnchors are not found");
         }
 
-        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-        certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
-
-        certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-        certPathParameters.setDate(Date.from(timestamp));
-
         TrustAnchor trustAnchor;
 
         // if itself is an acceptable certificate, it is valid cert path
@@ -96,20 +91,53 @@ public class DefaultCertPathTrustworthinessVerifier implements CertPathTrustwort
         }
 
         // or verify the certificate chain path
-        PKIXCertPathValidatorResult result;
+        // revocation status may change at any time, so validations with revocation check are never cached
+        CertPathValidationCache cache = certPathValidationCache;
+        TrustAnchor validatedTrustAnchor = cache == null || revocationCheckEnabled
+                ? validateCertPath(certPath, trustAnchors, timestamp)
+                : cache.validate(certPath, trustAnchors, policyQualifiersRejected, timestamp, () -> validateCertPath(certPath, trustAnchors, timestamp));
+        if (fullChainProhibited && certPath.getCertificates().contains(validatedTrustAnchor.getTrustedCert())) {
+            throw new CertificateException("`certpath` must not contain full chain.");
+        }
+        return trustAnchors.stream()
+                .filter(item -> Objects.equals(item, validatedTrustAnchor))
+                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+    }
+
+    private TrustAnchor validateCertPath(CertPath certPath, Set<TrustAnchor> trustAnchors, Instant timestamp){
+        CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
+        PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
+        certPathParameters.setPolicyQualifiersRejected(policyQualifiersRejected);
+
+        certPathParameters.setRevocationEnabled(revocationCheckEnabled);
+        certPathParameters.setDate(Date.from(timestamp));
+
         try {
-            result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
+            PKIXCertPathValidatorResult result = (PKIXCertPathValidatorResult) certPathValidator.validate(certPath, certPathParameters);
+            return result.getTrustAnchor();
         } catch (InvalidAlgorithmParameterException e) {
             throw new com.webauthn4j.verifier.exception.CertificateException("invalid algorithm parameter", e);
         } catch (CertPathValidatorException e) {
             throw new com.webauthn4j.verifier.exception.CertificateException("invalid cert path", e);
         }
-        if (fullChainProhibited && certPath.getCertificates().contains(result.getTrustAnchor().getTrustedCert())) {
-            throw new CertificateException("`certpath` must not contain full chain.");
-        }
-        return trustAnchors.stream()
-                .filter(item -> Objects.equals(item, result.getTrustAnchor()))
-                .findFirst().orElseThrow(()-> new IllegalStateException("Matching TrustAnchor is not found."));
+    }
+
+    /**
+     * Returns the cache of successful certificate path validations
+     *
+     * @return cache, or null if validations are not cached
+     */
+    public @Nullable CertPathValidationCache getCertPathValidationCache() {
+        return certPathValidationCache;
+    }
+
+    /**
+     * Sets the cache of successful certificate path validations. Validations are not cached by default.
+     *
+     * @param certPathValidationCache cache, or null to disable caching
+     */
+    public void setCertPathValidationCache(@Nullable CertPathValidationCache certPathValidationCache) {
+        this.certPathValidationCache = certPathValidationCache;
     }
 
     public boolean isFullChainProhibited() {
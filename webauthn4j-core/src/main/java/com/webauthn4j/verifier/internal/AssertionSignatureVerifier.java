@@ -21,13 +21,13 @@ import com.webauthn4j.data.CoreAuthenticationData;
 import com.webauthn4j.data.SignatureAlgorithm;
 import com.webauthn4j.data.attestation.authenticator.COSEKey;
 import com.webauthn4j.util.AssertUtil;
-import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.verifier.CredentialPublicKeyCache;
 import com.webauthn4j.verifier.exception.BadSignatureException;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.ByteBuffer;
 import java.security.*;
 
 /**
@@ -37,6 +37,8 @@ public class AssertionSignatureVerifier {
 
     private final Logger logger = LoggerFactory.getLogger(AssertionSignatureVerifier.class);
 
+    private CredentialPublicKeyCache credentialPublicKeyCache;
+
     // ~ Methods
     // ========================================================================================================
 
@@ -44,28 +46,41 @@ public class AssertionSignatureVerifier {
         AssertUtil.notNull(authenticationData, "authenticationData must not be null");
         AssertUtil.notNull(coseKey, "coseKey must not be null");
 
-        byte[] signedData = getSignedData(authenticationData);
+        SignedData signedData = createSignedData(authenticationData);
         byte[] signature = authenticationData.getSignature();
-        if (!verifySignature(coseKey, signature, signedData)) {
+        if (!verifySignature(authenticationData.getCredentialId(), coseKey, signature, signedData)) {
             throw new BadSignatureException("Assertion signature is not valid.");
         }
     }
 
-    protected @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
-        byte[] rawAuthenticatorData = authenticationData.getAuthenticatorDataBytes();
-        byte[] clientDataHash = authenticationData.getClientDataHash();
-        return ByteBuffer.allocate(rawAuthenticatorData.length + clientDataHash.length).put(rawAuthenticatorData).put(clientDataHash).array();
+    /**
+     * Creates the data signed by the assertion signature, the authenticator data bytes followed by the client data hash.
+     * Subclasses override this method to verify the signature over other data.
+     *
+     * @param authenticationData authentication data
+     * @return signed data
+     */
+    protected @NotNull SignedData createSignedData(@NotNull CoreAuthenticationData authenticationData) {
+        return SignedData.of(authenticationData.getAuthenticatorDataBytes(), authenticationData.getClientDataHash());
+    }
+
+    /**
+     * @param authenticationData authentication data
+     * @return signed data
+     * @deprecated This method is no longer an extension point, and is final so that existing overrides fail to compile
+     * instead of being silently ignored. Override {@link #createSignedData(CoreAuthenticationData)} instead.
+     */
+    @Deprecated
+    protected final @NotNull byte[] getSignedData(@NotNull CoreAuthenticationData authenticationData) {
+        return createSignedData(authenticationData).toByteArray();
     }
 
-    private boolean verifySignature(@NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull byte[] data) {
+    private boolean verifySignature(@Nullable byte[] credentialId, @NotNull COSEKey coseKey, @NotNull byte[] signature, @NotNull SignedData data) {
         try {
-            PublicKey publicKey = coseKey.getPublicKey();
+            PublicKey publicKey = credentialPublicKeyCache == null || credentialId == null ? coseKey.getPublicKey() : credentialPublicKeyCache.get(credentialId, coseKey);
             //noinspection ConstantConditions as null check is already done in caller
             SignatureAlgorithm signatureAlgorithm = coseKey.getAlgorithm().toSignatureAlgorithm();
-            Signature verifier = SignatureUtil.createSignature(signatureAlgorithm);
-            verifier.initVerify(publicKey);
-            verifier.update(data);
-            return verifier.verify(signature);
+            return data.verify(signatureAlgorithm, publicKey, signature);
         } catch (IllegalArgumentException e) {
             logger.debug("COSE key alg must be signature algorithm.", e);
             return false;
@@ -75,5 +90,16 @@ public class AssertionSignatureVerifier {
         }
     }
 
+    public @Nullable CredentialPublicKeyCache getCredentialPublicKeyCache() {
+        return credentialPublicKeyCache;
+    }
 
+    /**
+     * Sets an optional {@link CredentialPublicKeyCache}, which is looked up by credential ID before decoding the {@link COSEKey}.
+     *
+     * @param credentialPublicKeyCache cache, or null to disable it
+     */
+    public void setCredentialPublicKeyCache(@Nullable CredentialPublicKeyCache credentialPublicKeyCache) {
+        this.credentialPublicKeyCache = credentialPublicKeyCache;
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.data.SignatureAlgorithm;
+import com.webauthn4j.util.AssertUtil;
+import com.webauthn4j.util.SignatureUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.SignatureException;
+
+/**
+ * Data to be signed, represented as a sequence of byte array segments (typically authenticatorData and clientDataHash).
+ * <p>
+ * The segments are fed to {@link java.security.Signature} or {@link MessageDigest} in order, so that verifiers don't
+ * need to allocate the concatenation. Segments are not copied and never exposed; {@link #toByteArray()} returns
+ * a new array.
+ */
+public final class SignedData {
+
+    private final byte[][] segments;
+
+    private SignedData(@NotNull byte[][] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Creates a {@link SignedData} from the given segments without copying them.
+     * The caller must not modify the segments while the {@link SignedData} is in use.
+     *
+     * @param segments segments, in signing order
+     * @return {@link SignedData}
+     */
+    public static @NotNull SignedData of(@NotNull byte[]... segments) {
+        AssertUtil.notNull(segments, "segments must not be null");
+        for (byte[] segment : segments) {
+            AssertUtil.notNull(segment, "segment must not be null");
+        }
+        return new SignedData(segments);
+    }
+
+    /**
+     * Verifies the signature over this data with a {@link java.security.Signature} engine.
+     *
+     * @param algorithm signature algorithm
+     * @param publicKey public key
+     * @param signature signature
+     * @return true if the signature is valid
+     * @throws InvalidKeyException if the public key is invalid for the algorithm
+     * @throws SignatureException  if the signature engine cannot process the signature
+     */
+    public boolean verify(@NotNull SignatureAlgorithm algorithm, @NotNull PublicKey publicKey, @NotNull byte[] signature) throws InvalidKeyException, SignatureException {
+        return SignatureUtil.verify(algorithm, publicKey, signature, segments);
+    }
+
+    /**
+     * Feeds this data to the given {@link MessageDigest} and completes the digest.
+     *
+     * @param messageDigest message digest
+     * @return digest value
+     */
+    public @NotNull byte[] digest(@NotNull MessageDigest messageDigest) {
+        for (byte[] segment : segments) {
+            messageDigest.update(segment);
+        }
+        return messageDigest.digest();
+    }
+
+    public int getLength() {
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the concatenation of the segments as a new array
+     *
+     * @return concatenated bytes
+     */
+    public @NotNull byte[] toByteArray() {
+        byte[] bytes = new byte[getLength()];
+        int position = 0;
+        for (byte[] segment : segments) {
+            System.arraycopy(segment, 0, bytes, position, segment.length);
+            position += segment.length;
+        }
+        return bytes;
+    }
+}
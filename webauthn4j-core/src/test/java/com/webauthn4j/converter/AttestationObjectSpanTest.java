@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.FIDOU2FAttestationStatement;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SuppressWarnings("ConstantConditions")
+class AttestationObjectSpanTest {
+
+    private static final String AUTH_DATA_KEY = "686175746844617461";
+    private static final String ATT_STMT_KEY = "6761747453746d74";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+
+    @Test
+    void of_test() throws IOException {
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        byte[] bytes = new AttestationObjectConverter(objectConverter).convertToBytes(attestationObject);
+        JsonNode tree = objectConverter.getCborConverter().readTree(bytes);
+
+        AttestationObjectSpan target = AttestationObjectSpan.of(bytes);
+
+        assertAll(
+                () -> assertThat(target.getAuthenticatorData()).isEqualTo(tree.get("authData").binaryValue()),
+                () -> assertThat(objectConverter.getCborConverter().readValue(target.getAttestationStatement(), FIDOU2FAttestationStatement.class))
+                        .isEqualTo(attestationObject.getAttestationStatement())
+        );
+    }
+
+    @Test
+    void of_definite_length_test() {
+        AttestationObjectSpan target = AttestationObjectSpan.of(HexUtil.decode("A2" + AUTH_DATA_KEY + "43010203" + ATT_STMT_KEY + "A163616C6726"));
+
+        assertAll(
+                () -> assertThat(target.getAuthenticatorData()).isEqualTo(HexUtil.decode("010203")),
+                () -> assertThat(target.getAttestationStatement()).isEqualTo(HexUtil.decode("A163616C6726"))
+        );
+    }
+
+    @Test
+    void of_indefinite_length_test() {
+        AttestationObjectSpan target = AttestationObjectSpan.of(HexUtil.decode("BF" + AUTH_DATA_KEY + "5F42010241" + "03FF" + ATT_STMT_KEY + "BF63616C6726FF" + "FF"));
+
+        assertAll(
+                () -> assertThat(target.getAuthenticatorData()).isEqualTo(HexUtil.decode("010203")),
+                () -> assertThat(target.getAttestationStatement()).isEqualTo(HexUtil.decode("BF63616C6726FF"))
+        );
+    }
+
+    @Test
+    void of_empty_map_test() {
+        AttestationObjectSpan target = AttestationObjectSpan.of(HexUtil.decode("A0"));
+
+        assertAll(
+                () -> assertThat(target.getAuthenticatorData()).isNull(),
+                () -> assertThat(target.getAttestationStatement()).isNull()
+        );
+    }
+
+    @Test
+    void getAuthenticatorData_returns_copy_test() {
+        AttestationObjectSpan target = AttestationObjectSpan.of(HexUtil.decode("A1" + AUTH_DATA_KEY + "43010203"));
+
+        target.getAuthenticatorData()[0] = 0x00;
+        assertThat(target.getAuthenticatorData()).isEqualTo(HexUtil.decode("010203"));
+    }
+
+    @Test
+    void of_truncated_test() {
+        assertAll(
+                () -> assertThatThrownBy(() -> AttestationObjectSpan.of(HexUtil.decode("A1" + AUTH_DATA_KEY + "450102"))).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> AttestationObjectSpan.of(HexUtil.decode("A2" + AUTH_DATA_KEY + "43010203"))).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> AttestationObjectSpan.of(HexUtil.decode("BB" + "7FFFFFFFFFFFFFFF"))).isInstanceOf(DataConversionException.class),
+                () -> assertThatThrownBy(() -> AttestationObjectSpan.of(new byte[0])).isInstanceOf(DataConversionException.class)
+        );
+    }
+
+    @Test
+    void of_non_map_test() {
+        assertThatThrownBy(() -> AttestationObjectSpan.of(HexUtil.decode("80"))).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void of_null_test() {
+        assertThatThrownBy(() -> AttestationObjectSpan.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
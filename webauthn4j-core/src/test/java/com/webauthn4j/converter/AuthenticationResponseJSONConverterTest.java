@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.converter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticatorAssertionResponse;
+import com.webauthn4j.data.PublicKeyCredential;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionClientOutput;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("ConstantConditions")
+class AuthenticationResponseJSONConverterTest {
+
+    private static final String CLIENT_DATA_JSON = "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"http://localhost:8080\",\"type\":\"webauthn.get\"}";
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AuthenticationResponseJSONConverter target = new AuthenticationResponseJSONConverter(objectConverter);
+
+    private final byte[] credentialId = new byte[]{0x01, 0x02, 0x03};
+    private final byte[] authenticatorDataBytes = new AuthenticatorDataConverter(objectConverter).convert(new AuthenticatorData<>(new byte[32], AuthenticatorData.BIT_UP, 42));
+    private final byte[] signature = new byte[]{0x04, 0x05};
+    private final byte[] userHandle = new byte[]{0x06};
+
+    @Test
+    void convert_test() {
+        AuthenticationData authenticationData = target.convert(createJSON("\"" + Base64UrlUtil.encodeToString(userHandle) + "\""));
+
+        assertThat(authenticationData.getCredentialId()).isEqualTo(credentialId);
+        assertThat(authenticationData.getUserHandle()).isEqualTo(userHandle);
+        assertThat(authenticationData.getAuthenticatorDataBytes()).isEqualTo(authenticatorDataBytes);
+        assertThat(authenticationData.getAuthenticatorData().getSignCount()).isEqualTo(42);
+        assertThat(authenticationData.getCollectedClientDataBytes()).isEqualTo(CLIENT_DATA_JSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(authenticationData.getCollectedClientData().getType()).isEqualTo(ClientDataType.WEBAUTHN_GET);
+        assertThat(authenticationData.getCollectedClientData().getOrigin()).isEqualTo(new Origin("http://localhost:8080"));
+        assertThat(authenticationData.getSignature()).isEqualTo(signature);
+        assertThat(authenticationData.getClientExtensions()).isNotNull();
+    }
+
+    @Test
+    void convert_byte_array_and_input_stream_test() {
+        byte[] json = createJSON("null").getBytes(StandardCharsets.UTF_8);
+
+        AuthenticationData fromBytes = target.convert(json);
+        AuthenticationData fromStream = target.convert(new ByteArrayInputStream(json));
+
+        assertThat(fromBytes.getUserHandle()).isNull();
+        assertThat(fromBytes.getCredentialId()).isEqualTo(credentialId);
+        assertThat(fromStream.getCredentialId()).isEqualTo(credentialId);
+        assertThat(fromStream.getSignature()).isEqualTo(signature);
+    }
+
+    @Test
+    void convert_produces_same_result_as_data_binding_test() {
+        String json = createJSON("\"" + Base64UrlUtil.encodeToString(userHandle) + "\"");
+        PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput> publicKeyCredential =
+                objectConverter.getJsonConverter().readValue(json, new TypeReference<PublicKeyCredential<AuthenticatorAssertionResponse, AuthenticationExtensionClientOutput>>() {});
+        AuthenticationData expected = new AuthenticationData(
+                publicKeyCredential.getRawId(),
+                publicKeyCredential.getResponse().getUserHandle(),
+                new AuthenticatorDataConverter(objectConverter).convert(publicKeyCredential.getResponse().getAuthenticatorData()),
+                publicKeyCredential.getResponse().getAuthenticatorData(),
+                new CollectedClientDataConverter(objectConverter).convert(publicKeyCredential.getResponse().getClientDataJSON()),
+                publicKeyCredential.getResponse().getClientDataJSON(),
+                publicKeyCredential.getClientExtensionResults(),
+                publicKeyCredential.getResponse().getSignature()
+        );
+
+        assertThat(target.convert(json)).isEqualTo(expected);
+    }
+
+    @Test
+    void convert_malformed_json_test() {
+        assertThatThrownBy(() -> target.convert("{\"rawId\":")).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_non_object_json_test() {
+        assertThatThrownBy(() -> target.convert("[]")).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_non_string_byte_array_member_test() {
+        assertThatThrownBy(() -> target.convert("{\"rawId\":{}}")).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_invalid_base64url_member_test() {
+        assertThatThrownBy(() -> target.convert("{\"rawId\":\"!!!\"}")).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> target.convert("{\"response\":{\"signature\":\"a\"}}")).isInstanceOf(DataConversionException.class);
+    }
+
+    private String createJSON(String userHandleJSON) {
+        return "{" +
+                "\"id\":\"" + Base64UrlUtil.encodeToString(credentialId) + "\"," +
+                "\"type\":\"public-key\"," +
+                "\"rawId\":\"" + Base64UrlUtil.encodeToString(credentialId) + "\"," +
+                "\"authenticatorAttachment\":\"platform\"," +
+                "\"response\":{" +
+                "\"clientDataJSON\":\"" + Base64UrlUtil.encodeToString(CLIENT_DATA_JSON.getBytes(StandardCharsets.UTF_8)) + "\"," +
+                "\"authenticatorData\":\"" + Base64UrlUtil.encodeToString(authenticatorDataBytes) + "\"," +
+                "\"signature\":\"" + Base64UrlUtil.encodeToString(signature) + "\"," +
+                "\"userHandle\":" + userHandleJSON + "," +
+                "\"unknown\":[1,{\"nested\":true}]" +
+                "}," +
+                "\"clientExtensionResults\":{}" +
+                "}";
+    }
+}
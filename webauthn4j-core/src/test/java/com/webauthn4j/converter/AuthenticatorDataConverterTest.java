@@ -111,6 +111,21 @@ class AuthenticatorDataConverterTest {
             assertThat(result.getAttestedCredentialData()).isNull();
             assertThat(result.getExtensions().getKeys()).contains(UserVerificationMethodExtensionAuthenticatorOutput.ID);
         }
+
+        @Test
+        void shouldWriteSameBytesToByteBuffer() {
+            // Given
+            AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = target.convert(Base64UrlUtil.decode(ATTESTED_CREDENTIAL_DATA));
+            byte[] expected = target.convert(authenticatorData);
+            ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+
+            // When
+            target.convert(authenticatorData, buffer);
+
+            // Then
+            assertThat(buffer.hasRemaining()).isFalse();
+            assertThat(buffer.array()).isEqualTo(expected);
+        }
     }
 
     @Nested
@@ -187,5 +202,40 @@ class AuthenticatorDataConverterTest {
             // Then
             assertThat(signCount).isEqualTo(70);
         }
+
+        @Test
+        void shouldExtractExtensionsFromAuthenticatorData() {
+            // Given
+            AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration builder = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration();
+            builder.setUvm(new UvmEntries());
+            byte[] authenticatorData = target.convert(new AuthenticatorData<>(new byte[32], BIT_ED, 0, builder.build()));
+
+            // When
+            AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> result = target.extractExtensions(authenticatorData);
+
+            // Then
+            assertThat(result.getKeys()).contains(UserVerificationMethodExtensionAuthenticatorOutput.ID);
+        }
+
+        @Test
+        void shouldExtractEmptyExtensionsFromAuthenticatorDataWithoutEDFlag() {
+            // Given
+            byte[] authenticatorData = Base64UrlUtil.decode(BASIC_AUTH_DATA);
+
+            // When
+            AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> result = target.extractExtensions(authenticatorData);
+
+            // Then
+            assertThat(result.getKeys()).isEmpty();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenExtractingExtensionsFromTooShortData() {
+            // Given
+            byte[] input = Base64UrlUtil.decode("SZYN5YgOjGh0NBcP");
+
+            // When/Then
+            assertThrows(DataConversionException.class, () -> target.extractExtensions(input));
+        }
     }
 }
@@ -130,6 +130,21 @@ class CollectedClientDataConverterTest {
                     () -> assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("android:apk-key-hash-sha256:xT5ZucZJ9N7oq3j3awG8J/NlKf8trfo6AAJB8deuuNo="))
             );
         }
+
+        @Test
+        void shouldKeepRawOriginWithoutParsingIt() {
+            // Given
+            String json = "{\"challenge\":\"tk31UH1ETGGTPj33OhOMzw\",\"origin\":\"HTTP://LOCALHOST:8080\",\"type\":\"webauthn.get\"}";
+
+            // When
+            CollectedClientData collectedClientData = target.convert(json.getBytes(StandardCharsets.UTF_8));
+
+            // Then
+            assertAll(
+                    () -> assertThat(collectedClientData.getRawOrigin()).isEqualTo("HTTP://LOCALHOST:8080"),
+                    () -> assertThat(collectedClientData.getOrigin()).isEqualTo(new Origin("http://localhost:8080"))
+            );
+        }
     }
 
     @Nested
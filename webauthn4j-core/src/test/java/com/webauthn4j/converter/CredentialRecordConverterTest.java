@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.AuthenticatorTransport;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientOutputs;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("ConstantConditions")
+class CredentialRecordConverterTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final CredentialRecordConverter target = new CredentialRecordConverter(objectConverter);
+
+    private final CredentialRecordImpl credentialRecord = new CredentialRecordImpl(
+            TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement(),
+            TestDataUtil.createClientData(ClientDataType.WEBAUTHN_CREATE),
+            new AuthenticationExtensionsClientOutputs<>(),
+            new HashSet<>(Arrays.asList(AuthenticatorTransport.USB, AuthenticatorTransport.create("unknown")))
+    );
+
+    @Test
+    void convert_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        CredentialRecord restored = target.convert(bytes);
+
+        assertThat(restored.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(restored.getAttestationStatement()).isEqualTo(credentialRecord.getAttestationStatement());
+        assertThat(restored.getCounter()).isEqualTo(credentialRecord.getCounter());
+        assertThat(restored.getAuthenticatorExtensions()).isEqualTo(credentialRecord.getAuthenticatorExtensions());
+        assertThat(restored.getClientData()).isEqualTo(credentialRecord.getClientData());
+        assertThat(restored.getClientExtensions()).isEqualTo(credentialRecord.getClientExtensions());
+        assertThat(restored.getTransports()).isEqualTo(credentialRecord.getTransports());
+        assertThat(restored.isUvInitialized()).isEqualTo(credentialRecord.isUvInitialized());
+        assertThat(restored.isBackupEligible()).isEqualTo(credentialRecord.isBackupEligible());
+        assertThat(restored.isBackedUp()).isEqualTo(credentialRecord.isBackedUp());
+    }
+
+    @Test
+    void convert_record_without_optional_values_test() {
+        AttestationObject attestationObject = TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement();
+        CredentialRecordImpl record = new CredentialRecordImpl(attestationObject.getAttestationStatement(), null, true, null, 42,
+                attestationObject.getAuthenticatorData().getAttestedCredentialData(), null, null, null, null);
+
+        CredentialRecord restored = target.convert(target.convert(record));
+
+        assertThat(restored.getAttestedCredentialData()).isEqualTo(record.getAttestedCredentialData());
+        assertThat(restored.getCounter()).isEqualTo(42);
+        assertThat(restored.isUvInitialized()).isNull();
+        assertThat(restored.isBackupEligible()).isTrue();
+        assertThat(restored.isBackedUp()).isNull();
+        assertThat(restored.getAuthenticatorExtensions()).isNull();
+        assertThat(restored.getClientData()).isNull();
+        assertThat(restored.getClientExtensions()).isNull();
+        assertThat(restored.getTransports()).isNull();
+    }
+
+    @Test
+    void convert_updated_record_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        CredentialRecord restored = target.convert(bytes);
+        restored.setCounter(4294967295L);
+        restored.setBackedUp(true);
+
+        CredentialRecord updated = target.convert(target.convert(restored));
+
+        assertThat(updated.getCounter()).isEqualTo(4294967295L);
+        assertThat(updated.isBackedUp()).isTrue();
+        assertThat(updated.getAttestedCredentialData()).isEqualTo(credentialRecord.getAttestedCredentialData());
+        assertThat(updated.getAttestationStatement()).isEqualTo(credentialRecord.getAttestationStatement());
+        assertThat(updated.getTransports()).isEqualTo(credentialRecord.getTransports());
+    }
+
+    @Test
+    void convert_is_stable_test() {
+        byte[] bytes = target.convert(credentialRecord);
+
+        assertThat(target.convert(target.convert(bytes))).isEqualTo(bytes);
+        assertThat(target.convert(bytes)).isEqualTo(target.convert(bytes.clone()));
+    }
+
+    @Test
+    void equals_hashCode_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        CredentialRecord restored = target.convert(bytes);
+        CredentialRecord other = target.convert(bytes.clone());
+
+        assertThat(restored).isEqualTo(other).hasSameHashCodeAs(other);
+
+        other.setCounter(restored.getCounter() + 1);
+        assertThat(restored).isNotEqualTo(other);
+
+        CredentialRecordImpl withoutTransports = new CredentialRecordImpl(credentialRecord.getAttestationStatement(), credentialRecord.isUvInitialized(),
+                credentialRecord.isBackupEligible(), credentialRecord.isBackedUp(), credentialRecord.getCounter(), credentialRecord.getAttestedCredentialData(),
+                credentialRecord.getAuthenticatorExtensions(), credentialRecord.getClientData(), credentialRecord.getClientExtensions(), null);
+        assertThat(restored).isNotEqualTo(target.convert(target.convert(withoutTransports)));
+    }
+
+    @Test
+    void getAuthenticatorExtensions_with_trailing_data_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        // header, then attestedCredentialData and authenticatorExtensions sections, each prefixed by its length
+        int extensionsOffset = 7 + 4 + ByteBuffer.wrap(bytes, 7, 4).getInt();
+        int extensionsLength = ByteBuffer.wrap(bytes, extensionsOffset, 4).getInt();
+        int extensionsEnd = extensionsOffset + 4 + extensionsLength;
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 1);
+        buffer.put(bytes, 0, extensionsOffset);
+        buffer.putInt(extensionsLength + 1);
+        buffer.put(bytes, extensionsOffset + 4, extensionsLength);
+        buffer.put((byte) 0x00);
+        buffer.put(bytes, extensionsEnd, bytes.length - extensionsEnd);
+
+        CredentialRecord restored = target.convert(buffer.array());
+
+        assertThatThrownBy(restored::getAuthenticatorExtensions).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void setCounter_with_invalid_value_test() {
+        CredentialRecord restored = target.convert(target.convert(credentialRecord));
+
+        assertThatThrownBy(() -> restored.setCounter(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> restored.setCounter(4294967296L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void extractCredentialId_test() {
+        byte[] bytes = target.convert(credentialRecord);
+
+        assertThat(target.extractCredentialId(bytes)).isEqualTo(credentialRecord.getAttestedCredentialData().getCredentialId());
+    }
+
+    @Test
+    void convert_unsupported_version_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        bytes[0] = 0x02;
+
+        assertThatThrownBy(() -> target.convert(bytes)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_truncated_data_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        assertThatThrownBy(() -> target.convert(truncated)).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> target.convert(new byte[]{0x01})).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void convert_trailing_data_test() {
+        byte[] bytes = target.convert(credentialRecord);
+        byte[] extended = Arrays.copyOf(bytes, bytes.length + 1);
+
+        assertThatThrownBy(() -> target.convert(extended)).isInstanceOf(DataConversionException.class);
+    }
+}
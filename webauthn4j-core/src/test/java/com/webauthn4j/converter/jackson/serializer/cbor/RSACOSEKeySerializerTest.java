@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter.jackson.serializer.cbor;
+
+import com.webauthn4j.converter.util.CTAP2CborDecoder;
+import com.webauthn4j.converter.util.CTAP2CborReader;
+import com.webauthn4j.converter.util.CborConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RSACOSEKeySerializerTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final CborConverter cborConverter = objectConverter.getCborConverter();
+
+    private final RSACOSEKey rsaCOSEKey = new RSACOSEKey(null, COSEAlgorithmIdentifier.RS256, null, new byte[]{0x01, 0x02, 0x03}, new byte[]{0x01, 0x00, 0x01});
+
+    @Test
+    void serialize_in_ctap2_canonical_key_order_test() {
+        byte[] bytes = cborConverter.writeValueAsBytes(rsaCOSEKey);
+
+        // {1: 3, 3: -257, -1: h'010203', -2: h'010001'}
+        assertThat(bytes).isEqualTo(HexUtil.decode("A401030339010020430102032143010001"));
+    }
+
+    @Test
+    void serialized_key_can_be_read_by_ctap2_cbor_decoder_test() {
+        byte[] bytes = cborConverter.writeValueAsBytes(rsaCOSEKey);
+
+        COSEKey coseKey = new CTAP2CborDecoder(objectConverter).decodeCOSEKey(new CTAP2CborReader(bytes));
+        assertThat(coseKey).isEqualTo(rsaCOSEKey);
+    }
+
+    @Test
+    void writeValue_to_ByteBuffer_test() {
+        byte[] expected = cborConverter.writeValueAsBytes(rsaCOSEKey);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 2);
+        buffer.put((byte) 0xFF);
+
+        cborConverter.writeValue(rsaCOSEKey, buffer);
+
+        assertThat(buffer.position()).isEqualTo(expected.length + 1);
+        assertThat(Arrays.copyOfRange(buffer.array(), 1, expected.length + 1)).isEqualTo(expected);
+    }
+
+    @Test
+    void writeValue_to_too_small_ByteBuffer_test() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        assertThatThrownBy(() -> cborConverter.writeValue(rsaCOSEKey, buffer)).isInstanceOf(BufferOverflowException.class);
+    }
+}
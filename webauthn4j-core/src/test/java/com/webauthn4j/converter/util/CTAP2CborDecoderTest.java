@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.Curve;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.authenticator.RSACOSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.COSEKeyOperation;
+import com.webauthn4j.data.attestation.statement.NoneAttestationStatement;
+import com.webauthn4j.data.extension.CredentialProtectionPolicy;
+import com.webauthn4j.data.extension.UvmEntries;
+import com.webauthn4j.data.extension.UvmEntry;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionsAuthenticatorOutputs;
+import com.webauthn4j.data.extension.authenticator.RegistrationExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestDataUtil;
+import com.webauthn4j.util.Base64UrlUtil;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CTAP2CborDecoderTest {
+
+    private final ObjectConverter jacksonObjectConverter = new ObjectConverter();
+    private final ObjectConverter objectConverter = new ObjectConverter(true);
+    private final CTAP2CborDecoder target = objectConverter.getCTAP2CborDecoder();
+
+    @Test
+    void decodeCOSEKey_produces_same_result_as_jackson_test() {
+        EC2COSEKey ec2COSEKey = TestDataUtil.createEC2COSEPublicKey();
+        RSACOSEKey rsaCOSEKey = TestDataUtil.createRSACOSEPublicKey();
+        EC2COSEKey ec2COSEKeyWithKeyIdAndKeyOps = new EC2COSEKey(new byte[]{0x01, 0x02}, COSEAlgorithmIdentifier.ES256, Collections.singletonList(COSEKeyOperation.VERIFY), Curve.SECP256R1, new byte[32], new byte[32]);
+
+        for (COSEKey coseKey : new COSEKey[]{ec2COSEKey, rsaCOSEKey, ec2COSEKeyWithKeyIdAndKeyOps}) {
+            byte[] bytes = jacksonObjectConverter.getCborConverter().writeValueAsBytes(coseKey);
+            CTAP2CborReader reader = new CTAP2CborReader(bytes);
+            assertThat(target.decodeCOSEKey(reader)).isEqualTo(jacksonObjectConverter.getCborConverter().readValue(bytes, COSEKey.class));
+            assertThat(reader.getPosition()).isEqualTo(bytes.length);
+        }
+    }
+
+    @Test
+    void decodeCOSEKey_with_non_canonical_key_order_test() {
+        // {3: -7, 1: 2}
+        CTAP2CborReader reader = new CTAP2CborReader(HexUtil.decode("A203260102"));
+        assertThatThrownBy(() -> target.decodeCOSEKey(reader)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void decodeCOSEKey_without_key_type_test() {
+        // {3: -7}
+        CTAP2CborReader reader = new CTAP2CborReader(HexUtil.decode("A10326"));
+        assertThatThrownBy(() -> target.decodeCOSEKey(reader)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void decodeAuthenticatorExtensions_produces_same_result_as_jackson_test() {
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> extensions = new AuthenticationExtensionsAuthenticatorOutputs.BuilderForRegistration()
+                .setUvm(new UvmEntries(Collections.singletonList(new UvmEntry(new Number[]{2, 2, 2}))))
+                .setCredProtect(CredentialProtectionPolicy.USER_VERIFICATION_REQUIRED)
+                .setHMACCreateSecret(true)
+                .set("unknown", "value")
+                .build();
+        byte[] bytes = jacksonObjectConverter.getCborConverter().writeValueAsBytes(extensions);
+
+        CTAP2CborReader reader = new CTAP2CborReader(bytes);
+        AuthenticationExtensionsAuthenticatorOutputs<RegistrationExtensionAuthenticatorOutput> decoded = target.decodeAuthenticatorExtensions(reader);
+
+        assertThat(decoded).isEqualTo(jacksonObjectConverter.getCborConverter().readValue(bytes, AuthenticationExtensionsAuthenticatorOutputs.class));
+        assertThat(decoded.getUnknownKeys()).containsExactly("unknown");
+        assertThat(reader.getPosition()).isEqualTo(bytes.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // {"unknown": null}
+            "A167756E6B6E6F776EF6",
+            // {"credProtect": 2, "hmac-secret": h'0102'}
+            "A26B6372656450726F74656374026B686D61632D736563726574420102",
+            // {"uvm": null, "credProtect": null, "hmac-secret": null}
+            "A36375766DF66B6372656450726F74656374F66B686D61632D736563726574F6",
+            // {"a": [1, -2, 2147483648, -2147483649, "s", true, false, null], "b": {"c": 1, "d": []}, "e": h'0001', "f": 1.5}
+            "A461618801211A800000003A800000006173F5F4F66162A261630161648061654200016166FA3FC00000",
+            // {"uvm": [[2, 2, 2], [4, 1, 1]], "hmac-secret": true}
+            "A26375766D8283020202830401016B686D61632D736563726574F5"
+    })
+    void decodeAuthenticatorExtensions_produces_same_result_as_jackson_for_edge_cases_test(String hex) {
+        byte[] bytes = HexUtil.decode(hex);
+
+        CTAP2CborReader reader = new CTAP2CborReader(bytes);
+        AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> decoded = target.decodeAuthenticatorExtensions(reader);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(jacksonObjectConverter.getCborConverter().readValue(bytes, AuthenticationExtensionsAuthenticatorOutputs.class));
+        assertThat(reader.getPosition()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void decodeAuthenticatorExtensions_with_hmac_get_secret_test() {
+        // {"hmac-secret": h'0102'}
+        CTAP2CborReader reader = new CTAP2CborReader(HexUtil.decode("A16B686D61632D736563726574420102"));
+        AuthenticationExtensionsAuthenticatorOutputs<AuthenticationExtensionAuthenticatorOutput> decoded = target.decodeAuthenticatorExtensions(reader);
+        assertThat(decoded.getHMACGetSecret()).isEqualTo(new byte[]{0x01, 0x02});
+    }
+
+    @Test
+    void authenticatorDataConverter_with_ctap2CborDecoder_test() {
+        AuthenticatorData<RegistrationExtensionAuthenticatorOutput> authenticatorData = TestDataUtil.createAuthenticatorData();
+        byte[] bytes = new AuthenticatorDataConverter(jacksonObjectConverter).convert(authenticatorData);
+
+        AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(objectConverter);
+        assertThat(authenticatorDataConverter.<RegistrationExtensionAuthenticatorOutput>convert(bytes)).isEqualTo(authenticatorData);
+        assertThat(authenticatorDataConverter.extractAttestedCredentialData(bytes)).isEqualTo(new AuthenticatorDataConverter(jacksonObjectConverter).extractAttestedCredentialData(bytes));
+    }
+
+    @Test
+    void decodeAttestationObject_produces_same_result_as_jackson_test() {
+        byte[] clientDataHash = new byte[32];
+        AttestationObject[] attestationObjects = {
+                TestDataUtil.createAttestationObjectWithFIDOU2FAttestationStatement(),
+                TestDataUtil.createAttestationObjectWithBasicPackedECAttestationStatement(clientDataHash),
+                TestDataUtil.createAttestationObjectWithSelfPackedECAttestationStatement(clientDataHash),
+                TestDataUtil.createAttestationObjectWithSelfPackedRSAAttestationStatement(clientDataHash),
+                TestDataUtil.createAttestationObjectWithSelfPackedRSAPSSAttestationStatement(clientDataHash),
+                TestDataUtil.createAttestationObjectWithAndroidKeyAttestationStatement(clientDataHash),
+                TestDataUtil.createAttestationObject(new NoneAttestationStatement())
+        };
+
+        for (AttestationObject attestationObject : attestationObjects) {
+            byte[] bytes = new AttestationObjectConverter(jacksonObjectConverter).convertToBytes(attestationObject);
+
+            AttestationObject decoded = new AttestationObjectConverter(objectConverter).convert(bytes);
+
+            assertThat(decoded).isEqualTo(new AttestationObjectConverter(jacksonObjectConverter).convert(bytes));
+            assertThat(decoded).isEqualTo(attestationObject);
+        }
+    }
+
+    @Test
+    void decodeAttestationObject_with_indefinite_length_map_test() {
+        // {_ "fmt": "none"}
+        byte[] bytes = HexUtil.decode("BF63666D74646E6F6E65FF");
+        assertThatThrownBy(() -> target.decodeAttestationObject(bytes)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void decodeAttestationObject_with_cbor_null_test() {
+        assertThat(target.decodeAttestationObject(Base64UrlUtil.decode("9g"))).isNull();
+    }
+
+    @Test
+    void decodeAttestationObject_without_attStmt_test() {
+        // {"fmt": "none", "authData": h'00'}
+        byte[] bytes = HexUtil.decode("A263666D74646E6F6E656861757468446174614100");
+        assertThatThrownBy(() -> target.decodeAttestationObject(bytes)).isInstanceOf(DataConversionException.class);
+    }
+}
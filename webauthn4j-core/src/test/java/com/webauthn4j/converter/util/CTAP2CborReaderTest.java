@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.converter.util;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.util.HexUtil;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CTAP2CborReaderTest {
+
+    @Test
+    void readLong_test() {
+        assertThat(reader("17").readLong()).isEqualTo(23);
+        assertThat(reader("1818").readLong()).isEqualTo(24);
+        assertThat(reader("190100").readLong()).isEqualTo(256);
+        assertThat(reader("20").readLong()).isEqualTo(-1);
+        assertThat(reader("3B7FFFFFFFFFFFFFFF").readLong()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void readLong_out_of_range_test() {
+        CTAP2CborReader target = reader("1BFFFFFFFFFFFFFFFF");
+        assertThatThrownBy(target::readLong).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void readInt_out_of_range_test() {
+        CTAP2CborReader target = reader("1A80000000");
+        assertThatThrownBy(target::readInt).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void non_shortest_form_test() {
+        assertThatThrownBy(() -> reader("1817").readLong()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("1900FF").readLong()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("1A0000FFFF").readLong()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("1B00000000FFFFFFFF").readLong()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("580101").readByteString()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void indefinite_length_test() {
+        assertThatThrownBy(() -> reader("5F4101FF").readByteString()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("BFFF").readMapHeader()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void tag_test() {
+        assertThatThrownBy(() -> reader("C11A514B67B0").readValue()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void truncated_test() {
+        assertThatThrownBy(() -> reader("5820").readByteString()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("19").readLong()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("9A7FFFFFFF").readValue()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("").readValue()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void readTextString_test() {
+        assertThat(reader("63616263").readTextString()).isEqualTo("abc");
+        assertThat(reader("63E282AC").readTextString()).isEqualTo("\u20AC");
+        assertThatThrownBy(() -> reader("62C328").readTextString()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void readValue_test() {
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("1", true);
+        expected.put("-1", Arrays.asList(1, 4294967296L, null));
+        expected.put("a", Collections.singletonMap("b", new byte[]{0x01}));
+        // {1: true, -1: [1, 4294967296, null], "a": {"b": h'01'}}
+        Object value = reader("A301F520831B0000000100000000F6616161A161624101").readValue();
+        assertThat(value).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void readValue_with_large_integers_test() {
+        assertThat(reader("1BFFFFFFFFFFFFFFFF").readValue()).isEqualTo(new BigInteger("18446744073709551615"));
+        assertThat(reader("3BFFFFFFFFFFFFFFFF").readValue()).isEqualTo(new BigInteger("-18446744073709551616"));
+    }
+
+    @Test
+    void readValue_with_floats_test() {
+        assertThat(reader("F93C00").readValue()).isEqualTo(1.0f);
+        assertThat(reader("FA47C35000").readValue()).isEqualTo(100000.0f);
+        assertThat(reader("FB3FF199999999999A").readValue()).isEqualTo(1.1d);
+    }
+
+    @Test
+    void map_key_order_test() {
+        // keys with a lower major type, then shorter keys, sort first
+        assertThat(reader("A30A0120026161F6").readValue()).isNotNull();
+        assertThatThrownBy(() -> reader("A220020A01").readValue()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("A2626161F66162F6").readValue()).isInstanceOf(DataConversionException.class);
+        assertThatThrownBy(() -> reader("A20A010A02").readValue()).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void getPosition_test() {
+        CTAP2CborReader target = new CTAP2CborReader(HexUtil.decode("00A1010243"), 1, 3);
+        target.skipValue();
+        assertThat(target.getPosition()).isEqualTo(4);
+        assertThat(target.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void skipValueLeniently_test() {
+        // non-shortest integers, unsorted keys and indefinite length items are tolerated, but tags are not
+        CTAP2CborReader target = reader("A203180101020A");
+        target.skipValueLeniently();
+        assertThat(target.getPosition()).isEqualTo(6);
+        assertThatThrownBy(() -> reader("A203180101020A").skipValue()).isInstanceOf(DataConversionException.class);
+
+        CTAP2CborReader indefinite = reader("BF61619F5F4101FFFFFF");
+        indefinite.skipValueLeniently();
+        assertThat(indefinite.hasRemaining()).isFalse();
+        assertThatThrownBy(() -> reader("9FC101FF").skipValueLeniently()).isInstanceOf(DataConversionException.class);
+    }
+
+    private static CTAP2CborReader reader(String hex) {
+        return new CTAP2CborReader(HexUtil.decode(hex));
+    }
+}
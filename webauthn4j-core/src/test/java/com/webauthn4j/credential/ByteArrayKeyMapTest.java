@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteArrayKeyMapTest {
+
+    @Test
+    void put_get_remove_test() {
+        ByteArrayKeyMap<String> target = new ByteArrayKeyMap<>();
+
+        assertThat(target.put(new byte[]{0x01}, "a")).isNull();
+        assertThat(target.put(new byte[]{0x01, 0x02}, "b")).isNull();
+        assertThat(target.put(new byte[]{0x01}, "c")).isEqualTo("a");
+
+        assertThat(target.get(new byte[]{0x01})).isEqualTo("c");
+        assertThat(target.get(new byte[]{0x01, 0x02})).isEqualTo("b");
+        assertThat(target.get(new byte[]{0x02})).isNull();
+        assertThat(target.size()).isEqualTo(2);
+
+        assertThat(target.remove(new byte[]{0x01})).isEqualTo("c");
+        assertThat(target.remove(new byte[]{0x01})).isNull();
+        assertThat(target.get(new byte[]{0x01, 0x02})).isEqualTo("b");
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void behaves_like_HashMap_test() {
+        ByteArrayKeyMap<Integer> target = new ByteArrayKeyMap<>();
+        Map<ByteBuffer, Integer> expected = new HashMap<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            // a small key space causes many collisions, growth and removals in probe sequences
+            byte[] key = new byte[1 + random.nextInt(2)];
+            random.nextBytes(key);
+            switch (random.nextInt(3)) {
+                case 0:
+                    int value = random.nextInt();
+                    assertThat(target.put(key.clone(), value)).isEqualTo(expected.put(ByteBuffer.wrap(key.clone()), value));
+                    break;
+                case 1:
+                    assertThat(target.remove(key)).isEqualTo(expected.remove(ByteBuffer.wrap(key)));
+                    break;
+                default:
+                    assertThat(target.get(key)).isEqualTo(expected.get(ByteBuffer.wrap(key)));
+                    break;
+            }
+            assertThat(target.size()).isEqualTo(expected.size());
+        }
+        for (Map.Entry<ByteBuffer, Integer> entry : expected.entrySet()) {
+            assertThat(target.get(entry.getKey().array())).isEqualTo(entry.getValue());
+        }
+    }
+}
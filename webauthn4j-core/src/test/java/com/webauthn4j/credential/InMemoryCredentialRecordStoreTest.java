@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.webauthn4j.credential;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.webauthn4j.test.TestDataUtil.createCredentialRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCredentialRecordStoreTest {
+
+    private final byte[] userHandleA = new byte[]{0x0A};
+    private final byte[] userHandleB = new byte[]{0x0B};
+
+    private final InMemoryCredentialRecordStore target = new InMemoryCredentialRecordStore();
+
+    @Test
+    void save_and_find_test() {
+        CredentialRecord credentialRecord1 = createCredentialRecord(new byte[]{0x01});
+        CredentialRecord credentialRecord2 = createCredentialRecord(new byte[]{0x02});
+        CredentialRecord credentialRecord3 = createCredentialRecord(new byte[]{0x03});
+        target.save(userHandleA, credentialRecord1);
+        target.save(userHandleA, credentialRecord2);
+        target.save(userHandleB, credentialRecord3);
+
+        assertThat(target.size()).isEqualTo(3);
+        assertThat(target.find(new byte[]{0x01})).isEqualTo(credentialRecord1);
+        assertThat(target.find(new byte[]{0x03})).isEqualTo(credentialRecord3);
+        assertThat(target.find(new byte[]{0x04})).isNull();
+        assertThat(target.findUserHandle(new byte[]{0x02})).isEqualTo(userHandleA);
+        assertThat(target.findUserHandle(new byte[]{0x04})).isNull();
+        assertThat(target.findByUserHandle(userHandleA)).containsExactly(credentialRecord1, credentialRecord2);
+        assertThat(target.findByUserHandle(userHandleB)).containsExactly(credentialRecord3);
+        assertThat(target.findByUserHandle(new byte[]{0x0C})).isEmpty();
+    }
+
+    @Test
+    void save_replaces_credential_record_with_same_credential_id_test() {
+        CredentialRecord credentialRecord = createCredentialRecord(new byte[]{0x01});
+        CredentialRecord replacement = createCredentialRecord(new byte[]{0x01});
+        target.save(userHandleA, credentialRecord);
+        target.save(userHandleB, replacement);
+
+        assertThat(target.size()).isEqualTo(1);
+        assertThat(target.find(new byte[]{0x01})).isEqualTo(replacement);
+        assertThat(target.findUserHandle(new byte[]{0x01})).isEqualTo(userHandleB);
+        assertThat(target.findByUserHandle(userHandleA)).isEmpty();
+        assertThat(target.findByUserHandle(userHandleB)).containsExactly(replacement);
+    }
+
+    @Test
+    void save_copies_user_handle_test() {
+        byte[] userHandle = new byte[]{0x0A};
+        target.save(userHandle, createCredentialRecord(new byte[]{0x01}));
+        userHandle[0] = 0x0B;
+
+        assertThat(target.findUserHandle(new byte[]{0x01})).isEqualTo(userHandleA);
+        assertThat(target.findByUserHandle(userHandleA)).hasSize(1);
+    }
+
+    @Test
+    void find_returns_copy_test() {
+        CredentialRecord credentialRecord = createCredentialRecord(new byte[]{0x01});
+        target.save(userHandleA, credentialRecord);
+
+        CredentialRecord found = target.find(new byte[]{0x01});
+        found.setCounter(10);
+        found.setBackedUp(true);
+
+        assertThat(found).isNotSameAs(credentialRecord);
+        assertThat(target.find(new byte[]{0x01})).isEqualTo(credentialRecord);
+        assertThat(target.find(new byte[]{0x01}).getCounter()).isEqualTo(1);
+        assertThat(target.findByUserHandle(userHandleA).get(0).getCounter()).isEqualTo(1);
+    }
+
+    @Test
+    void update_test() {
+        target.save(userHandleA, createCredentialRecord(new byte[]{0x01}));
+        CredentialRecord updated = target.find(new byte[]{0x01});
+        updated.setCounter(10);
+        updated.setUvInitialized(true);
+        updated.setBackedUp(true);
+
+        assertThat(target.update(updated, 1)).isTrue();
+        assertThat(target.update(createCredentialRecord(new byte[]{0x02}), 1)).isFalse();
+
+        assertThat(target.find(new byte[]{0x01})).isEqualTo(updated);
+        assertThat(target.findByUserHandle(userHandleA)).containsExactly(updated);
+        assertThat(target.find(new byte[]{0x02})).isNull();
+    }
+
+    @Test
+    void update_with_stale_counter_test() {
+        target.save(userHandleA, createCredentialRecord(new byte[]{0x01}));
+        CredentialRecord first = target.find(new byte[]{0x01});
+        CredentialRecord second = target.find(new byte[]{0x01});
+        first.setCounter(10);
+        second.setCounter(11);
+
+        assertThat(target.update(first, 1)).isTrue();
+        assertThat(target.update(second, 1)).isFalse();
+        assertThat(target.find(new byte[]{0x01}).getCounter()).isEqualTo(10);
+    }
+
+    @Test
+    void concurrent_updates_with_same_expected_counter_test() throws Exception {
+        target.save(userHandleA, createCredentialRecord(new byte[]{0x01}));
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            // all threads look up the record before any of them updates it
+            CountDownLatch lookedUp = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long counter = 2L + i;
+                results.add(executorService.submit(() -> {
+                    CredentialRecord credentialRecord = target.find(new byte[]{0x01});
+                    long expectedCounter = credentialRecord.getCounter();
+                    lookedUp.countDown();
+                    start.await();
+                    credentialRecord.setCounter(counter);
+                    return target.update(credentialRecord, expectedCounter);
+                }));
+            }
+            lookedUp.await(10, TimeUnit.SECONDS);
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void remove_test() {
+        target.save(userHandleA, createCredentialRecord(new byte[]{0x01}));
+        CredentialRecord credentialRecord = createCredentialRecord(new byte[]{0x02});
+        target.save(userHandleA, credentialRecord);
+
+        assertThat(target.remove(new byte[]{0x01})).isTrue();
+        assertThat(target.remove(new byte[]{0x01})).isFalse();
+        assertThat(target.find(new byte[]{0x01})).isNull();
+        assertThat(target.findByUserHandle(userHandleA)).containsExactly(credentialRecord);
+        assertThat(target.remove(new byte[]{0x02})).isTrue();
+        assertThat(target.findByUserHandle(userHandleA)).isEmpty();
+        assertThat(target.size()).isZero();
+    }
+}
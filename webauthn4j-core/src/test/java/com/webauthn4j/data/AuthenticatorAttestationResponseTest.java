@@ -17,15 +17,18 @@
 package com.webauthn4j.data;
 
 import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.exception.DataConversionException;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.util.CollectionUtil;
+import com.webauthn4j.util.HexUtil;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class AuthenticatorAttestationResponseTest {
@@ -46,6 +49,14 @@ class AuthenticatorAttestationResponseTest {
         assertThat(publicKeyAlgorithm).isEqualTo(attestationObject.getAuthenticatorData().getAttestedCredentialData().getCOSEKey().getAlgorithm());
     }
 
+    @Test
+    void getAuthenticatorData_without_authData_test() {
+        // {"fmt": "none", "attStmt": {}}
+        byte[] attestationObjectBytes = HexUtil.decode("A263666D74646E6F6E656761747453746D74A0");
+        AuthenticatorAttestationResponse instance = new AuthenticatorAttestationResponse(new byte[0], attestationObjectBytes);
+        assertThatThrownBy(instance::getAuthenticatorData).isInstanceOf(DataConversionException.class);
+    }
+
     @Test
     void equals_hashCode_test() {
         AuthenticatorAttestationResponse instanceA = new AuthenticatorAttestationResponse(new byte[0], new byte[1]);
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.data.attestation.authenticator;
+
+import com.webauthn4j.converter.AuthenticatorDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class AuthenticatorDataViewTest {
+
+    private static final String BASIC_AUTH_DATA = "SZYN5YgOjGh0NBcPZHZgW4_krrmihjLHmVzzuoMdl2MBAAABRQ";
+
+    private final AuthenticatorDataConverter authenticatorDataConverter = new AuthenticatorDataConverter(new ObjectConverter());
+
+    @Test
+    void header_matches_AuthenticatorDataConverter_test() {
+        byte[] bytes = Base64UrlUtil.decode(BASIC_AUTH_DATA);
+        AuthenticatorDataView target = AuthenticatorDataView.wrap(bytes);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> expected = authenticatorDataConverter.convert(bytes);
+
+        assertAll(
+                () -> assertThat(target.getRpIdHash()).isEqualTo(expected.getRpIdHash()),
+                () -> assertThat(target.isRpIdHashEqualTo(expected.getRpIdHash())).isTrue(),
+                () -> assertThat(target.getFlags()).isEqualTo(expected.getFlags()),
+                () -> assertThat(target.isFlagUP()).isTrue(),
+                () -> assertThat(target.isFlagAT()).isFalse(),
+                () -> assertThat(target.isFlagED()).isFalse(),
+                () -> assertThat(target.getSignCount()).isEqualTo(325L),
+                () -> assertThat(target.getLength()).isEqualTo(AuthenticatorDataView.FIXED_LENGTH)
+        );
+    }
+
+    @Test
+    void getSignCount_with_max_value_test() {
+        byte[] bytes = new byte[AuthenticatorDataView.FIXED_LENGTH];
+        for (int i = AuthenticatorDataView.SIGN_COUNT_INDEX; i < bytes.length; i++) {
+            bytes[i] = (byte) 0xFF;
+        }
+        assertThat(AuthenticatorDataView.wrap(bytes).getSignCount()).isEqualTo(0xFFFFFFFFL);
+    }
+
+    @Test
+    void isRpIdHashEqualTo_with_different_value_test() {
+        AuthenticatorDataView target = AuthenticatorDataView.wrap(Base64UrlUtil.decode(BASIC_AUTH_DATA));
+        assertAll(
+                () -> assertThat(target.isRpIdHashEqualTo(new byte[32])).isFalse(),
+                () -> assertThat(target.isRpIdHashEqualTo(new byte[31])).isFalse(),
+                () -> assertThat(target.isRpIdHashEqualTo(null)).isFalse()
+        );
+    }
+
+    @Test
+    void wrap_with_too_short_data_test() {
+        byte[] bytes = new byte[AuthenticatorDataView.FIXED_LENGTH - 1];
+        assertThrows(IllegalArgumentException.class, () -> AuthenticatorDataView.wrap(bytes));
+    }
+}
@@ -242,6 +242,12 @@ class EC2COSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_memoized_instance_test() {
+        EC2COSEKey key = EC2COSEKey.create(ECUtil.createKeyPair());
+        assertThat(key.getPublicKey()).isSameAs(key.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         EC2COSEKey keyPair = EC2COSEKey.create(ECUtil.createKeyPair());
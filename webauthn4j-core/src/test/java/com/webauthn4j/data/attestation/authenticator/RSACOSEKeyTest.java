@@ -168,6 +168,12 @@ class RSACOSEKeyTest {
         assertThat(publicKey.getPublicKey()).isNotNull();
     }
 
+    @Test
+    void getPublicKey_returns_memoized_instance_test() {
+        RSACOSEKey key = RSACOSEKey.create(RSAUtil.createKeyPair());
+        assertThat(key.getPublicKey()).isSameAs(key.getPublicKey());
+    }
+
     @Test
     void getPrivateKey_test() {
         RSACOSEKey keyPair = RSACOSEKey.create(RSAUtil.createKeyPair());
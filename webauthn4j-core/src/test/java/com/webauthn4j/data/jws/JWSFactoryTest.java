@@ -16,10 +16,13 @@
 
 package com.webauthn4j.data.jws;
 
+import com.webauthn4j.converter.util.JsonConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.util.CertificateUtil;
 import com.webauthn4j.util.ECUtil;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.util.Collections;
@@ -29,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JWSFactoryTest {
 
+    private final JsonConverter jsonConverter = new ObjectConverter().getJsonConverter();
     private final JWSFactory target = new JWSFactory();
 
     @Test
@@ -57,6 +61,25 @@ class JWSFactoryTest {
         assertThatThrownBy(() -> target.create(header, payload, privateKey)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void parse_bytes_test() {
+        JWSHeader header = new JWSHeader(JWAIdentifier.ES256, CertificateUtil.generateCertPath(Collections.emptyList()));
+        Payload payload = new Payload();
+        payload.setDummy("dummy");
+        JWS<Payload> jws = target.create(header, payload, ECUtil.createKeyPair().getPrivate());
+
+        JWS<Payload> parsed = target.parse(jws.getBytes(), inputStream -> jsonConverter.readValue(inputStream, Payload.class));
+
+        assertThat(parsed.getPayload().getDummy()).isEqualTo("dummy");
+        assertThat(parsed.getSignature()).isEqualTo(jws.getSignature());
+        assertThat(parsed).hasToString(jws.toString());
+    }
+
+    @Test
+    void parse_bytes_invalid_data_test() {
+        byte[] value = "invalid.data".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> target.parse(value, inputStream -> jsonConverter.readValue(inputStream, Payload.class))).isInstanceOf(IllegalArgumentException.class);
+    }
 
     private static class Payload {
         private String dummy;
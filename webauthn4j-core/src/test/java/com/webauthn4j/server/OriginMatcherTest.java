@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.Origin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class OriginMatcherTest {
+
+    private static final String APK_KEY_HASH = "android:apk-key-hash:pNiP5iKyQ8JwgGOaKA1zGPUPJIS-0H1xKCQcfIoGLck";
+
+    private final OriginMatcher target = new OriginMatcher(Arrays.asList(
+            "https://example.com",
+            "http://localhost:8080",
+            "https://*.tenant.example.net",
+            "https://[::1]:8443",
+            APK_KEY_HASH
+    ));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://example.com",
+            "https://example.com:443",
+            "HTTPS://Example.COM",
+            "https://example.com/",
+            "http://localhost:8080",
+            "https://a.tenant.example.net",
+            "https://a.b.tenant.example.net",
+            "https://[::1]:8443",
+            APK_KEY_HASH
+    })
+    void matches_test(String origin) {
+        assertAll(
+                () -> assertThat(target.matches(origin)).isTrue(),
+                () -> assertThat(target.matches(new Origin(origin))).isTrue()
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "http://example.com",
+            "https://example.com:8443",
+            "https://sub.example.com",
+            "https://example.com.phish.com",
+            "http://localhost",
+            "https://tenant.example.net",
+            "https://atenant.example.net",
+            "http://a.tenant.example.net",
+            "https://a.tenant.example.net:8443",
+            "https://[::1]",
+            "android:apk-key-hash:0pNiP5iKyQ8JwgGOaKA1zGPUPJIS-0H1xKCQcfIoGLck",
+            "android:apk-key-hash-sha256:pNiP5iKyQ8JwgGOaKA1zGPUPJIS-0H1xKCQcfIoGLck"
+    })
+    void not_matches_test(String origin) {
+        assertAll(
+                () -> assertThat(target.matches(origin)).isFalse(),
+                () -> assertThat(target.matches(new Origin(origin))).isFalse()
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "https://attacker.com@example.com",
+            "https://example.com:abc",
+            "https://example.com:4430000000",
+            "https:example.com",
+            "https://",
+            "example.com",
+            "https://evil host.tenant.example.net",
+            "https://evil_host.tenant.example.net",
+            "https://evil%2ehost.tenant.example.net",
+            "https://[::1:8443"
+    })
+    void matches_malformed_origin_test(String origin) {
+        assertThat(target.matches(origin)).isFalse();
+    }
+
+    @Test
+    void matches_null_test() {
+        assertAll(
+                () -> assertThat(target.matches((String) null)).isFalse(),
+                () -> assertThat(target.matches((Origin) null)).isFalse()
+        );
+    }
+
+    @Test
+    void create_test() {
+        OriginMatcher matcher = OriginMatcher.create(Arrays.asList(new Origin("https://example.com:443"), new Origin(APK_KEY_HASH)));
+        assertAll(
+                () -> assertThat(matcher.matches("https://example.com")).isTrue(),
+                () -> assertThat(matcher.matches(APK_KEY_HASH)).isTrue(),
+                () -> assertThat(matcher).isEqualTo(new OriginMatcher(Arrays.asList("https://example.com", APK_KEY_HASH)))
+        );
+    }
+
+    @Test
+    void constructor_with_non_web_wildcard_pattern_test() {
+        assertThrows(IllegalArgumentException.class, () -> new OriginMatcher(Collections.singletonList("android://*.example.com")));
+    }
+
+    @Test
+    void equals_hashCode_test() {
+        OriginMatcher instanceA = new OriginMatcher(Arrays.asList("https://example.com", "https://*.example.net"));
+        OriginMatcher instanceB = new OriginMatcher(Arrays.asList("https://*.EXAMPLE.net:443", "https://example.com:443"));
+        assertAll(
+                () -> assertThat(instanceA).isEqualTo(instanceB),
+                () -> assertThat(instanceA).hasSameHashCodeAs(instanceB)
+        );
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.util.MessageDigestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class RelyingPartyProfileTest {
+
+    private static final String RP_ID = "rp-origin.com";
+
+    private final Origin webApp1Origin = new Origin("https://app1.rp-origin.com");
+    private final Origin webApp2Origin = new Origin("https://app2.rp-origin.com");
+
+    @Test
+    void createServerProperty_test() {
+        RelyingPartyProfile target = new RelyingPartyProfile(new HashSet<>(Arrays.asList(webApp1Origin, webApp2Origin)), RP_ID);
+        Challenge challenge = new DefaultChallenge();
+
+        ServerProperty serverProperty = target.createServerProperty(challenge);
+
+        assertAll(
+                () -> assertThat(serverProperty).isEqualTo(new ServerProperty(new HashSet<>(Arrays.asList(webApp1Origin, webApp2Origin)), RP_ID, challenge)),
+                () -> assertThat(serverProperty.getRpIdHash()).isEqualTo(target.getRpIdHash()),
+                () -> assertThat(serverProperty.getTokenBindingId()).isNull()
+        );
+    }
+
+    @Test
+    void createServerProperty_with_originMatcher_test() {
+        OriginMatcher originMatcher = new OriginMatcher(Arrays.asList("https://*.rp-origin.com"));
+        RelyingPartyProfile target = new RelyingPartyProfile(originMatcher, RP_ID);
+        Challenge challenge = new DefaultChallenge();
+
+        ServerProperty serverProperty = target.createServerProperty(challenge);
+
+        assertAll(
+                () -> assertThat(serverProperty).isEqualTo(new ServerProperty(originMatcher, RP_ID, challenge)),
+                () -> assertThat(serverProperty.getOriginMatcher()).isSameAs(originMatcher),
+                () -> assertThat(serverProperty.getOrigins()).isEmpty(),
+                () -> assertThat(target.getOriginMatcher()).isSameAs(originMatcher)
+        );
+    }
+
+    @Test
+    void getRpIdHash_test() {
+        RelyingPartyProfile target = new RelyingPartyProfile(webApp1Origin, RP_ID);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(RP_ID.getBytes(StandardCharsets.UTF_8));
+        assertThat(target.getRpIdHash()).isEqualTo(expected);
+        assertThat(new ServerProperty(webApp1Origin, RP_ID, null).getRpIdHash()).isEqualTo(expected);
+    }
+
+    @Test
+    void getRpIdHash_returns_defensive_copy_test() {
+        RelyingPartyProfile target = new RelyingPartyProfile(webApp1Origin, RP_ID);
+        target.getRpIdHash()[0] ^= 0x01;
+        target.createServerProperty(null).getRpIdHash()[0] ^= 0x01;
+        assertThat(target.createServerProperty(null).getRpIdHash()).isEqualTo(new ServerProperty(webApp1Origin, RP_ID, null).getRpIdHash());
+    }
+
+    @Test
+    void constructor_with_null_test() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new RelyingPartyProfile((Origin) null, RP_ID)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new RelyingPartyProfile(webApp1Origin, null))
+        );
+    }
+
+    @Test
+    void equals_hashCode_test() {
+        RelyingPartyProfile instanceA = new RelyingPartyProfile(webApp1Origin, RP_ID);
+        RelyingPartyProfile instanceB = new RelyingPartyProfile(webApp1Origin, RP_ID);
+        assertAll(
+                () -> assertThat(instanceA).isEqualTo(instanceB),
+                () -> assertThat(instanceA).hasSameHashCodeAs(instanceB)
+        );
+    }
+}
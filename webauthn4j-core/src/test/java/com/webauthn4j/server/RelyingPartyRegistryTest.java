@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.server;
+
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.data.AuthenticationData;
+import com.webauthn4j.data.AuthenticationParameters;
+import com.webauthn4j.data.PublicKeyCredentialParameters;
+import com.webauthn4j.data.PublicKeyCredentialType;
+import com.webauthn4j.data.RegistrationParameters;
+import com.webauthn4j.data.attestation.authenticator.AuthenticatorData;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.authenticator.AuthenticationExtensionAuthenticatorOutput;
+import com.webauthn4j.test.TestDataUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class RelyingPartyRegistryTest {
+
+    private final List<PublicKeyCredentialParameters> pubKeyCredParams = Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256));
+    private final RelyingPartyContext tenant1 = new RelyingPartyContext(new RelyingPartyProfile(new Origin("https://tenant1.example.com"), "tenant1.example.com"), pubKeyCredParams, true);
+    private final RelyingPartyContext tenant2 = new RelyingPartyContext(new RelyingPartyProfile(new OriginMatcher(Collections.singletonList("https://*.tenant2.example.com")), "tenant2.example.com"), null, false, false, null);
+
+    private final RelyingPartyRegistry target = new RelyingPartyRegistry();
+
+    @Test
+    void findByRpId_and_findByRpIdHash_test() {
+        target.register(tenant1);
+        target.register(tenant2);
+
+        assertAll(
+                () -> assertThat(target.findByRpId("tenant1.example.com")).isSameAs(tenant1),
+                () -> assertThat(target.findByRpId("tenant2.example.com")).isSameAs(tenant2),
+                () -> assertThat(target.findByRpId("unknown.example.com")).isNull(),
+                () -> assertThat(target.findByRpIdHash(tenant1.getRpIdHash())).isSameAs(tenant1),
+                () -> assertThat(target.findByRpIdHash(new byte[32])).isNull(),
+                () -> assertThat(target.getRelyingPartyContexts()).containsExactlyInAnyOrder(tenant1, tenant2)
+        );
+    }
+
+    @Test
+    void find_authenticationData_test() {
+        target.register(tenant1);
+        target.register(tenant2);
+        AuthenticatorData<AuthenticationExtensionAuthenticatorOutput> authenticatorData = new AuthenticatorData<>(tenant2.getRpIdHash(), AuthenticatorData.BIT_UP, 0);
+        AuthenticationData authenticationData = new AuthenticationData(new byte[32], null, authenticatorData, null, null, null, null, null);
+
+        assertThat(target.find(authenticationData)).isSameAs(tenant2);
+    }
+
+    @Test
+    void register_replaces_and_unregister_test() {
+        target.register(tenant1);
+        RelyingPartyContext replacement = new RelyingPartyContext(tenant1.getRelyingPartyProfile(), null, false);
+        target.register(replacement);
+
+        assertThat(target.findByRpId("tenant1.example.com")).isSameAs(replacement);
+        assertThat(target.findByRpIdHash(tenant1.getRpIdHash())).isSameAs(replacement);
+
+        assertThat(target.unregister("tenant1.example.com")).isSameAs(replacement);
+        assertAll(
+                () -> assertThat(target.findByRpId("tenant1.example.com")).isNull(),
+                () -> assertThat(target.findByRpIdHash(tenant1.getRpIdHash())).isNull(),
+                () -> assertThat(target.unregister("tenant1.example.com")).isNull()
+        );
+    }
+
+    @Test
+    void createParameters_test() {
+        Challenge challenge = new DefaultChallenge();
+        CredentialRecord credentialRecord = TestDataUtil.createCredentialRecord();
+
+        RegistrationParameters registrationParameters = tenant1.createRegistrationParameters(challenge);
+        AuthenticationParameters authenticationParameters = tenant2.createAuthenticationParameters(challenge, credentialRecord, null);
+
+        assertAll(
+                () -> assertThat(registrationParameters.getServerProperty()).isEqualTo(new ServerProperty(new Origin("https://tenant1.example.com"), "tenant1.example.com", challenge)),
+                () -> assertThat(registrationParameters.getPubKeyCredParams()).isEqualTo(pubKeyCredParams),
+                () -> assertThat(registrationParameters.isUserVerificationRequired()).isTrue(),
+                () -> assertThat(registrationParameters.isUserPresenceRequired()).isTrue(),
+                () -> assertThat(authenticationParameters.getServerProperty().getOriginMatcher()).isSameAs(tenant2.getRelyingPartyProfile().getOriginMatcher()),
+                () -> assertThat(authenticationParameters.getServerProperty().getRpIdHash()).isEqualTo(tenant2.getRpIdHash()),
+                () -> assertThat(authenticationParameters.getAuthenticator()).isSameAs(credentialRecord),
+                () -> assertThat(authenticationParameters.isUserVerificationRequired()).isFalse(),
+                () -> assertThat(authenticationParameters.isUserPresenceRequired()).isFalse()
+        );
+    }
+
+    @Test
+    void register_null_test() {
+        assertThrows(IllegalArgumentException.class, () -> target.register(null));
+    }
+}
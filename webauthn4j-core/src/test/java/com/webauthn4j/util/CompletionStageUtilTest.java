@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompletionStageUtilTest {
+
+    @Test
+    void supply_with_executor_test() throws ExecutionException, InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        Executor executor = command -> {
+            counter.incrementAndGet();
+            command.run();
+        };
+        assertThat(CompletionStageUtil.supply(() -> "result", executor).toCompletableFuture().get()).isEqualTo("result");
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void supply_with_executor_does_not_wrap_exception_test() {
+        CompletableFuture<Object> future = CompletionStageUtil.supply(() -> {
+            throw new IllegalStateException();
+        }, Runnable::run).toCompletableFuture();
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void compose_with_rejecting_executor_test() {
+        CompletableFuture<Object> future = CompletionStageUtil.compose(() -> CompletableFuture.completedFuture(null), command -> {
+            throw new RejectedExecutionException();
+        }).toCompletableFuture();
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertThat(exception.getCause()).isInstanceOf(RejectedExecutionException.class);
+    }
+}
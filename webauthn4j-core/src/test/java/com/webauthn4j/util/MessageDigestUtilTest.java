@@ -18,6 +18,7 @@ package com.webauthn4j.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,4 +52,15 @@ class MessageDigestUtilTest {
                 () -> MessageDigestUtil.createMessageDigest("wrong-arg")
         );
     }
+
+    @Test
+    void createMessageDigest_returns_independent_instances_test() {
+        MessageDigest first = MessageDigestUtil.createSHA256();
+        MessageDigest second = MessageDigestUtil.createSHA256();
+        assertThat(first).isNotSameAs(second);
+
+        first.update("partial".getBytes(StandardCharsets.UTF_8));
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        assertThat(second.digest(data)).isEqualTo(MessageDigestUtil.createSHA256().digest(data));
+    }
 }
@@ -16,9 +16,16 @@
 
 package com.webauthn4j.util;
 
+import com.webauthn4j.data.SignatureAlgorithm;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.KeyPair;
+import java.security.Signature;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -35,6 +42,41 @@ class SignatureUtilTest {
         assertThat(SignatureUtil.createES256().getAlgorithm()).isEqualTo("SHA256withECDSA");
     }
 
+    @Test
+    void verify_test() throws GeneralSecurityException {
+        KeyPair keyPair = ECUtil.createKeyPair();
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second".getBytes(StandardCharsets.UTF_8);
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(keyPair.getPrivate());
+        signer.update(first);
+        signer.update(second);
+        byte[] signature = signer.sign();
+
+        // repeated to exercise the remembered provider
+        for (int i = 0; i < 3; i++) {
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature, first, second)).isTrue();
+            assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature, second, first)).isFalse();
+        }
+    }
+
+    @Test
+    void verify_with_key_of_other_class_test() throws GeneralSecurityException {
+        KeyPair ecKeyPair = ECUtil.createKeyPair();
+        KeyPair rsaKeyPair = RSAUtil.createKeyPair();
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(ecKeyPair.getPrivate());
+        signer.update(data);
+        byte[] signature = signer.sign();
+
+        assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, ecKeyPair.getPublic(), signature, data)).isTrue();
+        assertThrows(InvalidKeyException.class,
+                () -> SignatureUtil.verify(SignatureAlgorithm.ES256, rsaKeyPair.getPublic(), signature, data)
+        );
+        assertThat(SignatureUtil.verify(SignatureAlgorithm.ES256, ecKeyPair.getPublic(), signature, data)).isTrue();
+    }
+
     @Nested
     class createSignatureTest{
         @Deprecated
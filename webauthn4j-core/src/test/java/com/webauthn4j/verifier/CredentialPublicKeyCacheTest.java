@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier;
+
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.util.ECUtil;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialPublicKeyCacheTest {
+
+    private static final byte[] CREDENTIAL_ID_A = new byte[]{0x01, 0x02};
+    private static final byte[] CREDENTIAL_ID_B = new byte[]{0x03, 0x04};
+    private static final byte[] CREDENTIAL_ID_C = new byte[]{0x05, 0x06};
+
+    @Test
+    void get_returns_cached_key_for_rehydrated_COSEKey_test() {
+        CredentialPublicKeyCache target = new CredentialPublicKeyCache(10);
+        KeyPair keyPair = ECUtil.createKeyPair();
+        PublicKey first = target.get(CREDENTIAL_ID_A, EC2COSEKey.create(keyPair));
+        PublicKey second = target.get(CREDENTIAL_ID_A.clone(), EC2COSEKey.create(keyPair));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void get_with_different_COSEKey_for_same_credentialId_test() {
+        CredentialPublicKeyCache target = new CredentialPublicKeyCache(10);
+        EC2COSEKey keyA = EC2COSEKey.create(ECUtil.createKeyPair());
+        EC2COSEKey keyB = EC2COSEKey.create(ECUtil.createKeyPair());
+        target.get(CREDENTIAL_ID_A, keyA);
+        assertThat(target.get(CREDENTIAL_ID_A, keyB)).isEqualTo(keyB.getPublicKey());
+    }
+
+    @Test
+    void get_with_private_key_only_COSEKey_test() {
+        CredentialPublicKeyCache target = new CredentialPublicKeyCache(10);
+        EC2COSEKey privateKey = EC2COSEKey.create((ECPrivateKey) ECUtil.createKeyPair().getPrivate());
+        assertThat(target.get(CREDENTIAL_ID_A, privateKey)).isNull();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void least_recently_used_entry_is_evicted_test() {
+        CredentialPublicKeyCache target = new CredentialPublicKeyCache(2);
+        EC2COSEKey keyA = EC2COSEKey.create(ECUtil.createKeyPair());
+        PublicKey publicKeyA = target.get(CREDENTIAL_ID_A, keyA);
+        target.get(CREDENTIAL_ID_B, EC2COSEKey.create(ECUtil.createKeyPair()));
+        target.get(CREDENTIAL_ID_A, keyA);
+        target.get(CREDENTIAL_ID_C, EC2COSEKey.create(ECUtil.createKeyPair()));
+        assertThat(target.size()).isEqualTo(2);
+        assertThat(target.get(CREDENTIAL_ID_A, keyA)).isSameAs(publicKeyA);
+        target.invalidate(CREDENTIAL_ID_C);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_and_clear_test() {
+        CredentialPublicKeyCache target = new CredentialPublicKeyCache(10);
+        target.get(CREDENTIAL_ID_A, EC2COSEKey.create(ECUtil.createKeyPair()));
+        target.get(CREDENTIAL_ID_B, EC2COSEKey.create(ECUtil.createKeyPair()));
+        target.invalidate(CREDENTIAL_ID_A);
+        assertThat(target.size()).isEqualTo(1);
+        target.clear();
+        assertThat(target.size()).isZero();
+    }
+
+    @Test
+    void constructor_with_non_positive_maxSize_test() {
+        assertThatThrownBy(() -> new CredentialPublicKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
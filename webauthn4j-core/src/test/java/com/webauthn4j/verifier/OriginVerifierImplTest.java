@@ -16,9 +16,12 @@
 
 package com.webauthn4j.verifier;
 
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.server.OriginMatcher;
 import com.webauthn4j.server.ServerProperty;
 import com.webauthn4j.test.TestDataUtil;
 import com.webauthn4j.verifier.exception.BadOriginException;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 
@@ -117,6 +121,37 @@ class OriginVerifierImplTest {
         );
     }
 
+    @Test
+    void origin_matcher_test() {
+        OriginMatcher originMatcher = new OriginMatcher(Arrays.asList("https://*.example.com", "android:apk-key-hash:pNiP5iKyQ8JwgGOaKA1zGPUPJIS-0H1xKCQcfIoGLck"));
+        ServerProperty serverProperty = new ServerProperty(originMatcher, "example.com", TestDataUtil.createChallenge());
+
+        CollectedClientData collectedClientDataA = new CollectedClientData(ClientDataType.WEBAUTHN_CREATE,
+                TestDataUtil.createChallenge(), new Origin("https://tenant1.example.com"), null);
+        CollectedClientData collectedClientDataB = new CollectedClientData(ClientDataType.WEBAUTHN_GET,
+                TestDataUtil.createChallenge(), new Origin("android:apk-key-hash:pNiP5iKyQ8JwgGOaKA1zGPUPJIS-0H1xKCQcfIoGLck"), null);
+        CollectedClientData badCollectedClientData = new CollectedClientData(ClientDataType.WEBAUTHN_GET,
+                TestDataUtil.createChallenge(), new Origin("https://example.com"), null);
+
+        target.verify(collectedClientDataA, serverProperty);
+        target.verify(collectedClientDataB, serverProperty);
+        assertThrows(BadOriginException.class,
+                () -> target.verify(badCollectedClientData, serverProperty)
+        );
+    }
+
+    @Test
+    void origin_matcher_with_unparsable_origin_test() {
+        OriginMatcher originMatcher = new OriginMatcher(Arrays.asList("https://*.example.com"));
+        ServerProperty serverProperty = new ServerProperty(originMatcher, "example.com", TestDataUtil.createChallenge());
+        CollectedClientData collectedClientData = new CollectedClientDataConverter(new ObjectConverter())
+                .convert("{\"type\":\"webauthn.get\",\"challenge\":\"AAAA\",\"origin\":\"https://bad host.example.com\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadOriginException.class,
+                () -> target.verify(collectedClientData, serverProperty)
+        );
+    }
+
     @SuppressWarnings("java:S5976")
     @Test
     void test_with_not_equal_origins() {
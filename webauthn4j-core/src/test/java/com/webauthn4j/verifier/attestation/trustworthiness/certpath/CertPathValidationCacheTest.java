@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.attestation.trustworthiness.certpath;
+
+import com.webauthn4j.test.TestAttestationUtil;
+import com.webauthn4j.util.CertificateUtil;
+import com.webauthn4j.verifier.exception.CertificateException;
+import org.junit.jupiter.api.Test;
+
+import java.security.cert.CertPath;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CertPathValidationCacheTest {
+
+    private final CertPath certPath = TestAttestationUtil.load3tierTestAttestationCertificatePath().createCertPath();
+    private final X509Certificate rootCertificate = TestAttestationUtil.load3tierTestRootCACertificate();
+    private final Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(rootCertificate));
+    private final TrustAnchor trustAnchor = trustAnchors.iterator().next();
+    private final Instant timestamp = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate().getNotBefore().toInstant().plusSeconds(1);
+
+    @Test
+    void validate_caches_successful_validation_test() {
+        CertPathValidationCache target = new CertPathValidationCache(10);
+        AtomicInteger counter = new AtomicInteger();
+
+        assertThat(target.validate(certPath, trustAnchors, false, timestamp, () -> count(counter))).isSameAs(trustAnchor);
+        assertThat(target.validate(certPath, trustAnchors, false, timestamp, () -> count(counter))).isSameAs(trustAnchor);
+        assertThat(counter.get()).isEqualTo(1);
+        assertThat(target.size()).isEqualTo(1);
+    }
+
+    @Test
+    void validate_with_different_options_or_trustAnchors_test() {
+        CertPathValidationCache target = new CertPathValidationCache(10);
+        AtomicInteger counter = new AtomicInteger();
+
+        target.validate(certPath, trustAnchors, false, timestamp, () -> count(counter));
+        target.validate(certPath, trustAnchors, true, timestamp, () -> count(counter));
+        Set<TrustAnchor> otherTrustAnchors = CertificateUtil.generateTrustAnchors(Collections.singletonList(rootCertificate));
+        target.validate(certPath, otherTrustAnchors, false, timestamp, () -> count(counter));
+        assertThat(counter.get()).isEqualTo(3);
+    }
+
+    @Test
+    void validate_outside_certificate_validity_period_test() {
+        CertPathValidationCache target = new CertPathValidationCache(10);
+        AtomicInteger counter = new AtomicInteger();
+        Instant expired = TestAttestationUtil.load3tierTestAuthenticatorAttestationCertificate().getNotAfter().toInstant().plusSeconds(1);
+
+        target.validate(certPath, trustAnchors, false, timestamp, () -> count(counter));
+        target.validate(certPath, trustAnchors, false, expired, () -> count(counter));
+        assertThat(counter.get()).isEqualTo(2);
+    }
+
+    @Test
+    void validate_does_not_cache_failure_test() {
+        CertPathValidationCache target = new CertPathValidationCache(10);
+        assertThrows(CertificateException.class, () -> target.validate(certPath, trustAnchors, false, timestamp, () -> {
+            throw new CertificateException("invalid cert path");
+        }));
+        assertThat(target.size()).isZero();
+        target.clear();
+    }
+
+    @Test
+    void constructor_with_non_positive_maxSize_test() {
+        assertThrows(IllegalArgumentException.class, () -> new CertPathValidationCache(0));
+    }
+
+    private TrustAnchor count(AtomicInteger counter) {
+        counter.incrementAndGet();
+        return trustAnchor;
+    }
+}
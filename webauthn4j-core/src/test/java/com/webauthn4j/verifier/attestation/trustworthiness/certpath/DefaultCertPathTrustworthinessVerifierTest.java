@@ -69,6 +69,21 @@ class DefaultCertPathTrustworthinessVerifierTest {
         target.verify(aaguid, attestationStatement);
     }
 
+    @Test
+    void verify_packed_with_certPathValidationCache_test() {
+
+        Set<TrustAnchor> trustAnchors = CertificateUtil.generateTrustAnchors(
+                Collections.singletonList(TestAttestationUtil.load3tierTestRootCACertificate()));
+        when(trustAnchorRepository.find((AAGUID) any())).thenReturn(trustAnchors);
+        CertPathValidationCache certPathValidationCache = new CertPathValidationCache(10);
+        target.setCertPathValidationCache(certPathValidationCache);
+
+        CertificateBaseAttestationStatement attestationStatement = TestAttestationStatementUtil.createBasicPackedAttestationStatement(TestAttestationUtil.load3tierTestAttestationCertificatePath());
+        target.verify(aaguid, attestationStatement);
+        target.verify(aaguid, attestationStatement);
+        assertThat(certPathValidationCache.size()).isEqualTo(1);
+    }
+
     @Test
     void verify_with_empty_trustAnchors_test() {
 
@@ -124,6 +139,9 @@ class DefaultCertPathTrustworthinessVerifierTest {
         assertThat(target.isPolicyQualifiersRejected()).isTrue();
         target.setRevocationCheckEnabled(true);
         assertThat(target.isRevocationCheckEnabled()).isTrue();
+        CertPathValidationCache certPathValidationCache = new CertPathValidationCache(10);
+        target.setCertPathValidationCache(certPathValidationCache);
+        assertThat(target.getCertPathValidationCache()).isSameAs(certPathValidationCache);
     }
 
     @Test
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.data.CoreAuthenticationData;
+import com.webauthn4j.data.attestation.authenticator.COSEKey;
+import com.webauthn4j.data.attestation.authenticator.EC2COSEKey;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.SignatureUtil;
+import com.webauthn4j.verifier.exception.BadSignatureException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AssertionSignatureVerifierTest {
+
+    private final KeyPair keyPair = ECUtil.createKeyPair();
+    private final COSEKey coseKey = EC2COSEKey.create(keyPair, COSEAlgorithmIdentifier.ES256);
+    private final byte[] authenticatorDataBytes = "authenticatorData".getBytes(StandardCharsets.UTF_8);
+    private final byte[] clientDataHash = "clientDataHash".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void verify_test() throws GeneralSecurityException {
+        byte[] signature = sign(SignedData.of(authenticatorDataBytes, clientDataHash).toByteArray());
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+        assertDoesNotThrow(() -> target.verify(createAuthenticationData(signature), coseKey));
+    }
+
+    @Test
+    void verify_with_invalid_signature_test() throws GeneralSecurityException {
+        byte[] signature = sign(SignedData.of(clientDataHash, authenticatorDataBytes).toByteArray());
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier();
+        CoreAuthenticationData authenticationData = createAuthenticationData(signature);
+        assertThrows(BadSignatureException.class, () -> target.verify(authenticationData, coseKey));
+    }
+
+    @Test
+    void verify_with_createSignedData_override_test() throws GeneralSecurityException {
+        byte[] customSignedData = "customSignedData".getBytes(StandardCharsets.UTF_8);
+        byte[] signature = sign(customSignedData);
+        AssertionSignatureVerifier target = new AssertionSignatureVerifier() {
+            @Override
+            protected @NotNull SignedData createSignedData(@NotNull CoreAuthenticationData authenticationData) {
+                return SignedData.of(customSignedData);
+            }
+        };
+        assertDoesNotThrow(() -> target.verify(createAuthenticationData(signature), coseKey));
+    }
+
+    private byte[] sign(byte[] data) throws GeneralSecurityException {
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(keyPair.getPrivate());
+        signer.update(data);
+        return signer.sign();
+    }
+
+    private CoreAuthenticationData createAuthenticationData(byte[] signature) {
+        return new CoreAuthenticationData(new byte[32], null, authenticatorDataBytes, clientDataHash, signature);
+    }
+}
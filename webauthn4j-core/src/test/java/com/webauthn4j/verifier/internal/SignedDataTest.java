@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.verifier.internal;
+
+import com.webauthn4j.data.SignatureAlgorithm;
+import com.webauthn4j.util.ECUtil;
+import com.webauthn4j.util.MessageDigestUtil;
+import com.webauthn4j.util.SignatureUtil;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("ConstantConditions")
+class SignedDataTest {
+
+    private final byte[] first = "authenticatorData".getBytes(StandardCharsets.UTF_8);
+    private final byte[] second = "clientDataHash".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void toByteArray_test() {
+        SignedData target = SignedData.of(first, second);
+        byte[] expected = "authenticatorDataclientDataHash".getBytes(StandardCharsets.UTF_8);
+        assertThat(target.getLength()).isEqualTo(expected.length);
+        assertThat(target.toByteArray()).isEqualTo(expected);
+    }
+
+    @Test
+    void digest_test() {
+        SignedData target = SignedData.of(first, second);
+        byte[] expected = MessageDigestUtil.createSHA256().digest(target.toByteArray());
+        assertThat(target.digest(MessageDigestUtil.createSHA256())).isEqualTo(expected);
+    }
+
+    @Test
+    void verify_test() throws GeneralSecurityException {
+        KeyPair keyPair = ECUtil.createKeyPair();
+        Signature signer = SignatureUtil.createES256();
+        signer.initSign(keyPair.getPrivate());
+        signer.update(SignedData.of(first, second).toByteArray());
+        byte[] signature = signer.sign();
+
+        assertThat(SignedData.of(first, second).verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature)).isTrue();
+        assertThat(SignedData.of(second, first).verify(SignatureAlgorithm.ES256, keyPair.getPublic(), signature)).isFalse();
+    }
+
+    @Test
+    void of_with_null_segment_test() {
+        assertThrows(IllegalArgumentException.class, () -> SignedData.of(first, null));
+    }
+}
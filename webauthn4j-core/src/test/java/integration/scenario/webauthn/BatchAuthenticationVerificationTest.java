@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package integration.scenario.webauthn;
+
+import com.webauthn4j.WebAuthnManager;
+import com.webauthn4j.converter.AttestationObjectConverter;
+import com.webauthn4j.converter.AuthenticationExtensionsClientOutputsConverter;
+import com.webauthn4j.converter.CollectedClientDataConverter;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.credential.CredentialRecord;
+import com.webauthn4j.credential.CredentialRecordImpl;
+import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.AttestationObject;
+import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.client.ClientDataType;
+import com.webauthn4j.data.client.CollectedClientData;
+import com.webauthn4j.data.client.Origin;
+import com.webauthn4j.data.client.challenge.Challenge;
+import com.webauthn4j.data.client.challenge.DefaultChallenge;
+import com.webauthn4j.data.extension.client.AuthenticationExtensionsClientInputs;
+import com.webauthn4j.server.ServerProperty;
+import com.webauthn4j.test.EmulatorUtil;
+import com.webauthn4j.test.client.ClientPlatform;
+import com.webauthn4j.util.exception.WebAuthnException;
+import com.webauthn4j.verifier.exception.BadChallengeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("ConstantConditions")
+class BatchAuthenticationVerificationTest {
+
+    private final ObjectConverter objectConverter = new ObjectConverter();
+    private final AttestationObjectConverter attestationObjectConverter = new AttestationObjectConverter(objectConverter);
+    private final CollectedClientDataConverter collectedClientDataConverter = new CollectedClientDataConverter(objectConverter);
+    private final AuthenticationExtensionsClientOutputsConverter authenticationExtensionsClientOutputsConverter
+            = new AuthenticationExtensionsClientOutputsConverter(objectConverter);
+
+    private final String rpId = "example.com";
+    private final Origin origin = new Origin("http://example.com");
+    private final Challenge challenge = new DefaultChallenge();
+    private final ClientPlatform clientPlatform = EmulatorUtil.createClientPlatform(EmulatorUtil.PACKED_AUTHENTICATOR);
+    private final WebAuthnManager target = WebAuthnManager.createNonStrictWebAuthnManager(objectConverter);
+
+    @Test
+    void verifyAll_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+        AuthenticationRequest badChallenge = createAuthenticationRequest(new DefaultChallenge());
+        Function<AuthenticationRequest, AuthenticationParameters> provider = createProvider(credentialRecord);
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Arrays.asList(valid, badChallenge, valid), provider);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(0).getAuthenticationRequest()).isSameAs(valid);
+        assertThat(results.get(0).getAuthenticationData()).isNotNull();
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getAuthenticationData()).isNull();
+        assertThat(results.get(1).getException()).isInstanceOf(BadChallengeException.class);
+        assertThat(results.get(2).isSuccess()).isTrue();
+    }
+
+    @Test
+    void verifyAll_with_executor_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+        AuthenticationRequest badChallenge = createAuthenticationRequest(new DefaultChallenge());
+        Function<AuthenticationRequest, AuthenticationParameters> provider = createProvider(credentialRecord);
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Arrays.asList(badChallenge, valid, valid, badChallenge), provider, ForkJoinPool.commonPool());
+
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).isSuccess()).isTrue();
+        assertThat(results.get(3).isSuccess()).isFalse();
+    }
+
+    @Test
+    void verifyAll_with_failing_provider_test() {
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Collections.singletonList(valid), request -> {
+            throw new IllegalStateException("unknown credential");
+        });
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getException()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verifyAll_with_provider_throwing_error_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+        AuthenticationRequest broken = createAuthenticationRequest(challenge);
+        Function<AuthenticationRequest, AuthenticationParameters> provider = createProvider(credentialRecord);
+        AssertionError error = new AssertionError("broken");
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Arrays.asList(valid, broken, valid), request -> {
+            if (request == broken) {
+                throw error;
+            }
+            return provider.apply(request);
+        }, ForkJoinPool.commonPool());
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getAuthenticationRequest()).isSameAs(broken);
+        assertThat(results.get(1).getException()).isInstanceOf(WebAuthnException.class);
+        assertThat(results.get(1).getException().getCause()).isSameAs(error);
+        assertThat(results.get(2).isSuccess()).isTrue();
+    }
+
+    @Test
+    void verifyAll_with_null_element_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+        Function<AuthenticationRequest, AuthenticationParameters> provider = createProvider(credentialRecord);
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Arrays.asList(valid, null, valid), provider);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getAuthenticationRequest()).isNull();
+        assertThat(results.get(1).getException()).isInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(2).isSuccess()).isTrue();
+    }
+
+    @Test
+    void verifyAll_with_rejecting_executor_test() {
+        CredentialRecord credentialRecord = createCredentialRecord();
+        AuthenticationRequest valid = createAuthenticationRequest(challenge);
+        Function<AuthenticationRequest, AuthenticationParameters> provider = createProvider(credentialRecord);
+        AtomicInteger submissions = new AtomicInteger();
+        Executor executor = command -> {
+            if (submissions.incrementAndGet() == 2) {
+                throw new RejectedExecutionException("saturated");
+            }
+            command.run();
+        };
+
+        List<AuthenticationVerificationResult> results = target.verifyAll(Arrays.asList(valid, valid, valid), provider, executor);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getAuthenticationRequest()).isSameAs(valid);
+        assertThat(results.get(1).getException()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(results.get(2).isSuccess()).isTrue();
+    }
+
+    private Function<AuthenticationRequest, AuthenticationParameters> createProvider(CredentialRecord credentialRecord) {
+        ServerProperty serverProperty = new ServerProperty(origin, rpId, challenge, null);
+        return request -> new AuthenticationParameters(serverProperty, credentialRecord, null, true);
+    }
+
+    private AuthenticationRequest createAuthenticationRequest(Challenge clientChallenge) {
+        var credentialRequestOptions = new PublicKeyCredentialRequestOptions(
+                clientChallenge,
+                0L,
+                rpId,
+                null,
+                UserVerificationRequirement.REQUIRED,
+                null
+        );
+        CollectedClientData collectedClientData = clientPlatform.createCollectedClientData(ClientDataType.WEBAUTHN_GET, clientChallenge);
+        var publicKeyCredential = clientPlatform.get(credentialRequestOptions, collectedClientData);
+        return new AuthenticationRequest(
+                publicKeyCredential.getRawId(),
+                publicKeyCredential.getResponse().getAuthenticatorData(),
+                publicKeyCredential.getResponse().getClientDataJSON(),
+                authenticationExtensionsClientOutputsConverter.convertToString(publicKeyCredential.getClientExtensionResults()),
+                publicKeyCredential.getResponse().getSignature()
+        );
+    }
+
+    private CredentialRecord createCredentialRecord() {
+        var credentialCreationOptions = new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.NONE,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+        var response = clientPlatform.create(credentialCreationOptions);
+        var registrationRequest = response.getResponse();
+        AttestationObject attestationObject = attestationObjectConverter.convert(registrationRequest.getAttestationObject());
+        var clientData = collectedClientDataConverter.convert(registrationRequest.getClientDataJSON());
+        return new CredentialRecordImpl(attestationObject, clientData, response.getClientExtensionResults(), registrationRequest.getTransports());
+    }
+}
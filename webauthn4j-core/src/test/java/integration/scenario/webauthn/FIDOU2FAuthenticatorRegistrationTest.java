@@ -48,6 +48,8 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -176,6 +178,48 @@ class FIDOU2FAuthenticatorRegistrationTest {
         );
     }
 
+    @Test
+    void should_success_in_parallel_verification_mode() {
+        AtomicInteger counter = new AtomicInteger();
+        WebAuthnManager webAuthnManager = createParallelWebAuthnManager(counter);
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+
+        AuthenticatorAttestationResponse authenticatorAttestationResponse = clientPlatform.create(createDirectAttestationCreationOptions(rpId, challenge)).getResponse();
+        RegistrationRequest registrationRequest = new RegistrationRequest(
+                authenticatorAttestationResponse.getAttestationObject(),
+                authenticatorAttestationResponse.getClientDataJSON(),
+                authenticatorTransportConverter.convertSetToStringSet(authenticatorAttestationResponse.getTransports())
+        );
+        RegistrationParameters registrationParameters = new RegistrationParameters(new ServerProperty(origin, rpId, challenge, null), null, false, true);
+
+        RegistrationData response = webAuthnManager.verify(registrationRequest, registrationParameters);
+
+        assertThat(response.getAttestationObject()).isNotNull();
+        assertThat(counter.get()).isEqualTo(1);
+    }
+
+    @Test
+    void should_throw_when_invalid_attestation_signature_provided_in_parallel_verification_mode() {
+        WebAuthnManager webAuthnManager = createParallelWebAuthnManager(new AtomicInteger());
+        String rpId = "example.com";
+        Challenge challenge = new DefaultChallenge();
+
+        RegistrationEmulationOption registrationEmulationOption = new RegistrationEmulationOption();
+        registrationEmulationOption.setSignatureOverrideEnabled(true);
+        AuthenticatorAttestationResponse authenticatorAttestationResponse = clientPlatform.create(createDirectAttestationCreationOptions(rpId, challenge), registrationEmulationOption).getResponse();
+        RegistrationRequest registrationRequest = new RegistrationRequest(
+                authenticatorAttestationResponse.getAttestationObject(),
+                authenticatorAttestationResponse.getClientDataJSON(),
+                authenticatorTransportConverter.convertSetToStringSet(authenticatorAttestationResponse.getTransports())
+        );
+        RegistrationParameters registrationParameters = new RegistrationParameters(new ServerProperty(origin, rpId, challenge, null), null, false, true);
+
+        assertThrows(BadSignatureException.class,
+                () -> webAuthnManager.verify(registrationRequest, registrationParameters)
+        );
+    }
+
     @Test
     void should_throw_when_invalid_ClientDataType_is_provided() {
         String rpId = "example.com";
@@ -478,4 +522,31 @@ class FIDOU2FAuthenticatorRegistrationTest {
                 () -> target.verify(registrationRequest, registrationParameters)
         );
     }
+
+    private WebAuthnManager createParallelWebAuthnManager(AtomicInteger counter) {
+        WebAuthnManager webAuthnManager = new WebAuthnManager(
+                Arrays.asList(noneAttestationStatementValidator, fidoU2FAttestationStatementValidator),
+                new DefaultCertPathTrustworthinessVerifier(trustAnchorRepository),
+                new DefaultSelfAttestationTrustworthinessVerifier()
+        );
+        webAuthnManager.getRegistrationDataVerifier().setParallelVerificationExecutor(command -> {
+            counter.incrementAndGet();
+            ForkJoinPool.commonPool().execute(command);
+        });
+        return webAuthnManager;
+    }
+
+    private PublicKeyCredentialCreationOptions createDirectAttestationCreationOptions(String rpId, Challenge challenge) {
+        return new PublicKeyCredentialCreationOptions(
+                new PublicKeyCredentialRpEntity(rpId, "example.com"),
+                new PublicKeyCredentialUserEntity(new byte[32], "username", "displayName"),
+                challenge,
+                Collections.singletonList(new PublicKeyCredentialParameters(PublicKeyCredentialType.PUBLIC_KEY, COSEAlgorithmIdentifier.ES256)),
+                null,
+                Collections.emptyList(),
+                new AuthenticatorSelectionCriteria(AuthenticatorAttachment.CROSS_PLATFORM, true, UserVerificationRequirement.REQUIRED),
+                AttestationConveyancePreference.DIRECT,
+                new AuthenticationExtensionsClientInputs<>()
+        );
+    }
 }
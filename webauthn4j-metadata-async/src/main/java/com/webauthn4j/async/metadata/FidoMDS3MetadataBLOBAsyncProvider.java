@@ -81,7 +81,7 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
     @Override
     protected @NotNull CompletionStage<MetadataBLOB> doProvide() {
         return httpClient.fetch(blobEndpoint).thenApply(response -> {
-            String body = readAsString(response.getBody());
+            byte[] body = readAllBytes(response.getBody());
             return metadataBLOBFactory.parse(body);
         }).thenCompose(metadataBLOB -> {
             if(!metadataBLOB.isValidSignature()){
@@ -91,9 +91,9 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
         });
     }
 
-    private static @NotNull String readAsString(InputStream responseBody) {
+    private static @NotNull byte[] readAllBytes(InputStream responseBody) {
         try {
-            return new String(responseBody.readAllBytes());
+            return responseBody.readAllBytes();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -117,6 +117,26 @@ public class FidoMDS3MetadataBLOBAsyncProvider extends CachingMetadataBLOBAsyncP
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
 
+    /**
+     * Returns true if compact MetadataBLOBs are provided
+     *
+     * @return true if compact mode is enabled
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public boolean isCompactModeEnabled() {
+        return metadataBLOBFactory.isCompactModeEnabled();
+    }
+
+    /**
+     * Enables compact mode, which reduces the heap consumption of the provided MetadataBLOB
+     *
+     * @param compactModeEnabled true to enable compact mode
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public void setCompactModeEnabled(boolean compactModeEnabled) {
+        metadataBLOBFactory.setCompactModeEnabled(compactModeEnabled);
+    }
+
     public CertPathAsyncChecker getCertPathAsyncValidator() {
         return certPathAsyncChecker;
     }
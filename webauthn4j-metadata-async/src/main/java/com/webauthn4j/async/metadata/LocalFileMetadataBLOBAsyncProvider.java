@@ -39,6 +39,27 @@ public class LocalFileMetadataBLOBAsyncProvider extends CachingMetadataBLOBAsync
     }
 
     protected @NotNull CompletionStage<MetadataBLOB> doProvide(){
-        return FileAsyncUtil.load(path).thenApply(bytes -> metadataBLOBFactory.parse(new String(bytes)));
+        return FileAsyncUtil.load(path).thenApply(metadataBLOBFactory::parse);
     }
+
+    /**
+     * Returns true if compact MetadataBLOBs are provided
+     *
+     * @return true if compact mode is enabled
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public boolean isCompactModeEnabled() {
+        return metadataBLOBFactory.isCompactModeEnabled();
+    }
+
+    /**
+     * Enables compact mode, which reduces the heap consumption of the provided MetadataBLOB
+     *
+     * @param compactModeEnabled true to enable compact mode
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public void setCompactModeEnabled(boolean compactModeEnabled) {
+        metadataBLOBFactory.setCompactModeEnabled(compactModeEnabled);
+    }
+
 }
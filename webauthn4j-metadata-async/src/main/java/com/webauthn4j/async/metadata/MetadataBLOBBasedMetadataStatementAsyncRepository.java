@@ -1,59 +1,61 @@
 package com.webauthn4j.async.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
-import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
-import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository.matchAttestationCertificateKeyIdentifier;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 public class MetadataBLOBBasedMetadataStatementAsyncRepository implements MetadataStatementAsyncRepository{
 
     private final List<MetadataBLOBAsyncProvider> metadataBLOBAsyncProviders;
+    private final AtomicReferenceArray<MetadataStatementIndex> indexes;
 
-    private boolean notFidoCertifiedAllowed = false;
-    private boolean selfAssertionSubmittedAllowed = false;
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedMetadataStatementAsyncRepository(MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
         this.metadataBLOBAsyncProviders = Arrays.asList(metadataBLOBAsyncProviders);
+        this.indexes = new AtomicReferenceArray<>(metadataBLOBAsyncProviders.length);
     }
 
     @Override
     public CompletionStage<Set<MetadataStatement>> find(AAGUID aaguid) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()),
-                        (a, b)-> a.thenCombine(b, Stream::concat)
-                ).thenApply(entries ->
-                        entries
-                        .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                        .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
-                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                        .collect(Collectors.toSet())
-                );
+        return find(index -> index.find(aaguid));
     }
 
     @Override
     public CompletionStage<Set<MetadataStatement>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBAsyncProviders.stream()
-                .map(provider -> provider.provide().thenApply(metadataBLOB -> metadataBLOB.getPayload().getEntries().stream()))
-                .reduce(CompletableFuture.completedFuture(Stream.empty()), (a, b)-> a.thenCombine(b, Stream::concat))
-                .thenApply(entries -> entries
-                        .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
-                        .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                        .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                        .collect(Collectors.toSet()));
+        return find(index -> index.find(attestationCertificateKeyIdentifier));
+    }
+
+    private CompletionStage<Set<MetadataStatement>> find(Function<MetadataStatementIndex, Set<MetadataStatement>> lookup) {
+        CompletionStage<Set<MetadataStatement>> result = CompletableFuture.completedFuture(new HashSet<>());
+        for (int i = 0; i < metadataBLOBAsyncProviders.size(); i++) {
+            int providerIndex = i;
+            CompletionStage<MetadataStatementIndex> index = metadataBLOBAsyncProviders.get(i).provide().thenApply(metadataBLOB -> getIndex(providerIndex, metadataBLOB));
+            result = result.thenCombine(index, (metadataStatements, metadataStatementIndex) -> {
+                metadataStatements.addAll(lookup.apply(metadataStatementIndex));
+                return metadataStatements;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the given BLOB provided by the i-th provider, rebuilding it when the provider returns
+     * a new BLOB or the filter flags have been changed.
+     */
+    private MetadataStatementIndex getIndex(int i, MetadataBLOB metadataBLOB) {
+        return MetadataStatementIndex.getOrCreate(indexes, i, metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed);
     }
 
     public boolean isNotFidoCertifiedAllowed() {
@@ -2,52 +2,70 @@ package com.webauthn4j.async.metadata.anchor;
 
 import com.webauthn4j.async.anchor.TrustAnchorAsyncRepository;
 import com.webauthn4j.async.metadata.MetadataBLOBAsyncProvider;
-import com.webauthn4j.async.metadata.MetadataBLOBBasedMetadataStatementAsyncRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 
 import java.security.cert.TrustAnchor;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
 public class MetadataBLOBBasedTrustAnchorAsyncRepository implements TrustAnchorAsyncRepository {
 
-    private final MetadataBLOBBasedMetadataStatementAsyncRepository metadataBLOBBasedMetadataStatementAsyncRepository;
+    private final List<MetadataBLOBAsyncProvider> metadataBLOBAsyncProviders;
+    private final AtomicReferenceArray<MetadataStatementIndex> indexes;
+
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedTrustAnchorAsyncRepository(MetadataBLOBAsyncProvider... metadataBLOBAsyncProviders) {
-        this.metadataBLOBBasedMetadataStatementAsyncRepository = new MetadataBLOBBasedMetadataStatementAsyncRepository(metadataBLOBAsyncProviders);
+        this.metadataBLOBAsyncProviders = Arrays.asList(metadataBLOBAsyncProviders);
+        this.indexes = new AtomicReferenceArray<>(metadataBLOBAsyncProviders.length);
     }
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(AAGUID aaguid) {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.find(aaguid).thenApply(metadataStatements-> metadataStatements.stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet()));
+        return find(index -> index.findTrustAnchors(aaguid));
     }
 
     @Override
     public CompletionStage<Set<TrustAnchor>> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.find(attestationCertificateKeyIdentifier).thenApply(metadataStatements -> metadataStatements.stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet()));
+        return find(index -> index.findTrustAnchors(attestationCertificateKeyIdentifier));
+    }
+
+    private CompletionStage<Set<TrustAnchor>> find(Function<MetadataStatementIndex, Set<TrustAnchor>> lookup) {
+        CompletionStage<Set<TrustAnchor>> result = CompletableFuture.completedFuture(new HashSet<>());
+        for (int i = 0; i < metadataBLOBAsyncProviders.size(); i++) {
+            int providerIndex = i;
+            CompletionStage<MetadataStatementIndex> index = metadataBLOBAsyncProviders.get(i).provide()
+                    .thenApply(metadataBLOB -> MetadataStatementIndex.getOrCreate(indexes, providerIndex, metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed));
+            result = result.thenCombine(index, (trustAnchors, metadataStatementIndex) -> {
+                trustAnchors.addAll(lookup.apply(metadataStatementIndex));
+                return trustAnchors;
+            });
+        }
+        return result;
     }
 
     public boolean isNotFidoCertifiedAllowed() {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.isNotFidoCertifiedAllowed();
+        return notFidoCertifiedAllowed;
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        metadataBLOBBasedMetadataStatementAsyncRepository.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return metadataBLOBBasedMetadataStatementAsyncRepository.isSelfAssertionSubmittedAllowed();
+        return selfAssertionSubmittedAllowed;
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        metadataBLOBBasedMetadataStatementAsyncRepository.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
     }
 
 }
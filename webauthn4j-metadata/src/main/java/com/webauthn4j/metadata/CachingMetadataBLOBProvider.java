@@ -17,40 +17,297 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.util.AssertUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * {@link MetadataBLOBProvider} caching the provided {@link MetadataBLOB} until its nextUpdate, or until the
+ * configured {@link #setRefreshLeadTime(Duration) refresh lead time} before it.
+ * <p>
+ * By default, an expired BLOB is refreshed synchronously on the caller's thread, and concurrent callers wait for
+ * that single refresh. When background refresh is started by {@link #startBackgroundRefresh(ScheduledExecutorService, Duration)},
+ * the BLOB is periodically checked and refreshed on the scheduler, and an expired BLOB keeps being served while the
+ * next one is fetched and verified (stale-while-revalidate), so that callers never wait for a download once the
+ * first BLOB is loaded. The cached BLOB is swapped atomically, only after the new one has been successfully provided.
+ * After a failed refresh, {@link #provide()} doesn't trigger another one until the {@link #setRetryBackoff(Duration) retry backoff}
+ * has elapsed, while the periodic checks keep retrying at their own interval.
+ */
 public abstract class CachingMetadataBLOBProvider implements MetadataBLOBProvider {
 
-    private MetadataBLOB cachedMetadataBLOB;
-    private LocalDate cachedMetadataBLOBLastUpdate = null;
+    private final Logger logger = LoggerFactory.getLogger(CachingMetadataBLOBProvider.class);
+
+    private volatile CachedMetadataBLOB cachedMetadataBLOB;
     private final Object cachedMetadataBLOBLock = new Object();
+    // serializes downloads, so that concurrent callers wait for a single refresh instead of fetching in parallel
+    private final Object refreshLock = new Object();
+    private volatile Duration refreshLeadTime = Duration.ZERO;
+    private volatile Duration retryBackoff = Duration.ofMinutes(5);
+
+    private final AtomicBoolean backgroundRefreshing = new AtomicBoolean(false);
+    private volatile ScheduledExecutorService backgroundRefreshScheduler;
+    private ScheduledFuture<?> backgroundRefreshFuture;
+
+    private MetadataBLOBRefreshListener refreshListener;
+    private final AtomicLong refreshSuccessCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+    private volatile Instant lastRefreshSuccessTime;
+    private volatile RuntimeException lastRefreshFailure;
+    // time of the last failed attempt, cleared by a successful refresh
+    private volatile Instant lastRefreshFailureTime;
 
     @Override
     public @NotNull MetadataBLOB provide(){
-        synchronized (cachedMetadataBLOBLock){
-            if(cachedMetadataBLOB == null){
-                refresh();
+        CachedMetadataBLOB cached = cachedMetadataBLOB;
+        if(cached == null){
+            return refresh(false);
+        }
+        if(cached.needsUpdate(refreshLeadTime)){
+            if(backgroundRefreshScheduler != null){
+                // serve the stale BLOB while the next one is fetched in background
+                triggerBackgroundRefresh();
+                return cached.metadataBLOB;
             }
+            return refresh(false);
+        }
+        return cached.metadataBLOB;
+    }
+
+    public void refresh(){
+        refresh(true);
+    }
+
+    private @NotNull MetadataBLOB refresh(boolean force){
+        MetadataBLOB metadataBLOB;
+        RuntimeException failure = null;
+        synchronized (refreshLock){
+            CachedMetadataBLOB cached = cachedMetadataBLOB;
+            // another caller may have refreshed while this one was waiting for the lock
+            if(!force && cached != null && !cached.needsUpdate(refreshLeadTime)){
+                return cached.metadataBLOB;
+            }
+            // the download runs outside cachedMetadataBLOBLock, so that it doesn't block starting or stopping the background refresh
+            try{
+                metadataBLOB = doProvide();
+            }
+            catch (RuntimeException e){
+                metadataBLOB = null;
+                failure = e;
+            }
+            if(failure == null){
+                synchronized (cachedMetadataBLOBLock){
+                    cachedMetadataBLOB = new CachedMetadataBLOB(metadataBLOB, LocalDate.now());
+                }
+                refreshSuccessCount.incrementAndGet();
+                lastRefreshSuccessTime = Instant.now();
+                lastRefreshFailureTime = null;
+            }
+            else {
+                refreshFailureCount.incrementAndGet();
+                lastRefreshFailure = failure;
+                lastRefreshFailureTime = Instant.now();
+            }
+        }
+        // the listener is notified outside the locks, so that a slow or re-entrant listener cannot block other callers
+        if(failure != null){
+            notifyRefreshFailed(failure);
+            throw failure;
+        }
+        notifyRefreshSucceeded(metadataBLOB);
+        return metadataBLOB;
+    }
+
+    private void notifyRefreshSucceeded(@NotNull MetadataBLOB metadataBLOB){
+        MetadataBLOBRefreshListener listener = refreshListener;
+        if(listener == null){
+            return;
+        }
+        try{
+            listener.onRefreshSucceeded(metadataBLOB);
         }
-        LocalDate today = LocalDate.now();
-        LocalDate nextUpdate = cachedMetadataBLOB.getPayload().getNextUpdate();
-        if((nextUpdate.isBefore(today) || nextUpdate.isEqual(today)) && cachedMetadataBLOBLastUpdate.isBefore(today)){
-            refresh();
+        catch (RuntimeException e){
+            logger.warn("Metadata BLOB refresh listener failed.", e);
         }
+    }
 
-        return cachedMetadataBLOB;
+    private void notifyRefreshFailed(@NotNull RuntimeException failure){
+        MetadataBLOBRefreshListener listener = refreshListener;
+        if(listener == null){
+            return;
+        }
+        try{
+            listener.onRefreshFailed(failure);
+        }
+        catch (RuntimeException e){
+            logger.warn("Metadata BLOB refresh listener failed.", e);
+        }
     }
 
-    public void refresh(){
+    /**
+     * Starts refreshing the metadata BLOB on the scheduler. The first check runs immediately, so the BLOB is loaded
+     * ahead of the first {@link #provide()} call, and subsequent checks run every checkInterval.
+     *
+     * @param scheduler     scheduler the refresh runs on. It is not shut down by {@link #stopBackgroundRefresh()}
+     * @param checkInterval interval between checks of the cached BLOB's nextUpdate
+     */
+    public void startBackgroundRefresh(@NotNull ScheduledExecutorService scheduler, @NotNull Duration checkInterval){
+        AssertUtil.notNull(scheduler, "scheduler must not be null");
+        AssertUtil.notNull(checkInterval, "checkInterval must not be null");
+        AssertUtil.isTrue(!checkInterval.isNegative() && !checkInterval.isZero(), "checkInterval must be positive");
         synchronized (cachedMetadataBLOBLock){
-            cachedMetadataBLOB = doProvide();
-            cachedMetadataBLOBLastUpdate = LocalDate.now();
+            stopBackgroundRefresh();
+            backgroundRefreshScheduler = scheduler;
+            backgroundRefreshFuture = scheduler.scheduleWithFixedDelay(this::refreshInBackgroundIfNeeded, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
         }
     }
 
+    /**
+     * Stops the background refresh. Subsequent refreshes are done synchronously on the caller's thread.
+     */
+    public void stopBackgroundRefresh(){
+        synchronized (cachedMetadataBLOBLock){
+            if(backgroundRefreshFuture != null){
+                backgroundRefreshFuture.cancel(false);
+                backgroundRefreshFuture = null;
+            }
+            backgroundRefreshScheduler = null;
+        }
+    }
+
+    public boolean isBackgroundRefreshEnabled(){
+        return backgroundRefreshScheduler != null;
+    }
+
+    private void triggerBackgroundRefresh(){
+        ScheduledExecutorService scheduler = backgroundRefreshScheduler;
+        if(scheduler == null || backgroundRefreshing.get() || isInRetryBackoff()){
+            return;
+        }
+        try{
+            scheduler.execute(this::refreshInBackgroundIfNeeded);
+        }
+        catch (RejectedExecutionException e){
+            logger.warn("Failed to schedule metadata BLOB refresh.", e);
+        }
+    }
+
+    private void refreshInBackgroundIfNeeded(){
+        if(!backgroundRefreshing.compareAndSet(false, true)){
+            return;
+        }
+        try{
+            refresh(false);
+        }
+        catch (RuntimeException e){
+            // the failure is recorded and notified in refresh. The current BLOB keeps being served, and the refresh
+            // is retried by the next periodic check, or by provide() once the retry backoff has elapsed
+            logger.warn("Failed to refresh metadata BLOB.", e);
+        }
+        catch (Throwable e){
+            // a throwable escaping this task would suppress all subsequent executions of the periodic check
+            refreshFailureCount.incrementAndGet();
+            lastRefreshFailureTime = Instant.now();
+            logger.error("Failed to refresh metadata BLOB.", e);
+        }
+        finally {
+            backgroundRefreshing.set(false);
+        }
+    }
+
+    private boolean isInRetryBackoff(){
+        Instant failureTime = lastRefreshFailureTime;
+        return failureTime != null && Instant.now().isBefore(failureTime.plus(retryBackoff));
+    }
+
     protected abstract @NotNull MetadataBLOB doProvide();
 
+    public @NotNull Duration getRefreshLeadTime() {
+        return refreshLeadTime;
+    }
+
+    /**
+     * Sets how long before the cached BLOB's nextUpdate a refresh is attempted. As nextUpdate is a date, the lead time
+     * is applied in whole days, rounded up. Defaults to zero, which refreshes on the nextUpdate date.
+     *
+     * @param refreshLeadTime lead time, not negative
+     */
+    public void setRefreshLeadTime(@NotNull Duration refreshLeadTime) {
+        AssertUtil.notNull(refreshLeadTime, "refreshLeadTime must not be null");
+        AssertUtil.isTrue(!refreshLeadTime.isNegative(), "refreshLeadTime must not be negative");
+        this.refreshLeadTime = refreshLeadTime;
+    }
+
+    public @NotNull Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    /**
+     * Sets how long {@link #provide()} waits after a failed background refresh before triggering another one, so that
+     * an unreachable endpoint is not hit by every caller. The periodic checks are not affected. Defaults to 5 minutes.
+     *
+     * @param retryBackoff backoff, not negative
+     */
+    public void setRetryBackoff(@NotNull Duration retryBackoff) {
+        AssertUtil.notNull(retryBackoff, "retryBackoff must not be null");
+        AssertUtil.isTrue(!retryBackoff.isNegative(), "retryBackoff must not be negative");
+        this.retryBackoff = retryBackoff;
+    }
+
+    public @Nullable MetadataBLOBRefreshListener getRefreshListener() {
+        return refreshListener;
+    }
+
+    public void setRefreshListener(@Nullable MetadataBLOBRefreshListener refreshListener) {
+        this.refreshListener = refreshListener;
+    }
+
+    public long getRefreshSuccessCount() {
+        return refreshSuccessCount.get();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    public @Nullable Instant getLastRefreshSuccessTime() {
+        return lastRefreshSuccessTime;
+    }
+
+    public @Nullable RuntimeException getLastRefreshFailure() {
+        return lastRefreshFailure;
+    }
+
+    private static class CachedMetadataBLOB {
+
+        private final MetadataBLOB metadataBLOB;
+        private final LocalDate lastUpdate;
+
+        CachedMetadataBLOB(@NotNull MetadataBLOB metadataBLOB, @NotNull LocalDate lastUpdate) {
+            this.metadataBLOB = metadataBLOB;
+            this.lastUpdate = lastUpdate;
+        }
+
+        boolean needsUpdate(@NotNull Duration refreshLeadTime){
+            LocalDate today = LocalDate.now();
+            long leadDays = refreshLeadTime.toDays();
+            if(!refreshLeadTime.minusDays(leadDays).isZero()){
+                leadDays++;
+            }
+            LocalDate refreshDate = metadataBLOB.getPayload().getNextUpdate().minusDays(leadDays);
+            return !refreshDate.isAfter(today) && lastUpdate.isBefore(today);
+        }
+    }
 
 }
@@ -18,17 +18,17 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
-import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
-import com.webauthn4j.util.HexUtil;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 
-import java.util.Arrays;
-import java.util.Objects;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultMetadataStatementRepository implements MetadataStatementRepository{
 
     private final MetadataStatementsProvider metadataStatementsProvider;
+    private final AtomicReference<MetadataStatementIndex> index = new AtomicReference<>();
 
     public DefaultMetadataStatementRepository(MetadataStatementsProvider metadataStatementsProvider) {
         this.metadataStatementsProvider = metadataStatementsProvider;
@@ -36,22 +36,25 @@ public class DefaultMetadataStatementRepository implements MetadataStatementRepo
 
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        return new HashSet<>(getIndex().find(aaguid));
     }
 
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataStatementsProvider.provide().stream()
-                .filter(entry -> {
-                    if(entry == null || entry.getAttestationCertificateKeyIdentifiers() == null){
-                        return false;
-                    }
-                    return entry.getAttestationCertificateKeyIdentifiers().stream().anyMatch(identifier -> Arrays.equals(HexUtil.decode(identifier), attestationCertificateKeyIdentifier));
-                })
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        return new HashSet<>(getIndex().find(attestationCertificateKeyIdentifier));
+    }
+
+    /**
+     * Returns the index of the metadata statements currently provided, rebuilding it when the provider returns
+     * a new list.
+     */
+    private MetadataStatementIndex getIndex() {
+        List<MetadataStatement> metadataStatements = metadataStatementsProvider.provide();
+        MetadataStatementIndex current = index.get();
+        if (current == null || !current.isBuiltFrom(metadataStatements)) {
+            current = MetadataStatementIndex.create(metadataStatements);
+            index.set(current);
+        }
+        return current;
     }
 }
@@ -17,30 +17,54 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.data.jws.JWS;
+import com.webauthn4j.data.jws.JWSFactory;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBFactory;
 import com.webauthn4j.metadata.exception.CertPathCheckException;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.util.CertificateUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.cert.*;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
- * Load MetadataBLOB from a local file. This provider validates MetadataBLOB signature.
+ * Load MetadataBLOB from FIDO Metadata Service. This provider validates MetadataBLOB signature.
+ * <p>
+ * When a cache file is configured through {@link #setCacheFile(Path)}, every verified BLOB newer than the cached one is
+ * written to it atomically, and the first {@link #provide()} call of the process serves the cached BLOB without
+ * downloading it as long as its nextUpdate is in the future. The cached BLOB is re-verified on load (signature and
+ * certificate chain, without revocation check as it was checked when the BLOB was fetched), and it is also used as a
+ * fallback when the first download fails.
+ * <p>
+ * As the serial number of the MetadataBLOB must increase, a fetched BLOB whose number is lower than the one of the
+ * latest verified BLOB, loaded from the cache file or fetched before, is ignored, and the latest one keeps being served.
  */
 public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
+    private final Logger logger = LoggerFactory.getLogger(FidoMDS3MetadataBLOBProvider.class);
+
     public static final String DEFAULT_BLOB_ENDPOINT = "https://mds.fidoalliance.org/";
 
     private final MetadataBLOBFactory metadataBLOBFactory;
+    private final JWSFactory jwsFactory;
     private final String blobEndpoint;
     private final HttpClient httpClient;
     private final Set<TrustAnchor> trustAnchors;
@@ -48,8 +72,15 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     private CertPathChecker certPathChecker = new DefaultCertPathChecker();
 
+    private Path cacheFile;
+    private boolean cacheFileLoaded = false;
+    private Integer cacheFileBLOBNo;
+    // latest verified BLOB, loaded from the cache file or fetched. doProvide is serialized by CachingMetadataBLOBProvider
+    private MetadataBLOB latestMetadataBLOB;
+
     public FidoMDS3MetadataBLOBProvider(@NotNull ObjectConverter objectConverter, @NotNull String blobEndpoint, @NotNull HttpClient httpClient, @NotNull Set<TrustAnchor> trustAnchors) {
         this.metadataBLOBFactory = new MetadataBLOBFactory(objectConverter);
+        this.jwsFactory = new JWSFactory(objectConverter);
         this.blobEndpoint = blobEndpoint;
         this.httpClient = httpClient;
         this.trustAnchors = trustAnchors;
@@ -73,25 +104,136 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
 
     @Override
     protected @NotNull MetadataBLOB doProvide() {
-        String responseBody;
+        MetadataBLOB cachedMetadataBLOB = null;
+        if (cacheFile != null && !cacheFileLoaded) {
+            cacheFileLoaded = true;
+            cachedMetadataBLOB = loadCacheFile(cacheFile);
+            if (cachedMetadataBLOB != null) {
+                if (latestMetadataBLOB == null || cachedMetadataBLOB.getPayload().getNo() > latestMetadataBLOB.getPayload().getNo()) {
+                    latestMetadataBLOB = cachedMetadataBLOB;
+                }
+                if (cachedMetadataBLOB.getPayload().getNextUpdate().isAfter(LocalDate.now())) {
+                    return cachedMetadataBLOB;
+                }
+            }
+        }
+
+        byte[] bytes;
+        MetadataBLOB metadataBLOB;
         try {
-            InputStream inputStream = httpClient.fetch(blobEndpoint).getBody();
-            byte[] bytes = inputStream.readAllBytes();
-            responseBody = new String(bytes, StandardCharsets.UTF_8);
+            bytes = fetch();
+            metadataBLOB = parse(bytes, revocationCheckEnabled);
+        } catch (RuntimeException e) {
+            if (cachedMetadataBLOB == null) {
+                throw e;
+            }
+            logger.warn("Failed to fetch MetadataBLOB. Falling back to the cached MetadataBLOB.", e);
+            return cachedMetadataBLOB;
+        }
+        MetadataBLOB latest = latestMetadataBLOB;
+        if (latest != null && metadataBLOB.getPayload().getNo() < latest.getPayload().getNo()) {
+            logger.warn("Fetched MetadataBLOB no {} is older than the latest verified MetadataBLOB no {}. It is ignored.",
+                    metadataBLOB.getPayload().getNo(), latest.getPayload().getNo());
+            return latest;
+        }
+        latestMetadataBLOB = metadataBLOB;
+        if (cacheFile != null && (cacheFileBLOBNo == null || metadataBLOB.getPayload().getNo() > cacheFileBLOBNo)) {
+            writeCacheFile(cacheFile, bytes, metadataBLOB);
+        }
+        return metadataBLOB;
+    }
+
+    private @NotNull byte[] fetch() {
+        try (InputStream inputStream = httpClient.fetch(blobEndpoint).getBody()) {
+            return inputStream.readAllBytes();
         } catch (IOException e) {
             throw new MDSException("Failed to parse response as String", e);
         }
+    }
 
-        MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(responseBody);
-        if(!metadataBLOB.isValidSignature()){
-            throw new MDSException("MetadataBLOB signature is invalid");
+    private @NotNull MetadataBLOB parse(@NotNull byte[] bytes, boolean revocationCheckEnabled) {
+        Executor executor = metadataBLOBFactory.getParallelDecodingExecutor();
+        if (executor == null) {
+            MetadataBLOB metadataBLOB = metadataBLOBFactory.parse(bytes);
+            verify(metadataBLOB.isValidSignature(), metadataBLOB.getHeader().getX5c(), revocationCheckEnabled);
+            return metadataBLOB;
+        }
+
+        // the signature and the certificate chain only depend on the header and the serialized bytes, so they are
+        // verified while the entries are decoded
+        JWS<Boolean> signedHeader = jwsFactory.parse(bytes, payload -> Boolean.TRUE);
+        CompletableFuture<Void> verification = CompletableFuture.runAsync(() -> verify(signedHeader.isValidSignature(), signedHeader.getHeader().getX5c(), revocationCheckEnabled), executor);
+        MetadataBLOB metadataBLOB;
+        try {
+            metadataBLOB = metadataBLOBFactory.parse(bytes);
+        } catch (RuntimeException e) {
+            verification.cancel(false);
+            throw e;
+        }
+        try {
+            verification.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
-        validateCertPath(metadataBLOB);
         return metadataBLOB;
     }
 
-    private void validateCertPath(@NotNull MetadataBLOB metadataBLOB) {
-        CertPath certPath = metadataBLOB.getHeader().getX5c();
+    private void verify(boolean validSignature, @Nullable CertPath certPath, boolean revocationCheckEnabled) {
+        if(!validSignature){
+            throw new MDSException("MetadataBLOB signature is invalid");
+        }
+        validateCertPath(certPath, revocationCheckEnabled);
+    }
+
+    private @Nullable MetadataBLOB loadCacheFile(@NotNull Path path) {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            MetadataBLOB metadataBLOB = parse(Files.readAllBytes(path), false);
+            cacheFileBLOBNo = metadataBLOB.getPayload().getNo();
+            return metadataBLOB;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load the cached MetadataBLOB from {}. It is ignored.", path, e);
+            return null;
+        }
+    }
+
+    private void writeCacheFile(@NotNull Path path, @NotNull byte[] bytes, @NotNull MetadataBLOB metadataBLOB) {
+        Path tempFile = null;
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            Files.write(tempFile, bytes);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            cacheFileBLOBNo = metadataBLOB.getPayload().getNo();
+        } catch (IOException e) {
+            // the cache file is an optimization only, so failing to write it must not fail the provider
+            logger.warn("Failed to write the MetadataBLOB cache file {}.", path, e);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void deleteQuietly(@Nullable Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.debug("Failed to delete {}.", path, e);
+        }
+    }
+
+    private void validateCertPath(@Nullable CertPath certPath, boolean revocationCheckEnabled) {
         try{
             certPathChecker.check(new CertPathCheckContext(certPath, trustAnchors, revocationCheckEnabled));
         }
@@ -109,6 +251,61 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         this.revocationCheckEnabled = revocationCheckEnabled;
     }
 
+    public @Nullable Executor getParallelRefreshExecutor() {
+        return metadataBLOBFactory.getParallelDecodingExecutor();
+    }
+
+    /**
+     * Sets the executor of the parallel refresh pipeline. When set, the entries of a fetched MetadataBLOB are decoded
+     * in parallel chunks on the executor, while its signature and certificate chain are verified concurrently.
+     * The MetadataBLOB is provided only when both succeed. null, the default, refreshes on the calling thread.
+     *
+     * @param parallelRefreshExecutor executor, or null to refresh sequentially
+     */
+    public void setParallelRefreshExecutor(@Nullable Executor parallelRefreshExecutor) {
+        metadataBLOBFactory.setParallelDecodingExecutor(parallelRefreshExecutor);
+    }
+
+    /**
+     * Returns true if compact MetadataBLOBs are provided
+     *
+     * @return true if compact mode is enabled
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public boolean isCompactModeEnabled() {
+        return metadataBLOBFactory.isCompactModeEnabled();
+    }
+
+    /**
+     * Enables compact mode, which reduces the heap consumption of the provided MetadataBLOB
+     *
+     * @param compactModeEnabled true to enable compact mode
+     * @see MetadataBLOBFactory#setCompactModeEnabled(boolean)
+     */
+    public void setCompactModeEnabled(boolean compactModeEnabled) {
+        metadataBLOBFactory.setCompactModeEnabled(compactModeEnabled);
+    }
+
+    /**
+     * Returns the file the verified MetadataBLOB is persisted to, or null if the on-disk cache is disabled
+     *
+     * @return cache file
+     */
+    public @Nullable Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Sets the file the verified MetadataBLOB is persisted to and loaded from on startup. null disables the on-disk cache.
+     *
+     * @param cacheFile cache file
+     */
+    public void setCacheFile(@Nullable Path cacheFile) {
+        this.cacheFile = cacheFile;
+        this.cacheFileLoaded = false;
+        this.cacheFileBLOBNo = null;
+    }
+
     public @NotNull CertPathChecker getCertPathChecker() {
         return certPathChecker;
     }
@@ -122,9 +319,9 @@ public class FidoMDS3MetadataBLOBProvider extends CachingMetadataBLOBProvider{
         @Override
         public void check(CertPathCheckContext context) throws MDSException {
             CertPathValidator certPathValidator = CertificateUtil.createCertPathValidator();
-            PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(trustAnchors);
-            certPathParameters.setRevocationEnabled(revocationCheckEnabled);
-            if(revocationCheckEnabled){
+            PKIXParameters certPathParameters = CertificateUtil.createPKIXParameters(context.getTrustAnchors());
+            certPathParameters.setRevocationEnabled(context.isRevocationCheckEnabled());
+            if(context.isRevocationCheckEnabled()){
                 PKIXRevocationChecker pkixRevocationChecker = (PKIXRevocationChecker) certPathValidator.getRevocationChecker();
                 pkixRevocationChecker.setOptions(EnumSet.of(PKIXRevocationChecker.Option.PREFER_CRLS));
                 certPathParameters.addCertPathChecker(pkixRevocationChecker);
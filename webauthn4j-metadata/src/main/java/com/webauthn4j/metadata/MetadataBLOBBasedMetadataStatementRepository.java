@@ -17,48 +17,56 @@
 package com.webauthn4j.metadata;
 
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
 import com.webauthn4j.metadata.data.statement.MetadataStatement;
-import com.webauthn4j.metadata.util.internal.MetadataBLOBUtil;
-import com.webauthn4j.metadata.util.internal.MetadataStatementUtil;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 import com.webauthn4j.util.HexUtil;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class MetadataBLOBBasedMetadataStatementRepository implements MetadataStatementRepository {
 
     private final List<MetadataBLOBProvider> metadataBLOBProviders;
+    private final AtomicReferenceArray<MetadataStatementIndex> indexes;
 
-    private boolean notFidoCertifiedAllowed = false;
-    private boolean selfAssertionSubmittedAllowed = false;
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedMetadataStatementRepository(MetadataBLOBProvider... metadataBLOBProviders) {
         this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this.indexes = new AtomicReferenceArray<>(metadataBLOBProviders.length);
     }
 
     @Override
     public Set<MetadataStatement> find(AAGUID aaguid) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> Objects.equals(entry.getAaguid(), aaguid))
-                .filter(entry -> MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed))
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        Set<MetadataStatement> metadataStatements = new HashSet<>();
+        for (int i = 0; i < metadataBLOBProviders.size(); i++) {
+            metadataStatements.addAll(getIndex(i).find(aaguid));
+        }
+        return metadataStatements;
     }
 
     @Override
     public Set<MetadataStatement> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBProviders.stream()
-                .flatMap(provider -> provider.provide().getPayload().getEntries().stream())
-                .filter(entry -> matchAttestationCertificateKeyIdentifier(entry, attestationCertificateKeyIdentifier))
-                .map(MetadataBLOBPayloadEntry::getMetadataStatement)
-                .filter(MetadataStatementUtil::checkSurrogateMetadataStatementAttestationRootCertificate)
-                .collect(Collectors.toSet());
+        Set<MetadataStatement> metadataStatements = new HashSet<>();
+        for (int i = 0; i < metadataBLOBProviders.size(); i++) {
+            metadataStatements.addAll(getIndex(i).find(attestationCertificateKeyIdentifier));
+        }
+        return metadataStatements;
+    }
+
+    /**
+     * Returns the index of the BLOB currently provided by the i-th provider, rebuilding it when the provider returns
+     * a new BLOB or the filter flags have been changed.
+     */
+    private MetadataStatementIndex getIndex(int i) {
+        MetadataBLOB metadataBLOB = metadataBLOBProviders.get(i).provide();
+        return MetadataStatementIndex.getOrCreate(indexes, i, metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed);
     }
 
     public static boolean matchAttestationCertificateKeyIdentifier(MetadataBLOBPayloadEntry entry, byte[] attestationCertificateKeyIdentifier) {
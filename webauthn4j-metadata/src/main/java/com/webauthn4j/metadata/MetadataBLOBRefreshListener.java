@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata;
+
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Callback notified of the outcome of {@link CachingMetadataBLOBProvider} refreshes
+ */
+public interface MetadataBLOBRefreshListener {
+
+    /**
+     * Called after a new metadata BLOB has been fetched, verified and swapped in
+     *
+     * @param metadataBLOB the new metadata BLOB
+     */
+    default void onRefreshSucceeded(@NotNull MetadataBLOB metadataBLOB) {
+        // nop
+    }
+
+    /**
+     * Called when fetching or verifying a metadata BLOB failed. The previously cached BLOB, if any, is kept.
+     *
+     * @param exception the cause of the failure
+     */
+    default void onRefreshFailed(@NotNull RuntimeException exception) {
+        // nop
+    }
+}
@@ -18,50 +18,73 @@ package com.webauthn4j.metadata.anchor;
 
 import com.webauthn4j.anchor.TrustAnchorRepository;
 import com.webauthn4j.data.attestation.authenticator.AAGUID;
-import com.webauthn4j.metadata.MetadataBLOBBasedMetadataStatementRepository;
 import com.webauthn4j.metadata.MetadataBLOBProvider;
+import com.webauthn4j.metadata.util.internal.MetadataStatementIndex;
 
 import java.security.cert.TrustAnchor;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 
+/**
+ * {@link TrustAnchorRepository} backed by metadata BLOBs.
+ * The {@link TrustAnchor} sets are built once per AAGUID and per attestation certificate key identifier for each BLOB,
+ * and rebuilt when a provider returns a refreshed BLOB.
+ */
 public class MetadataBLOBBasedTrustAnchorRepository implements TrustAnchorRepository {
 
-    private final MetadataBLOBBasedMetadataStatementRepository metadataBLOBBasedMetadataStatementRepository;
+    private final List<MetadataBLOBProvider> metadataBLOBProviders;
+    private final AtomicReferenceArray<MetadataStatementIndex> indexes;
+
+    private volatile boolean notFidoCertifiedAllowed = false;
+    private volatile boolean selfAssertionSubmittedAllowed = false;
 
     public MetadataBLOBBasedTrustAnchorRepository(MetadataBLOBProvider... metadataBLOBProviders) {
-        this.metadataBLOBBasedMetadataStatementRepository = new MetadataBLOBBasedMetadataStatementRepository(metadataBLOBProviders);
+        this.metadataBLOBProviders = Arrays.asList(metadataBLOBProviders);
+        this.indexes = new AtomicReferenceArray<>(metadataBLOBProviders.length);
     }
 
     @Override
     public Set<TrustAnchor> find(AAGUID aaguid) {
-        return metadataBLOBBasedMetadataStatementRepository.find(aaguid).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        return find(index -> index.findTrustAnchors(aaguid));
     }
 
     @Override
     public Set<TrustAnchor> find(byte[] attestationCertificateKeyIdentifier) {
-        return metadataBLOBBasedMetadataStatementRepository.find(attestationCertificateKeyIdentifier).stream()
-                .flatMap(item -> item.getAttestationRootCertificates().stream())
-                .map(item -> new TrustAnchor(item, null))
-                .collect(Collectors.toSet());
+        return find(index -> index.findTrustAnchors(attestationCertificateKeyIdentifier));
+    }
+
+    private Set<TrustAnchor> find(Function<MetadataStatementIndex, Set<TrustAnchor>> lookup) {
+        if (metadataBLOBProviders.size() == 1) {
+            return lookup.apply(getIndex(0));
+        }
+        Set<TrustAnchor> trustAnchors = new HashSet<>();
+        for (int i = 0; i < metadataBLOBProviders.size(); i++) {
+            trustAnchors.addAll(lookup.apply(getIndex(i)));
+        }
+        return trustAnchors;
+    }
+
+    private MetadataStatementIndex getIndex(int i) {
+        return MetadataStatementIndex.getOrCreate(indexes, i, metadataBLOBProviders.get(i).provide(), notFidoCertifiedAllowed, selfAssertionSubmittedAllowed);
     }
 
     public boolean isNotFidoCertifiedAllowed() {
-        return metadataBLOBBasedMetadataStatementRepository.isNotFidoCertifiedAllowed();
+        return notFidoCertifiedAllowed;
     }
 
     public void setNotFidoCertifiedAllowed(boolean notFidoCertifiedAllowed) {
-        metadataBLOBBasedMetadataStatementRepository.setNotFidoCertifiedAllowed(notFidoCertifiedAllowed);
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
     }
 
     public boolean isSelfAssertionSubmittedAllowed() {
-        return metadataBLOBBasedMetadataStatementRepository.isSelfAssertionSubmittedAllowed();
+        return selfAssertionSubmittedAllowed;
     }
 
     public void setSelfAssertionSubmittedAllowed(boolean selfAssertionSubmittedAllowed) {
-        metadataBLOBBasedMetadataStatementRepository.setSelfAssertionSubmittedAllowed(selfAssertionSubmittedAllowed);
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
     }
 }
@@ -19,14 +19,33 @@ package com.webauthn4j.metadata.data;
 import com.webauthn4j.data.jws.JWS;
 import com.webauthn4j.data.jws.JWSHeader;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.util.function.Supplier;
 
 public class MetadataBLOB {
 
     @NotNull
     private final JWS<MetadataBLOBPayload> jws;
+    @Nullable
+    private final Supplier<MetadataBLOBPayload> fullPayloadLoader;
+    @NotNull
+    private SoftReference<MetadataBLOBPayload> fullPayloadReference = new SoftReference<>(null);
 
     public MetadataBLOB(@NotNull JWS<MetadataBLOBPayload> jws) {
+        this(jws, null);
+    }
+
+    /**
+     * Creates a compact MetadataBLOB, whose payload is a projection of the signed payload.
+     *
+     * @param jws               JWS whose payload is the projection
+     * @param fullPayloadLoader loads the full payload from the serialized form retained by the JWS
+     */
+    public MetadataBLOB(@NotNull JWS<MetadataBLOBPayload> jws, @Nullable Supplier<MetadataBLOBPayload> fullPayloadLoader) {
         this.jws = jws;
+        this.fullPayloadLoader = fullPayloadLoader;
     }
 
     public @NotNull JWSHeader getHeader(){
@@ -37,6 +56,35 @@ public class MetadataBLOB {
         return jws.getPayload();
     }
 
+    /**
+     * Returns the full payload. For a compact MetadataBLOB, it is loaded on demand from the retained serialized form
+     * and softly cached, so that the heap can reclaim it.
+     *
+     * @return full payload
+     */
+    public @NotNull MetadataBLOBPayload getFullPayload() {
+        if (fullPayloadLoader == null) {
+            return jws.getPayload();
+        }
+        synchronized (this) {
+            MetadataBLOBPayload fullPayload = fullPayloadReference.get();
+            if (fullPayload == null) {
+                fullPayload = fullPayloadLoader.get();
+                fullPayloadReference = new SoftReference<>(fullPayload);
+            }
+            return fullPayload;
+        }
+    }
+
+    /**
+     * Returns true if the payload is a projection only keeping the members needed for verification
+     *
+     * @return true if compact
+     */
+    public boolean isCompact() {
+        return fullPayloadLoader != null;
+    }
+
     public @NotNull byte[] getSignature() {
         return jws.getSignature();
     }
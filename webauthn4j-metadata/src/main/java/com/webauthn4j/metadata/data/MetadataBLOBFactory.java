@@ -16,23 +16,288 @@
 
 package com.webauthn4j.metadata.data;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.JsonConverter;
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.jws.JWS;
 import com.webauthn4j.data.jws.JWSFactory;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.StatusReport;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Factory of {@link MetadataBLOB}.
+ * <p>
+ * The BLOB is parsed in a streaming manner: the payload is base64url decoded as a stream from the serialized JWS bytes,
+ * and the entries are bound one at a time, so that neither the decoded payload JSON nor a JSON tree of it is
+ * materialized. In compact mode, each entry is projected right after it is bound. When a parallel decoding executor is
+ * set, chunks of entries are bound in parallel on it.
+ */
 
 public class MetadataBLOBFactory {
 
+    private static final int ENTRY_CHUNK_SIZE = 16;
+
     @NotNull
     private final JWSFactory jwsFactory;
+    @NotNull
+    private final JsonConverter jsonConverter;
+
+    private boolean compactModeEnabled = false;
+    @Nullable
+    private Executor parallelDecodingExecutor = null;
 
     public MetadataBLOBFactory(@NotNull ObjectConverter objectConverter) {
         this.jwsFactory = new JWSFactory(objectConverter);
+        this.jsonConverter = objectConverter.getJsonConverter();
     }
 
     public @NotNull MetadataBLOB parse(@NotNull String value){
-        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(value, MetadataBLOBPayload.class);
+        return parse(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a MetadataBLOB from the bytes of its JWS compact serialization
+     *
+     * @param value MetadataBLOB JWS bytes
+     * @return parsed MetadataBLOB
+     */
+    public @NotNull MetadataBLOB parse(@NotNull byte[] value){
+        boolean compact = compactModeEnabled;
+        JWS<MetadataBLOBPayload> jws = jwsFactory.parse(value, inputStream -> readPayload(inputStream, compact));
+        if (compact) {
+            return new MetadataBLOB(jws, () -> readFullPayload(jws));
+        }
         return new MetadataBLOB(jws);
     }
 
+    /**
+     * Returns true if this factory creates compact MetadataBLOBs
+     *
+     * @return true if compact mode is enabled
+     */
+    public boolean isCompactModeEnabled() {
+        return compactModeEnabled;
+    }
+
+    /**
+     * Enables compact mode. In compact mode, the payload of the created MetadataBLOB only keeps the members needed for
+     * attestation verification and metadata statement lookup: the AAGUID, AAID and attestation certificate key identifiers,
+     * the attestation root certificates and the other authenticator characteristics, and the status and effective date
+     * of the status reports. Icons, display PNG characteristics, alternative descriptions, authenticatorGetInfo,
+     * legal headers, biometric status reports and the details of the status reports are dropped, and can be loaded on demand
+     * through {@link MetadataBLOB#getFullPayload()}.
+     *
+     * @param compactModeEnabled true to enable compact mode
+     */
+    public void setCompactModeEnabled(boolean compactModeEnabled) {
+        this.compactModeEnabled = compactModeEnabled;
+    }
+
+    public @Nullable Executor getParallelDecodingExecutor() {
+        return parallelDecodingExecutor;
+    }
+
+    /**
+     * Sets the executor the payload entries are decoded on. When set, the entries array is tokenized on the calling
+     * thread and its chunks are bound, including the X.509 parsing of the attestation root certificates, in parallel on
+     * the executor. null, the default, decodes the entries on the calling thread.
+     *
+     * @param parallelDecodingExecutor executor, or null to decode the entries sequentially
+     */
+    public void setParallelDecodingExecutor(@Nullable Executor parallelDecodingExecutor) {
+        this.parallelDecodingExecutor = parallelDecodingExecutor;
+    }
+
+    private @NotNull MetadataBLOBPayload readFullPayload(@NotNull JWS<MetadataBLOBPayload> jws) {
+        return jwsFactory.parse(jws.getBytes(), inputStream -> readPayload(inputStream, false)).getPayload();
+    }
+
+    private @NotNull MetadataBLOBPayload readPayload(@NotNull InputStream inputStream, boolean compact) {
+        try (JsonParser parser = jsonConverter.createParser(inputStream)) {
+            return readPayload(parser, compact);
+        } catch (MismatchedInputException | ValueInstantiationException | JsonParseException | DateTimeParseException e) {
+            throw new DataConversionException("Input data does not match expected form", e);
+        } catch (IOException e) {
+            // the stream reads serialized bytes in memory, so an IOException means the payload is not valid base64url
+            throw new IllegalArgumentException("Failed to decode MetadataBLOB payload", e);
+        }
+    }
+
+    private @NotNull MetadataBLOBPayload readPayload(@NotNull JsonParser parser, boolean compact) throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        String legalHeader = null;
+        Integer no = null;
+        LocalDate nextUpdate = null;
+        List<MetadataBLOBPayloadEntry> entries = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case "legalHeader":
+                    legalHeader = parser.getValueAsString();
+                    break;
+                case "no":
+                    expect(token, JsonToken.VALUE_NUMBER_INT);
+                    no = parser.getIntValue();
+                    break;
+                case "nextUpdate":
+                    expect(token, JsonToken.VALUE_STRING);
+                    nextUpdate = LocalDate.parse(parser.getText());
+                    break;
+                case "entries":
+                    entries = readEntries(parser, compact);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MetadataBLOBPayload(legalHeader, no, nextUpdate, entries);
+    }
+
+    private @NotNull List<MetadataBLOBPayloadEntry> readEntries(@NotNull JsonParser parser, boolean compact) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_ARRAY);
+        Executor executor = parallelDecodingExecutor;
+        if (executor != null) {
+            return readEntriesInParallel(parser, compact, executor);
+        }
+        List<MetadataBLOBPayloadEntry> entries = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(token, JsonToken.START_OBJECT);
+            MetadataBLOBPayloadEntry entry = parser.readValueAs(MetadataBLOBPayloadEntry.class);
+            entries.add(compact ? compact(entry) : entry);
+        }
+        return entries;
+    }
+
+    private @NotNull List<MetadataBLOBPayloadEntry> readEntriesInParallel(@NotNull JsonParser parser, boolean compact, @NotNull Executor executor) throws IOException {
+        ObjectCodec codec = parser.getCodec();
+        List<CompletableFuture<List<MetadataBLOBPayloadEntry>>> chunkFutures = new ArrayList<>();
+        List<TreeNode> chunk = new ArrayList<>(ENTRY_CHUNK_SIZE);
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(token, JsonToken.START_OBJECT);
+            chunk.add(parser.readValueAsTree());
+            if (chunk.size() == ENTRY_CHUNK_SIZE) {
+                chunkFutures.add(decodeEntries(codec, chunk, compact, executor));
+                chunk = new ArrayList<>(ENTRY_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkFutures.add(decodeEntries(codec, chunk, compact, executor));
+        }
+
+        List<MetadataBLOBPayloadEntry> entries = new ArrayList<>();
+        for (CompletableFuture<List<MetadataBLOBPayloadEntry>> chunkFuture : chunkFutures) {
+            try {
+                entries.addAll(chunkFuture.join());
+            } catch (CompletionException e) {
+                chunkFutures.forEach(item -> item.cancel(false));
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return entries;
+    }
+
+    private static @NotNull CompletableFuture<List<MetadataBLOBPayloadEntry>> decodeEntries(@NotNull ObjectCodec codec, @NotNull List<TreeNode> chunk, boolean compact, @NotNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<MetadataBLOBPayloadEntry> entries = new ArrayList<>(chunk.size());
+            for (TreeNode node : chunk) {
+                try {
+                    MetadataBLOBPayloadEntry entry = codec.treeToValue(node, MetadataBLOBPayloadEntry.class);
+                    entries.add(compact ? compact(entry) : entry);
+                } catch (JsonProcessingException e) {
+                    throw new DataConversionException("Input data does not match expected form", e);
+                }
+            }
+            return entries;
+        }, executor);
+    }
+
+    private static void expect(@Nullable JsonToken actual, @NotNull JsonToken expected) {
+        if (actual != expected) {
+            throw new DataConversionException(String.format("Input data does not match expected form: expected %s, but %s", expected, actual));
+        }
+    }
+
+    private static @NotNull MetadataBLOBPayloadEntry compact(@NotNull MetadataBLOBPayloadEntry entry) {
+        List<StatusReport> statusReports = new ArrayList<>(entry.getStatusReports().size());
+        for (StatusReport statusReport : entry.getStatusReports()) {
+            statusReports.add(new StatusReport(statusReport.getStatus(), statusReport.getEffectiveDate(), null, null, null, null, null, null));
+        }
+        return new MetadataBLOBPayloadEntry(
+                entry.getAaid(),
+                entry.getAaguid(),
+                entry.getAttestationCertificateKeyIdentifiers(),
+                compact(entry.getMetadataStatement()),
+                null,
+                statusReports,
+                entry.getTimeOfLastStatusChange(),
+                entry.getRogueListURL(),
+                entry.getRogueListHash());
+    }
+
+    private static @Nullable MetadataStatement compact(@Nullable MetadataStatement metadataStatement) {
+        if (metadataStatement == null) {
+            return null;
+        }
+        return new MetadataStatement(
+                null,
+                metadataStatement.getAaid(),
+                metadataStatement.getAaguid(),
+                metadataStatement.getAttestationCertificateKeyIdentifiers(),
+                metadataStatement.getDescription(),
+                null,
+                metadataStatement.getAuthenticatorVersion(),
+                metadataStatement.getProtocolFamily(),
+                metadataStatement.getSchema(),
+                metadataStatement.getUpv(),
+                metadataStatement.getAuthenticationAlgorithms(),
+                metadataStatement.getPublicKeyAlgAndEncodings(),
+                metadataStatement.getAttestationTypes(),
+                metadataStatement.getUserVerificationDetails(),
+                metadataStatement.getKeyProtection(),
+                metadataStatement.getKeyRestricted(),
+                metadataStatement.getFreshUserVerificationRequired(),
+                metadataStatement.getMatcherProtection(),
+                metadataStatement.getCryptoStrength(),
+                metadataStatement.getAttachmentHint(),
+                metadataStatement.getTcDisplay(),
+                metadataStatement.getTcDisplayContentType(),
+                null,
+                metadataStatement.getAttestationRootCertificates(),
+                metadataStatement.getEcdaaTrustAnchors(),
+                null,
+                metadataStatement.getSupportedExtensions(),
+                null);
+    }
+
 }
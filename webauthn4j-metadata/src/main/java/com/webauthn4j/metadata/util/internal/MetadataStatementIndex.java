@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata.util.internal;
+
+import com.webauthn4j.data.attestation.authenticator.AAGUID;
+import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.data.MetadataBLOBPayloadEntry;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.util.HexUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.security.cert.TrustAnchor;
+import java.security.cert.X509Certificate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable index of {@link MetadataStatement}s by AAGUID and by attestation certificate key identifier.
+ * <p>
+ * An index remembers the source (a {@link MetadataBLOB} or a list of {@link MetadataStatement}s) and the filter flags
+ * it was built from, so that repositories can rebuild it only when their provider returns a new source.
+ * The {@link TrustAnchor} sets derived from the indexed statements are computed on first lookup and cached for the
+ * lifetime of the index, so a BLOB refresh invalidates them together with the index.
+ */
+public class MetadataStatementIndex {
+
+    private final Object source;
+    private final boolean notFidoCertifiedAllowed;
+    private final boolean selfAssertionSubmittedAllowed;
+    private final Map<AAGUID, Set<MetadataStatement>> aaguidMap;
+    private final Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierMap;
+
+    private final Map<X509Certificate, TrustAnchor> trustAnchorMap = new ConcurrentHashMap<>();
+    private final Map<AAGUID, Set<TrustAnchor>> aaguidTrustAnchorsMap = new ConcurrentHashMap<>();
+    private final Map<ByteBuffer, Set<TrustAnchor>> attestationCertificateKeyIdentifierTrustAnchorsMap = new ConcurrentHashMap<>();
+
+    private MetadataStatementIndex(@NotNull Object source, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed,
+                                   @NotNull Map<AAGUID, Set<MetadataStatement>> aaguidMap,
+                                   @NotNull Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierMap) {
+        this.source = source;
+        this.notFidoCertifiedAllowed = notFidoCertifiedAllowed;
+        this.selfAssertionSubmittedAllowed = selfAssertionSubmittedAllowed;
+        this.aaguidMap = aaguidMap;
+        this.attestationCertificateKeyIdentifierMap = attestationCertificateKeyIdentifierMap;
+    }
+
+    /**
+     * Builds an index from a {@link MetadataBLOB}.
+     * AAGUID lookups only return entries that pass {@link MetadataBLOBUtil#checkMetadataBLOBPayloadEntry}.
+     *
+     * @param metadataBLOB                  metadata BLOB
+     * @param notFidoCertifiedAllowed       true if NOT_FIDO_CERTIFIED entries are allowed
+     * @param selfAssertionSubmittedAllowed true if SELF_ASSERTION_SUBMITTED entries are allowed
+     * @return index
+     */
+    public static @NotNull MetadataStatementIndex create(@NotNull MetadataBLOB metadataBLOB, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        Map<AAGUID, Set<MetadataStatement>> aaguidMap = new HashMap<>();
+        Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierMap = new HashMap<>();
+        for (MetadataBLOBPayloadEntry entry : metadataBLOB.getPayload().getEntries()) {
+            MetadataStatement metadataStatement = entry.getMetadataStatement();
+            if (!isIndexable(metadataStatement)) {
+                continue;
+            }
+            if (MetadataBLOBUtil.checkMetadataBLOBPayloadEntry(entry, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed)) {
+                aaguidMap.computeIfAbsent(entry.getAaguid(), key -> new HashSet<>()).add(metadataStatement);
+            }
+            putAttestationCertificateKeyIdentifiers(attestationCertificateKeyIdentifierMap, metadataStatement);
+        }
+        return new MetadataStatementIndex(metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed, aaguidMap, attestationCertificateKeyIdentifierMap);
+    }
+
+    /**
+     * Builds an index from a list of {@link MetadataStatement}s
+     *
+     * @param metadataStatements metadata statements
+     * @return index
+     */
+    public static @NotNull MetadataStatementIndex create(@NotNull List<MetadataStatement> metadataStatements) {
+        Map<AAGUID, Set<MetadataStatement>> aaguidMap = new HashMap<>();
+        Map<ByteBuffer, Set<MetadataStatement>> attestationCertificateKeyIdentifierMap = new HashMap<>();
+        for (MetadataStatement metadataStatement : metadataStatements) {
+            if (!isIndexable(metadataStatement)) {
+                continue;
+            }
+            aaguidMap.computeIfAbsent(metadataStatement.getAaguid(), key -> new HashSet<>()).add(metadataStatement);
+            putAttestationCertificateKeyIdentifiers(attestationCertificateKeyIdentifierMap, metadataStatement);
+        }
+        return new MetadataStatementIndex(metadataStatements, false, false, aaguidMap, attestationCertificateKeyIdentifierMap);
+    }
+
+    /**
+     * Returns the index for the BLOB provided by the i-th provider, building and storing a new index when the stored
+     * one was built from another BLOB or with other flags.
+     *
+     * @param indexes                       per-provider indexes
+     * @param i                             provider index
+     * @param metadataBLOB                  metadata BLOB currently provided by the provider
+     * @param notFidoCertifiedAllowed       true if NOT_FIDO_CERTIFIED entries are allowed
+     * @param selfAssertionSubmittedAllowed true if SELF_ASSERTION_SUBMITTED entries are allowed
+     * @return up-to-date index
+     */
+    public static @NotNull MetadataStatementIndex getOrCreate(@NotNull AtomicReferenceArray<MetadataStatementIndex> indexes, int i, @NotNull MetadataBLOB metadataBLOB, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        MetadataStatementIndex index = indexes.get(i);
+        if (index == null || !index.isBuiltFrom(metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed)) {
+            index = create(metadataBLOB, notFidoCertifiedAllowed, selfAssertionSubmittedAllowed);
+            indexes.set(i, index);
+        }
+        return index;
+    }
+
+    private static boolean isIndexable(@Nullable MetadataStatement metadataStatement) {
+        return metadataStatement != null && MetadataStatementUtil.checkSurrogateMetadataStatementAttestationRootCertificate(metadataStatement);
+    }
+
+    private static void putAttestationCertificateKeyIdentifiers(@NotNull Map<ByteBuffer, Set<MetadataStatement>> map, @NotNull MetadataStatement metadataStatement) {
+        List<String> identifiers = metadataStatement.getAttestationCertificateKeyIdentifiers();
+        if (identifiers == null) {
+            return;
+        }
+        for (String identifier : identifiers) {
+            // identifiers that cannot be hex-decoded can never match, so they are not indexed
+            if (identifier == null || identifier.length() % 2 != 0) {
+                continue;
+            }
+            map.computeIfAbsent(ByteBuffer.wrap(HexUtil.decode(identifier)), key -> new HashSet<>()).add(metadataStatement);
+        }
+    }
+
+    /**
+     * Returns true if this index was built from the given source with the given flags
+     *
+     * @param source                        source returned by the provider
+     * @param notFidoCertifiedAllowed       true if NOT_FIDO_CERTIFIED entries are allowed
+     * @param selfAssertionSubmittedAllowed true if SELF_ASSERTION_SUBMITTED entries are allowed
+     * @return true if the index is up-to-date
+     */
+    public boolean isBuiltFrom(@NotNull Object source, boolean notFidoCertifiedAllowed, boolean selfAssertionSubmittedAllowed) {
+        return this.source == source
+                && this.notFidoCertifiedAllowed == notFidoCertifiedAllowed
+                && this.selfAssertionSubmittedAllowed == selfAssertionSubmittedAllowed;
+    }
+
+    public boolean isBuiltFrom(@NotNull Object source) {
+        return isBuiltFrom(source, false, false);
+    }
+
+    public @NotNull Set<MetadataStatement> find(@Nullable AAGUID aaguid) {
+        return aaguidMap.getOrDefault(aaguid, Collections.emptySet());
+    }
+
+    public @NotNull Set<MetadataStatement> find(@NotNull byte[] attestationCertificateKeyIdentifier) {
+        return attestationCertificateKeyIdentifierMap.getOrDefault(ByteBuffer.wrap(attestationCertificateKeyIdentifier), Collections.emptySet());
+    }
+
+    /**
+     * Returns the trust anchors of the attestation root certificates of the statements matching the AAGUID
+     *
+     * @param aaguid aaguid
+     * @return unmodifiable set of trust anchors
+     */
+    public @NotNull Set<TrustAnchor> findTrustAnchors(@Nullable AAGUID aaguid) {
+        // only AAGUIDs present in the index are cached, so that arbitrary lookups cannot grow the cache
+        if (!aaguidMap.containsKey(aaguid)) {
+            return Collections.emptySet();
+        }
+        if (aaguid == null) {
+            return createTrustAnchors(find((AAGUID) null));
+        }
+        return aaguidTrustAnchorsMap.computeIfAbsent(aaguid, key -> createTrustAnchors(find(key)));
+    }
+
+    /**
+     * Returns the trust anchors of the attestation root certificates of the statements matching the attestation
+     * certificate key identifier
+     *
+     * @param attestationCertificateKeyIdentifier attestation certificate key identifier
+     * @return unmodifiable set of trust anchors
+     */
+    public @NotNull Set<TrustAnchor> findTrustAnchors(@NotNull byte[] attestationCertificateKeyIdentifier) {
+        ByteBuffer key = ByteBuffer.wrap(attestationCertificateKeyIdentifier);
+        if (!attestationCertificateKeyIdentifierMap.containsKey(key)) {
+            return Collections.emptySet();
+        }
+        Set<TrustAnchor> trustAnchors = attestationCertificateKeyIdentifierTrustAnchorsMap.get(key);
+        if (trustAnchors == null) {
+            trustAnchors = createTrustAnchors(find(attestationCertificateKeyIdentifier));
+            attestationCertificateKeyIdentifierTrustAnchorsMap.put(ByteBuffer.wrap(attestationCertificateKeyIdentifier.clone()), trustAnchors);
+        }
+        return trustAnchors;
+    }
+
+    private @NotNull Set<TrustAnchor> createTrustAnchors(@NotNull Set<MetadataStatement> metadataStatements) {
+        Set<TrustAnchor> trustAnchors = new HashSet<>();
+        for (MetadataStatement metadataStatement : metadataStatements) {
+            for (X509Certificate certificate : metadataStatement.getAttestationRootCertificates()) {
+                trustAnchors.add(trustAnchorMap.computeIfAbsent(certificate, item -> new TrustAnchor(item, null)));
+            }
+        }
+        return Collections.unmodifiableSet(trustAnchors);
+    }
+}
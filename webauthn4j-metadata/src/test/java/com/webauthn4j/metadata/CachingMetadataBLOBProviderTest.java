@@ -8,12 +8,21 @@ import com.webauthn4j.data.jws.JWSHeader;
 import com.webauthn4j.metadata.data.MetadataBLOB;
 import com.webauthn4j.metadata.data.MetadataBLOBPayload;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @SuppressWarnings("java:S5976")
@@ -68,6 +77,163 @@ class CachingMetadataBLOBProviderTest {
     }
 
 
+    @Test
+    void refreshLeadTime_test(){
+        LocalDate nextUpdate = LocalDate.of(2020, 1, 5);
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(createMetadataBLOB(nextUpdate));
+        target.setRefreshLeadTime(Duration.ofDays(2));
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.provide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 2));
+            target.provide();
+            verify(target, times(1)).doProvide();
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            target.provide();
+            verify(target, times(2)).doProvide();
+        }
+    }
+
+    @Test
+    void setRefreshLeadTime_with_negative_duration_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        Duration refreshLeadTime = Duration.ofDays(-1);
+        assertThatThrownBy(() -> target.setRefreshLeadTime(refreshLeadTime)).isInstanceOf(IllegalArgumentException.class);
+    }    @Test
+    void background_refresh_serves_stale_metadataBLOB_while_revalidating_test(){
+        LocalDate nextUpdate = LocalDate.of(2020, 1, 2);
+        MetadataBLOB first = createMetadataBLOB(nextUpdate);
+        MetadataBLOB second = createMetadataBLOB(LocalDate.of(2020, 2, 1));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(first, second);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 3);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.refresh();
+            target.startBackgroundRefresh(scheduler, Duration.ofHours(1));
+
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            assertThat(target.provide()).isSameAs(first);
+            verify(target, times(1)).doProvide();
+
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).execute(captor.capture());
+            captor.getValue().run();
+
+            assertThat(target.provide()).isSameAs(second);
+            verify(target, times(2)).doProvide();
+            assertThat(target.getRefreshSuccessCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void background_refresh_failure_keeps_current_metadataBLOB_test(){
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        IllegalStateException exception = new IllegalStateException("unreachable");
+        when(target.doProvide()).thenReturn(first).thenThrow(exception);
+        MetadataBLOBRefreshListener listener = mock(MetadataBLOBRefreshListener.class);
+        target.setRefreshListener(listener);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        LocalDate firstTrialDay = LocalDate.of(2020, 1, 1);
+        LocalDate secondTrialDay = LocalDate.of(2020, 1, 3);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(firstTrialDay);
+            target.refresh();
+            target.startBackgroundRefresh(scheduler, Duration.ofHours(1));
+
+            mock.when(LocalDate::now).thenReturn(secondTrialDay);
+            target.provide();
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).execute(captor.capture());
+            captor.getValue().run();
+
+            assertThat(target.provide()).isSameAs(first);
+            assertThat(target.getRefreshFailureCount()).isEqualTo(1);
+            assertThat(target.getLastRefreshFailure()).isSameAs(exception);
+            verify(listener).onRefreshSucceeded(first);
+            verify(listener).onRefreshFailed(exception);
+        }
+    }
+
+    @Test
+    void background_refresh_error_is_counted_as_failure_test(){
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(first).thenThrow(new NoClassDefFoundError());
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.refresh();
+            target.startBackgroundRefresh(scheduler, Duration.ofHours(1));
+
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            target.provide();
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).execute(captor.capture());
+            captor.getValue().run();
+
+            assertThat(target.provide()).isSameAs(first);
+            assertThat(target.getRefreshFailureCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void background_refresh_failure_backs_off_retry_from_provide_test(){
+        MetadataBLOB first = createMetadataBLOB(LocalDate.of(2020, 1, 2));
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenReturn(first).thenThrow(new IllegalStateException("unreachable"));
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(scheduler).execute(any(Runnable.class));
+        try(MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class)){
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 1));
+            target.refresh();
+            target.startBackgroundRefresh(scheduler, Duration.ofHours(1));
+
+            mock.when(LocalDate::now).thenReturn(LocalDate.of(2020, 1, 3));
+            assertThat(target.provide()).isSameAs(first);
+            assertThat(target.provide()).isSameAs(first);
+
+            verify(target, times(2)).doProvide();
+            verify(scheduler, times(1)).execute(any(Runnable.class));
+            assertThat(target.getRefreshFailureCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void setRetryBackoff_with_negative_duration_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        Duration retryBackoff = Duration.ofMinutes(-1);
+        assertThatThrownBy(() -> target.setRetryBackoff(retryBackoff)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void synchronous_refresh_failure_is_propagated_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        when(target.doProvide()).thenThrow(new IllegalStateException());
+        assertThatThrownBy(target::provide).isInstanceOf(IllegalStateException.class);
+        assertThat(target.getRefreshFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void stopBackgroundRefresh_test(){
+        CachingMetadataBLOBProvider target = spy(CachingMetadataBLOBProvider.class);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doReturn(future).when(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(Duration.ofHours(1).toMillis()), eq(TimeUnit.MILLISECONDS));
+        target.startBackgroundRefresh(scheduler, Duration.ofHours(1));
+        assertThat(target.isBackgroundRefreshEnabled()).isTrue();
+        target.stopBackgroundRefresh();
+        assertThat(target.isBackgroundRefreshEnabled()).isFalse();
+        verify(future).cancel(false);
+    }
+
     private MetadataBLOB createMetadataBLOB(LocalDate nextUpdate){
         JWSFactory factory = new JWSFactory(new ObjectConverter());
         JWSHeader header = new JWSHeader(JWAIdentifier.ES256, null);
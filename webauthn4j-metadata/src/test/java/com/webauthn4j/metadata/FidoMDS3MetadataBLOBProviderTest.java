@@ -18,26 +18,36 @@ package com.webauthn4j.metadata;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.metadata.data.MetadataBLOB;
+import com.webauthn4j.metadata.exception.CertPathCheckException;
 import com.webauthn4j.metadata.exception.MDSException;
 import com.webauthn4j.util.Base64Util;
+import com.webauthn4j.util.Base64UrlUtil;
 import com.webauthn4j.util.CertificateUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.cert.TrustAnchor;
 import java.security.cert.X509Certificate;
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class FidoMDS3MetadataBLOBProviderTest {
     private final X509Certificate rootCertificate = CertificateUtil.generateX509Certificate(Base64Util.decode(
@@ -97,4 +107,166 @@ class FidoMDS3MetadataBLOBProviderTest {
             assertThat(target.getCertPathChecker()).isEqualTo(certPathChecker);
         }
     }
+
+    @Nested
+    class with_cache_file{
+
+        @TempDir
+        Path tempDir;
+
+        private HttpClient httpClient;
+        private FidoMDS3MetadataBLOBProvider target;
+        private Path cacheFile;
+        private byte[] expiredBLOB; // no: 9, nextUpdate: 2021-12-01
+        private byte[] testBLOB; // no: 42, nextUpdate: 2022-11-09
+
+        @BeforeEach
+        void setup() throws IOException, URISyntaxException {
+            expiredBLOB = Files.readAllBytes(Paths.get(ClassLoader.getSystemResource("integration/component/blob.jwt").toURI()));
+            testBLOB = Files.readAllBytes(Paths.get(ClassLoader.getSystemResource("integration/component/test-blob.jwt").toURI()));
+            httpClient = mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+            cacheFile = tempDir.resolve("mds").resolve("blob.jwt");
+            target = new FidoMDS3MetadataBLOBProvider(new ObjectConverter(), FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT, httpClient, Collections.singleton(new TrustAnchor(rootCertificate, null)));
+            target.setCertPathChecker(context -> {
+                //nop
+            });
+            target.setCacheFile(cacheFile);
+        }
+
+        @Test
+        void provide_writes_fetched_blob_to_cache_file() throws IOException {
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(expiredBLOB));
+
+            MetadataBLOB metadataBLOB = target.provide();
+
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(9);
+            assertThat(Files.readAllBytes(cacheFile)).isEqualTo(expiredBLOB);
+            assertThat(target.getCacheFile()).isEqualTo(cacheFile);
+        }
+
+        @Test
+        void provide_serves_valid_cache_file_without_fetching() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, expiredBLOB);
+            LocalDate today = LocalDate.of(2021, 11, 1);
+
+            MetadataBLOB metadataBLOB;
+            try (MockedStatic<LocalDate> mock = Mockito.mockStatic(LocalDate.class, Mockito.CALLS_REAL_METHODS)) {
+                mock.when(LocalDate::now).thenReturn(today);
+                metadataBLOB = target.provide();
+            }
+
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(9);
+            verify(httpClient, never()).fetch(anyString());
+        }
+
+        @Test
+        void provide_replaces_expired_cache_file_with_newer_blob() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, expiredBLOB);
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(testBLOB));
+
+            MetadataBLOB metadataBLOB = target.provide();
+
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(42);
+            assertThat(Files.readAllBytes(cacheFile)).isEqualTo(testBLOB);
+        }
+
+        @Test
+        void provide_does_not_replace_cache_file_with_older_blob() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, testBLOB);
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(expiredBLOB));
+
+            MetadataBLOB metadataBLOB = target.provide();
+
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(42);
+            assertThat(Files.readAllBytes(cacheFile)).isEqualTo(testBLOB);
+        }
+
+        @Test
+        void refresh_ignores_blob_older_than_previously_fetched_one() throws IOException {
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody())
+                    .thenReturn(new ByteArrayInputStream(testBLOB), new ByteArrayInputStream(expiredBLOB));
+
+            assertThat(target.provide().getPayload().getNo()).isEqualTo(42);
+            target.refresh();
+
+            assertThat(target.provide().getPayload().getNo()).isEqualTo(42);
+            assertThat(Files.readAllBytes(cacheFile)).isEqualTo(testBLOB);
+        }
+
+        @Test
+        void provide_falls_back_to_expired_cache_file_when_fetch_fails() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, expiredBLOB);
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT)).thenThrow(new MDSException("offline"));
+
+            MetadataBLOB metadataBLOB = target.provide();
+
+            assertThat(metadataBLOB.getPayload().getNo()).isEqualTo(9);
+        }
+
+        @Test
+        void provide_ignores_corrupted_cache_file() throws IOException {
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, new byte[]{0x01, 0x02});
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT)).thenThrow(new MDSException("offline"));
+
+            assertThatThrownBy(target::provide).isInstanceOf(MDSException.class);
+        }
+    }
+
+    @Nested
+    class with_parallel_refresh_executor{
+
+        private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        private HttpClient httpClient;
+        private FidoMDS3MetadataBLOBProvider target;
+        private String blob;
+
+        @BeforeEach
+        void setup() throws IOException, URISyntaxException {
+            blob = new String(Files.readAllBytes(Paths.get(ClassLoader.getSystemResource("integration/component/blob.jwt").toURI())), StandardCharsets.UTF_8);
+            httpClient = mock(HttpClient.class, Mockito.RETURNS_DEEP_STUBS);
+            target = new FidoMDS3MetadataBLOBProvider(new ObjectConverter(), FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT, httpClient, Collections.singleton(new TrustAnchor(rootCertificate, null)));
+            target.setCertPathChecker(context -> {
+                //nop
+            });
+            target.setParallelRefreshExecutor(executorService);
+        }
+
+        @AfterEach
+        void tearDown() {
+            executorService.shutdownNow();
+        }
+
+        @Test
+        void provide_test() {
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(blob.getBytes(StandardCharsets.UTF_8)));
+
+            MetadataBLOB metadataBLOB = target.provide();
+
+            assertThat(target.getParallelRefreshExecutor()).isSameAs(executorService);
+            assertThat(metadataBLOB.getPayload().getEntries()).hasSize(98);
+        }
+
+        @Test
+        void provide_with_invalid_signature_throws_MDSException() {
+            String tampered = blob.substring(0, blob.lastIndexOf('.') + 1) + Base64UrlUtil.encodeToString(new byte[64]);
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(tampered.getBytes(StandardCharsets.UTF_8)));
+
+            assertThatThrownBy(target::provide).isInstanceOf(MDSException.class);
+        }
+
+        @Test
+        void provide_with_invalid_cert_path_throws_MDSException() {
+            when(httpClient.fetch(FidoMDS3MetadataBLOBProvider.DEFAULT_BLOB_ENDPOINT).getBody()).thenReturn(new ByteArrayInputStream(blob.getBytes(StandardCharsets.UTF_8)));
+            target.setCertPathChecker(context -> {
+                throw new CertPathCheckException("invalid cert path");
+            });
+
+            assertThatThrownBy(target::provide).isInstanceOf(MDSException.class);
+        }
+    }
 }
@@ -56,6 +56,22 @@ class MetadataBLOBBasedMetadataStatementRepositoryTest {
         assertThat(target.find(attestationCertificateKeyIdentifier)).hasSize(1);
     }
 
+    @Test
+    void find_after_refresh_test() throws IOException {
+        AAGUID aaguid = new AAGUID("9c835346-796b-4c27-8898-d6032f515cc5");
+        byte[] attestationCertificateKeyIdentifier = HexUtil.decode("1434d2f277fe479c35ddf6aa4d08a07cbce99dd7");
+        Path blobPath = new File("src/test/resources/integration/component/blob.jwt").toPath();
+        Path dstPath = tempDir.resolve("blob.jwt");
+        Files.copy(blobPath, dstPath);
+        LocalFileMetadataBLOBProvider metadataBLOBProvider = new LocalFileMetadataBLOBProvider(new ObjectConverter(), dstPath);
+        MetadataBLOBBasedMetadataStatementRepository target = new MetadataBLOBBasedMetadataStatementRepository(metadataBLOBProvider);
+        assertThat(target.find(aaguid)).hasSize(1);
+        metadataBLOBProvider.refresh();
+        assertThat(target.find(aaguid)).hasSize(1);
+        assertThat(target.find(attestationCertificateKeyIdentifier)).hasSize(1);
+        assertThat(target.find(new AAGUID("00000000-0000-0000-0000-000000000001"))).isEmpty();
+    }
+
     @Test
     void notFidoCertifiedAllowed_test() throws IOException {
         AAGUID aaguid = new AAGUID("3789da91-f943-46bc-95c3-50ea2012f03a");
@@ -54,6 +54,29 @@ class MetadataBLOBBasedTrustAnchorRepositoryTest {
         assertThat(trustAnchors).isNotEmpty();
     }
 
+    @Test
+    void find_returns_cached_trustAnchors_until_refresh_test() throws IOException {
+        Path dstPath = tempDir.resolve("blob.jwt");
+        Files.copy(new File("src/test/resources/integration/component/blob.jwt").toPath(), dstPath);
+        LocalFileMetadataBLOBProvider metadataBLOBProvider = new LocalFileMetadataBLOBProvider(new ObjectConverter(), dstPath);
+        MetadataBLOBBasedTrustAnchorRepository target = new MetadataBLOBBasedTrustAnchorRepository(metadataBLOBProvider);
+        AAGUID aaguid = new AAGUID("08987058-CADC-4B81-B6E1-30DE50DCBE96");
+
+        Set<TrustAnchor> first = target.find(aaguid);
+        assertThat(target.find(aaguid)).isSameAs(first);
+
+        metadataBLOBProvider.refresh();
+        Set<TrustAnchor> refreshed = target.find(aaguid);
+        assertThat(refreshed).isNotSameAs(first);
+        assertThat(refreshed).hasSameSizeAs(first);
+    }
+
+    @Test
+    void find_with_unknown_aaguid_test() {
+        MetadataBLOBBasedTrustAnchorRepository target = createWithBlob("src/test/resources/integration/component/blob.jwt");
+        assertThat(target.find(new AAGUID("00000000-0000-0000-0000-000000000001"))).isEmpty();
+    }
+
     @Test
     void validate_test() {
         MetadataBLOBBasedTrustAnchorRepository target = createWithBlob("src/test/resources/integration/component/blob.jwt");
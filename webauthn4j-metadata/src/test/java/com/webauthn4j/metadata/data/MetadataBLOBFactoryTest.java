@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.webauthn4j.metadata.data;
+
+import com.webauthn4j.converter.exception.DataConversionException;
+import com.webauthn4j.converter.util.ObjectConverter;
+import com.webauthn4j.metadata.data.statement.MetadataStatement;
+import com.webauthn4j.metadata.data.toc.StatusReport;
+import com.webauthn4j.util.Base64UrlUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetadataBLOBFactoryTest {
+
+    private final String blob = loadBlob("src/test/resources/integration/component/blob.jwt");
+
+    @Test
+    void parse_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        MetadataBLOB metadataBLOB = target.parse(blob);
+
+        assertThat(target.isCompactModeEnabled()).isFalse();
+        assertThat(metadataBLOB.isCompact()).isFalse();
+        assertThat(metadataBLOB.getFullPayload()).isSameAs(metadataBLOB.getPayload());
+    }
+
+    @Test
+    void parse_bytes_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        MetadataBLOB fromBytes = target.parse(blob.getBytes(StandardCharsets.UTF_8));
+        MetadataBLOB fromString = target.parse(blob);
+
+        assertThat(fromBytes.isValidSignature()).isTrue();
+        assertThat(fromBytes.getPayload()).isEqualTo(fromString.getPayload());
+        assertThat(fromBytes.getPayload().getNo()).isEqualTo(9);
+        assertThat(fromBytes.getPayload().getEntries()).hasSize(98);
+    }
+
+    @Test
+    void parse_with_parallel_decoding_executor_test() {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+            MetadataBLOB expected = target.parse(blob);
+            target.setParallelDecodingExecutor(executorService);
+            MetadataBLOB metadataBLOB = target.parse(blob);
+
+            assertThat(target.getParallelDecodingExecutor()).isSameAs(executorService);
+            assertThat(metadataBLOB.getPayload()).isEqualTo(expected.getPayload());
+
+            target.setCompactModeEnabled(true);
+            MetadataBLOB compactMetadataBLOB = target.parse(blob);
+            assertThat(compactMetadataBLOB.getPayload().getEntries()).hasSameSizeAs(expected.getPayload().getEntries());
+            assertThat(compactMetadataBLOB.getFullPayload()).isEqualTo(expected.getPayload());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void parse_with_trailing_line_break_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        MetadataBLOB metadataBLOB = target.parse(blob + "\n");
+
+        assertThat(metadataBLOB.isValidSignature()).isTrue();
+    }
+
+    @Test
+    void parse_invalid_payload_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        String[] parts = blob.split("\\.");
+        String invalid = parts[0] + "." + Base64UrlUtil.encodeToString("[]".getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThatThrownBy(() -> target.parse(invalid)).isInstanceOf(DataConversionException.class);
+    }
+
+    @Test
+    void parse_with_compact_mode_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        target.setCompactModeEnabled(true);
+        MetadataBLOB metadataBLOB = target.parse(blob);
+
+        assertThat(target.isCompactModeEnabled()).isTrue();
+        assertThat(metadataBLOB.isCompact()).isTrue();
+        assertThat(metadataBLOB.isValidSignature()).isTrue();
+
+        MetadataBLOBPayload payload = metadataBLOB.getPayload();
+        MetadataBLOBPayload fullPayload = metadataBLOB.getFullPayload();
+        assertThat(payload.getNo()).isEqualTo(fullPayload.getNo());
+        assertThat(payload.getNextUpdate()).isEqualTo(fullPayload.getNextUpdate());
+        assertThat(payload.getEntries()).hasSameSizeAs(fullPayload.getEntries());
+        assertThat(fullPayload.getEntries()).anyMatch(entry -> entry.getMetadataStatement() != null && entry.getMetadataStatement().getIcon() != null);
+        for (int i = 0; i < payload.getEntries().size(); i++) {
+            MetadataBLOBPayloadEntry entry = payload.getEntries().get(i);
+            MetadataBLOBPayloadEntry fullEntry = fullPayload.getEntries().get(i);
+            assertThat(entry.getAaguid()).isEqualTo(fullEntry.getAaguid());
+            assertThat(entry.getAttestationCertificateKeyIdentifiers()).isEqualTo(fullEntry.getAttestationCertificateKeyIdentifiers());
+            assertThat(entry.getBiometricStatusReports()).isNull();
+            assertThat(statuses(entry.getStatusReports())).isEqualTo(statuses(fullEntry.getStatusReports()));
+
+            MetadataStatement metadataStatement = entry.getMetadataStatement();
+            MetadataStatement fullMetadataStatement = fullEntry.getMetadataStatement();
+            if (fullMetadataStatement == null) {
+                assertThat(metadataStatement).isNull();
+                continue;
+            }
+            assertThat(metadataStatement.getAaguid()).isEqualTo(fullMetadataStatement.getAaguid());
+            assertThat(metadataStatement.getAttestationTypes()).isEqualTo(fullMetadataStatement.getAttestationTypes());
+            assertThat(metadataStatement.getAttestationRootCertificates()).isEqualTo(fullMetadataStatement.getAttestationRootCertificates());
+            assertThat(metadataStatement.getIcon()).isNull();
+            assertThat(metadataStatement.getTcDisplayPNGCharacteristics()).isNull();
+            assertThat(metadataStatement.getAlternativeDescriptions()).isNull();
+            assertThat(metadataStatement.getAuthenticatorGetInfo()).isNull();
+        }
+    }
+
+    @Test
+    void getFullPayload_caches_loaded_payload_test() {
+        MetadataBLOBFactory target = new MetadataBLOBFactory(new ObjectConverter());
+        target.setCompactModeEnabled(true);
+        MetadataBLOB metadataBLOB = target.parse(blob);
+
+        assertThat(metadataBLOB.getFullPayload()).isSameAs(metadataBLOB.getFullPayload());
+    }
+
+    private static List<Object> statuses(List<StatusReport> statusReports) {
+        return statusReports.stream().map(statusReport -> statusReport.getStatus() + "/" + statusReport.getEffectiveDate()).collect(Collectors.toList());
+    }
+
+    private static String loadBlob(String path) {
+        try {
+            return new String(Files.readAllBytes(new File(path).toPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import com.webauthn4j.data.attestation.AttestationObject;
 import com.webauthn4j.data.attestation.authenticator.*;
 import com.webauthn4j.data.attestation.statement.AttestationStatement;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
+import com.webauthn4j.data.attestation.statement.NoneAttestationStatement;
 import com.webauthn4j.data.client.ClientDataType;
 import com.webauthn4j.data.client.CollectedClientData;
 import com.webauthn4j.data.client.Origin;
@@ -451,6 +452,11 @@ public class TestDataUtil {
         return createCredentialRecord(TestDataUtil.createAttestedCredentialData(), TestAttestationStatementUtil.createFIDOU2FAttestationStatement());
     }
 
+    public static CredentialRecord createCredentialRecord(byte[] credentialId) {
+        AttestedCredentialData attestedCredentialData = new AttestedCredentialData(AAGUID.ZERO, credentialId, createEC2COSEPublicKey());
+        return createCredentialRecord(attestedCredentialData, new NoneAttestationStatement());
+    }
+
     @Deprecated
     public static byte[] calculateSignature(PrivateKey privateKey, byte[] signedData) {
         try {
@@ -46,11 +46,14 @@ import com.webauthn4j.util.RSAUtil;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.*;
@@ -62,6 +65,7 @@ import static com.webauthn4j.data.attestation.authenticator.AuthenticatorData.*;
 public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticator {
 
     private static final SecureRandom secureRandom = new SecureRandom();
+    private static final List<COSEAlgorithmIdentifier> SUPPORTED_ALGORITHMS = Arrays.asList(COSEAlgorithmIdentifier.ES256, COSEAlgorithmIdentifier.PS256, COSEAlgorithmIdentifier.RS256, COSEAlgorithmIdentifier.EdDSA);
     // converter
     protected final ObjectConverter objectConverter;
     private final CborConverter cborConverter;
@@ -240,6 +244,12 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
                 cosePrivateKey = RSACOSEKey.create(privateKey, alg);
                 coseKeyPair= RSACOSEKey.create(credentialKeyPair, alg);
             }
+            else if(COSEAlgorithmIdentifier.EdDSA.equals(alg)){
+                credentialKeyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                cosePublicKey = EdDSACOSEKey.create((EdECPublicKey) credentialKeyPair.getPublic(), alg);
+                cosePrivateKey = EdDSACOSEKey.create(credentialKeyPair, alg);
+                coseKeyPair= EdDSACOSEKey.create(credentialKeyPair, alg);
+            }
             else{
                 throw new NotSupportedException("Specified alg are not supported");
             }
@@ -278,7 +288,7 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
         }
         // If any error occurred while creating the new credential object,
         // return an error code equivalent to "UnknownError" and terminate the operation.
-        catch (RuntimeException e) {
+        catch (RuntimeException | NoSuchAlgorithmException e) {
             throw new WebAuthnModelException(e);
         }
 
@@ -448,7 +458,7 @@ public abstract class WebAuthnModelAuthenticator implements WebAuthnAuthenticato
 
     private boolean isCapableOfHandling(PublicKeyCredentialParameters publicKeyCredentialParameters) {
         return publicKeyCredentialParameters.getType().equals(PublicKeyCredentialType.PUBLIC_KEY) &&
-                (COSEAlgorithmIdentifier.ES256.equals(publicKeyCredentialParameters.getAlg()) || COSEAlgorithmIdentifier.PS256.equals(publicKeyCredentialParameters.getAlg()));
+                SUPPORTED_ALGORITHMS.contains(publicKeyCredentialParameters.getAlg());
     }
 
     public boolean isCountUpEnabled() {
@@ -19,10 +19,12 @@ package com.webauthn4j.test.authenticator.webauthn;
 
 import com.webauthn4j.converter.util.ObjectConverter;
 import com.webauthn4j.data.*;
+import com.webauthn4j.data.attestation.authenticator.AttestedCredentialData;
 import com.webauthn4j.data.attestation.statement.COSEAlgorithmIdentifier;
 import com.webauthn4j.data.client.challenge.DefaultChallenge;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -85,6 +87,36 @@ class PackedAuthenticatorTest {
         assertThat(assertion.getCredentialId()).isEqualTo(credentialId);
     }
 
+    @Test
+    void makeCredentialsAndGetAssertion_with_RS256_and_EdDSA_test() {
+        final String rpId = "test-rp";
+        for (COSEAlgorithmIdentifier alg : Arrays.asList(COSEAlgorithmIdentifier.RS256, COSEAlgorithmIdentifier.EdDSA)) {
+            MakeCredentialResponse response = target.makeCredential(new MakeCredentialRequest(
+                    new byte[32],
+                    new PublicKeyCredentialRpEntity(rpId, "Test RP"),
+                    new PublicKeyCredentialUserEntity(new byte[32], "test-user", "Test User"),
+                    false,
+                    true,
+                    false,
+                    Collections.singletonList(new PublicKeyCredentialParameters(
+                            PublicKeyCredentialType.PUBLIC_KEY,
+                            alg
+                    ))
+            ));
+            AttestedCredentialData attestedCredentialData = response.getAttestationObject().getAuthenticatorData().getAttestedCredentialData();
+            assertThat(attestedCredentialData.getCOSEKey().getAlgorithm()).isEqualTo(alg);
+
+            GetAssertionResponse assertion = target.getAssertion(new GetAssertionRequest(rpId,
+                    new byte[32],
+                    Collections.singletonList(new PublicKeyCredentialDescriptor(PublicKeyCredentialType.PUBLIC_KEY,
+                            attestedCredentialData.getCredentialId(), null)),
+                    true,
+                    false,
+                    null));
+            assertThat(assertion.getCredentialId()).isEqualTo(attestedCredentialData.getCredentialId());
+        }
+    }
+
     private String serialize(PublicKeyCredentialCreationOptions options) {
         return objectConverter.getJsonConverter().writeValueAsString(options);
     }